@@ -0,0 +1,73 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.ai.BeamSearchBot;
+import com.comp2042.ai.BoardSnapshot;
+import com.comp2042.ai.WeightedEvaluator;
+import com.comp2042.model.PieceTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the bot: one evaluation of a ragged board, and a full beam
+ * search over a three-piece preview at several beam widths. Divide the
+ * search time by the positions it evaluates (about 34 per kept position
+ * per level) to get positions per second.
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BeamSearchBotBenchmark {
+
+    private static final int WIDTH = 10;
+    private static final int HEIGHT = 25;
+
+    @Param({"1", "8", "32"})
+    private int beamWidth;
+
+    private final PieceTable t = new PieceTable(
+            BoardFixtures.T_SHAPE,
+            new int[][]{{0, 6, 0, 0}, {0, 6, 6, 0}, {0, 6, 0, 0}, {0, 0, 0, 0}},
+            new int[][]{{0, 6, 0, 0}, {6, 6, 6, 0}, {0, 0, 0, 0}, {0, 0, 0, 0}},
+            new int[][]{{0, 6, 0, 0}, {6, 6, 0, 0}, {0, 6, 0, 0}, {0, 0, 0, 0}});
+
+    private final WeightedEvaluator evaluator = WeightedEvaluator.standard();
+    private BoardSnapshot board;
+    private BeamSearchBot bot;
+    private PieceTable[] preview;
+
+    @Setup
+    public void setUp() {
+        board = new BoardSnapshot(WIDTH, HEIGHT);
+        board.load(BoardFixtures.partiallyFilledBoard(WIDTH, HEIGHT));
+        bot = new BeamSearchBot(WIDTH, HEIGHT, evaluator, 3, beamWidth);
+        preview = new PieceTable[]{t, t};
+    }
+
+    @Benchmark
+    public double evaluate() {
+        return evaluator.evaluate(board, 0);
+    }
+
+    @Benchmark
+    public int search() {
+        bot.search(board, t, 0, 3, 0, preview, preview.length);
+        return bot.getBestX();
+    }
+}
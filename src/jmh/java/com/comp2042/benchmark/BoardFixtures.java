@@ -0,0 +1,70 @@
+package com.comp2042.benchmark;
+
+import java.util.Random;
+
+/**
+ * Deterministic board and shape fixtures shared by the engine benchmarks.
+ * <p>
+ * Boards are filled from a fixed seed so every run of a benchmark measures
+ * the same state. Matrices are indexed as matrix[row][col].
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+final class BoardFixtures {
+
+    /** T-brick spawn orientation, as used by the game. */
+    static final int[][] T_SHAPE = {
+            {0, 0, 0, 0},
+            {6, 6, 6, 0},
+            {0, 6, 0, 0},
+            {0, 0, 0, 0}
+    };
+
+    private static final long SEED = 2042L;
+
+    private BoardFixtures() {
+    }
+
+    /**
+     * Creates a board whose bottom half is randomly filled, leaving one gap
+     * per row so no row is complete.
+     *
+     * @param width  the number of columns
+     * @param height the number of rows
+     * @return the board matrix (matrix[row][col])
+     */
+    static int[][] partiallyFilledBoard(int width, int height) {
+        Random random = new Random(SEED);
+        int[][] board = new int[height][width];
+        for (int row = height / 2; row < height; row++) {
+            int gap = random.nextInt(width);
+            for (int col = 0; col < width; col++) {
+                if (col != gap && random.nextInt(3) != 0) {
+                    board[row][col] = 1 + random.nextInt(7);
+                }
+            }
+        }
+        return board;
+    }
+
+    /**
+     * Creates a partially filled board whose bottom {@code fullRows} rows are
+     * complete.
+     *
+     * @param width    the number of columns
+     * @param height   the number of rows
+     * @param fullRows the number of complete rows at the bottom
+     * @return the board matrix (matrix[row][col])
+     */
+    static int[][] boardWithFullRows(int width, int height, int fullRows) {
+        int[][] board = partiallyFilledBoard(width, height);
+        for (int row = height - fullRows; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                board[row][col] = 1 + (col % 7);
+            }
+        }
+        return board;
+    }
+}
@@ -0,0 +1,60 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.model.Brick;
+import com.comp2042.model.RandomBrickGenerator;
+import com.comp2042.model.SevenBagBrickGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks RandomBrickGenerator.getBrick against the seeded 7-bag
+ * generator, including a long-range jump.
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BrickGeneratorBenchmark {
+
+    private RandomBrickGenerator generator;
+    private SevenBagBrickGenerator sevenBag;
+    private long jumpTarget;
+
+    @Setup
+    public void setUp() {
+        generator = new RandomBrickGenerator();
+        sevenBag = new SevenBagBrickGenerator(42L);
+    }
+
+    @Benchmark
+    public Brick getBrick() {
+        return generator.getBrick();
+    }
+
+    @Benchmark
+    public Brick sevenBagGetBrick() {
+        return sevenBag.getBrick();
+    }
+
+    @Benchmark
+    public Brick sevenBagJump() {
+        jumpTarget += 1_000_003L;
+        sevenBag.jumpTo(jumpTarget);
+        return sevenBag.getNextBrick();
+    }
+}
@@ -0,0 +1,66 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.logic.CollisionHandler;
+import com.comp2042.model.PieceTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks CollisionHandler.hasCollision for both the shape-matrix scan
+ * and the PieceTable bounding-box variant.
+ * <p>
+ * The brick is probed at the row just above the filled half of the board,
+ * which is the common case while a brick falls.
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CollisionBenchmark {
+
+    @Param({"10x25", "20x50", "64x512"})
+    public String boardSize;
+
+    private int[][] board;
+    private PieceTable piece;
+    private int x;
+    private int y;
+
+    @Setup
+    public void setUp() {
+        String[] dimensions = boardSize.split("x");
+        int width = Integer.parseInt(dimensions[0]);
+        int height = Integer.parseInt(dimensions[1]);
+        board = BoardFixtures.partiallyFilledBoard(width, height);
+        piece = new PieceTable(BoardFixtures.T_SHAPE);
+        x = width / 2 - 2;
+        y = height / 2 - 3;
+    }
+
+    @Benchmark
+    public boolean hasCollisionMatrix() {
+        return CollisionHandler.hasCollision(board, BoardFixtures.T_SHAPE, x, y);
+    }
+
+    @Benchmark
+    public boolean hasCollisionPieceTable() {
+        return CollisionHandler.hasCollision(board, piece, 0, x, y);
+    }
+}
@@ -0,0 +1,73 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.board.BitBoard;
+import com.comp2042.board.Board;
+import com.comp2042.board.SimpleBoard;
+import com.comp2042.engine.GameEngine;
+import com.comp2042.model.ClearRow;
+import com.comp2042.model.Score;
+import com.comp2042.model.SevenBagBrickGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the per-tick cost of the game engine against board size.
+ * <p>
+ * One tick is a gravity step ({@link GameEngine#moveDown(boolean)}), which
+ * locks, clears and respawns when the brick lands, so the average covers
+ * the whole life of a piece. Games restart on top-out. Both board
+ * implementations are measured with the same seeded piece sequence.
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EngineScalingBenchmark {
+
+    @Param({"10x25", "20x50", "64x512"})
+    public String boardSize;
+
+    @Param({"SimpleBoard", "BitBoard"})
+    public String boardType;
+
+    private GameEngine engine;
+
+    @Setup
+    public void setUp() {
+        String[] dimensions = boardSize.split("x");
+        int width = Integer.parseInt(dimensions[0]);
+        int height = Integer.parseInt(dimensions[1]);
+        SevenBagBrickGenerator generator = new SevenBagBrickGenerator(2042L);
+        Board board = "BitBoard".equals(boardType)
+                ? new BitBoard(width, height, generator, new Score())
+                : new SimpleBoard(width, height, generator, new Score());
+        engine = new GameEngine(board);
+        engine.newGame();
+    }
+
+    @Benchmark
+    public ClearRow gravityTick() {
+        ClearRow result = engine.moveDown(false);
+        if (engine.isGameOver()) {
+            engine.newGame();
+        }
+        return result;
+    }
+}
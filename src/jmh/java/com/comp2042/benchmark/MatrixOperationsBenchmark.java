@@ -0,0 +1,63 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.logic.MatrixOperations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks MatrixOperations.copy, merge and rotate90.
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MatrixOperationsBenchmark {
+
+    @Param({"10x25", "20x50", "64x512"})
+    public String boardSize;
+
+    private int[][] board;
+    private int x;
+    private int y;
+
+    @Setup
+    public void setUp() {
+        String[] dimensions = boardSize.split("x");
+        int width = Integer.parseInt(dimensions[0]);
+        int height = Integer.parseInt(dimensions[1]);
+        board = BoardFixtures.partiallyFilledBoard(width, height);
+        x = width / 2 - 2;
+        y = height / 2 - 3;
+    }
+
+    @Benchmark
+    public int[][] copy() {
+        return MatrixOperations.copy(board);
+    }
+
+    @Benchmark
+    public int[][] merge() {
+        return MatrixOperations.merge(board, BoardFixtures.T_SHAPE, x, y);
+    }
+
+    @Benchmark
+    public int[][] rotate90() {
+        return MatrixOperations.rotate90(BoardFixtures.T_SHAPE);
+    }
+}
@@ -0,0 +1,64 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.ai.MoveGenerator;
+import com.comp2042.model.PieceTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks enumerating every reachable T-brick placement with
+ * MoveGenerator, on an empty board and on a ragged half-filled board full of
+ * overhangs (where tucks make the search larger).
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MoveGeneratorBenchmark {
+
+    private static final int WIDTH = 10;
+    private static final int HEIGHT = 25;
+
+    private final PieceTable t = new PieceTable(
+            BoardFixtures.T_SHAPE,
+            new int[][]{{0, 6, 0, 0}, {0, 6, 6, 0}, {0, 6, 0, 0}, {0, 0, 0, 0}},
+            new int[][]{{0, 6, 0, 0}, {6, 6, 6, 0}, {0, 0, 0, 0}, {0, 0, 0, 0}},
+            new int[][]{{0, 6, 0, 0}, {6, 6, 0, 0}, {0, 6, 0, 0}, {0, 0, 0, 0}});
+
+    private MoveGenerator generator;
+    private long[] emptyRows;
+    private long[] raggedRows;
+
+    @Setup
+    public void setUp() {
+        generator = new MoveGenerator(WIDTH, HEIGHT);
+        emptyRows = new long[HEIGHT];
+        raggedRows = new long[HEIGHT];
+        MoveGenerator.snapshot(BoardFixtures.partiallyFilledBoard(WIDTH, HEIGHT), raggedRows);
+    }
+
+    @Benchmark
+    public int emptyBoard() {
+        return generator.generate(emptyRows, t, 0, 3, 0);
+    }
+
+    @Benchmark
+    public int raggedBoard() {
+        return generator.generate(raggedRows, t, 0, 3, 0);
+    }
+}
@@ -0,0 +1,87 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.engine.GameEngine;
+import com.comp2042.model.RandomBrickGenerator;
+import com.comp2042.model.Score;
+import com.comp2042.replay.Replay;
+import com.comp2042.replay.ReplayFormat;
+import com.comp2042.replay.ReplayRecorder;
+import com.comp2042.replay.ReplayVerifier;
+import com.comp2042.replay.VerificationResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks re-simulating one recorded game with ReplayVerifier. The game
+ * is played with scripted input that keeps the stack low, so it runs for
+ * the full piece budget.
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ReplayVerifierBenchmark {
+
+    private static final long SEED = 42L;
+    private static final int PIECES = 200;
+
+    private Replay replay;
+
+    @Setup
+    public void setUp() throws IOException {
+        GameEngine engine = GameEngine.headless(10, 25, new RandomBrickGenerator(SEED));
+        engine.newGame();
+        SplittableRandom input = new SplittableRandom(SEED);
+        Path file = Files.createTempFile("benchmark", ".rpl");
+        try (ReplayRecorder recorder = new ReplayRecorder(file, SEED, 10, 25)) {
+            long tick = 0;
+            while (!engine.isGameOver()) {
+                // A few shifts and gravity steps, then a hard drop; near the
+                // piece budget just hard drop to end the game quickly
+                if (engine.getPiecesLocked() < PIECES) {
+                    for (int i = input.nextInt(6); i > 0; i--) {
+                        int type = input.nextBoolean() ? ReplayFormat.LEFT : ReplayFormat.RIGHT;
+                        recorder.record(type, tick += 2);
+                        if (type == ReplayFormat.LEFT) {
+                            engine.moveLeft();
+                        } else {
+                            engine.moveRight();
+                        }
+                        recorder.record(ReplayFormat.GRAVITY, tick += 2);
+                        engine.moveDown(false);
+                    }
+                }
+                recorder.record(ReplayFormat.HARD_DROP, tick += 2);
+                engine.hardDrop();
+            }
+            Score score = engine.getScore();
+            recorder.finish(score.getCurrentScore(), score.getTotalLines(), score.getCurrentLevel());
+        }
+        replay = Replay.read(file);
+        Files.delete(file);
+    }
+
+    @Benchmark
+    public VerificationResult verify() {
+        return ReplayVerifier.verify(replay);
+    }
+}
@@ -0,0 +1,56 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.logic.RowClearer;
+import com.comp2042.model.ClearRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks RowClearer.clear on boards with 0 to 4 complete rows.
+ * <p>
+ * RowClearer does not modify its input, so the same board is reused for
+ * every invocation.
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RowClearerBenchmark {
+
+    @Param({"10x25", "20x50", "64x512"})
+    public String boardSize;
+
+    @Param({"0", "1", "2", "3", "4"})
+    public int fullRows;
+
+    private int[][] board;
+
+    @Setup
+    public void setUp() {
+        String[] dimensions = boardSize.split("x");
+        board = BoardFixtures.boardWithFullRows(Integer.parseInt(dimensions[0]),
+                Integer.parseInt(dimensions[1]), fullRows);
+    }
+
+    @Benchmark
+    public ClearRow clear() {
+        return RowClearer.clear(board);
+    }
+}
@@ -0,0 +1,78 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.board.SimpleBoard;
+import com.comp2042.model.HardDropResult;
+import com.comp2042.model.ViewData;
+import com.comp2042.model.ViewSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks SimpleBoard.hardDrop, SimpleBoard.calculateGhostYPosition,
+ * SimpleBoard.getViewData and SimpleBoard.getViewSnapshot.
+ * <p>
+ * hardDrop stacks bricks until the board tops out, at which point a new
+ * game is started, so each measurement averages over the fill levels of a
+ * whole game. getViewSnapshot is measured on an unchanged board, the
+ * common case between gravity steps, where the cached ghost and preview
+ * are reused.
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SimpleBoardBenchmark {
+
+    @Param({"10x25", "20x50", "64x512"})
+    public String boardSize;
+
+    private SimpleBoard board;
+
+    @Setup
+    public void setUp() {
+        String[] dimensions = boardSize.split("x");
+        board = new SimpleBoard(Integer.parseInt(dimensions[0]), Integer.parseInt(dimensions[1]));
+        board.newGame();
+    }
+
+    @Benchmark
+    public HardDropResult hardDrop() {
+        HardDropResult result = board.hardDrop();
+        if (result.isGameOver()) {
+            board.newGame();
+        }
+        return result;
+    }
+
+    @Benchmark
+    public ViewData getViewData() {
+        return board.getViewData();
+    }
+
+    @Benchmark
+    public ViewSnapshot getViewSnapshot() {
+        return board.getViewSnapshot();
+    }
+
+    @Benchmark
+    public int calculateGhostYPosition() {
+        return board.calculateGhostYPosition();
+    }
+}
@@ -0,0 +1,156 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.view.BoardDiff;
+import com.comp2042.view.CanvasBoardRenderer;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.layout.GridPane;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import javafx.scene.shape.Rectangle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the per-refresh cost of the board view against board size.
+ * <p>
+ * Mirrors GuiController's node-based background refresh: one Rectangle per
+ * cell in a GridPane, with every cell's fill reassigned from the board
+ * matrix on each refresh. The nodes are not attached to a live scene, so
+ * no FX toolkit is needed; the numbers cover the property updates only,
+ * not the layout and CSS passes a real frame adds on top, which also grow
+ * with node count.
+ * </p>
+ * <p>
+ * {@code refreshNodeGrid} reassigns every cell, alternating two unrelated
+ * boards. {@code refreshNodeGridDiff} runs the same
+ * {@link BoardDiff} GuiController refreshes with, alternating boards that
+ * differ by one locked brick (four cells), the common case after a lock.
+ * Its cell callback sets the fill only, where GuiController also resets
+ * the arc size and visibility of each repainted cell.
+ * </p>
+ * <p>
+ * {@code refreshCanvasDiff} feeds the same lock boards to
+ * CanvasBoardRenderer, which repaints only the dirty row strips. Its canvas
+ * is not in a scene either, so the numbers cover the draw calls recorded
+ * into the canvas buffer, not rasterization. A canvas that never reaches a
+ * pulse keeps every recorded command, so the benchmark clears the whole
+ * canvas (which empties the buffer) every {@value #CANVAS_RESET_INTERVAL}
+ * refreshes; that cost is amortized into the result.
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ViewScalingBenchmark {
+
+    private static final Paint[] PALETTE = {
+            Color.TRANSPARENT, Color.AQUA, Color.BLUEVIOLET, Color.DARKGREEN,
+            Color.YELLOW, Color.RED, Color.BEIGE, Color.BURLYWOOD
+    };
+
+    static final int CANVAS_RESET_INTERVAL = 256;
+
+    @Param({"10x25", "20x50", "64x512"})
+    public String boardSize;
+
+    private Rectangle[][] cells;
+    private int[][][] boards;
+    private int[][][] lockBoards;
+    private int[][] renderedBoard;
+    private final BoardDiff.CellSink cellSink =
+            (row, col, value) -> cells[row][col].setFill(PALETTE[value]);
+    private int tick;
+
+    /**
+     * Canvas renderer for {@code refreshCanvasDiff}, kept in its own state so
+     * the node benchmarks never create cell sprites (which starts the FX
+     * graphics pipeline).
+     */
+    @State(Scope.Thread)
+    public static class CanvasState {
+
+        private CanvasBoardRenderer renderer;
+
+        @Setup
+        public void setUp(ViewScalingBenchmark benchmark) {
+            int[][] board = benchmark.lockBoards[1];
+            renderer = new CanvasBoardRenderer(board.length, board[0].length, 4, 1, 4);
+            renderer.renderBoard(board);
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        String[] dimensions = boardSize.split("x");
+        int width = Integer.parseInt(dimensions[0]);
+        int height = Integer.parseInt(dimensions[1]);
+        GridPane panel = new GridPane();
+        cells = new Rectangle[height][width];
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                Rectangle rectangle = new Rectangle(4, 4);
+                cells[row][col] = rectangle;
+                panel.add(rectangle, col, row);
+            }
+        }
+        boards = new int[][][] {
+                BoardFixtures.partiallyFilledBoard(width, height),
+                BoardFixtures.boardWithFullRows(width, height, 4)
+        };
+        int[][] locked = BoardFixtures.partiallyFilledBoard(width, height);
+        int[][] beforeLock = new int[height][];
+        for (int row = 0; row < height; row++) {
+            beforeLock[row] = locked[row].clone();
+        }
+        for (int col = 0; col < 4 && col < width; col++) {
+            beforeLock[0][col] = 0;
+            locked[0][col] = 6;
+        }
+        lockBoards = new int[][][] {beforeLock, locked};
+        renderedBoard = new int[height][width];
+    }
+
+    @Benchmark
+    public Rectangle[][] refreshNodeGrid() {
+        int[][] board = boards[tick++ & 1];
+        for (int row = 0; row < board.length; row++) {
+            for (int col = 0; col < board[row].length; col++) {
+                cells[row][col].setFill(PALETTE[board[row][col]]);
+            }
+        }
+        return cells;
+    }
+
+    @Benchmark
+    public Rectangle[][] refreshNodeGridDiff() {
+        BoardDiff.apply(lockBoards[tick++ & 1], renderedBoard, cellSink);
+        return cells;
+    }
+
+    @Benchmark
+    public Canvas refreshCanvasDiff(CanvasState state) {
+        Canvas canvas = state.renderer.getCanvas();
+        if (tick % CANVAS_RESET_INTERVAL == 0) {
+            canvas.getGraphicsContext2D().clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        }
+        state.renderer.renderBoard(lockBoards[tick++ & 1]);
+        return canvas;
+    }
+}
@@ -1,5 +1,8 @@
 package com.comp2042;
 
+import com.comp2042.leaderboard.LeaderboardStore;
+import com.comp2042.replay.ReplayRecorder;
+import com.comp2042.view.GlobalSettings;
 import com.comp2042.view.SceneManager;
 import javafx.application.Application;
 import javafx.scene.Scene;
@@ -8,6 +11,8 @@ import javafx.stage.Stage;
 
 public class Main extends Application {
 
+    private static final long REPLAY_FLUSH_TIMEOUT_MILLIS = 2000;
+
     @Override
     public void start(Stage primaryStage) {
         // Disable fullscreen exit hint (no popup)
@@ -18,10 +23,24 @@ public class Main extends Application {
         primaryStage.setScene(initialScene);
         primaryStage.show();
         
+        // Load the leaderboard index in the background before the first game ends
+        LeaderboardStore.openInstanceInBackground();
+
         SceneManager.initialize(primaryStage);
         SceneManager.showMenu();  // Start at main menu
     }
 
+    @Override
+    public void stop() {
+        // Close the replay of a game that is still running, and let the
+        // replay thread finish writing before the JVM exits
+        SceneManager.shutdownGame();
+        ReplayRecorder.flushBackground(REPLAY_FLUSH_TIMEOUT_MILLIS);
+        // Settings are written in the background; make sure the last save lands
+        GlobalSettings.getInstance().flush();
+        LeaderboardStore.closeInstance();
+    }
+
     public static void main(String[] args) {
         launch(args);
     }
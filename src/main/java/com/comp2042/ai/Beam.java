@@ -0,0 +1,106 @@
+package com.comp2042.ai;
+
+/**
+ * One level of a beam search: the best positions seen so far with their
+ * scores, the lines cleared on the way to them, and the first placement
+ * they came from.
+ * <p>
+ * Slots are preallocated snapshots; offering a position copies it into a
+ * slot only if it is among the best {@code capacity} offered since the last
+ * {@link #clear()}. Positions whose board and line count match one already
+ * kept are dropped, so symmetric placements cannot crowd the beam.
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+final class Beam {
+
+    final BoardSnapshot[] boards;
+    final double[] scores;
+    final int[] lines;
+    final int[] rootPlacement;
+    final long[] hashes;
+    int size;
+
+    Beam(int capacity, int width, int height) {
+        boards = new BoardSnapshot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            boards[i] = new BoardSnapshot(width, height);
+        }
+        scores = new double[capacity];
+        lines = new int[capacity];
+        rootPlacement = new int[capacity];
+        hashes = new long[capacity];
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    /**
+     * Keeps a position if it is among the best offered at this level.
+     *
+     * @param board         the position; copied if kept
+     * @param hash          its {@link BoardSnapshot#hash()}
+     * @param score         its evaluation
+     * @param lineCount     the lines cleared on the way to it
+     * @param rootPlacement the first placement it came from
+     */
+    void offer(BoardSnapshot board, long hash, double score, int lineCount, int rootPlacement) {
+        int slot;
+        if (size < boards.length) {
+            if (contains(board, hash, lineCount)) {
+                return;
+            }
+            slot = size++;
+        } else {
+            slot = worst();
+            if (score <= scores[slot] || contains(board, hash, lineCount)) {
+                return;
+            }
+        }
+        boards[slot].copyFrom(board);
+        hashes[slot] = hash;
+        scores[slot] = score;
+        lines[slot] = lineCount;
+        this.rootPlacement[slot] = rootPlacement;
+    }
+
+    private boolean contains(BoardSnapshot board, long hash, int lineCount) {
+        for (int i = 0; i < size; i++) {
+            if (hashes[i] == hash && lines[i] == lineCount && boards[i].sameCells(board)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    int worst() {
+        int worst = 0;
+        for (int i = 1; i < size; i++) {
+            if (scores[i] < scores[worst]) {
+                worst = i;
+            }
+        }
+        return worst;
+    }
+
+    /**
+     * Returns the slot with the highest score.
+     *
+     * @return the best slot, or -1 if the beam is empty
+     */
+    int best() {
+        if (size == 0) {
+            return -1;
+        }
+        int best = 0;
+        for (int i = 1; i < size; i++) {
+            if (scores[i] > scores[best]) {
+                best = i;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,282 @@
+package com.comp2042.ai;
+
+import com.comp2042.board.Board;
+import com.comp2042.engine.GameEngine;
+import com.comp2042.model.Brick;
+import com.comp2042.model.PieceTable;
+
+import java.util.List;
+
+/**
+ * Bot player that chooses placements with a beam search over the preview.
+ * <p>
+ * This class is part of the Model layer in the MVC architecture and drives
+ * the attract-mode demo and benchmark games against the headless engine.
+ * The search expands every reachable placement of the current brick (from
+ * {@link MoveGenerator}), scores the resulting boards with a pluggable
+ * {@link Evaluator}, and keeps the best {@code beamWidth} positions. Each
+ * following level places the next preview brick (as returned by
+ * {@code BrickGenerator.getNextBricks}) on every kept position, from its
+ * spawn point, and again keeps the best {@code beamWidth}. The move played
+ * is the first placement leading to the best position at the deepest level,
+ * so a placement that looks good now but strands the next brick loses to
+ * one that sets it up.
+ * </p>
+ * <p>
+ * All positions are {@link BoardSnapshot}s drawn from two preallocated beam
+ * pools, so a search allocates nothing after construction. A bot is not
+ * thread-safe; use one per thread.
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+public class BeamSearchBot {
+
+    /** Positions kept per level when no beam width is given. */
+    public static final int DEFAULT_BEAM_WIDTH = 8;
+
+    /** Pieces searched (current brick plus preview) when no depth is given. */
+    public static final int DEFAULT_DEPTH = 3;
+
+    private final int width;
+    private final Evaluator evaluator;
+    private final int depth;
+
+    private final MoveGenerator rootMoves;
+    private final MoveGenerator moves;
+    private final BoardSnapshot root;
+    private final BoardSnapshot scratch;
+    private final PieceTable[] previewPieces;
+    private final byte[] path;
+
+    // Current level and the level being built; swapped after every level
+    private Beam beam;
+    private Beam nextBeam;
+
+    private int bestPlacement = -1;
+    private long positionsEvaluated;
+
+    /**
+     * Creates a bot with the {@link WeightedEvaluator#standard() standard}
+     * evaluator, {@link #DEFAULT_DEPTH} and {@link #DEFAULT_BEAM_WIDTH}.
+     *
+     * @param width  the board width
+     * @param height the board height
+     */
+    public BeamSearchBot(int width, int height) {
+        this(width, height, WeightedEvaluator.standard(), DEFAULT_DEPTH, DEFAULT_BEAM_WIDTH);
+    }
+
+    /**
+     * Creates a bot.
+     *
+     * @param width     the board width (at most 64)
+     * @param height    the board height
+     * @param evaluator scores positions; higher is better
+     * @param depth     the number of pieces to search: 1 for the current
+     *                  brick only, more to use the preview
+     * @param beamWidth the number of positions kept per level
+     * @throws IllegalArgumentException if depth or beamWidth is not positive
+     */
+    public BeamSearchBot(int width, int height, Evaluator evaluator, int depth, int beamWidth) {
+        if (depth < 1) {
+            throw new IllegalArgumentException("Depth must be positive, was " + depth);
+        }
+        if (beamWidth < 1) {
+            throw new IllegalArgumentException("Beam width must be positive, was " + beamWidth);
+        }
+        this.width = width;
+        this.evaluator = evaluator;
+        this.depth = depth;
+        rootMoves = new MoveGenerator(width, height);
+        moves = new MoveGenerator(width, height);
+        root = new BoardSnapshot(width, height);
+        scratch = new BoardSnapshot(width, height);
+        previewPieces = new PieceTable[depth - 1];
+        path = new byte[rootMoves.maxPathLength()];
+        beam = new Beam(beamWidth, width, height);
+        nextBeam = new Beam(beamWidth, width, height);
+    }
+
+    /**
+     * Searches for the best placement of a piece.
+     *
+     * @param board        the board before the piece is placed
+     * @param piece        the piece to place
+     * @param rotation     its current rotation state
+     * @param x            its current column
+     * @param y            its current row
+     * @param preview      the following pieces, in order
+     * @param previewCount how many preview pieces to use (the search uses at
+     *                     most depth - 1)
+     * @return true if a placement was found, false if the piece cannot move
+     *         at all
+     */
+    public boolean search(BoardSnapshot board, PieceTable piece, int rotation, int x, int y,
+                          PieceTable[] preview, int previewCount) {
+        bestPlacement = -1;
+        int placements = rootMoves.generate(board.rows, piece, rotation, x, y);
+        if (placements == 0) {
+            return false;
+        }
+
+        // Level 0: every placement of the current piece
+        nextBeam.clear();
+        for (int i = 0; i < placements; i++) {
+            scratch.copyFrom(board);
+            int lines = scratch.place(piece, rootMoves.getRotation(i), rootMoves.getX(i),
+                    rootMoves.getY(i));
+            offer(lines, i);
+        }
+        swapBeams();
+
+        // Deeper levels: the preview pieces from their spawn points
+        int levels = Math.min(depth - 1, previewCount);
+        for (int level = 0; level < levels; level++) {
+            PieceTable next = preview[level];
+            int spawnX = MoveGenerator.spawnX(next, width);
+            nextBeam.clear();
+            for (int n = 0; n < beam.size; n++) {
+                BoardSnapshot parent = beam.boards[n];
+                int count = moves.generate(parent.rows, next, 0, spawnX, 0);
+                for (int i = 0; i < count; i++) {
+                    scratch.copyFrom(parent);
+                    int lines = beam.lines[n] + scratch.place(next, moves.getRotation(i),
+                            moves.getX(i), moves.getY(i));
+                    offer(lines, beam.rootPlacement[n]);
+                }
+            }
+            if (nextBeam.size == 0) {
+                break;  // every line tops out; judge by the last level reached
+            }
+            swapBeams();
+        }
+
+        bestPlacement = beam.rootPlacement[beam.best()];
+        return true;
+    }
+
+    /**
+     * Chooses and plays one brick on an engine: moves the current brick
+     * along the path to the best placement and hard drops it.
+     *
+     * @param engine  the engine to play on
+     * @param preview the upcoming bricks, e.g. from
+     *                {@code BrickGenerator.getNextBricks(depth - 1)}
+     * @return true if a brick was played, false if the game is over
+     */
+    public boolean play(GameEngine engine, List<Brick> preview) {
+        if (engine.isGameOver()) {
+            return false;
+        }
+        Board board = engine.getBoard();
+        root.load(board.getBoardMatrix());
+        int previewCount = Math.min(preview.size(), previewPieces.length);
+        for (int i = 0; i < previewCount; i++) {
+            previewPieces[i] = preview.get(i).getPieceTable();
+        }
+        if (!search(root, board.getCurrentPiece(), board.getCurrentRotation(),
+                board.getCurrentX(), board.getCurrentY(), previewPieces, previewCount)) {
+            return false;
+        }
+
+        int length = getBestPath(path);
+        for (int i = 0; i < length; i++) {
+            switch (path[i]) {
+                case MoveGenerator.MOVE_LEFT:
+                    engine.moveLeft();
+                    break;
+                case MoveGenerator.MOVE_RIGHT:
+                    engine.moveRight();
+                    break;
+                case MoveGenerator.MOVE_DOWN:
+                    engine.moveDown(false);
+                    break;
+                default:
+                    engine.rotate();
+                    break;
+            }
+        }
+        engine.hardDrop();
+        return true;
+    }
+
+    /**
+     * Scores the scratch board and offers it to the next beam.
+     */
+    private void offer(int lines, int rootPlacement) {
+        double score = evaluator.evaluate(scratch, lines);
+        positionsEvaluated++;
+        nextBeam.offer(scratch, scratch.hash(), score, lines, rootPlacement);
+    }
+
+    private void swapBeams() {
+        Beam done = beam;
+        beam = nextBeam;
+        nextBeam = done;
+    }
+
+    /**
+     * Returns the rotation state of the chosen placement. Use this to check
+     * whether the last search found one before reading its position or path.
+     *
+     * @return the rotation, or -1 if the last search found nothing (or no
+     *         search has run)
+     */
+    public int getBestRotation() {
+        return bestPlacement < 0 ? -1 : rootMoves.getRotation(bestPlacement);
+    }
+
+    /**
+     * Returns the column of the chosen placement.
+     *
+     * @return the x position (may be negative for shapes with empty leading
+     *         columns)
+     * @throws IllegalStateException if the last search found nothing (or no
+     *                               search has run)
+     */
+    public int getBestX() {
+        return rootMoves.getX(requirePlacement());
+    }
+
+    /**
+     * Returns the row of the chosen placement.
+     *
+     * @return the y position
+     * @throws IllegalStateException if the last search found nothing (or no
+     *                               search has run)
+     */
+    public int getBestY() {
+        return rootMoves.getY(requirePlacement());
+    }
+
+    /**
+     * Writes the moves that take the current brick to the chosen placement.
+     *
+     * @param moves receives MoveGenerator move codes; at least
+     *              {@link MoveGenerator#maxPathLength()} long
+     * @return the number of moves written
+     * @throws IllegalStateException if the last search found nothing (or no
+     *                               search has run)
+     */
+    public int getBestPath(byte[] moves) {
+        return rootMoves.getPath(requirePlacement(), moves);
+    }
+
+    private int requirePlacement() {
+        if (bestPlacement < 0) {
+            throw new IllegalStateException("The last search found no placement");
+        }
+        return bestPlacement;
+    }
+
+    /**
+     * Returns the number of positions scored since the bot was created.
+     *
+     * @return the evaluation count
+     */
+    public long getPositionsEvaluated() {
+        return positionsEvaluated;
+    }
+}
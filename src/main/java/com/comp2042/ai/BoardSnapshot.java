@@ -0,0 +1,222 @@
+package com.comp2042.ai;
+
+import com.comp2042.board.ZobristHash;
+import com.comp2042.model.PieceTable;
+
+import java.util.Arrays;
+
+/**
+ * Primitive, mutable copy of a board used by the search.
+ * <p>
+ * Holds one occupancy mask per row (bit {@code col} set when column
+ * {@code col} is filled) and the height of every column (the number of rows
+ * from the floor up to and including its highest filled cell). Placing a
+ * piece, clearing rows and copying a snapshot are a handful of long
+ * operations per row, so the bot can expand and evaluate millions of
+ * positions per second without touching the live board or allocating.
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+public final class BoardSnapshot {
+
+    private final int width;
+    private final int height;
+    private final long fullRow;
+    final long[] rows;
+    final int[] columnHeights;
+    private long hash;
+
+    /**
+     * Creates an empty snapshot.
+     *
+     * @param width  the number of columns (at most 64)
+     * @param height the number of rows
+     * @throws IllegalArgumentException if width is not in [1, 64] or height
+     *                                  is not positive
+     */
+    public BoardSnapshot(int width, int height) {
+        if (width < 1 || width > Long.SIZE) {
+            throw new IllegalArgumentException("Width must be between 1 and 64, was " + width);
+        }
+        if (height < 1) {
+            throw new IllegalArgumentException("Height must be positive, was " + height);
+        }
+        this.width = width;
+        this.height = height;
+        this.fullRow = width == Long.SIZE ? -1L : (1L << width) - 1;
+        this.rows = new long[height];
+        this.columnHeights = new int[width];
+    }
+
+    /**
+     * Loads the filled cells of a board matrix.
+     *
+     * @param matrix the board (matrix[row][col]) with this snapshot's size
+     */
+    public void load(int[][] matrix) {
+        MoveGenerator.snapshot(matrix, rows);
+        updateColumnHeights();
+        hash = ZobristHash.ofRows(rows);
+    }
+
+    /**
+     * Makes this snapshot a copy of another of the same size.
+     *
+     * @param other the snapshot to copy
+     */
+    public void copyFrom(BoardSnapshot other) {
+        System.arraycopy(other.rows, 0, rows, 0, height);
+        System.arraycopy(other.columnHeights, 0, columnHeights, 0, width);
+        hash = other.hash;
+    }
+
+    /**
+     * Merges a piece into the board and clears the rows it completes.
+     * <p>
+     * The position must be collision-free (as every placement from
+     * {@link MoveGenerator} is).
+     * </p>
+     *
+     * @param piece    the piece
+     * @param rotation the rotation state
+     * @param x        the column of the shape origin
+     * @param y        the row of the shape origin
+     * @return the number of rows cleared
+     */
+    public int place(PieceTable piece, int rotation, int x, int y) {
+        long[] masks = piece.getRowMasks(rotation);
+        int top = piece.getMinRow(rotation);
+        int bottom = piece.getMaxRow(rotation);
+        int cleared = 0;
+        for (int r = top; r <= bottom; r++) {
+            long shifted = x >= 0 ? masks[r] << x : masks[r] >>> -x;
+            rows[y + r] |= shifted;
+            hash ^= ZobristHash.ofRow(y + r, shifted);
+            if (rows[y + r] == fullRow) {
+                cleared++;
+            }
+        }
+        if (cleared == 0) {
+            // Only the piece's columns can have grown
+            for (int r = top; r <= bottom; r++) {
+                long shifted = x >= 0 ? masks[r] << x : masks[r] >>> -x;
+                int rowHeight = height - (y + r);
+                while (shifted != 0) {
+                    int col = Long.numberOfTrailingZeros(shifted);
+                    if (columnHeights[col] < rowHeight) {
+                        columnHeights[col] = rowHeight;
+                    }
+                    shifted &= shifted - 1;
+                }
+            }
+            return 0;
+        }
+
+        // Compact: walk up from the lowest affected row, skipping full rows
+        int write = y + bottom;
+        for (int read = y + bottom; read >= 0; read--) {
+            long row = rows[read];
+            if (row == fullRow) {
+                hash ^= ZobristHash.ofRow(read, row);
+            } else {
+                if (write != read && row != 0) {
+                    hash ^= ZobristHash.ofRow(read, row) ^ ZobristHash.ofRow(write, row);
+                }
+                rows[write--] = row;
+            }
+        }
+        while (write >= 0) {
+            rows[write--] = 0;
+        }
+        updateColumnHeights();
+        return cleared;
+    }
+
+    /**
+     * Returns the Zobrist hash of the filled cells.
+     * <p>
+     * Kept up to date by {@link #place}, and equal to
+     * {@link com.comp2042.board.Board#getBoardHash()} for a board with the
+     * same cells. Different boards collide with probability about
+     * 2<sup>-64</sup>, so the hash can key transposition tables (confirm
+     * with {@link #sameCells(BoardSnapshot)} where a false match would
+     * matter).
+     * </p>
+     *
+     * @return the hash
+     */
+    public long hash() {
+        return hash;
+    }
+
+    /**
+     * Returns whether another snapshot of the same size has exactly the same
+     * filled cells.
+     *
+     * @param other the snapshot to compare
+     * @return true if every row matches
+     */
+    public boolean sameCells(BoardSnapshot other) {
+        return Arrays.equals(rows, other.rows);
+    }
+
+    /**
+     * Recomputes every column height from the row masks.
+     */
+    private void updateColumnHeights() {
+        long seen = 0;
+        for (int row = 0; row < height && seen != fullRow; row++) {
+            long newly = rows[row] & ~seen;
+            while (newly != 0) {
+                columnHeights[Long.numberOfTrailingZeros(newly)] = height - row;
+                newly &= newly - 1;
+            }
+            seen |= rows[row];
+        }
+        long empty = ~seen & fullRow;
+        while (empty != 0) {
+            columnHeights[Long.numberOfTrailingZeros(empty)] = 0;
+            empty &= empty - 1;
+        }
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Returns the occupancy mask of a row.
+     *
+     * @param row the row index (0 is the top)
+     * @return the mask, bit col set when column col is filled
+     */
+    public long getRow(int row) {
+        return rows[row];
+    }
+
+    /**
+     * Returns the mask of a row with every column filled.
+     *
+     * @return the full-row mask
+     */
+    public long getFullRowMask() {
+        return fullRow;
+    }
+
+    /**
+     * Returns the height of a column.
+     *
+     * @param col the column index
+     * @return the number of rows from the floor to the highest filled cell
+     *         (0 for an empty column)
+     */
+    public int getColumnHeight(int col) {
+        return columnHeights[col];
+    }
+}
@@ -0,0 +1,26 @@
+package com.comp2042.ai;
+
+/**
+ * Scores a board position for the bot; higher is better.
+ * <p>
+ * The bot calls this for every position it considers, so implementations
+ * should be allocation-free. An evaluator may be shared by several search
+ * threads, so it must be stateless or thread-safe and must only read the
+ * snapshot.
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface Evaluator {
+
+    /**
+     * Scores a position reached by placing one or more pieces.
+     *
+     * @param board        the board after the placements and their line clears
+     * @param linesCleared the rows cleared on the way to this position
+     * @return the score; higher is better
+     */
+    double evaluate(BoardSnapshot board, int linesCleared);
+}
@@ -0,0 +1,377 @@
+package com.comp2042.ai;
+
+import com.comp2042.board.Board;
+import com.comp2042.model.PieceTable;
+
+import java.util.Arrays;
+
+/**
+ * Enumerates every final placement the current brick can reach.
+ * <p>
+ * This class is part of the Model layer in the MVC architecture and is the
+ * foundation of the bot, hints and automated balance testing. Starting from
+ * the brick's current state it runs a breadth-first search over
+ * (rotation, x, y) using the same moves and collision rules as the boards
+ * (one column left or right, one row down, rotate to the next rotation
+ * state, no wall kicks, anything out of bounds or overlapping a filled cell
+ * collides, as in {@link com.comp2042.logic.CollisionHandler}). Every state
+ * the brick cannot move down from is a placement, so slides under overhangs
+ * (tucks) and rotations into tight spots (spins) are found as well as plain
+ * drops.
+ * </p>
+ * <p>
+ * The search works on a primitive board snapshot (one occupancy mask per
+ * row) and keeps all of its state in arrays allocated once per generator:
+ * states are identified by a packed {@code (rotation, y, x)} key, visited
+ * states are deduplicated with a generation-stamped array (no clearing
+ * between searches), and the queue and parent links are int arrays. A
+ * search therefore allocates nothing and takes microseconds on a standard
+ * board. Because BFS reaches each state first through a shortest move
+ * sequence, {@link #getPath(int, byte[])} returns a minimal input sequence
+ * for each placement.
+ * </p>
+ * <p>
+ * A generator is not thread-safe; use one per thread.
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+public class MoveGenerator {
+
+    /** Move code: one column left. */
+    public static final byte MOVE_LEFT = 0;
+    /** Move code: one column right. */
+    public static final byte MOVE_RIGHT = 1;
+    /** Move code: one row down. */
+    public static final byte MOVE_DOWN = 2;
+    /** Move code: rotate to the next rotation state. */
+    public static final byte MOVE_ROTATE = 3;
+
+    /** Most rotation states a piece may have. */
+    static final int MAX_ROTATIONS = 4;
+
+    /** Shape columns a piece may extend left of its x (pieces are at most 4 wide). */
+    private static final int X_PAD = 4;
+
+    private final int width;
+    private final int height;
+    private final int yShift;      // key bits below y (x + X_PAD)
+    private final int rotationShift; // key bits below rotation (y and x)
+    private final long[] rows;     // board snapshot, bit col = column col
+
+    // Search state, indexed by packed state key
+    private final int[] visitedStamp;
+    private final int[] parent;
+    private final byte[] parentMove;
+    private int stamp;
+
+    private final int[] queue;
+
+    // Results of the last search
+    private final int[] placements;
+    private int placementCount;
+
+    // The searched piece's bounds and masks, copied per search
+    private final int[] minRow = new int[MAX_ROTATIONS];
+    private final int[] maxRow = new int[MAX_ROTATIONS];
+    private final int[] minCol = new int[MAX_ROTATIONS];
+    private final int[] maxCol = new int[MAX_ROTATIONS];
+    private final long[][] rowMasks = new long[MAX_ROTATIONS][];
+
+    /**
+     * Creates a generator for boards of the given size.
+     *
+     * @param width  the number of columns (at most 64)
+     * @param height the number of rows
+     * @throws IllegalArgumentException if width is not in [1, 64] or height
+     *                                  is not positive
+     */
+    public MoveGenerator(int width, int height) {
+        if (width < 1 || width > Long.SIZE) {
+            throw new IllegalArgumentException("Width must be between 1 and 64, was " + width);
+        }
+        if (height < 1) {
+            throw new IllegalArgumentException("Height must be positive, was " + height);
+        }
+        this.width = width;
+        this.height = height;
+        this.yShift = bitsFor(width + X_PAD);
+        this.rotationShift = yShift + bitsFor(height);
+        this.rows = new long[height];
+        int states = MAX_ROTATIONS << rotationShift;
+        visitedStamp = new int[states];
+        parent = new int[states];
+        parentMove = new byte[states];
+        queue = new int[states];
+        placements = new int[states];
+    }
+
+    /**
+     * Enumerates the placements of the board's current brick from its
+     * current position.
+     *
+     * @param board the board (its dimensions must match this generator)
+     * @return the number of placements found
+     */
+    public int generate(Board board) {
+        snapshot(board.getBoardMatrix(), rows);
+        return search(board.getCurrentPiece(), board.getCurrentRotation(),
+                board.getCurrentX(), board.getCurrentY());
+    }
+
+    /**
+     * Enumerates the placements of a piece on a board snapshot.
+     *
+     * @param boardRows the occupancy mask of each row (bit col = column col);
+     *                  copied, so the caller may reuse it
+     * @param piece     the piece to place
+     * @param rotation  the starting rotation state
+     * @param x         the starting column
+     * @param y         the starting row (not negative; moves never go up)
+     * @return the number of placements found (0 if the start collides)
+     * @throws IllegalArgumentException if y is negative
+     */
+    public int generate(long[] boardRows, PieceTable piece, int rotation, int x, int y) {
+        System.arraycopy(boardRows, 0, rows, 0, height);
+        return search(piece, rotation, x, y);
+    }
+
+    /**
+     * Converts a board matrix into one occupancy mask per row.
+     *
+     * @param matrix the board (matrix[row][col])
+     * @param out    receives the masks; at least matrix.length long
+     */
+    public static void snapshot(int[][] matrix, long[] out) {
+        for (int row = 0; row < matrix.length; row++) {
+            int[] cells = matrix[row];
+            long mask = 0;
+            for (int col = 0; col < cells.length; col++) {
+                if (cells[col] != 0) {
+                    mask |= 1L << col;
+                }
+            }
+            out[row] = mask;
+        }
+    }
+
+    /**
+     * Returns the column a piece spawns at, as the boards choose it: the
+     * shape centred on the board and clamped inside it, in rotation 0 at
+     * row 0.
+     *
+     * @param piece the piece
+     * @param width the board width
+     * @return the spawn column
+     */
+    public static int spawnX(PieceTable piece, int width) {
+        int brickWidth = piece.getShape(0)[0].length;
+        int spawnX = width / 2 - brickWidth / 2;
+        if (spawnX < 0) {
+            spawnX = 0;
+        }
+        if (spawnX + brickWidth > width) {
+            spawnX = width - brickWidth;
+        }
+        return spawnX;
+    }
+
+    private int search(PieceTable piece, int rotation, int x, int y) {
+        placementCount = 0;
+        int rotations = piece.getRotationCount();
+        if (rotations > MAX_ROTATIONS) {
+            throw new IllegalArgumentException("Pieces may have at most " + MAX_ROTATIONS
+                    + " rotation states");
+        }
+        for (int r = 0; r < rotations; r++) {
+            minRow[r] = piece.getMinRow(r);
+            maxRow[r] = piece.getMaxRow(r);
+            minCol[r] = piece.getMinCol(r);
+            maxCol[r] = piece.getMaxCol(r);
+            rowMasks[r] = piece.getRowMasks(r);
+        }
+        if (y < 0) {
+            throw new IllegalArgumentException("Start row must not be negative, was " + y);
+        }
+        if (collides(rotation, x, y)) {
+            return 0;
+        }
+        if (stamp == Integer.MAX_VALUE) {
+            // Stamps are about to wrap around: forget every old mark once
+            Arrays.fill(visitedStamp, 0);
+            stamp = 0;
+        }
+        stamp++;
+
+        int head = 0;
+        int tail = 0;
+        int start = key(rotation, x, y);
+        visitedStamp[start] = stamp;
+        parent[start] = -1;
+        queue[tail++] = start;
+
+        while (head < tail) {
+            int state = queue[head++];
+            int r = rotationOf(state);
+            int sx = xOf(state);
+            int sy = yOf(state);
+
+            if (collides(r, sx, sy + 1)) {
+                placements[placementCount++] = state;
+            } else {
+                tail = visit(state, MOVE_DOWN, r, sx, sy + 1, tail);
+            }
+            tail = visit(state, MOVE_LEFT, r, sx - 1, sy, tail);
+            tail = visit(state, MOVE_RIGHT, r, sx + 1, sy, tail);
+            int next = r + 1 == rotations ? 0 : r + 1;
+            if (next != r) {
+                tail = visit(state, MOVE_ROTATE, next, sx, sy, tail);
+            }
+        }
+        return placementCount;
+    }
+
+    /**
+     * Enqueues a state if it is collision-free and has not been seen in this
+     * search. Colliding states are stamped too (negated), so each state is
+     * tested against the board at most once per search.
+     */
+    private int visit(int from, byte move, int rotation, int x, int y, int tail) {
+        if (outOfBounds(rotation, x, y)) {
+            return tail;
+        }
+        int state = key(rotation, x, y);
+        int mark = visitedStamp[state];
+        if (mark == stamp || mark == -stamp) {
+            return tail;
+        }
+        if (overlaps(rotation, x, y)) {
+            visitedStamp[state] = -stamp;
+            return tail;
+        }
+        visitedStamp[state] = stamp;
+        parent[state] = from;
+        parentMove[state] = move;
+        queue[tail++] = state;
+        return tail;
+    }
+
+    /**
+     * Same rules as CollisionHandler.hasCollision, on the row masks.
+     */
+    private boolean collides(int rotation, int x, int y) {
+        return outOfBounds(rotation, x, y) || overlaps(rotation, x, y);
+    }
+
+    private boolean outOfBounds(int rotation, int x, int y) {
+        return y + minRow[rotation] < 0 || y + maxRow[rotation] >= height
+                || x + minCol[rotation] < 0 || x + maxCol[rotation] >= width;
+    }
+
+    /**
+     * Tests an in-bounds position against the filled cells.
+     */
+    private boolean overlaps(int rotation, int x, int y) {
+        long[] masks = rowMasks[rotation];
+        for (int r = minRow[rotation], last = maxRow[rotation]; r <= last; r++) {
+            long shifted = x >= 0 ? masks[r] << x : masks[r] >>> -x;
+            if ((shifted & rows[y + r]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of bits needed to hold values in [0, count).
+     */
+    private static int bitsFor(int count) {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(count - 1);
+    }
+
+    private int key(int rotation, int x, int y) {
+        return rotation << rotationShift | y << yShift | x + X_PAD;
+    }
+
+    private int rotationOf(int state) {
+        return state >>> rotationShift;
+    }
+
+    private int yOf(int state) {
+        return (state >>> yShift) & ((1 << rotationShift - yShift) - 1);
+    }
+
+    private int xOf(int state) {
+        return (state & ((1 << yShift) - 1)) - X_PAD;
+    }
+
+    /**
+     * Returns the number of placements found by the last search.
+     *
+     * @return the placement count
+     */
+    public int getPlacementCount() {
+        return placementCount;
+    }
+
+    /**
+     * Returns the rotation state of a placement.
+     *
+     * @param index the placement index, in [0, getPlacementCount())
+     * @return the rotation state
+     */
+    public int getRotation(int index) {
+        return rotationOf(placements[index]);
+    }
+
+    /**
+     * Returns the column of a placement.
+     *
+     * @param index the placement index
+     * @return the x position (column of the shape origin)
+     */
+    public int getX(int index) {
+        return xOf(placements[index]);
+    }
+
+    /**
+     * Returns the row of a placement.
+     *
+     * @param index the placement index
+     * @return the y position (row of the shape origin)
+     */
+    public int getY(int index) {
+        return yOf(placements[index]);
+    }
+
+    /**
+     * Writes a shortest move sequence from the start state to a placement.
+     *
+     * @param index the placement index
+     * @param moves receives the move codes in order; at least
+     *              {@link #maxPathLength()} long
+     * @return the number of moves written
+     */
+    public int getPath(int index, byte[] moves) {
+        int length = 0;
+        for (int state = placements[index]; parent[state] >= 0; state = parent[state]) {
+            length++;
+        }
+        int i = length;
+        for (int state = placements[index]; parent[state] >= 0; state = parent[state]) {
+            moves[--i] = parentMove[state];
+        }
+        return length;
+    }
+
+    /**
+     * Returns an upper bound on the length of any path from
+     * {@link #getPath(int, byte[])}.
+     *
+     * @return the number of searchable states
+     */
+    public int maxPathLength() {
+        return queue.length;
+    }
+}
@@ -0,0 +1,386 @@
+package com.comp2042.ai;
+
+import com.comp2042.board.Board;
+import com.comp2042.model.Brick;
+import com.comp2042.model.PieceTable;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Time-bounded, multi-threaded placement search for move hints.
+ * <p>
+ * The current brick's placements are generated and scored on the calling
+ * thread, which already gives a one-piece answer. The search then deepens
+ * one preview piece at a time: each iteration fans the first-level
+ * placements out over a fork-join pool, mirroring
+ * {@link com.comp2042.engine.SimulationRunner}, and every task runs a beam
+ * search (as in {@link BeamSearchBot}) below its placements. Idle workers
+ * steal the remaining placement ranges, so all cores stay busy however
+ * uneven the subtrees are. When the time budget runs out the unfinished
+ * iteration is abandoned and the answer of the deepest completed one is
+ * returned, so a hint always arrives on time; pass
+ * {@code Score.getGameSpeedMillis()} (50 ms at the top levels) or less to
+ * get it within one gravity step.
+ * </p>
+ * <p>
+ * All workers share a lock-free {@link TranspositionTable} of evaluations
+ * keyed by board hash and cleared lines. Positions reached through
+ * different placements, by different workers or in earlier iterations and
+ * hints are scored once. Each worker thread keeps its own move generator
+ * and beam pools, so the search itself does not allocate.
+ * </p>
+ * <p>
+ * One search runs at a time; concurrent calls wait for each other.
+ * Asynchronous hints are coordinated on a thread of their own and queue
+ * there in order, so a waiting request never holds a pool worker the
+ * running search needs. Call {@link #close()} to stop the threads.
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+public class ParallelBotSearch implements AutoCloseable {
+
+    /** First-level placements searched sequentially by one fork-join leaf task. */
+    private static final int ROOTS_PER_TASK = 2;
+
+    /** Evaluations cached across searches. */
+    private static final int TABLE_CAPACITY = 1 << 18;
+
+    /** Share of the time budget not spent searching. */
+    private static final int BUDGET_RESERVE_PERCENT = 10;
+
+    private static final long LINES_KEY_MIX = 0xD6E8FEB86659FD93L;
+
+    private final int width;
+    private final int height;
+    private final Evaluator evaluator;
+    private final int depth;
+    private final int beamWidth;
+    private final ForkJoinPool pool;
+    private final ExecutorService coordinator;  // runs suggestAsync searches in turn
+    private final TranspositionTable table = new TranspositionTable(TABLE_CAPACITY);
+    private final ThreadLocal<Worker> workers;
+    private final LongAdder positions = new LongAdder();
+
+    // Coordinator state, guarded by this
+    private final MoveGenerator rootMoves;
+    private final PieceTable[] previewPieces;
+    private BoardSnapshot[] children = new BoardSnapshot[0];
+    private int[] childLines = new int[0];
+    private double[] childScores = new double[0];
+    private int[] childReached = new int[0];
+    private double[] iterationScores = new double[0];
+    private int[] iterationReached = new int[0];
+    private volatile boolean outOfTime;
+
+    /**
+     * Creates a search with the {@link WeightedEvaluator#standard() standard}
+     * evaluator and the {@link BeamSearchBot} default depth and beam width,
+     * using all available cores.
+     *
+     * @param width  the board width
+     * @param height the board height
+     */
+    public ParallelBotSearch(int width, int height) {
+        this(width, height, WeightedEvaluator.standard(), BeamSearchBot.DEFAULT_DEPTH,
+                BeamSearchBot.DEFAULT_BEAM_WIDTH, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a search.
+     *
+     * @param width       the board width (at most 64)
+     * @param height      the board height
+     * @param evaluator   scores positions; shared by all workers
+     * @param depth       the most pieces to search (current brick plus preview)
+     * @param beamWidth   the positions kept per level below each first-level
+     *                    placement
+     * @param parallelism the number of worker threads
+     * @throws IllegalArgumentException if depth or beamWidth is not positive
+     */
+    public ParallelBotSearch(int width, int height, Evaluator evaluator, int depth, int beamWidth,
+                             int parallelism) {
+        if (depth < 1) {
+            throw new IllegalArgumentException("Depth must be positive, was " + depth);
+        }
+        if (beamWidth < 1) {
+            throw new IllegalArgumentException("Beam width must be positive, was " + beamWidth);
+        }
+        this.width = width;
+        this.height = height;
+        this.evaluator = evaluator;
+        this.depth = depth;
+        this.beamWidth = beamWidth;
+        this.pool = new ForkJoinPool(parallelism);
+        this.coordinator = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "bot-search");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.workers = ThreadLocal.withInitial(Worker::new);
+        this.rootMoves = new MoveGenerator(width, height);
+        this.previewPieces = new PieceTable[depth - 1];
+    }
+
+    /**
+     * Suggests a placement for the board's current brick, blocking for at
+     * most about the time budget.
+     *
+     * @param board        the board (read on the calling thread only)
+     * @param preview      the upcoming bricks, e.g. from
+     *                     {@code BrickGenerator.getNextBricks(depth - 1)}
+     * @param budgetMillis the time budget
+     * @return the suggestion, or null if the brick cannot move
+     */
+    public SearchResult suggest(Board board, List<Brick> preview, long budgetMillis) {
+        long deadline = deadline(budgetMillis);
+        BoardSnapshot root = new BoardSnapshot(width, height);
+        root.load(board.getBoardMatrix());
+        return search(root, board.getCurrentPiece(), board.getCurrentRotation(),
+                board.getCurrentX(), board.getCurrentY(), pieces(preview), deadline);
+    }
+
+    /**
+     * Suggests a placement without blocking the caller: the board is copied
+     * now and searched from the coordinator thread, after any hints still
+     * queued there, with the fan-out on the pool. The budget runs from this
+     * call, so a hint that waited behind others searches less deeply.
+     *
+     * @param board        the board (read on the calling thread only)
+     * @param preview      the upcoming bricks
+     * @param budgetMillis the time budget, counted from this call
+     * @return a future completing with the suggestion (null if the brick
+     *         cannot move)
+     */
+    public CompletableFuture<SearchResult> suggestAsync(Board board, List<Brick> preview,
+                                                        long budgetMillis) {
+        long deadline = deadline(budgetMillis);
+        BoardSnapshot root = new BoardSnapshot(width, height);
+        root.load(board.getBoardMatrix());
+        PieceTable piece = board.getCurrentPiece();
+        int rotation = board.getCurrentRotation();
+        int x = board.getCurrentX();
+        int y = board.getCurrentY();
+        PieceTable[] next = pieces(preview);
+        return CompletableFuture.supplyAsync(
+                () -> search(root, piece, rotation, x, y, next, deadline), coordinator);
+    }
+
+    /**
+     * Converts a budget into a deadline, keeping back a tenth of it for
+     * workers to notice the deadline and for the caller to use the answer.
+     */
+    private static long deadline(long budgetMillis) {
+        return System.nanoTime() + budgetMillis * 1_000_000L * (100 - BUDGET_RESERVE_PERCENT) / 100;
+    }
+
+    private PieceTable[] pieces(List<Brick> preview) {
+        int count = Math.min(preview.size(), depth - 1);
+        PieceTable[] pieces = new PieceTable[count];
+        for (int i = 0; i < count; i++) {
+            pieces[i] = preview.get(i).getPieceTable();
+        }
+        return pieces;
+    }
+
+    /**
+     * Runs the iterative deepening search from a snapshot.
+     *
+     * @param root     the board before the piece is placed
+     * @param piece    the piece to place
+     * @param rotation its rotation state
+     * @param x        its column
+     * @param y        its row
+     * @param preview  the following pieces (at most depth - 1 are used)
+     * @param deadline the System.nanoTime() at which to stop deepening
+     * @return the suggestion, or null if the piece cannot move
+     */
+    public synchronized SearchResult search(BoardSnapshot root, PieceTable piece, int rotation,
+                                            int x, int y, PieceTable[] preview, long deadline) {
+        long positionsBefore = positions.sum();
+        int count = rootMoves.generate(root.rows, piece, rotation, x, y);
+        if (count == 0) {
+            return null;
+        }
+        ensureCapacity(count);
+
+        // Depth 1 on this thread: always available, however short the budget
+        for (int i = 0; i < count; i++) {
+            BoardSnapshot child = children[i];
+            child.copyFrom(root);
+            childLines[i] = child.place(piece, rootMoves.getRotation(i), rootMoves.getX(i),
+                    rootMoves.getY(i));
+            childScores[i] = evaluate(child, child.hash(), childLines[i]);
+            childReached[i] = 1;
+        }
+        int completed = 1;
+
+        int levels = Math.min(depth - 1, preview.length);
+        System.arraycopy(preview, 0, previewPieces, 0, levels);
+        for (int level = 1; level <= levels && System.nanoTime() < deadline; level++) {
+            outOfTime = false;
+            pool.invoke(new RootRangeTask(level, deadline, 0, count));
+            if (outOfTime) {
+                break;
+            }
+            System.arraycopy(iterationScores, 0, childScores, 0, count);
+            System.arraycopy(iterationReached, 0, childReached, 0, count);
+            completed = level + 1;
+        }
+
+        int best = 0;
+        for (int i = 1; i < count; i++) {
+            if (childReached[i] > childReached[best]
+                    || childReached[i] == childReached[best] && childScores[i] > childScores[best]) {
+                best = i;
+            }
+        }
+        byte[] path = new byte[rootMoves.maxPathLength()];
+        int length = rootMoves.getPath(best, path);
+        byte[] moves = new byte[length];
+        System.arraycopy(path, 0, moves, 0, length);
+        return new SearchResult(rootMoves.getRotation(best), rootMoves.getX(best),
+                rootMoves.getY(best), childScores[best], completed,
+                positions.sum() - positionsBefore, moves);
+    }
+
+    private void ensureCapacity(int count) {
+        if (children.length >= count) {
+            return;
+        }
+        BoardSnapshot[] grown = new BoardSnapshot[count];
+        System.arraycopy(children, 0, grown, 0, children.length);
+        for (int i = children.length; i < count; i++) {
+            grown[i] = new BoardSnapshot(width, height);
+        }
+        children = grown;
+        childLines = new int[count];
+        childScores = new double[count];
+        childReached = new int[count];
+        iterationScores = new double[count];
+        iterationReached = new int[count];
+    }
+
+    /**
+     * Scores a position, through the shared transposition table.
+     */
+    private double evaluate(BoardSnapshot board, long hash, int lines) {
+        long key = hash ^ lines * LINES_KEY_MIX;
+        double score = table.probe(key);
+        if (Double.isNaN(score)) {
+            score = evaluator.evaluate(board, lines);
+            table.store(key, score);
+            positions.increment();
+        }
+        return score;
+    }
+
+    /**
+     * Returns the total number of positions evaluated (table hits excluded).
+     *
+     * @return the evaluation count
+     */
+    public long getPositionsEvaluated() {
+        return positions.sum();
+    }
+
+    /**
+     * Stops the coordinator and worker threads. Searches started afterwards
+     * fail.
+     */
+    @Override
+    public void close() {
+        coordinator.shutdownNow();
+        pool.shutdownNow();
+    }
+
+    /**
+     * Fork-join task searching below the first-level placements in [from, to).
+     */
+    private final class RootRangeTask extends RecursiveAction {
+
+        private final int levels;
+        private final long deadline;
+        private final int from;
+        private final int to;
+
+        RootRangeTask(int levels, long deadline, int from, int to) {
+            this.levels = levels;
+            this.deadline = deadline;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= ROOTS_PER_TASK) {
+                Worker worker = workers.get();
+                for (int i = from; i < to && !outOfTime; i++) {
+                    worker.searchBelow(i, levels, deadline);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new RootRangeTask(levels, deadline, from, mid),
+                    new RootRangeTask(levels, deadline, mid, to));
+        }
+    }
+
+    /**
+     * Per-thread search buffers.
+     */
+    private final class Worker {
+
+        private final MoveGenerator moves = new MoveGenerator(width, height);
+        private final BoardSnapshot scratch = new BoardSnapshot(width, height);
+        private Beam beam = new Beam(beamWidth, width, height);
+        private Beam nextBeam = new Beam(beamWidth, width, height);
+
+        /**
+         * Beam-searches {@code levels} preview pieces below one first-level
+         * placement and records how deep it got and its best score.
+         */
+        void searchBelow(int root, int levels, long deadline) {
+            BoardSnapshot child = children[root];
+            beam.clear();
+            beam.offer(child, child.hash(), childScores[root], childLines[root], root);
+            int reached = 1;
+            for (int level = 0; level < levels; level++) {
+                PieceTable next = previewPieces[level];
+                int spawnX = MoveGenerator.spawnX(next, width);
+                nextBeam.clear();
+                for (int n = 0; n < beam.size; n++) {
+                    if (System.nanoTime() >= deadline) {
+                        outOfTime = true;
+                        return;
+                    }
+                    BoardSnapshot parent = beam.boards[n];
+                    int count = moves.generate(parent.rows, next, 0, spawnX, 0);
+                    for (int i = 0; i < count; i++) {
+                        scratch.copyFrom(parent);
+                        int lines = beam.lines[n] + scratch.place(next, moves.getRotation(i),
+                                moves.getX(i), moves.getY(i));
+                        long hash = scratch.hash();
+                        nextBeam.offer(scratch, hash, evaluate(scratch, hash, lines), lines, root);
+                    }
+                }
+                if (nextBeam.size == 0) {
+                    break;  // tops out below this placement
+                }
+                Beam done = beam;
+                beam = nextBeam;
+                nextBeam = done;
+                reached++;
+            }
+            iterationReached[root] = reached;
+            iterationScores[root] = beam.scores[beam.best()];
+        }
+    }
+}
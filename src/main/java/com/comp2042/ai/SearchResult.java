@@ -0,0 +1,100 @@
+package com.comp2042.ai;
+
+/**
+ * Move suggested by a {@link ParallelBotSearch}.
+ * <p>
+ * Holds the placement to aim for, the moves that reach it from the brick's
+ * position when the search started (MoveGenerator move codes), the score
+ * of the line it leads to, and how deep the search got within its budget.
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+public final class SearchResult {
+
+    private final int rotation;
+    private final int x;
+    private final int y;
+    private final double score;
+    private final int depth;
+    private final long positionsEvaluated;
+    private final byte[] path;
+
+    /**
+     * Constructs a new search result.
+     *
+     * @param rotation           the rotation state of the placement
+     * @param x                  the column of the placement
+     * @param y                  the row of the placement
+     * @param score              the evaluation of the best line found
+     * @param depth              the number of pieces fully searched
+     * @param positionsEvaluated the positions scored by this search
+     * @param path               the moves to the placement; not copied
+     */
+    SearchResult(int rotation, int x, int y, double score, int depth, long positionsEvaluated,
+                 byte[] path) {
+        this.rotation = rotation;
+        this.x = x;
+        this.y = y;
+        this.score = score;
+        this.depth = depth;
+        this.positionsEvaluated = positionsEvaluated;
+        this.path = path;
+    }
+
+    public int getRotation() {
+        return rotation;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    /**
+     * Returns how many pieces (current brick plus preview) the search
+     * completed before its time budget ran out.
+     *
+     * @return the completed depth, at least 1
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getPositionsEvaluated() {
+        return positionsEvaluated;
+    }
+
+    /**
+     * Returns the number of moves from the start position to the placement.
+     *
+     * @return the path length
+     */
+    public int getPathLength() {
+        return path.length;
+    }
+
+    /**
+     * Returns one move of the path.
+     *
+     * @param index the move index, in [0, getPathLength())
+     * @return the MoveGenerator move code
+     */
+    public byte getMove(int index) {
+        return path[index];
+    }
+
+    @Override
+    public String toString() {
+        return "SearchResult{rotation=" + rotation + ", x=" + x + ", y=" + y + ", score=" + score
+                + ", depth=" + depth + ", positions=" + positionsEvaluated + "}";
+    }
+}
@@ -0,0 +1,83 @@
+package com.comp2042.ai;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size, lock-free cache of position evaluations shared by search
+ * threads.
+ * <p>
+ * Entries are keyed by a 64-bit position key (a board hash mixed with
+ * anything else the value depends on) and hold one double. Each slot is two
+ * longs: the key XORed with the value bits, and the value bits. A reader
+ * accepts a slot only if the two XOR back to its key, so a slot torn by a
+ * concurrent write reads as a miss instead of a wrong value; no locks are
+ * needed (opaque access keeps each long read and write whole). Colliding
+ * keys simply replace each other, which keeps the table a bounded cache
+ * rather than a map.
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+public final class TranspositionTable {
+
+    private final AtomicLongArray slots;
+    private final int mask;
+
+    /**
+     * Creates a table.
+     *
+     * @param capacity the number of entries, rounded up to a power of two
+     * @throws IllegalArgumentException if capacity is not in [1, 2^29]
+     */
+    public TranspositionTable(int capacity) {
+        if (capacity < 1 || capacity > 1 << 29) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^29, was " + capacity);
+        }
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        slots = new AtomicLongArray(size * 2);
+        mask = size - 1;
+    }
+
+    /**
+     * Looks up a key.
+     *
+     * @param key the position key
+     * @return the stored value, or NaN if the key is not in the table
+     */
+    public double probe(long key) {
+        int index = index(key);
+        long bits = slots.getOpaque(index + 1);
+        long check = slots.getOpaque(index);
+        if ((check ^ bits) != key || (check == 0 && bits == 0)) {
+            return Double.NaN;
+        }
+        return Double.longBitsToDouble(bits);
+    }
+
+    /**
+     * Stores a value, replacing whatever the slot held.
+     *
+     * @param key   the position key
+     * @param value the value (not NaN)
+     */
+    public void store(long key, double value) {
+        int index = index(key);
+        long bits = Double.doubleToRawLongBits(value);
+        slots.setOpaque(index, key ^ bits);
+        slots.setOpaque(index + 1, bits);
+    }
+
+    /**
+     * Returns the number of entries the table can hold.
+     *
+     * @return the capacity
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    private int index(long key) {
+        return (int) ((key ^ (key >>> 32)) & mask) << 1;
+    }
+}
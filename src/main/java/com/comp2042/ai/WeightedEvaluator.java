@@ -0,0 +1,131 @@
+package com.comp2042.ai;
+
+/**
+ * Evaluator that scores a position as a weighted sum of classic board
+ * features.
+ * <p>
+ * The features are:
+ * </p>
+ * <ul>
+ *   <li>aggregate height: the sum of all column heights;</li>
+ *   <li>holes: empty cells with a filled cell somewhere above them;</li>
+ *   <li>bumpiness: the sum of height differences between adjacent columns;</li>
+ *   <li>wells: for every column lower than both neighbours (walls count as
+ *       infinitely high), 1 + 2 + ... + depth, so deep wells cost more;</li>
+ *   <li>row transitions: filled/empty changes along each non-empty row, with
+ *       the walls counted as filled;</li>
+ *   <li>line clears: the rows cleared on the way to the position.</li>
+ * </ul>
+ * <p>
+ * Each feature is computed in one pass over the row masks and column
+ * heights of the snapshot, so an evaluation takes tens of nanoseconds.
+ * Negative weights penalise a feature. The evaluator is immutable and may be
+ * shared between threads.
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+public final class WeightedEvaluator implements Evaluator {
+
+    private final double heightWeight;
+    private final double holeWeight;
+    private final double bumpinessWeight;
+    private final double wellWeight;
+    private final double rowTransitionWeight;
+    private final double lineClearWeight;
+
+    /**
+     * Creates an evaluator with the given feature weights.
+     *
+     * @param heightWeight        weight of the aggregate height
+     * @param holeWeight          weight of the hole count
+     * @param bumpinessWeight     weight of the bumpiness
+     * @param wellWeight          weight of the cumulative well depth
+     * @param rowTransitionWeight weight of the row transition count
+     * @param lineClearWeight     weight of the cleared line count
+     */
+    public WeightedEvaluator(double heightWeight, double holeWeight, double bumpinessWeight,
+                             double wellWeight, double rowTransitionWeight,
+                             double lineClearWeight) {
+        this.heightWeight = heightWeight;
+        this.holeWeight = holeWeight;
+        this.bumpinessWeight = bumpinessWeight;
+        this.wellWeight = wellWeight;
+        this.rowTransitionWeight = rowTransitionWeight;
+        this.lineClearWeight = lineClearWeight;
+    }
+
+    /**
+     * Creates an evaluator with weights that play steadily on a standard
+     * board: holes and deep wells are avoided, the stack is kept low and
+     * flat, and line clears are taken when they come.
+     *
+     * @return the default evaluator
+     */
+    public static WeightedEvaluator standard() {
+        return new WeightedEvaluator(-0.51, -3.5, -0.18, -0.25, -0.32, 0.76);
+    }
+
+    @Override
+    public double evaluate(BoardSnapshot board, int linesCleared) {
+        int width = board.getWidth();
+        int height = board.getHeight();
+        long fullRow = board.getFullRowMask();
+        long innerPairs = fullRow >>> 1;
+        long lastColumn = 1L << (width - 1);
+
+        // Holes and row transitions, top to bottom
+        int holes = 0;
+        int rowTransitions = 0;
+        long covered = 0;
+        for (int row = height - maxHeight(board); row < height; row++) {
+            long cells = board.getRow(row);
+            holes += Long.bitCount(covered & ~cells);
+            covered |= cells;
+            rowTransitions += Long.bitCount((cells ^ (cells >>> 1)) & innerPairs);
+            if ((cells & 1) == 0) {
+                rowTransitions++;
+            }
+            if ((cells & lastColumn) == 0) {
+                rowTransitions++;
+            }
+        }
+
+        // Height features, left to right
+        int aggregateHeight = 0;
+        int bumpiness = 0;
+        int wells = 0;
+        int left = Integer.MAX_VALUE;
+        int current = board.getColumnHeight(0);
+        for (int col = 0; col < width; col++) {
+            int right = col + 1 < width ? board.getColumnHeight(col + 1) : Integer.MAX_VALUE;
+            aggregateHeight += current;
+            if (right != Integer.MAX_VALUE) {
+                bumpiness += Math.abs(current - right);
+            }
+            // Walls are higher than any column; a lone column is one deep well
+            int depth = Math.min(Math.min(left, right), height) - current;
+            if (depth > 0) {
+                wells += depth * (depth + 1) / 2;
+            }
+            left = current;
+            current = right;
+        }
+
+        return heightWeight * aggregateHeight
+                + holeWeight * holes
+                + bumpinessWeight * bumpiness
+                + wellWeight * wells
+                + rowTransitionWeight * rowTransitions
+                + lineClearWeight * linesCleared;
+    }
+
+    private static int maxHeight(BoardSnapshot board) {
+        int max = 0;
+        for (int col = 0; col < board.getWidth(); col++) {
+            max = Math.max(max, board.getColumnHeight(col));
+        }
+        return max;
+    }
+}
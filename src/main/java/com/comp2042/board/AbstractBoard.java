@@ -0,0 +1,346 @@
+package com.comp2042.board;
+
+import com.comp2042.model.Brick;
+import com.comp2042.model.BrickGenerator;
+import com.comp2042.model.ClearRow;
+import com.comp2042.model.HardDropResult;
+import com.comp2042.model.PieceTable;
+import com.comp2042.model.Score;
+import com.comp2042.model.ViewData;
+import com.comp2042.model.ViewSnapshot;
+
+/**
+ * Board logic shared by every {@link Board} implementation, independent of
+ * how the filled cells are stored.
+ * <p>
+ * This class is part of the Model layer in the MVC architecture. It owns
+ * the falling brick (its rotator and x/y offset), spawning, moving,
+ * rotating, hard drops and the ghost row, plus the reusable
+ * {@link ViewSnapshot} and the column {@link SurfaceProfile}. Subclasses
+ * supply the cell store: collision checks, merging, row clearing and the
+ * board matrix.
+ * </p>
+ * <p>
+ * Rendering reads a single ViewSnapshot refilled in place. Its ghost row is
+ * reused until the board changes (subclasses call {@link #invalidateGhost()})
+ * or the brick rotates, shifts or falls past it, and its preview until the
+ * next brick spawns.
+ * </p>
+ * <p>
+ * Coordinate system: x = column, y = row. Subclasses keep their cells as
+ * [row][col] (or row-major) and keep the surface up to date as cells fill
+ * and rows clear.
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+abstract class AbstractBoard implements Board {
+
+    final int width;
+    final int height;
+    final SurfaceProfile surface;  // highest filled row per column
+
+    private final BrickGenerator brickGenerator;
+    private final BrickRotator brickRotator = new BrickRotator();
+    private final Score score;
+    private int currentX;  // column
+    private int currentY;  // row
+
+    // Reusable view snapshot and the inputs its ghost and preview came from
+    private final ViewSnapshot viewSnapshot = new ViewSnapshot();
+    private boolean ghostValid;
+    private PieceTable ghostPiece;
+    private int ghostRotation;
+    private int ghostX;
+    private int ghostY;
+    private boolean previewValid;
+
+    /**
+     * Creates the shared board state.
+     *
+     * @param width          the number of columns (horizontal dimension)
+     * @param height         the number of rows (vertical dimension)
+     * @param brickGenerator the source of new bricks
+     * @param score          the score to update as the game progresses
+     */
+    AbstractBoard(int width, int height, BrickGenerator brickGenerator, Score score) {
+        this.width = width;
+        this.height = height;
+        this.surface = new SurfaceProfile(width, height);
+        this.brickGenerator = brickGenerator;
+        this.score = score;
+    }
+
+    /**
+     * Checks a rotation state of the current brick against the filled cells
+     * and the board boundaries when placed at (x, y).
+     *
+     * @param rotation the rotation state index
+     * @param x        the column position (x coordinate)
+     * @param y        the row position (y coordinate)
+     * @return true if there is a collision, false otherwise
+     */
+    abstract boolean collides(int rotation, int x, int y);
+
+    /**
+     * Empties every cell of the board (for a new game). The surface, ghost
+     * and score are reset by {@link #newGame()}.
+     */
+    abstract void clearCells();
+
+    /**
+     * Marks the cached ghost row stale; called whenever filled cells change.
+     */
+    final void invalidateGhost() {
+        ghostValid = false;
+    }
+
+    /**
+     * Attempts to move the current brick down by one row.
+     *
+     * @return true if the brick was successfully moved down, false if blocked
+     *         by collision or boundary
+     */
+    @Override
+    public boolean moveBrickDown() {
+        if (!collides(getCurrentRotation(), currentX, currentY + 1)) {
+            currentY++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Attempts to move the current brick left by one column.
+     *
+     * @return true if the brick was successfully moved left, false if blocked
+     *         by collision or boundary
+     */
+    @Override
+    public boolean moveBrickLeft() {
+        if (!collides(getCurrentRotation(), currentX - 1, currentY)) {
+            currentX--;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Attempts to move the current brick right by one column.
+     *
+     * @return true if the brick was successfully moved right, false if blocked
+     *         by collision or boundary
+     */
+    @Override
+    public boolean moveBrickRight() {
+        if (!collides(getCurrentRotation(), currentX + 1, currentY)) {
+            currentX++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Attempts to rotate the current brick to its next rotation state.
+     * <p>
+     * The next state is looked up in BrickRotator's shared shape table and
+     * applied only if it does not collide.
+     * </p>
+     *
+     * @return true if the rotation was successful, false if rotation was blocked
+     *         by collision or boundary
+     */
+    @Override
+    public boolean rotateLeftBrick() {
+        int nextShape = brickRotator.getNextShapeIndex();
+        if (!collides(nextShape, currentX, currentY)) {
+            brickRotator.setCurrentShape(nextShape);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Creates a new brick at the top center of the board.
+     * <p>
+     * Takes the next brick from the BrickGenerator and places it at row 0,
+     * centered and clamped so it fits within the board width.
+     * </p>
+     *
+     * @return true if the new brick collides immediately (game over condition),
+     *         false if the brick was successfully spawned
+     */
+    @Override
+    public boolean createNewBrick() {
+        Brick currentBrick = brickGenerator.getBrick();
+        brickRotator.setBrick(currentBrick);
+
+        // Calculate proper spawn position: top center of the board
+        int brickWidth = brickRotator.getCurrentShape()[0].length;
+        int spawnX = (width / 2) - (brickWidth / 2);
+        // Clamp spawnX to stay within [0, width - brickWidth]
+        if (spawnX < 0) {
+            spawnX = 0;
+        }
+        if (spawnX + brickWidth > width) {
+            spawnX = width - brickWidth;
+        }
+
+        currentX = spawnX;
+        currentY = 0;
+        previewValid = false;
+        return collides(getCurrentRotation(), currentX, currentY);
+    }
+
+    /**
+     * Calculates the Y position where the current brick would land (ghost position).
+     * <p>
+     * When the brick is above the surface in every column it covers, the
+     * landing row follows directly from the column surface and the brick's
+     * bottom profile. Otherwise (the brick is under an overhang) the brick
+     * is stepped down one row at a time until it would collide. This is used
+     * to display the ghost piece preview and for hard drops.
+     * </p>
+     *
+     * @return the Y position (row) where the brick would land, or the current
+     *         Y position if already at the bottom
+     */
+    public int calculateGhostYPosition() {
+        int rotation = getCurrentRotation();
+        int dropY = surface.dropY(getCurrentPiece(), rotation, currentX, currentY);
+        if (dropY != SurfaceProfile.BLOCKED) {
+            return dropY;
+        }
+        int landingY = currentY;
+        while (landingY < height - 1 && !collides(rotation, currentX, landingY + 1)) {
+            landingY++;
+        }
+        return landingY;
+    }
+
+    @Override
+    public PieceTable getCurrentPiece() {
+        return brickRotator.getPieceTable();
+    }
+
+    @Override
+    public int getCurrentRotation() {
+        return brickRotator.getCurrentShapeIndex();
+    }
+
+    @Override
+    public int getCurrentX() {
+        return currentX;
+    }
+
+    @Override
+    public int getCurrentY() {
+        return currentY;
+    }
+
+    /**
+     * Returns a copy of the current view data for rendering the game state.
+     *
+     * @return ViewData object containing brick shape, position, ghost position,
+     *         next brick information, and score data
+     */
+    @Override
+    public ViewData getViewData() {
+        return getViewSnapshot().toViewData();
+    }
+
+    /**
+     * Fills the reusable view snapshot, recomputing the ghost row only when
+     * the board changed or the brick rotated, shifted or fell past it, and
+     * the preview only after a spawn.
+     *
+     * @return the board's view snapshot
+     */
+    @Override
+    public ViewSnapshot getViewSnapshot() {
+        PieceTable piece = getCurrentPiece();
+        int rotation = getCurrentRotation();
+        if (!ghostValid || piece != ghostPiece || rotation != ghostRotation
+                || currentX != ghostX || currentY > ghostY) {
+            ghostY = calculateGhostYPosition();
+            ghostPiece = piece;
+            ghostRotation = rotation;
+            ghostX = currentX;
+            ghostValid = true;
+        }
+        if (!previewValid) {
+            viewSnapshot.setNextBricks(brickGenerator.getNextBricks(ViewSnapshot.PREVIEW_COUNT));
+            previewValid = true;
+        }
+        viewSnapshot.setBrick(piece.getShape(rotation), currentX, currentY, ghostY);
+        viewSnapshot.setScore(score);
+        return viewSnapshot;
+    }
+
+    /**
+     * Returns the score object for this game board.
+     *
+     * @return Score object that manages the game score
+     */
+    @Override
+    public Score getScore() {
+        return score;
+    }
+
+    /**
+     * Performs a hard drop operation, instantly dropping the current brick
+     * to the lowest possible valid position.
+     * <p>
+     * This method:
+     * <ol>
+     *   <li>Calculates the lowest valid Y position (see {@link #calculateGhostYPosition()})</li>
+     *   <li>Moves the brick directly to that position</li>
+     *   <li>Merges the brick into the board</li>
+     *   <li>Clears any completed rows</li>
+     *   <li>Spawns a new brick</li>
+     *   <li>Calculates and applies hard drop bonus (2 points per cell/row dropped)</li>
+     * </ol>
+     * </p>
+     * <p>
+     * Tetris Guideline: Awards +2 points per cell (row) moved down.
+     * </p>
+     *
+     * @return HardDropResult containing the view snapshot after the spawn,
+     *         ClearRow result, and number of rows dropped
+     */
+    @Override
+    public HardDropResult hardDrop() {
+        int dropY = calculateGhostYPosition();
+        int cellsDropped = dropY - currentY;
+        currentY = dropY;
+
+        mergeBrickToBackground();
+        ClearRow clearRow = clearRows();
+
+        // Tetris Guideline: Award +2 points per cell moved down
+        if (cellsDropped > 0) {
+            score.addHardDropPoints(cellsDropped);
+        }
+
+        // Spawn new brick (createNewBrick returns true if game over)
+        boolean gameOver = createNewBrick();
+        return new HardDropResult(getViewSnapshot(), clearRow, cellsDropped, gameOver);
+    }
+
+    /**
+     * Resets the game board to initial state.
+     * <p>
+     * Clears the cells and surface, resets the score to zero, and spawns a
+     * new brick to start a new game.
+     * </p>
+     */
+    @Override
+    public void newGame() {
+        clearCells();
+        surface.clear();
+        ghostValid = false;
+        score.reset();
+        createNewBrick();
+    }
+}
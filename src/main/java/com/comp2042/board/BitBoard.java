@@ -0,0 +1,293 @@
+package com.comp2042.board;
+
+import com.comp2042.model.BrickGenerator;
+import com.comp2042.model.ClearRow;
+import com.comp2042.model.PieceTable;
+import com.comp2042.model.RandomBrickGenerator;
+import com.comp2042.model.Score;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Bitboard implementation of the game board logic for Tetris.
+ * <p>
+ * This class is part of the Model layer in the MVC architecture. It provides
+ * the same behaviour as {@link SimpleBoard} but stores the playfield as one
+ * {@code long} occupancy mask per row plus a parallel compact color store,
+ * so collision, merge and full-row detection are a handful of AND/OR
+ * operations per brick row instead of cell-by-cell scans over board copies.
+ * </p>
+ * <p>
+ * The falling brick, its movement and rotation, the ghost row and the view
+ * snapshot are handled by {@link AbstractBoard}; this class supplies the
+ * bit mask cell store.
+ * </p>
+ * <p>
+ * <strong>Coordinate System:</strong>
+ * <ul>
+ *   <li>x = column (horizontal position)</li>
+ *   <li>y = row (vertical position)</li>
+ *   <li>Bit {@code col} of {@code rowMasks[row]} is set when cell (row, col) is filled</li>
+ *   <li>Colors are stored row-major: {@code colors[row * width + col]}</li>
+ * </ul>
+ * Boards may be at most 64 columns wide (one bit per column in a long).
+ * </p>
+ * <p>
+ * Like SimpleBoard, the board keeps the surface of every column so most
+ * ghost and hard drop landing rows come from the brick's bottom profile
+ * without stepping.
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+public class BitBoard extends AbstractBoard {
+
+    /** Maximum supported number of columns (bits in a row mask). */
+    public static final int MAX_WIDTH = Long.SIZE;
+
+    private final long fullRowMask;
+
+    private final long[] rowMasks;  // occupancy per row, bit col = column col
+    private final byte[] colors;    // [row * width + col], 0 = empty
+    private long boardHash;         // Zobrist hash of the filled cells
+
+    // int[][] view of the board for rendering, refilled in place when dirty
+    private final int[][] matrixView;
+    private boolean matrixDirty = true;
+
+    /**
+     * Constructs a new bitboard with the specified dimensions.
+     *
+     * @param width  the number of columns (horizontal dimension), at most 64
+     * @param height the number of rows (vertical dimension)
+     * @throws IllegalArgumentException if width is not in [1, 64] or height
+     *                                  is not positive
+     */
+    public BitBoard(int width, int height) {
+        this(width, height, new RandomBrickGenerator(), new Score());
+    }
+
+    /**
+     * Constructs a new bitboard with the specified dimensions, brick
+     * generator and score.
+     *
+     * @param width          the number of columns (horizontal dimension), at most 64
+     * @param height         the number of rows (vertical dimension)
+     * @param brickGenerator the source of new bricks
+     * @param score          the score to update as the game progresses
+     * @throws IllegalArgumentException if width is not in [1, 64] or height
+     *                                  is not positive
+     */
+    public BitBoard(int width, int height, BrickGenerator brickGenerator, Score score) {
+        super(checkWidth(width), checkHeight(height), brickGenerator, score);
+        this.fullRowMask = width == MAX_WIDTH ? -1L : (1L << width) - 1;
+        rowMasks = new long[height];
+        colors = new byte[height * width];
+        matrixView = new int[height][width];
+    }
+
+    private static int checkWidth(int width) {
+        if (width < 1 || width > MAX_WIDTH) {
+            throw new IllegalArgumentException("BitBoard width must be between 1 and "
+                    + MAX_WIDTH + ", was " + width);
+        }
+        return width;
+    }
+
+    private static int checkHeight(int height) {
+        if (height < 1) {
+            throw new IllegalArgumentException("BitBoard height must be positive, was " + height);
+        }
+        return height;
+    }
+
+    /**
+     * Checks if a rotation state of the current brick collides with the board
+     * or its boundaries when placed at (x, y).
+     * <p>
+     * The piece's bounding box rejects out-of-bounds placements up front;
+     * the remaining check is one shifted AND per filled shape row.
+     * </p>
+     *
+     * @param rotation the rotation state index
+     * @param x        the column position (x coordinate)
+     * @param y        the row position (y coordinate)
+     * @return true if there is a collision, false otherwise
+     */
+    @Override
+    boolean collides(int rotation, int x, int y) {
+        PieceTable piece = getCurrentPiece();
+        int top = piece.getMinRow(rotation);
+        int bottom = piece.getMaxRow(rotation);
+        if (top > bottom) {
+            return false;  // an empty shape never collides
+        }
+        if (y + top < 0 || y + bottom >= height
+                || x + piece.getMinCol(rotation) < 0 || x + piece.getMaxCol(rotation) >= width) {
+            return true;
+        }
+        long[] masks = piece.getRowMasks(rotation);
+        for (int r = top; r <= bottom; r++) {
+            // x + minCol >= 0 and all shape bits lie at or above minCol, so the
+            // shift never drops cells
+            long shifted = x >= 0 ? masks[r] << x : masks[r] >>> -x;
+            if ((shifted & rowMasks[y + r]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the board as a row-major matrix.
+     * <p>
+     * The matrix is refilled from the color store on demand, in place, so
+     * one array serves the whole game. As with SimpleBoard, this is the live
+     * view, not a copy: it changes on the next call after the board changes,
+     * and callers must not modify it (writes would be overwritten, since the
+     * bit masks and color store are the real board state).
+     * </p>
+     *
+     * @return a 2D array representing the board state (matrix[row][col])
+     */
+    @Override
+    public int[][] getBoardMatrix() {
+        if (matrixDirty) {
+            for (int row = 0; row < height; row++) {
+                int[] cells = matrixView[row];
+                if (rowMasks[row] == 0) {
+                    Arrays.fill(cells, 0);
+                    continue;
+                }
+                int base = row * width;
+                for (int col = 0; col < width; col++) {
+                    cells[col] = colors[base + col];
+                }
+            }
+            matrixDirty = false;
+        }
+        return matrixView;
+    }
+
+    @Override
+    public List<Integer> getFullRows() {
+        List<Integer> fullRows = new ArrayList<>(4);
+        for (int row = 0; row < height; row++) {
+            if (rowMasks[row] == fullRowMask) {
+                fullRows.add(row);
+            }
+        }
+        return fullRows;
+    }
+
+    /**
+     * Merges the current falling brick into the board background by setting
+     * its cells in the occupancy rows and writing their colors.
+     */
+    @Override
+    public void mergeBrickToBackground() {
+        PieceTable piece = getCurrentPiece();
+        int rotation = getCurrentRotation();
+        int currentX = getCurrentX();
+        int currentY = getCurrentY();
+        int[][] shape = piece.getShape(rotation);
+        int[] offsets = piece.getCellOffsets(rotation);
+        for (int i = 0; i < offsets.length; i += 2) {
+            int col = currentX + offsets[i];
+            int row = currentY + offsets[i + 1];
+            if (row >= 0 && row < height && col >= 0 && col < width) {
+                if ((rowMasks[row] & 1L << col) == 0) {
+                    boardHash ^= ZobristHash.key(row, col);
+                }
+                rowMasks[row] |= 1L << col;
+                surface.fill(row, col);
+                colors[row * width + col] = (byte) shape[offsets[i + 1]][offsets[i]];
+            }
+        }
+        matrixDirty = true;
+        invalidateGhost();
+    }
+
+    /**
+     * Clears all completed rows and collapses the remaining rows in place.
+     * <p>
+     * A row is full when its mask equals the full-row mask. Surviving rows
+     * are compacted towards the bottom with {@link System#arraycopy}.
+     * </p>
+     *
+     * @return ClearRow object containing the number of lines removed, updated
+     *         board matrix, and score bonus
+     */
+    @Override
+    public ClearRow clearRows() {
+        int write = height - 1;
+        for (int read = height - 1; read >= 0; read--) {
+            if (rowMasks[read] == fullRowMask) {
+                boardHash ^= ZobristHash.ofRow(read, fullRowMask);
+                continue;
+            }
+            if (write != read) {
+                boardHash ^= ZobristHash.ofRow(read, rowMasks[read])
+                        ^ ZobristHash.ofRow(write, rowMasks[read]);
+                rowMasks[write] = rowMasks[read];
+                System.arraycopy(colors, read * width, colors, write * width, width);
+            }
+            write--;
+        }
+        int linesCleared = write + 1;
+        for (int row = write; row >= 0; row--) {
+            rowMasks[row] = 0;
+        }
+        if (linesCleared > 0) {
+            Arrays.fill(colors, 0, linesCleared * width, (byte) 0);
+            matrixDirty = true;
+            invalidateGhost();
+            rebuildSurface();
+        }
+
+        Score score = getScore();
+        int lineClearScore = 0;
+        if (linesCleared > 0) {
+            int levelBeforeClear = score.getCurrentLevel();
+            score.addLineClear(linesCleared);
+            lineClearScore = Score.calculateLineClearScore(linesCleared, levelBeforeClear);
+        }
+        return new ClearRow(linesCleared, getBoardMatrix(), lineClearScore);
+    }
+
+    /**
+     * Recomputes the column surface after rows were cleared: each row
+     * contributes the columns not already covered by a row above it.
+     */
+    private void rebuildSurface() {
+        surface.clear();
+        long seen = 0;
+        for (int row = 0; row < height && seen != fullRowMask; row++) {
+            long newly = rowMasks[row] & ~seen;
+            while (newly != 0) {
+                surface.fill(row, Long.numberOfTrailingZeros(newly));
+                newly &= newly - 1;
+            }
+            seen |= rowMasks[row];
+        }
+    }
+
+    @Override
+    public long getBoardHash() {
+        return boardHash;
+    }
+
+    /**
+     * Empties the occupancy masks, color store and hash.
+     */
+    @Override
+    void clearCells() {
+        Arrays.fill(rowMasks, 0L);
+        Arrays.fill(colors, (byte) 0);
+        boardHash = 0;
+        matrixDirty = true;
+    }
+}
@@ -1,8 +1,13 @@
 package com.comp2042.board;
 
 import com.comp2042.model.ClearRow;
+import com.comp2042.model.HardDropResult;
+import com.comp2042.model.PieceTable;
 import com.comp2042.model.Score;
-import com.comp2042.view.ViewData;
+import com.comp2042.model.ViewData;
+import com.comp2042.model.ViewSnapshot;
+
+import java.util.List;
 
 /**
  * Interface defining the contract for game board operations in the Tetris game.
@@ -78,11 +83,66 @@ public interface Board {
      */
     int[][] getBoardMatrix();
 
+    /**
+     * Returns the rows completed by the last {@link #mergeBrickToBackground()}
+     * that the next {@link #clearRows()} will remove.
+     *
+     * @return the full row indices in ascending order (empty if none)
+     */
+    List<Integer> getFullRows();
+
+    /**
+     * Returns the Zobrist hash of the filled cells (see {@link ZobristHash}).
+     * <p>
+     * The board keeps the hash up to date as bricks merge and rows clear, so
+     * reading it is O(1). Boards with the same filled cells have the same
+     * hash, whatever their colors or implementation; the falling brick is
+     * not included.
+     * </p>
+     *
+     * @return the board hash (0 for an empty board)
+     */
+    long getBoardHash();
+
+    /**
+     * Returns the shared rotation table of the current falling brick.
+     * <p>
+     * Together with {@link #getCurrentRotation()}, {@link #getCurrentX()} and
+     * {@link #getCurrentY()} this describes the falling brick without the
+     * copying done by {@link #getViewData()}.
+     * </p>
+     *
+     * @return the current brick's PieceTable
+     */
+    PieceTable getCurrentPiece();
+
+    /**
+     * Returns the rotation state index of the current falling brick.
+     *
+     * @return the current rotation index (0 = spawn orientation)
+     */
+    int getCurrentRotation();
+
+    /**
+     * Returns the column (x coordinate) of the current brick's shape origin.
+     *
+     * @return the current column position
+     */
+    int getCurrentX();
+
+    /**
+     * Returns the row (y coordinate) of the current brick's shape origin.
+     *
+     * @return the current row position
+     */
+    int getCurrentY();
+
     /**
      * Returns the current view data for rendering the game state.
      * <p>
      * This includes the current falling brick shape, its position, and the
-     * next brick preview.
+     * next brick preview. The result is an immutable copy; the render path
+     * uses {@link #getViewSnapshot()} instead.
      * </p>
      *
      * @return ViewData object containing brick shape, position, and next brick
@@ -90,6 +150,20 @@ public interface Board {
      */
     ViewData getViewData();
 
+    /**
+     * Fills the board's reusable view snapshot with the current state and
+     * returns it.
+     * <p>
+     * The same instance is returned and overwritten on every call, and
+     * nothing is copied. The ghost position is only recomputed when the
+     * board, the brick's rotation or column changed (or the brick fell past
+     * it), and the preview only when a new brick spawned.
+     * </p>
+     *
+     * @return the board's view snapshot
+     */
+    ViewSnapshot getViewSnapshot();
+
     /**
      * Merges the current falling brick into the board background.
      * <p>
@@ -111,6 +185,18 @@ public interface Board {
      */
     ClearRow clearRows();
 
+    /**
+     * Instantly drops the current brick to its landing position, merges it,
+     * clears completed rows and spawns the next brick.
+     * <p>
+     * Tetris Guideline: awards +2 points per cell (row) dropped.
+     * </p>
+     *
+     * @return HardDropResult containing the ViewData after the new brick
+     *         spawned, the ClearRow result, rows dropped and game over state
+     */
+    HardDropResult hardDrop();
+
     /**
      * Returns the score object for this game board.
      *
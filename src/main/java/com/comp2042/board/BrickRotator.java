@@ -5,6 +5,7 @@ import com.comp2042.board.rotation.RotationStrategy;
 import com.comp2042.board.rotation.StandardRotationStrategy;
 import com.comp2042.logic.NextShapeInfo;
 import com.comp2042.model.Brick;
+import com.comp2042.model.PieceTable;
 
 /**
  * Manages brick rotation using the Strategy design pattern.
@@ -22,6 +23,12 @@ import com.comp2042.model.Brick;
  * shape. Rotation validation (collision and bounds checking) is handled by
  * the Board implementation, not by this class.
  * </p>
+ * <p>
+ * The rotation states are read from the brick's shared {@link PieceTable},
+ * fetched once per {@link #setBrick(Brick)}, so querying or cycling
+ * rotations does not allocate. Shape matrices returned by this class must
+ * therefore be treated as read-only.
+ * </p>
  *
  * @author TetrisJFX Team
  * @version 1.0
@@ -29,6 +36,7 @@ import com.comp2042.model.Brick;
 public class BrickRotator {
 
     private Brick brick;
+    private PieceTable pieceTable;  // rotation states of the current brick, shared
     private int currentShape = 0;
     private RotationStrategy rotationStrategy;
 
@@ -44,24 +52,72 @@ public class BrickRotator {
      *         its position index
      */
     public NextShapeInfo getNextShape() {
-        int nextShape = currentShape;
-        nextShape = (++nextShape) % brick.getShapeMatrix().size();
-        return new NextShapeInfo(brick.getShapeMatrix().get(nextShape),
-                nextShape);
+        int nextShape = getNextShapeIndex();
+        return new NextShapeInfo(pieceTable.getShape(nextShape), nextShape);
+    }
+
+    /**
+     * Returns the index of the next rotation state without allocating.
+     *
+     * @return the shape index that a rotation would switch to
+     */
+    public int getNextShapeIndex() {
+        return (currentShape + 1) % pieceTable.getRotationCount();
+    }
+
+    /**
+     * Returns the shared rotation table of the current brick.
+     *
+     * @return the current brick's PieceTable
+     */
+    public PieceTable getPieceTable() {
+        return pieceTable;
+    }
+
+    /**
+     * Returns the number of rotation states of the current brick.
+     *
+     * @return the rotation state count (1 for bricks that do not rotate)
+     */
+    public int getShapeCount() {
+        return pieceTable.getRotationCount();
+    }
+
+    /**
+     * Returns the shape matrix for the given rotation state.
+     * <p>
+     * The returned matrix is shared and must not be modified.
+     * </p>
+     *
+     * @param index the rotation state index
+     * @return the shape matrix for that rotation (shape[row][col])
+     */
+    public int[][] getShape(int index) {
+        return pieceTable.getShape(index);
     }
 
     /**
      * Returns the current shape matrix of the brick.
      * <p>
      * The shape matrix is indexed as shape[row][col]. Non-zero values
-     * represent filled cells in the brick.
+     * represent filled cells in the brick. The returned matrix is shared
+     * and must not be modified.
      * </p>
      *
      * @return 2D array representing the current brick shape, where
      *         shape[row][col] contains the cell value
      */
     public int[][] getCurrentShape() {
-        return brick.getShapeMatrix().get(currentShape);
+        return pieceTable.getShape(currentShape);
+    }
+
+    /**
+     * Returns the index of the current rotation state.
+     *
+     * @return the current shape index (0 = spawn orientation)
+     */
+    public int getCurrentShapeIndex() {
+        return currentShape;
     }
 
     /**
@@ -90,11 +146,12 @@ public class BrickRotator {
      */
     public void setBrick(Brick brick) {
         this.brick = brick;
+        this.pieceTable = brick.getPieceTable();
         currentShape = 0;
 
         // Determine rotation strategy based on brick type
         // Square bricks (like OBrick) have only 1 shape, so they don't rotate
-        if (brick.getShapeMatrix().size() == 1) {
+        if (pieceTable.getRotationCount() == 1) {
             this.rotationStrategy = new NoRotationStrategy();
         } else {
             this.rotationStrategy = new StandardRotationStrategy();
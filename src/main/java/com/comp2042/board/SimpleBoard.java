@@ -1,29 +1,41 @@
 package com.comp2042.board;
 
 import com.comp2042.logic.CollisionHandler;
-import com.comp2042.logic.MatrixOperations;
-import com.comp2042.logic.MovementHandler;
-import com.comp2042.logic.NextShapeInfo;
-import com.comp2042.logic.RowClearer;
-import com.comp2042.model.Brick;
 import com.comp2042.model.BrickGenerator;
 import com.comp2042.model.ClearRow;
-import com.comp2042.model.HardDropResult;
+import com.comp2042.model.PieceTable;
 import com.comp2042.model.RandomBrickGenerator;
 import com.comp2042.model.Score;
-import com.comp2042.view.ViewData;
 
-import java.awt.*;
+import java.util.Arrays;
 
 /**
  * Implementation of the game board logic for Tetris.
  * <p>
- * This class is part of the Model layer in the MVC architecture. It manages
- * the game state including the board matrix, current falling brick, brick
- * rotation, movement validation, and row clearing. It delegates specialized
- * operations to helper classes: CollisionHandler for collision detection,
- * MovementHandler for position calculations, BrickRotator for rotation logic,
- * and RowClearer for row clearing operations.
+ * This class is part of the Model layer in the MVC architecture. It stores
+ * the board as an int matrix and implements collision checks, merging and
+ * row clearing on it; the falling brick, its movement and rotation, the
+ * ghost row and the view snapshot are handled by {@link AbstractBoard}.
+ * It delegates collision detection to CollisionHandler.
+ * </p>
+ * <p>
+ * The move and rotate path is allocation-free: the brick position is held
+ * as primitive x/y offsets, rotation states come from BrickRotator's shared
+ * shape table, and collisions are checked directly against the live board
+ * matrix rather than a copy.
+ * </p>
+ * <p>
+ * Line clears are incremental: the board keeps a fill count per row, updated
+ * as bricks merge, so only the rows the locked brick touched are checked.
+ * Full rows are removed by shifting row references with
+ * {@link System#arraycopy} and recycling the cleared row arrays at the top,
+ * so locking and clearing never allocate or copy the board.
+ * </p>
+ * <p>
+ * The board also keeps the surface (highest filled row) of every column,
+ * so the ghost and hard drop landing row is usually found from the brick's
+ * bottom profile in one step per brick column rather than by stepping the
+ * brick down row by row.
  * </p>
  * <p>
  * <strong>Coordinate System:</strong>
@@ -31,7 +43,7 @@ import java.awt.*;
  *   <li>x = column (horizontal position)</li>
  *   <li>y = row (vertical position)</li>
  *   <li>Matrix indexing: currentGameMatrix[row][col] = currentGameMatrix[y][x]</li>
- *   <li>Offset: currentOffset.x = column, currentOffset.y = row</li>
+ *   <li>Offset: currentX = column, currentY = row</li>
  * </ul>
  * The board matrix is allocated as int[height][width], meaning matrix[row][col].
  * </p>
@@ -39,15 +51,14 @@ import java.awt.*;
  * @author TetrisJFX Team
  * @version 1.0
  */
-public class SimpleBoard implements Board {
+public class SimpleBoard extends AbstractBoard {
 
-    private final int width;
-    private final int height;
-    private final BrickGenerator brickGenerator;
-    private final BrickRotator brickRotator;
-    private int[][] currentGameMatrix;  // [rows][cols] = [height][width]
-    private Point currentOffset;  // x = column, y = row
-    private final Score score;
+    private final int[][] currentGameMatrix;  // [rows][cols] = [height][width]
+    private final int[] rowFill;  // filled cells per row
+    private long boardHash;       // Zobrist hash of the filled cells
+    // Rows touched by the last merge; touchedTop > touchedBottom when none
+    private int touchedTop;
+    private int touchedBottom = -1;
 
     /**
      * Constructs a new game board with the specified dimensions.
@@ -56,185 +67,41 @@ public class SimpleBoard implements Board {
      * @param height the number of rows (vertical dimension)
      */
     public SimpleBoard(int width, int height) {
-        this.width = width;
-        this.height = height;
-        // Matrix is row-major: [rows][cols] = [height][width]
-        currentGameMatrix = new int[height][width];
-        brickGenerator = new RandomBrickGenerator();
-        brickRotator = new BrickRotator();
-        score = new Score();
-    }
-
-    /**
-     * Attempts to move the current brick down by one row.
-     * <p>
-     * Uses MovementHandler to calculate the new position and CollisionHandler
-     * to validate the move. If valid, updates the current offset.
-     * </p>
-     *
-     * @return true if the brick was successfully moved down, false if blocked
-     *         by collision or boundary
-     */
-    @Override
-    public boolean moveBrickDown() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        int[][] currentShape = brickRotator.getCurrentShape();
-        int currentX = (int) currentOffset.getX();
-        int currentY = (int) currentOffset.getY();
-
-        if (CollisionHandler.canMoveDown(currentMatrix, currentShape, currentX, currentY)) {
-            currentOffset = MovementHandler.moveDown(currentOffset);
-            return true;
-        }
-        return false;
-    }
-
-    /**
-     * Attempts to move the current brick left by one column.
-     * <p>
-     * Uses MovementHandler to calculate the new position and CollisionHandler
-     * to validate the move. If valid, updates the current offset.
-     * </p>
-     *
-     * @return true if the brick was successfully moved left, false if blocked
-     *         by collision or boundary
-     */
-    @Override
-    public boolean moveBrickLeft() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        int[][] currentShape = brickRotator.getCurrentShape();
-        int currentX = (int) currentOffset.getX();
-        int currentY = (int) currentOffset.getY();
-
-        if (CollisionHandler.canMoveLeft(currentMatrix, currentShape, currentX, currentY)) {
-            currentOffset = MovementHandler.moveLeft(currentOffset);
-            return true;
-        }
-        return false;
+        this(width, height, new RandomBrickGenerator(), new Score());
     }
 
     /**
-     * Attempts to move the current brick right by one column.
+     * Constructs a new game board with the specified dimensions, brick
+     * generator and score.
      * <p>
-     * Uses MovementHandler to calculate the new position and CollisionHandler
-     * to validate the move. If valid, updates the current offset.
+     * Lets callers choose the piece sequence (e.g. a seeded generator for
+     * simulations) and how the high score is persisted.
      * </p>
      *
-     * @return true if the brick was successfully moved right, false if blocked
-     *         by collision or boundary
+     * @param width          the number of columns (horizontal dimension)
+     * @param height         the number of rows (vertical dimension)
+     * @param brickGenerator the source of new bricks
+     * @param score          the score to update as the game progresses
      */
-    @Override
-    public boolean moveBrickRight() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        int[][] currentShape = brickRotator.getCurrentShape();
-        int currentX = (int) currentOffset.getX();
-        int currentY = (int) currentOffset.getY();
-
-        if (CollisionHandler.canMoveRight(currentMatrix, currentShape, currentX, currentY)) {
-            currentOffset = MovementHandler.moveRight(currentOffset);
-            return true;
-        }
-        return false;
-    }
-
-    /**
-     * Attempts to rotate the current brick 90 degrees clockwise.
-     * <p>
-     * Delegates rotation logic to BrickRotator to get the next rotated shape.
-     * Uses CollisionHandler to validate the rotation. If rotation is valid,
-     * applies the rotated shape.
-     * </p>
-     *
-     * @return true if the rotation was successful, false if rotation was blocked
-     *         by collision or boundary
-     */
-    @Override
-    public boolean rotateLeftBrick() {
-        // Delegate rotation to BrickRotator - get the rotated shape
-        NextShapeInfo rotatedShape = brickRotator.getNextShape();
-        int[][] rotatedShapeMatrix = rotatedShape.getShape();
-
-        // Use CollisionHandler to validate rotation
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        int currentX = (int) currentOffset.getX();
-        int currentY = (int) currentOffset.getY();
-
-        if (CollisionHandler.canRotate(currentMatrix, rotatedShapeMatrix, currentX, currentY)) {
-            brickRotator.setCurrentShape(rotatedShape.getPosition());
-            return true;
-        }
-        return false;
+    public SimpleBoard(int width, int height, BrickGenerator brickGenerator, Score score) {
+        super(width, height, brickGenerator, score);
+        // Matrix is row-major: [rows][cols] = [height][width]
+        currentGameMatrix = new int[height][width];
+        rowFill = new int[height];
     }
 
     /**
-     * Creates a new brick at the top center of the board.
-     * <p>
-     * Generates a new brick from the BrickGenerator, sets it in the
-     * BrickRotator, and calculates the spawn position at the top center.
-     * The spawn X position is clamped to ensure the brick fits within board
-     * boundaries. Uses CollisionHandler to check if spawn is valid.
-     * </p>
+     * Checks the current brick, in the given rotation state, against the
+     * live board using its precomputed PieceTable.
      *
-     * @return true if the new brick collides immediately (game over condition),
-     *         false if the brick was successfully spawned
+     * @param rotation the rotation state index
+     * @param x        the column position (x coordinate)
+     * @param y        the row position (y coordinate)
+     * @return true if there is a collision, false otherwise
      */
     @Override
-    public boolean createNewBrick() {
-        Brick currentBrick = brickGenerator.getBrick();
-        brickRotator.setBrick(currentBrick);
-
-        // Calculate proper spawn position: top center of the board
-        int[][] brickMatrix = brickRotator.getCurrentShape();
-        int brickWidth = brickMatrix[0].length;
-        int spawnX = (width / 2) - (brickWidth / 2);
-        int spawnY = 0;
-
-        // Clamp spawnX to stay within [0, width - brickWidth]
-        if (spawnX < 0) {
-            spawnX = 0;
-        }
-        if (spawnX + brickWidth > width) {
-            spawnX = width - brickWidth;
-        }
-
-        currentOffset = new Point(spawnX, spawnY);
-
-        // Use CollisionHandler to check spawn validity
-        return CollisionHandler.canSpawn(currentGameMatrix, brickRotator.getCurrentShape(), spawnX);
-    }
-
-    /**
-     * Calculates the Y position where the current brick would land (ghost position).
-     * <p>
-     * Simulates downward movement until collision is detected, returning the
-     * highest Y position where the brick can be placed without collision.
-     * This is used to display the ghost piece preview.
-     * </p>
-     *
-     * @return the Y position (row) where the brick would land, or the current
-     *         Y position if already at the bottom
-     */
-    public int calculateGhostYPosition() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        int[][] currentShape = brickRotator.getCurrentShape();
-        int currentX = (int) currentOffset.getX();
-        int currentY = (int) currentOffset.getY();
-
-        // Simulate downward movement until collision
-        // Start from current position and find the lowest valid position
-        int ghostY = currentY;
-        // Keep moving down as long as we can
-        // canMoveDown(x, y) checks if we can move FROM y to y+1
-        // So if canMoveDown(y) is true, we can move to y+1, so increment ghostY
-        // When canMoveDown(ghostY) is false, we cannot move from ghostY, so ghostY is the landing position
-        while (ghostY < height - 1 && 
-               CollisionHandler.canMoveDown(currentMatrix, currentShape, currentX, ghostY)) {
-            ghostY++;
-        }
-        // ghostY is now the position where we cannot move down further
-        // This is the landing position
-
-        return ghostY;
+    boolean collides(int rotation, int x, int y) {
+        return CollisionHandler.hasCollision(currentGameMatrix, getCurrentPiece(), rotation, x, y);
     }
 
     /**
@@ -243,6 +110,10 @@ public class SimpleBoard implements Board {
      * The matrix is indexed as matrix[row][col]. Non-zero values represent
      * placed blocks, while zero represents empty cells.
      * </p>
+     * <p>
+     * This is the live board, not a copy; callers must not modify it, as that
+     * would bypass the per-row fill counts used for line clears.
+     * </p>
      *
      * @return a 2D array representing the board state, where matrix[row][col]
      *         contains the cell value
@@ -253,91 +124,95 @@ public class SimpleBoard implements Board {
     }
 
     /**
-     * Returns the current view data for rendering the game state.
-     * <p>
-     * Includes the current falling brick shape, its position (x, y), the
-     * ghost Y position (where it would land), the next brick preview shape,
-     * and score information (current score, total lines, high score).
-     * </p>
-     *
-     * @return ViewData object containing brick shape, position, ghost position,
-     *         next brick information, and score data
-     */
-    /**
-     * Returns the preview data for the next N pieces.
+     * Merges the current falling brick into the board background.
      * <p>
-     * Gets the shape matrices for the upcoming pieces without removing them
-     * from the generator queue. Each brick's shape matrix at rotation 0 is returned.
+     * This method is called when a brick can no longer move down. The brick's
+     * cells are written into the board matrix in place, the fill count of
+     * each affected row is updated, and the touched row range is remembered
+     * for {@link #getFullRows()} and {@link #clearRows()}.
      * </p>
-     *
-     * @return a list of shape matrices (int[][]) for the next pieces
      */
-    public java.util.List<int[][]> getNextPreviewData() {
-        java.util.List<int[][]> previewData = new java.util.ArrayList<>();
-        
-        // Check if brickGenerator is a RandomBrickGenerator to access getNextBricks()
-        if (brickGenerator instanceof com.comp2042.model.RandomBrickGenerator rbg) {
-            java.util.List<com.comp2042.model.Brick> nextBricks = rbg.getNextBricks(2);
-            for (com.comp2042.model.Brick brick : nextBricks) {
-                // Get the first rotation (index 0) of each brick
-                previewData.add(brick.getShapeMatrix().get(0));
+    @Override
+    public void mergeBrickToBackground() {
+        PieceTable piece = getCurrentPiece();
+        int rotation = getCurrentRotation();
+        int currentX = getCurrentX();
+        int currentY = getCurrentY();
+        int[][] shape = piece.getShape(rotation);
+        int[] offsets = piece.getCellOffsets(rotation);
+        touchedTop = height;
+        touchedBottom = -1;
+        invalidateGhost();
+        for (int i = 0; i < offsets.length; i += 2) {
+            int col = currentX + offsets[i];
+            int row = currentY + offsets[i + 1];
+            if (row < 0 || row >= height || col < 0 || col >= width) {
+                continue;
             }
-        } else {
-            // Fallback: use getNextBrick() for single brick
-            previewData.add(brickGenerator.getNextBrick().getShapeMatrix().get(0));
+            int[] boardRow = currentGameMatrix[row];
+            if (boardRow[col] == 0) {
+                rowFill[row]++;
+                boardHash ^= ZobristHash.key(row, col);
+            }
+            surface.fill(row, col);
+            boardRow[col] = shape[offsets[i + 1]][offsets[i]];
+            touchedTop = Math.min(touchedTop, row);
+            touchedBottom = Math.max(touchedBottom, row);
         }
-        
-        return previewData;
-    }
-
-    @Override
-    public ViewData getViewData() {
-        int ghostY = calculateGhostYPosition();
-        java.util.List<int[][]> nextPiecesData = getNextPreviewData();
-        return new ViewData(brickRotator.getCurrentShape(),
-                (int) currentOffset.getX(), (int) currentOffset.getY(),
-                ghostY,
-                nextPiecesData,
-                score.getCurrentScore(),
-                score.getTotalLines(),
-                score.getHighScore(),
-                score.getCurrentLevel());
     }
 
-    /**
-     * Merges the current falling brick into the board background.
-     * <p>
-     * This method is called when a brick can no longer move down. The brick's
-     * cells are permanently added to the board matrix at its current position
-     * using MatrixOperations.merge().
-     * </p>
-     */
     @Override
-    public void mergeBrickToBackground() {
-        currentGameMatrix = MatrixOperations.merge(currentGameMatrix,
-                brickRotator.getCurrentShape(), (int) currentOffset.getX(),
-                (int) currentOffset.getY());
+    public java.util.List<Integer> getFullRows() {
+        java.util.List<Integer> fullRows = new java.util.ArrayList<>(4);
+        for (int row = touchedTop; row <= touchedBottom; row++) {
+            if (rowFill[row] == width) {
+                fullRows.add(row);
+            }
+        }
+        return fullRows;
     }
 
     /**
      * Clears all completed rows from the board and collapses remaining rows.
      * <p>
-     * Delegates row clearing logic to RowClearer. Updates the board matrix
-     * with the result. Updates the score with lines cleared and score bonus.
+     * Only rows touched by the last merge can have become full, so only those
+     * fill counts are checked. Each full row is removed by shifting the row
+     * references above it down one slot with {@link System#arraycopy}; the
+     * cleared row array is zeroed and reused as the new top row. Updates the
+     * score with lines cleared and score bonus.
      * </p>
      *
-     * @return ClearRow object containing the number of lines removed, updated
-     *         board matrix, and score bonus
+     * @return ClearRow object containing the number of lines removed, the
+     *         (live) board matrix, and score bonus
      */
     @Override
     public ClearRow clearRows() {
-        ClearRow clearRow = RowClearer.clear(currentGameMatrix);
-        currentGameMatrix = clearRow.getNewMatrix();
-        
+        int linesCleared = 0;
+        // Top to bottom, so shifting rows above a cleared row never moves a
+        // row that is still to be checked
+        for (int row = touchedTop; row <= touchedBottom; row++) {
+            if (rowFill[row] == width) {
+                rehashClearedRow(row);
+                int[] cleared = currentGameMatrix[row];
+                System.arraycopy(currentGameMatrix, 0, currentGameMatrix, 1, row);
+                System.arraycopy(rowFill, 0, rowFill, 1, row);
+                Arrays.fill(cleared, 0);
+                currentGameMatrix[0] = cleared;
+                rowFill[0] = 0;
+                linesCleared++;
+                invalidateGhost();
+            }
+        }
+        touchedTop = height;
+        touchedBottom = -1;
+        if (linesCleared > 0) {
+            rebuildSurface();
+        }
+
+        Score score = getScore();
+        int lineClearScore = 0;
         // Update score using Tetris Guideline scoring
-        if (clearRow.getLinesRemoved() > 0) {
-            int linesCleared = clearRow.getLinesRemoved();
-            
+        if (linesCleared > 0) {
             // Get level before clearing (for scoring calculation)
             int levelBeforeClear = score.getCurrentLevel();
             
@@ -348,118 +223,72 @@ public class SimpleBoard implements Board {
             score.addLineClear(linesCleared);
             
             // Calculate the score bonus for display (Tetris Guideline)
-            int lineClearScore;
-            switch (linesCleared) {
-                case 1:
-                    lineClearScore = 100 * levelBeforeClear; // Single: 100 × level
-                    break;
-                case 2:
-                    lineClearScore = 300 * levelBeforeClear; // Double: 300 × level
-                    break;
-                case 3:
-                    lineClearScore = 500 * levelBeforeClear; // Triple: 500 × level
-                    break;
-                case 4:
-                    lineClearScore = 800 * levelBeforeClear; // Tetris: 800 × level
-                    break;
-                default:
-                    lineClearScore = 800 * levelBeforeClear;
-                    break;
-            }
-            
-            // Create a new ClearRow with the actual score bonus for display purposes
-            clearRow = new ClearRow(clearRow.getLinesRemoved(), clearRow.getNewMatrix(), lineClearScore);
+            lineClearScore = Score.calculateLineClearScore(linesCleared, levelBeforeClear);
         }
         
-        return clearRow;
+        return new ClearRow(linesCleared, currentGameMatrix, lineClearScore);
     }
 
     /**
-     * Returns the score object for this game board.
+     * Updates the board hash for clearing a full row: its cells leave the
+     * board and every filled cell above it moves down one row.
      *
-     * @return Score object that manages the game score
+     * @param clearedRow the full row about to be removed
      */
-    @Override
-    public Score getScore() {
-        return score;
+    private void rehashClearedRow(int clearedRow) {
+        for (int col = 0; col < width; col++) {
+            boardHash ^= ZobristHash.key(clearedRow, col);
+        }
+        for (int row = 0; row < clearedRow; row++) {
+            if (rowFill[row] == 0) {
+                continue;
+            }
+            int[] cells = currentGameMatrix[row];
+            for (int col = 0; col < width; col++) {
+                if (cells[col] != 0) {
+                    boardHash ^= ZobristHash.key(row, col) ^ ZobristHash.key(row + 1, col);
+                }
+            }
+        }
     }
 
     /**
-     * Performs a hard drop operation, instantly dropping the current brick
-     * to the lowest possible valid position.
-     * <p>
-     * This method:
-     * <ol>
-     *   <li>Calculates the lowest valid Y position using collision detection</li>
-     *   <li>Moves the brick directly to that position</li>
-     *   <li>Merges the brick into the board</li>
-     *   <li>Clears any completed rows</li>
-     *   <li>Spawns a new brick</li>
-     *   <li>Calculates and applies hard drop bonus (2 points per cell/row dropped)</li>
-     * </ol>
-     * </p>
-     * <p>
-     * Coordinate system: x = column, y = row. The brick is moved from its
-     * current Y position to the lowest valid Y position without collision.
-     * </p>
-     * <p>
-     * Tetris Guideline: Awards +2 points per cell (row) moved down.
-     * </p>
-     *
-     * @return HardDropResult containing the final ViewData, ClearRow result,
-     *         and number of rows dropped
+     * Recomputes the column surface after rows were cleared, scanning the
+     * non-empty rows from the top until every column's highest cell is found.
      */
-    public HardDropResult hardDrop() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        int[][] currentShape = brickRotator.getCurrentShape();
-        int currentX = (int) currentOffset.getX();
-        int currentY = (int) currentOffset.getY();
-
-        // Calculate the lowest valid Y position (same logic as calculateGhostYPosition)
-        int dropY = currentY;
-        while (dropY < height - 1 &&
-               CollisionHandler.canMoveDown(currentMatrix, currentShape, currentX, dropY)) {
-            dropY++;
-        }
-        // dropY is now the lowest valid position
-
-        // Calculate number of cells (rows) dropped
-        int cellsDropped = dropY - currentY;
-
-        // Move the brick to the drop position
-        currentOffset = new Point(currentX, dropY);
-
-        // Merge the brick into the board
-        mergeBrickToBackground();
-
-        // Clear rows and get the result
-        ClearRow clearRow = clearRows();
-
-        // Tetris Guideline: Award +2 points per cell moved down
-        if (cellsDropped > 0) {
-            score.addHardDropPoints(cellsDropped);
+    private void rebuildSurface() {
+        surface.clear();
+        int found = 0;
+        for (int row = 0; row < height && found < width; row++) {
+            if (rowFill[row] == 0) {
+                continue;
+            }
+            int[] cells = currentGameMatrix[row];
+            for (int col = 0; col < width; col++) {
+                if (cells[col] != 0 && surface.top(col) == height) {
+                    surface.fill(row, col);
+                    found++;
+                }
+            }
         }
+    }
 
-        // Spawn new brick (createNewBrick returns true if game over)
-        boolean gameOver = createNewBrick();
-
-        // Get the updated view data (after new brick spawn)
-        ViewData viewData = getViewData();
-
-        return new HardDropResult(viewData, clearRow, cellsDropped, gameOver);
+    @Override
+    public long getBoardHash() {
+        return boardHash;
     }
 
     /**
-     * Resets the game board to initial state.
-     * <p>
-     * Clears the board matrix, resets the score to zero, and spawns a new
-     * brick to start a new game.
-     * </p>
+     * Empties the board matrix, its fill counts and hash.
      */
     @Override
-    public void newGame() {
-        currentGameMatrix = new int[height][width];
-        score.reset();
-        createNewBrick();
+    void clearCells() {
+        for (int[] row : currentGameMatrix) {
+            Arrays.fill(row, 0);
+        }
+        Arrays.fill(rowFill, 0);
+        boardHash = 0;
+        touchedTop = height;
+        touchedBottom = -1;
     }
 }
@@ -0,0 +1,99 @@
+package com.comp2042.board;
+
+import com.comp2042.model.PieceTable;
+
+import java.util.Arrays;
+
+/**
+ * Per-column surface of a board: the row of the highest filled cell in each
+ * column.
+ * <p>
+ * Boards update the surface as bricks merge and rebuild it after rows clear.
+ * With it, the row a brick lands on is found from the brick's bottom
+ * profile ({@link PieceTable#getBottomProfile(int)}) in one step per shape
+ * column, instead of moving the brick down a row at a time and testing for
+ * collisions at every step. This only holds while the brick is above the
+ * surface in every column it covers; a brick tucked under an overhang can
+ * land on cells below the surface, and {@link #dropY} reports that case so
+ * the board can fall back to stepping.
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+final class SurfaceProfile {
+
+    /** Returned by {@link #dropY} when the brick is under an overhang. */
+    static final int BLOCKED = -1;
+
+    private final int height;
+    private final int[] tops;  // [col], height for an empty column
+
+    /**
+     * Creates the surface of an empty board.
+     *
+     * @param width  the number of columns
+     * @param height the number of rows
+     */
+    SurfaceProfile(int width, int height) {
+        this.height = height;
+        tops = new int[width];
+        clear();
+    }
+
+    /**
+     * Resets every column to empty.
+     */
+    void clear() {
+        Arrays.fill(tops, height);
+    }
+
+    /**
+     * Records a filled cell.
+     *
+     * @param row the cell's row
+     * @param col the cell's column
+     */
+    void fill(int row, int col) {
+        if (row < tops[col]) {
+            tops[col] = row;
+        }
+    }
+
+    /**
+     * Returns the row of a column's highest filled cell.
+     *
+     * @param col the column
+     * @return the top row, or the board height for an empty column
+     */
+    int top(int col) {
+        return tops[col];
+    }
+
+    /**
+     * Returns the row a brick lands on when dropped straight down.
+     *
+     * @param piece    the brick's rotation table
+     * @param rotation the rotation state
+     * @param x        the brick's column (collision-free at y)
+     * @param y        the brick's row
+     * @return the landing row, or {@link #BLOCKED} when the brick is not
+     *         above the surface in every column (or has no cells)
+     */
+    int dropY(PieceTable piece, int rotation, int x, int y) {
+        int[] bottom = piece.getBottomProfile(rotation);
+        int landing = Integer.MAX_VALUE;
+        for (int c = piece.getMinCol(rotation); c < bottom.length; c++) {
+            int lowest = bottom[c];
+            if (lowest < 0) {
+                continue;
+            }
+            int top = tops[x + c];
+            if (y + lowest >= top) {
+                return BLOCKED;  // below the surface here: cells under it may be reachable
+            }
+            landing = Math.min(landing, top - 1 - lowest);
+        }
+        return landing == Integer.MAX_VALUE ? BLOCKED : landing;
+    }
+}
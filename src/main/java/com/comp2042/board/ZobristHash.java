@@ -0,0 +1,111 @@
+package com.comp2042.board;
+
+/**
+ * Zobrist hashing of which board cells are filled.
+ * <p>
+ * Every cell (row, col) has a fixed pseudo-random 64-bit key, and the hash of
+ * a board is the XOR of the keys of its filled cells (an empty board hashes
+ * to 0). Filling or emptying a cell therefore updates the hash with a single
+ * XOR, which lets boards maintain it incrementally as bricks merge and rows
+ * clear instead of rehashing the whole matrix. Colors are not part of the
+ * hash: two boards with the same filled cells play identically.
+ * </p>
+ * <p>
+ * Keys depend only on the cell coordinates, so boards and search snapshots
+ * of any size and implementation agree on the hash of the same cells.
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+public final class ZobristHash {
+
+    /** Rows whose keys are precomputed; taller boards compute the rest. */
+    private static final int TABLE_ROWS = 64;
+
+    /** Keys of the cells in the first TABLE_ROWS rows, [row * 64 + col]. */
+    private static final long[] KEYS = new long[TABLE_ROWS * Long.SIZE];
+
+    static {
+        for (int row = 0; row < TABLE_ROWS; row++) {
+            for (int col = 0; col < Long.SIZE; col++) {
+                KEYS[row * Long.SIZE + col] = mix(row, col);
+            }
+        }
+    }
+
+    private ZobristHash() {
+    }
+
+    /**
+     * Returns the key of a cell.
+     *
+     * @param row the row index
+     * @param col the column index
+     * @return the cell's key
+     */
+    public static long key(int row, int col) {
+        if (row < TABLE_ROWS && col < Long.SIZE) {
+            return KEYS[row * Long.SIZE + col];
+        }
+        return mix(row, col);
+    }
+
+    /**
+     * SplitMix64 finalizer over the packed coordinates.
+     */
+    private static long mix(int row, int col) {
+        long z = (((long) row << 32) | col) * 0x9E3779B97F4A7C15L + 0x632BE59BD9B4E019L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Returns the XOR of the keys of the cells set in a row mask.
+     *
+     * @param row   the row index
+     * @param cells the row's occupancy mask (bit col = column col)
+     * @return the row's share of the hash
+     */
+    public static long ofRow(int row, long cells) {
+        long hash = 0;
+        while (cells != 0) {
+            hash ^= key(row, Long.numberOfTrailingZeros(cells));
+            cells &= cells - 1;
+        }
+        return hash;
+    }
+
+    /**
+     * Hashes a board given as occupancy masks.
+     *
+     * @param rows the occupancy mask of each row
+     * @return the hash
+     */
+    public static long ofRows(long[] rows) {
+        long hash = 0;
+        for (int row = 0; row < rows.length; row++) {
+            hash ^= ofRow(row, rows[row]);
+        }
+        return hash;
+    }
+
+    /**
+     * Hashes a board matrix from scratch.
+     *
+     * @param matrix the board (matrix[row][col], non-zero = filled)
+     * @return the hash
+     */
+    public static long ofMatrix(int[][] matrix) {
+        long hash = 0;
+        for (int row = 0; row < matrix.length; row++) {
+            for (int col = 0; col < matrix[row].length; col++) {
+                if (matrix[row][col] != 0) {
+                    hash ^= key(row, col);
+                }
+            }
+        }
+        return hash;
+    }
+}
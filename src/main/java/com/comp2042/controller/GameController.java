@@ -2,208 +2,345 @@ package com.comp2042.controller;
 
 import com.comp2042.board.Board;
 import com.comp2042.board.SimpleBoard;
+import com.comp2042.engine.GameEngine;
+import com.comp2042.leaderboard.GameRecord;
+import com.comp2042.leaderboard.LeaderboardStore;
 import com.comp2042.model.ClearRow;
 import com.comp2042.model.HardDropResult;
+import com.comp2042.model.RandomBrickGenerator;
+import com.comp2042.model.Score;
+import com.comp2042.model.ViewSnapshot;
+import com.comp2042.replay.ReplayFormat;
+import com.comp2042.replay.ReplayRecorder;
 import com.comp2042.view.DownData;
+import com.comp2042.view.GlobalSettings;
 import com.comp2042.view.GuiController;
-import com.comp2042.view.ViewData;
-import javafx.animation.Animation;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
-import javafx.application.Platform;
+import com.comp2042.view.ScoreProperties;
+import com.comp2042.view.SettingsHighScoreStore;
+import javafx.animation.PauseTransition;
 import javafx.util.Duration;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Main game controller connecting Model (Board) and View (GuiController).
+ * <p>
+ * Game rules (locking, row clearing, spawning, scoring, game over) live in
+ * the headless {@link GameEngine}; this class adapts the engine to the
+ * JavaFX view. Gravity is not scheduled here: the view's single
+ * {@link com.comp2042.engine.GameLoop} issues THREAD down events through
+ * {@link #onDownEvent(MoveEvent)}, so there is exactly one source of gravity.
+ * </p>
+ * <p>
+ * Games started from the settings get a fresh brick generator seed each, and
+ * every finished game is appended to the {@link LeaderboardStore}. Their
+ * engine events are recorded, stamped with the game loop tick, as a replay
+ * in the replays directory.
+ * </p>
  */
 public class GameController implements InputEventListener {
 
-    private Board board = new SimpleBoard(10, 25);
+    private static final String REPLAY_DIRECTORY = "replays";
+
+    private final GameEngine engine;
+    private final Board board;
     private final GuiController viewGuiController;
 
-    private Timeline timeline;  // Auto-fall loop
+    // Null when the board was supplied by the caller
+    private final GlobalSettings settings;
+    private final RandomBrickGenerator generator;
+
+    private long seed;            // brick generator seed of the current game
+    private long gameStartNanos;  // when the current game started
+    private ReplayRecorder recorder;  // null when not recording
+
+    // Reused delay that holds the line clear flash before the background refresh
+    private final PauseTransition lineClearDelay = new PauseTransition(Duration.millis(150));
 
+    /**
+     * Creates a controller backed by a SimpleBoard sized from GlobalSettings
+     * (10x25 by default), with the high score persisted through
+     * GlobalSettings.
+     *
+     * @param c the GUI controller to render into
+     */
     public GameController(GuiController c) {
+        this(c, GlobalSettings.getInstance());
+    }
+
+    private GameController(GuiController c, GlobalSettings settings) {
+        this(c, settings, new RandomBrickGenerator());
+    }
+
+    private GameController(GuiController c, GlobalSettings settings, RandomBrickGenerator generator) {
+        this(c, new SimpleBoard(settings.getBoardWidth(), settings.getBoardHeight(),
+                generator, new Score(new SettingsHighScoreStore(settings))), settings, generator);
+    }
+
+    /**
+     * Creates a controller backed by the given board implementation
+     * (e.g. {@link SimpleBoard} or {@link com.comp2042.board.BitBoard}).
+     *
+     * @param c     the GUI controller to render into
+     * @param board the board implementation driving the game
+     */
+    public GameController(GuiController c, Board board) {
+        this(c, board, null, null);
+    }
+
+    private GameController(GuiController c, Board board, GlobalSettings settings,
+                           RandomBrickGenerator generator) {
         this.viewGuiController = c;
+        this.board = board;
+        this.settings = settings;
+        this.generator = generator;
+        this.engine = new GameEngine(board);
+        lineClearDelay.setOnFinished(
+                e -> viewGuiController.refreshGameBackground(board.getBoardMatrix()));
 
-        board.createNewBrick();
+        // Flash completed rows before the engine clears them
+        engine.setLineClearListener(viewGuiController::animateLineClear);
+        startGame();
 
         // Connect the GUI to this controller
         viewGuiController.setEventListener(this);
 
         // Render initial grid + first piece
-        viewGuiController.initGameView(board.getBoardMatrix(), board.getViewData());
+        viewGuiController.initGameView(board.getBoardMatrix(), board.getViewSnapshot());
         viewGuiController.refreshGameBackground(board.getBoardMatrix());
 
         // Score + level binding
-        viewGuiController.bindScore(board.getScore().scoreProperty());
-        viewGuiController.bindLevel(board.getScore().levelProperty(), board.getScore());
-
-        startAutoFall();
-    }
-
-    /**
-     * Starts automatic piece falling using a Timeline.
-     */
-    private void startAutoFall() {
-        if (timeline != null) timeline.stop();
-
-        timeline = new Timeline(new KeyFrame(
-                Duration.millis(400),
-                e -> handleAutoDrop()
-        ));
-        timeline.setCycleCount(Animation.INDEFINITE);
-        timeline.play();
-    }
-
-    private void handleAutoDrop() {
-        DownData data = onDownEvent(new MoveEvent(EventType.DOWN, EventSource.THREAD));
-        viewGuiController.refreshBrick(data.getViewData());
+        ScoreProperties scoreProperties = new ScoreProperties(board.getScore());
+        viewGuiController.bindScore(scoreProperties.scoreProperty());
+        viewGuiController.bindLevel(scoreProperties.levelProperty(), board.getScore());
     }
 
     // ---------------- Movement Handlers ----------------
 
-    /**
-     * Detects which rows in the board are full (ready to be cleared).
-     * 
-     * @param boardMatrix the board matrix to check (board[row][col])
-     * @return list of row indices that are full (0-based)
-     */
-    private List<Integer> detectFullRows(int[][] boardMatrix) {
-        List<Integer> fullRows = new ArrayList<>();
-        if (boardMatrix == null || boardMatrix.length == 0) {
-            return fullRows;
+    @Override
+    public DownData onDownEvent(MoveEvent event) {
+        recordEvent(event.getEventSource() == EventSource.USER
+                ? ReplayFormat.SOFT_DROP : ReplayFormat.GRAVITY);
+        ClearRow clearRow = engine.moveDown(event.getEventSource() == EventSource.USER);
+        if (event.getEventSource() == EventSource.USER) {
+            markEngineApplied();
         }
-        
-        int rows = boardMatrix.length;
-        int cols = boardMatrix[0].length;
-        
-        for (int row = 0; row < rows; row++) {
-            boolean isFull = true;
-            for (int col = 0; col < cols; col++) {
-                if (boardMatrix[row][col] == 0) {
-                    isFull = false;
-                    break;
-                }
-            }
-            if (isFull) {
-                fullRows.add(row);
+
+        if (clearRow != null) {
+            // The brick locked; completed rows were already flashed by the
+            // line clear listener
+            if (engine.isGameOver()) {
+                handleGameOver();
             }
-        }
-        
-        return fullRows;
-    }
 
-    @Override
-    public DownData onDownEvent(MoveEvent event) {
-        boolean canMove = board.moveBrickDown();
-        ClearRow clearRow = null;
-
-        if (!canMove) {
-            board.mergeBrickToBackground();
-            
-            // Detect full rows before clearing for animation
-            int[][] boardMatrix = board.getBoardMatrix();
-            List<Integer> fullRows = detectFullRows(boardMatrix);
-            
-            // Animate line clear if rows will be cleared
-            if (!fullRows.isEmpty()) {
-                // Flash the rows white immediately
-                viewGuiController.animateLineClear(fullRows);
-                
-                // Clear rows immediately (game logic continues)
-                clearRow = board.clearRows();
-                
-                if (board.createNewBrick()) {
-                    viewGuiController.gameOver();
-                    timeline.stop();
-                }
-                
+            if (clearRow.getLinesRemoved() > 0) {
                 // Delay refresh to show the flash for ~150ms
-                Timeline refreshTimeline = new Timeline(new KeyFrame(
-                    Duration.millis(150),
-                    e -> viewGuiController.refreshGameBackground(board.getBoardMatrix())
-                ));
-                refreshTimeline.setCycleCount(1);
-                refreshTimeline.play();
+                lineClearDelay.playFromStart();
             } else {
-                // No rows to clear, proceed normally
-                clearRow = board.clearRows();
-                
-                if (board.createNewBrick()) {
-                    viewGuiController.gameOver();
-                    timeline.stop();
-                }
-                
                 viewGuiController.refreshGameBackground(board.getBoardMatrix());
             }
-        } else {
-            if (event.getEventSource() == EventSource.USER) {
-                // Tetris Guideline: Soft drop awards +1 point per cell moved down manually
-                board.getScore().addSoftDropPoints(1);
-            }
         }
 
-        return new DownData(clearRow, board.getViewData());
+        return new DownData(clearRow, board.getViewSnapshot());
     }
 
     @Override
-    public ViewData onLeftEvent(MoveEvent event) {
-        board.moveBrickLeft();
-        return board.getViewData();
+    public ViewSnapshot onLeftEvent(MoveEvent event) {
+        recordEvent(ReplayFormat.LEFT);
+        engine.moveLeft();
+        markEngineApplied();
+        return board.getViewSnapshot();
     }
 
     @Override
-    public ViewData onRightEvent(MoveEvent event) {
-        board.moveBrickRight();
-        return board.getViewData();
+    public ViewSnapshot onRightEvent(MoveEvent event) {
+        recordEvent(ReplayFormat.RIGHT);
+        engine.moveRight();
+        markEngineApplied();
+        return board.getViewSnapshot();
     }
 
     @Override
-    public ViewData onRotateEvent(MoveEvent event) {
-        board.rotateLeftBrick();
-        return board.getViewData();
+    public ViewSnapshot onRotateEvent(MoveEvent event) {
+        recordEvent(ReplayFormat.ROTATE);
+        engine.rotate();
+        markEngineApplied();
+        return board.getViewSnapshot();
+    }
+
+    @Override
+    public int onShiftEvent(MoveEvent event, int columns) {
+        boolean left = columns < 0;
+        int steps = Math.abs(columns);
+        int moved = 0;
+        while (moved < steps && (left ? engine.moveLeft() : engine.moveRight())) {
+            // Record after the move so a brick held against a wall adds nothing
+            recordEvent(left ? ReplayFormat.LEFT : ReplayFormat.RIGHT);
+            moved++;
+        }
+        if (moved > 0) {
+            markEngineApplied();
+        }
+        return left ? -moved : moved;
+    }
+
+    @Override
+    public ViewSnapshot getViewSnapshot() {
+        return board.getViewSnapshot();
     }
 
     // ---------------- Hard Drop ----------------
 
     public HardDropResult onHardDropEvent() {
-        if (board instanceof SimpleBoard sb) {
-            // For hard drop, detect full rows before the drop
-            // We need to check the board after brick would be merged but before clearing
-            // This is complex, so we'll do a simpler approach: check board state before drop
-            int[][] boardBeforeDrop = board.getBoardMatrix();
-            
-            HardDropResult result = sb.hardDrop();
-            
-            // If rows were cleared, we can't easily animate them since hardDrop() clears internally
-            // For now, hard drop clears are so fast that animation may not be necessary
-            // But we'll still refresh the background normally
-            viewGuiController.refreshGameBackground(board.getBoardMatrix());
-
-            if (result.isGameOver()) {
-                viewGuiController.gameOver();
-                timeline.stop();
-            }
+        recordEvent(ReplayFormat.HARD_DROP);
+        HardDropResult result = engine.hardDrop();
+        markEngineApplied();
+        if (result == null) {
+            return new HardDropResult(board.getViewSnapshot(), null, 0, true);
+        }
 
-            return result;
+        // Hard drop clears rows internally, so there is no line clear animation;
+        // just refresh the background
+        viewGuiController.refreshGameBackground(board.getBoardMatrix());
+
+        if (result.isGameOver()) {
+            handleGameOver();
         }
 
-        return new HardDropResult(board.getViewData(), null, 0, false);
+        return result;
     }
 
     // ---------------- Game Reset ----------------
 
     @Override
     public void createNewGame() {
-        board.newGame();
+        startGame();
         viewGuiController.refreshGameBackground(board.getBoardMatrix());
-        viewGuiController.initGameView(board.getBoardMatrix(), board.getViewData());
+        viewGuiController.initGameView(board.getBoardMatrix(), board.getViewSnapshot());
+    }
 
-        startAutoFall();
+    @Override
+    public void shutdown() {
+        closeRecorder();
+    }
+
+    /**
+     * Reseeds the brick generator (when this controller owns it), starts a
+     * replay for it and resets the engine for a new game. An unfinished
+     * replay of the previous game is abandoned.
+     */
+    private void startGame() {
+        closeRecorder();
+        if (generator != null) {
+            seed = ThreadLocalRandom.current().nextLong();
+            generator.reseed(seed);
+            openRecorder();
+        }
+        gameStartNanos = System.nanoTime();
+        engine.newGame();
+    }
+
+    private void openRecorder() {
+        int[][] matrix = board.getBoardMatrix();
+        Path file = Paths.get(REPLAY_DIRECTORY, "replay-" + System.currentTimeMillis()
+                + "-" + Long.toHexString(seed) + ".rpl");
+        // The file is created and written on the replay thread, off the FX thread
+        recorder = ReplayRecorder.openInBackground(file, seed, matrix[0].length, matrix.length);
+    }
+
+    /**
+     * Records an engine event at the current game loop tick. Recording stops
+     * for the rest of the game if the replay cannot be written.
+     */
+    private void recordEvent(int type) {
+        if (recorder == null) {
+            return;
+        }
+        try {
+            recorder.record(type, viewGuiController.getGameTick());
+        } catch (IOException e) {
+            System.err.println("Error recording replay: " + e.getMessage());
+            closeRecorder();
+        }
+    }
+
+    /**
+     * Timestamps the end of a player-initiated engine call for the view's
+     * input latency measurement.
+     */
+    private void markEngineApplied() {
+        viewGuiController.getLatencyTracker().engineApplied(System.nanoTime());
+    }
+
+    /**
+     * Writes the final result to the replay and closes it.
+     */
+    private void finishRecorder() {
+        if (recorder == null) {
+            return;
+        }
+        Score score = board.getScore();
+        try {
+            recorder.finish(score.getCurrentScore(), score.getTotalLines(), score.getCurrentLevel());
+        } catch (IOException e) {
+            System.err.println("Error recording replay: " + e.getMessage());
+        }
+        closeRecorder();
+    }
+
+    /**
+     * Closes the replay (on the replay thread). A replay that was not
+     * finished (the game was abandoned, or recording failed) can never
+     * verify, so its file is deleted rather than left behind as a partial
+     * recording.
+     */
+    private void closeRecorder() {
+        if (recorder == null) {
+            return;
+        }
+        try {
+            if (recorder.isFinished()) {
+                recorder.close();
+            } else {
+                recorder.discard();
+            }
+        } catch (IOException e) {
+            System.err.println("Error closing replay: " + e.getMessage());
+        }
+        recorder = null;
+    }
+
+    /**
+     * Shows the game over state, writes out the high score, completes the
+     * replay and records the game on the leaderboard.
+     */
+    private void handleGameOver() {
+        board.getScore().flushHighScore();
+        finishRecorder();
+        recordGame();
+        viewGuiController.gameOver();
     }
-}
 
+    /**
+     * Appends the finished game to the leaderboard. Games on caller-supplied
+     * boards are not recorded, since their seed and settings are unknown.
+     */
+    private void recordGame() {
+        if (settings == null) {
+            return;
+        }
+        Score score = board.getScore();
+        int[][] matrix = board.getBoardMatrix();
+        long durationMillis = (System.nanoTime() - gameStartNanos) / 1_000_000L;
+        GameRecord record = new GameRecord(System.currentTimeMillis(), seed,
+                score.getCurrentScore(), score.getTotalLines(), score.getCurrentLevel(),
+                (int) Math.min(Integer.MAX_VALUE, durationMillis), settings.getDifficulty(),
+                matrix[0].length, matrix.length,
+                settings.isGhostPieceEnabled(), settings.isHardDropEnabled());
+        // Written on the leaderboard's own thread; game over must not wait for the disk
+        LeaderboardStore.appendInBackground(record);
+    }
+}
@@ -1,18 +1,48 @@
 package com.comp2042.controller;
 
 import com.comp2042.view.DownData;
-import com.comp2042.view.ViewData;
+import com.comp2042.model.ViewSnapshot;
 
 public interface InputEventListener {
 
     DownData onDownEvent(MoveEvent event);
 
-    ViewData onLeftEvent(MoveEvent event);
-
-    ViewData onRightEvent(MoveEvent event);
-
-    ViewData onRotateEvent(MoveEvent event);
+    ViewSnapshot onLeftEvent(MoveEvent event);
+
+    ViewSnapshot onRightEvent(MoveEvent event);
+
+    ViewSnapshot onRotateEvent(MoveEvent event);
+
+    /**
+     * Shifts the brick several columns in one call, stopping at the first
+     * blocked step (used for auto-repeat, which batches a tick's shifts).
+     * <p>
+     * Only the steps that succeed are applied and recorded, so holding a
+     * direction against a wall costs nothing; callers fetch the snapshot
+     * with {@link #getViewSnapshot()} when the brick moved.
+     * </p>
+     *
+     * @param event   the move event (LEFT or RIGHT by the sign of columns)
+     * @param columns the columns to shift: negative for left, positive for right
+     * @return the columns the brick actually moved (0 if it was blocked)
+     */
+    int onShiftEvent(MoveEvent event, int columns);
+
+    /**
+     * Returns the current view snapshot without moving the brick or
+     * recording anything (e.g. to redraw after a restart).
+     *
+     * @return the view snapshot of the current game state
+     */
+    ViewSnapshot getViewSnapshot();
 
     void createNewGame();
+
+    /**
+     * Ends the current game without a game over, e.g. when the player
+     * leaves for the menu or the application exits. Releases anything the
+     * game holds open, such as its replay file.
+     */
+    void shutdown();
 }
 
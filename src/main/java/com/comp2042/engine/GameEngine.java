@@ -0,0 +1,232 @@
+package com.comp2042.engine;
+
+import com.comp2042.board.Board;
+import com.comp2042.board.SimpleBoard;
+import com.comp2042.model.BrickGenerator;
+import com.comp2042.model.ClearRow;
+import com.comp2042.model.HardDropResult;
+import com.comp2042.model.Score;
+
+import java.util.List;
+
+/**
+ * Headless game rules on top of a {@link Board}.
+ * <p>
+ * This class is part of the Model layer in the MVC architecture. It owns the
+ * rules that sit between raw board operations and the user interface:
+ * soft drop scoring, locking a brick that cannot fall further, clearing
+ * rows, spawning the next brick and detecting game over. It has no JavaFX,
+ * timeline or settings dependencies, so games can be created cheaply and run
+ * on worker threads (for simulation, AI evaluation and replay verification).
+ * The GUI drives the same engine through GameController.
+ * </p>
+ * <p>
+ * An engine instance is not thread-safe; use one engine per thread.
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+public class GameEngine {
+
+    private final Board board;
+    private LineClearListener lineClearListener;
+    private boolean gameOver;
+    private long piecesLocked;
+
+    /**
+     * Creates an engine driving the given board.
+     *
+     * @param board the board holding the game state
+     */
+    public GameEngine(Board board) {
+        this.board = board;
+    }
+
+    /**
+     * Creates a headless engine on a {@link SimpleBoard} with an in-memory score.
+     *
+     * @param width          the number of columns
+     * @param height         the number of rows
+     * @param brickGenerator the source of new bricks
+     * @return a new engine; call {@link #newGame()} before playing
+     */
+    public static GameEngine headless(int width, int height, BrickGenerator brickGenerator) {
+        return new GameEngine(new SimpleBoard(width, height, brickGenerator, new Score()));
+    }
+
+    /**
+     * Sets the listener notified when a lock completes rows.
+     *
+     * @param lineClearListener the listener, or null to disable notifications
+     */
+    public void setLineClearListener(LineClearListener lineClearListener) {
+        this.lineClearListener = lineClearListener;
+    }
+
+    /**
+     * Resets the board and score and spawns the first brick.
+     */
+    public void newGame() {
+        board.newGame();
+        gameOver = false;
+        piecesLocked = 0;
+    }
+
+    /**
+     * Moves the current brick left by one column.
+     *
+     * @return true if the brick moved
+     */
+    public boolean moveLeft() {
+        return !gameOver && board.moveBrickLeft();
+    }
+
+    /**
+     * Moves the current brick right by one column.
+     *
+     * @return true if the brick moved
+     */
+    public boolean moveRight() {
+        return !gameOver && board.moveBrickRight();
+    }
+
+    /**
+     * Rotates the current brick.
+     *
+     * @return true if the brick rotated
+     */
+    public boolean rotate() {
+        return !gameOver && board.rotateLeftBrick();
+    }
+
+    /**
+     * Moves the current brick down one row, locking it if it cannot fall.
+     * <p>
+     * Tetris Guideline: a user-initiated (soft drop) move awards +1 point per
+     * cell. Gravity moves award nothing.
+     * </p>
+     *
+     * @param userInitiated true for a soft drop, false for gravity
+     * @return null if the brick moved down; otherwise the ClearRow result of
+     *         locking it
+     */
+    public ClearRow moveDown(boolean userInitiated) {
+        if (gameOver) {
+            return null;
+        }
+        if (board.moveBrickDown()) {
+            if (userInitiated) {
+                board.getScore().addSoftDropPoints(1);
+            }
+            return null;
+        }
+        return lockBrick();
+    }
+
+    /**
+     * Locks the current brick in place: merges it, clears completed rows and
+     * spawns the next brick, setting the game over flag if the spawn collides.
+     *
+     * @return the ClearRow result of the lock
+     */
+    public ClearRow lockBrick() {
+        board.mergeBrickToBackground();
+        if (lineClearListener != null) {
+            List<Integer> fullRows = board.getFullRows();
+            if (!fullRows.isEmpty()) {
+                lineClearListener.onRowsCompleted(fullRows);
+            }
+        }
+        ClearRow clearRow = board.clearRows();
+        piecesLocked++;
+        if (board.createNewBrick()) {
+            gameOver = true;
+        }
+        return clearRow;
+    }
+
+    /**
+     * Hard drops the current brick (see {@link Board#hardDrop()}).
+     *
+     * @return the result of the hard drop, or null if the game is over
+     */
+    public HardDropResult hardDrop() {
+        if (gameOver) {
+            return null;
+        }
+        HardDropResult result = board.hardDrop();
+        piecesLocked++;
+        if (result.isGameOver()) {
+            gameOver = true;
+        }
+        return result;
+    }
+
+    /**
+     * Moves the current brick to a placement and hard drops it.
+     * <p>
+     * Rotates until the requested rotation state is reached, then shifts
+     * towards the requested column. If a rotation or shift is blocked the
+     * brick is dropped from wherever it got to.
+     * </p>
+     *
+     * @param placement the target rotation and column
+     * @return the result of the hard drop, or null if the game is over
+     */
+    public HardDropResult apply(Placement placement) {
+        if (gameOver) {
+            return null;
+        }
+        int rotations = board.getCurrentPiece().getRotationCount();
+        int target = Math.floorMod(placement.getRotation(), rotations);
+        for (int i = 0; i < rotations && board.getCurrentRotation() != target; i++) {
+            if (!board.rotateLeftBrick()) {
+                break;
+            }
+        }
+        while (board.getCurrentX() > placement.getX() && board.moveBrickLeft()) {
+            // keep shifting left
+        }
+        while (board.getCurrentX() < placement.getX() && board.moveBrickRight()) {
+            // keep shifting right
+        }
+        return hardDrop();
+    }
+
+    /**
+     * Returns whether the last spawned brick collided (game over).
+     *
+     * @return true if the game is over
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Returns the number of bricks locked since the last {@link #newGame()}.
+     *
+     * @return the locked piece count
+     */
+    public long getPiecesLocked() {
+        return piecesLocked;
+    }
+
+    /**
+     * Returns the board driven by this engine.
+     *
+     * @return the board
+     */
+    public Board getBoard() {
+        return board;
+    }
+
+    /**
+     * Returns the score of the current game.
+     *
+     * @return the score
+     */
+    public Score getScore() {
+        return board.getScore();
+    }
+}
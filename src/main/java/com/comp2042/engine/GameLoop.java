@@ -0,0 +1,238 @@
+package com.comp2042.engine;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.LongConsumer;
+
+/**
+ * Fixed-timestep game loop scheduler.
+ * <p>
+ * This class is part of the Model layer in the MVC architecture. It is the
+ * single authority for game timing: the caller feeds it the current time
+ * (e.g. from a JavaFX AnimationTimer, once per frame) and it runs a whole
+ * number of fixed 60 Hz ticks from an accumulator. Gravity, lock delay and
+ * per-tick work such as input repeat are all counted in ticks, so the same
+ * sequence of ticks always produces the same game regardless of frame rate,
+ * and speed changes only update a counter instead of rebuilding timers.
+ * </p>
+ * <p>
+ * Each tick:
+ * <ol>
+ *   <li>the tick listener (if any) runs, e.g. for input repeat</li>
+ *   <li>if lock delay is enabled and the brick is grounded, the lock timer
+ *       advances and the gravity step runs (locking the brick) once it
+ *       expires</li>
+ *   <li>otherwise the gravity counter advances and the gravity step runs
+ *       every {@link #getGravityTicks()} ticks</li>
+ * </ol>
+ * </p>
+ * <p>
+ * The loop has no JavaFX dependency and allocates nothing per tick. It is not
+ * thread-safe; drive it from a single thread.
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+public class GameLoop {
+
+    /** Simulation rate in ticks per second. */
+    public static final int TICKS_PER_SECOND = 60;
+
+    /** Length of one tick in nanoseconds. */
+    public static final long TICK_NANOS = 1_000_000_000L / TICKS_PER_SECOND;
+
+    /** Longest frame gap simulated; longer stalls are dropped, not replayed. */
+    private static final long MAX_FRAME_NANOS = 250_000_000L;
+
+    private final Runnable gravityStep;
+    private BooleanSupplier groundedCheck = () -> false;
+    private LongConsumer tickListener;
+
+    private int gravityTicks = 1;
+    private int lockDelayTicks;
+    private int gravityCounter;
+    private int lockCounter;
+
+    private long tickCount;
+    private long accumulator;
+    private long lastTime;
+    private boolean hasLastTime;
+    private boolean running;
+
+    /**
+     * Creates a stopped loop.
+     *
+     * @param gravityStep moves the brick down one row, locking it if it
+     *                    cannot fall
+     */
+    public GameLoop(Runnable gravityStep) {
+        this.gravityStep = gravityStep;
+    }
+
+    /**
+     * Sets the gravity interval, rounded to whole ticks (at least one).
+     *
+     * @param millis the time between gravity steps in milliseconds
+     */
+    public void setGravityInterval(long millis) {
+        gravityTicks = toTicks(millis);
+        if (gravityCounter >= gravityTicks) {
+            gravityCounter = gravityTicks - 1;
+        }
+    }
+
+    /**
+     * Sets the lock delay: how long a grounded brick may still be moved before
+     * it locks. Zero (the default) disables lock delay, so a grounded brick
+     * locks on the next regular gravity step.
+     *
+     * @param millis    the lock delay in milliseconds (0 to disable)
+     * @param grounded  reports whether the current brick cannot move down
+     */
+    public void setLockDelay(long millis, BooleanSupplier grounded) {
+        lockDelayTicks = millis <= 0 ? 0 : toTicks(millis);
+        groundedCheck = grounded;
+        lockCounter = 0;
+    }
+
+    /**
+     * Sets a listener called at the start of every tick with the tick number.
+     *
+     * @param listener the tick listener, or null for none
+     */
+    public void setTickListener(LongConsumer listener) {
+        this.tickListener = listener;
+    }
+
+    /**
+     * Resets all counters and starts the loop. The first {@link #update(long)}
+     * after this only records the time.
+     */
+    public void start() {
+        tickCount = 0;
+        gravityCounter = 0;
+        lockCounter = 0;
+        accumulator = 0;
+        hasLastTime = false;
+        running = true;
+    }
+
+    /**
+     * Stops the loop and resets the tick count; {@link #update(long)} does
+     * nothing until it is started or resumed.
+     * <p>
+     * The tick count belongs to the game that just ended. Resetting it here
+     * means events recorded for the next game before {@link #start()} (its
+     * first spawn, for instance) are stamped with tick 0 rather than the old
+     * game's last tick.
+     * </p>
+     */
+    public void stop() {
+        running = false;
+        tickCount = 0;
+    }
+
+    /**
+     * Pauses the loop, keeping the gravity and lock progress of the current
+     * brick.
+     */
+    public void pause() {
+        running = false;
+    }
+
+    /**
+     * Resumes a paused loop. Time spent paused is not simulated.
+     */
+    public void resume() {
+        hasLastTime = false;
+        running = true;
+    }
+
+    /**
+     * Advances the loop to the given time, running every whole tick that has
+     * elapsed since the previous call.
+     *
+     * @param nowNanos the current time in nanoseconds (any monotonic origin)
+     * @return the number of ticks run
+     */
+    public int update(long nowNanos) {
+        if (!running) {
+            return 0;
+        }
+        if (!hasLastTime) {
+            lastTime = nowNanos;
+            hasLastTime = true;
+            return 0;
+        }
+        long elapsed = nowNanos - lastTime;
+        lastTime = nowNanos;
+        accumulator += Math.max(0, Math.min(elapsed, MAX_FRAME_NANOS));
+
+        int ticks = 0;
+        while (accumulator >= TICK_NANOS && running) {
+            accumulator -= TICK_NANOS;
+            tick();
+            ticks++;
+        }
+        return ticks;
+    }
+
+    /**
+     * Runs a single tick immediately (used by {@link #update(long)} and by
+     * tests and replays that step the loop directly).
+     */
+    public void tick() {
+        tickCount++;
+        if (tickListener != null) {
+            tickListener.accept(tickCount);
+        }
+        if (lockDelayTicks > 0 && groundedCheck.getAsBoolean()) {
+            gravityCounter = 0;
+            if (++lockCounter >= lockDelayTicks) {
+                lockCounter = 0;
+                gravityStep.run();
+            }
+            return;
+        }
+        lockCounter = 0;
+        if (++gravityCounter >= gravityTicks) {
+            gravityCounter = 0;
+            gravityStep.run();
+        }
+    }
+
+    /**
+     * Returns the number of ticks run since the last {@link #start()}.
+     *
+     * @return the tick count
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Returns the gravity interval in ticks.
+     *
+     * @return ticks between gravity steps
+     */
+    public int getGravityTicks() {
+        return gravityTicks;
+    }
+
+    /**
+     * Returns whether the loop is running (started and not paused or stopped).
+     *
+     * @return true if running
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Converts a duration to whole ticks, rounding to the nearest tick and
+     * never returning less than one.
+     */
+    static int toTicks(long millis) {
+        return (int) Math.max(1, Math.round(millis * TICKS_PER_SECOND / 1000.0));
+    }
+}
@@ -0,0 +1,219 @@
+package com.comp2042.engine;
+
+/**
+ * Key-hold tracking with delayed auto shift (DAS) and auto repeat rate (ARR),
+ * counted in {@link GameLoop} ticks.
+ * <p>
+ * This class is part of the Model layer in the MVC architecture. The view
+ * reports key presses and releases as they arrive and calls {@link #tick()}
+ * from the game loop's tick listener. Pressing left or right shifts the
+ * brick once straight away; if the key is still held after the DAS delay,
+ * the brick shifts again every ARR ticks (or straight to the wall when ARR
+ * is zero). OS key-repeat events are ignored, so movement speed is the same
+ * on every machine and only depends on the tick rate. When both directions
+ * are held the most recently pressed one wins, and releasing it hands over
+ * to the other with a fresh DAS delay.
+ * </p>
+ * <p>
+ * Holding soft drop works the same way without the delay: one step on
+ * press, then one every soft drop interval.
+ * </p>
+ * <p>
+ * Each tick reports all of that tick's shifts as one signed column count,
+ * so the caller can apply them with a single engine call. The repeater has
+ * no JavaFX dependency and allocates nothing; drive it from one thread.
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+public class InputRepeater {
+
+    /** Direction code: shift left (one column towards column 0). */
+    public static final int LEFT = -1;
+
+    /** Direction code: shift right. */
+    public static final int RIGHT = 1;
+
+    /** Shift size reported for an ARR of zero: as far as the brick can go. */
+    public static final int TO_WALL = Integer.MAX_VALUE;
+
+    /** Default delay before a held key starts repeating (10 ticks). */
+    public static final long DEFAULT_DAS_MILLIS = 167;
+
+    /** Default time between repeated shifts (2 ticks). */
+    public static final long DEFAULT_ARR_MILLIS = 33;
+
+    /** Default time between soft drop steps while the key is held (2 ticks). */
+    public static final long DEFAULT_SOFT_DROP_MILLIS = 33;
+
+    private int dasTicks;
+    private int arrTicks;       // 0 = shift to the wall
+    private int softDropTicks;
+
+    private boolean leftHeld;
+    private boolean rightHeld;
+    private int direction;      // LEFT, RIGHT or 0 when neither is held
+    private int heldTicks;      // ticks the active direction has been charging
+    private int repeatCounter;  // ticks since the last auto shift
+
+    private boolean softDropHeld;
+    private int softDropCounter;
+    private boolean softDropDue;
+
+    /**
+     * Creates a repeater with the default timings.
+     */
+    public InputRepeater() {
+        setTiming(DEFAULT_DAS_MILLIS, DEFAULT_ARR_MILLIS, DEFAULT_SOFT_DROP_MILLIS);
+    }
+
+    /**
+     * Sets the repeat timings, each rounded to whole ticks.
+     *
+     * @param dasMillis      delay before a held direction repeats (at least
+     *                       one tick)
+     * @param arrMillis      time between repeated shifts; 0 shifts to the
+     *                       wall once DAS expires
+     * @param softDropMillis time between soft drop steps (at least one tick)
+     * @throws IllegalArgumentException if any timing is negative
+     */
+    public void setTiming(long dasMillis, long arrMillis, long softDropMillis) {
+        if (dasMillis < 0 || arrMillis < 0 || softDropMillis < 0) {
+            throw new IllegalArgumentException("Input timings must not be negative");
+        }
+        dasTicks = GameLoop.toTicks(dasMillis);
+        arrTicks = arrMillis == 0 ? 0 : GameLoop.toTicks(arrMillis);
+        softDropTicks = GameLoop.toTicks(softDropMillis);
+    }
+
+    /**
+     * Records a left or right key press.
+     *
+     * @param pressed {@link #LEFT} or {@link #RIGHT}
+     * @return the shift to apply now: the direction for a new press, 0 for
+     *         an OS repeat of a key already held
+     */
+    public int press(int pressed) {
+        if (isHeld(pressed)) {
+            return 0;
+        }
+        if (pressed == LEFT) {
+            leftHeld = true;
+        } else {
+            rightHeld = true;
+        }
+        startCharging(pressed);
+        return pressed;
+    }
+
+    /**
+     * Records a left or right key release.
+     *
+     * @param released {@link #LEFT} or {@link #RIGHT}
+     */
+    public void release(int released) {
+        if (released == LEFT) {
+            leftHeld = false;
+        } else {
+            rightHeld = false;
+        }
+        if (direction == released) {
+            int other = -released;
+            startCharging(isHeld(other) ? other : 0);
+        }
+    }
+
+    /**
+     * Records a soft drop key press.
+     *
+     * @return true if a soft drop step should be applied now (false for an
+     *         OS repeat of a key already held)
+     */
+    public boolean pressSoftDrop() {
+        if (softDropHeld) {
+            return false;
+        }
+        softDropHeld = true;
+        softDropCounter = 0;
+        return true;
+    }
+
+    /**
+     * Records a soft drop key release.
+     */
+    public void releaseSoftDrop() {
+        softDropHeld = false;
+    }
+
+    /**
+     * Forgets every held key, e.g. when the game loses keyboard focus and
+     * release events would be missed.
+     */
+    public void releaseAll() {
+        leftHeld = false;
+        rightHeld = false;
+        softDropHeld = false;
+        startCharging(0);
+    }
+
+    /**
+     * Returns whether a direction's key is held.
+     *
+     * @param held {@link #LEFT} or {@link #RIGHT}
+     * @return true if the key is down
+     */
+    public boolean isHeld(int held) {
+        return held == LEFT ? leftHeld : held == RIGHT && rightHeld;
+    }
+
+    /**
+     * Advances the held keys by one game loop tick.
+     *
+     * @return the columns to shift this tick: negative for left, positive
+     *         for right, 0 for none, or {@link #TO_WALL} times the direction
+     *         when ARR is zero
+     */
+    public int tick() {
+        softDropDue = false;
+        if (softDropHeld && ++softDropCounter >= softDropTicks) {
+            softDropCounter = 0;
+            softDropDue = true;
+        }
+
+        if (direction == 0) {
+            return 0;
+        }
+        if (heldTicks < dasTicks) {
+            if (++heldTicks < dasTicks) {
+                return 0;
+            }
+            // DAS just expired: the first auto shift happens now
+            repeatCounter = 0;
+            return arrTicks == 0 ? direction * TO_WALL : direction;
+        }
+        if (arrTicks == 0) {
+            return direction * TO_WALL;
+        }
+        if (++repeatCounter >= arrTicks) {
+            repeatCounter = 0;
+            return direction;
+        }
+        return 0;
+    }
+
+    /**
+     * Returns whether the last {@link #tick()} called for a soft drop step.
+     *
+     * @return true if a step is due
+     */
+    public boolean isSoftDropDue() {
+        return softDropDue;
+    }
+
+    private void startCharging(int newDirection) {
+        direction = newDirection;
+        heldTicks = 0;
+        repeatCounter = 0;
+    }
+}
@@ -0,0 +1,23 @@
+package com.comp2042.engine;
+
+import java.util.List;
+
+/**
+ * Callback notified by {@link GameEngine} when a locked brick completes rows.
+ * <p>
+ * Called after the brick is merged and before the rows are cleared, so a
+ * view can animate the rows that are about to disappear.
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+public interface LineClearListener {
+
+    /**
+     * Called when the rows at the given indices are complete.
+     *
+     * @param fullRows row indices (0-based, top to bottom) about to be cleared
+     */
+    void onRowsCompleted(List<Integer> fullRows);
+}
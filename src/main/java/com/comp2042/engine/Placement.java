@@ -0,0 +1,68 @@
+package com.comp2042.engine;
+
+/**
+ * Immutable target placement for the current brick: a rotation state and the
+ * column of the shape origin.
+ * <p>
+ * A placement is applied by rotating to the requested state, shifting to the
+ * requested column and hard dropping (see {@link GameEngine#apply(Placement)}).
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+public final class Placement {
+
+    private final int rotation;
+    private final int x;
+
+    /**
+     * Creates a placement.
+     *
+     * @param rotation the target rotation state index
+     * @param x        the target column of the shape origin
+     */
+    public Placement(int rotation, int x) {
+        this.rotation = rotation;
+        this.x = x;
+    }
+
+    /**
+     * Returns the target rotation state index.
+     *
+     * @return the rotation index
+     */
+    public int getRotation() {
+        return rotation;
+    }
+
+    /**
+     * Returns the target column of the shape origin.
+     *
+     * @return the x position (column index)
+     */
+    public int getX() {
+        return x;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Placement other)) {
+            return false;
+        }
+        return rotation == other.rotation && x == other.x;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * rotation + x;
+    }
+
+    @Override
+    public String toString() {
+        return "Placement[rotation=" + rotation + ", x=" + x + "]";
+    }
+}
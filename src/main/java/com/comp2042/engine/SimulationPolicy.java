@@ -0,0 +1,27 @@
+package com.comp2042.engine;
+
+import com.comp2042.board.Board;
+
+/**
+ * Strategy that chooses where to place the current brick in a simulated game.
+ * <p>
+ * Used by {@link SimulationRunner}. A policy is shared by all worker threads,
+ * so implementations must be stateless or thread-safe, and must only read the
+ * board (e.g. {@link Board#getBoardMatrix()}, {@link Board#getCurrentPiece()}),
+ * never modify it.
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface SimulationPolicy {
+
+    /**
+     * Chooses the placement for the board's current brick.
+     *
+     * @param board the board to inspect (read-only)
+     * @return the placement to apply
+     */
+    Placement choosePlacement(Board board);
+}
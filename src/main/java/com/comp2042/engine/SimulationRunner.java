@@ -0,0 +1,156 @@
+package com.comp2042.engine;
+
+import com.comp2042.model.BrickGenerator;
+import com.comp2042.model.HardDropResult;
+import com.comp2042.model.RandomBrickGenerator;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.LongFunction;
+
+/**
+ * Runs batches of headless games in parallel and aggregates their results.
+ * <p>
+ * Each game gets its own {@link GameEngine}, board, score and seeded brick
+ * generator, so workers share nothing but the (stateless) policy and the game
+ * index range; results are merged up the fork-join tree. This keeps the
+ * runner free of locks and lets it scale with the number of cores.
+ * </p>
+ * <p>
+ * Game {@code i} of a run uses {@code seeds[i % seeds.length]}. When more
+ * games than seeds are requested, later rounds derive a new seed from the
+ * listed one and the round number, so every game stays reproducible.
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+public class SimulationRunner {
+
+    /** Games simulated sequentially by one fork-join leaf task. */
+    private static final int GAMES_PER_TASK = 4;
+
+    private static final long ROUND_SEED_MIX = 0x9E3779B97F4A7C15L;
+
+    private final int width;
+    private final int height;
+    private final long maxPiecesPerGame;
+    private final int parallelism;
+    private final LongFunction<BrickGenerator> generatorFactory;
+
+    /**
+     * Creates a runner using all available cores and seeded
+     * {@link RandomBrickGenerator}s.
+     *
+     * @param width            the board width of each game
+     * @param height           the board height of each game
+     * @param maxPiecesPerGame the piece limit after which a game is stopped
+     */
+    public SimulationRunner(int width, int height, long maxPiecesPerGame) {
+        this(width, height, maxPiecesPerGame, Runtime.getRuntime().availableProcessors(),
+                RandomBrickGenerator::new);
+    }
+
+    /**
+     * Creates a runner.
+     *
+     * @param width            the board width of each game
+     * @param height           the board height of each game
+     * @param maxPiecesPerGame the piece limit after which a game is stopped
+     * @param parallelism      the number of worker threads
+     * @param generatorFactory creates the brick generator for a game seed
+     */
+    public SimulationRunner(int width, int height, long maxPiecesPerGame, int parallelism,
+                            LongFunction<BrickGenerator> generatorFactory) {
+        this.width = width;
+        this.height = height;
+        this.maxPiecesPerGame = maxPiecesPerGame;
+        this.parallelism = parallelism;
+        this.generatorFactory = generatorFactory;
+    }
+
+    /**
+     * Simulates {@code gameCount} games and aggregates the results.
+     *
+     * @param policy    chooses a placement for every brick; shared by all workers
+     * @param seeds     the game seeds (at least one)
+     * @param gameCount the number of games to play
+     * @return the aggregated statistics
+     * @throws IllegalArgumentException if no seeds are given
+     */
+    public SimulationStats run(SimulationPolicy policy, long[] seeds, int gameCount) {
+        if (seeds.length == 0) {
+            throw new IllegalArgumentException("At least one seed is required");
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return pool.invoke(new GameRangeTask(policy, seeds, 0, gameCount));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Plays a single game to completion (or the piece limit).
+     *
+     * @param policy the placement policy
+     * @param seed   the game seed
+     * @param stats  the stats to record the outcome into
+     */
+    private void playGame(SimulationPolicy policy, long seed, SimulationStats stats) {
+        GameEngine engine = GameEngine.headless(width, height, generatorFactory.apply(seed));
+        engine.newGame();
+        while (!engine.isGameOver() && engine.getPiecesLocked() < maxPiecesPerGame) {
+            HardDropResult result = engine.apply(policy.choosePlacement(engine.getBoard()));
+            if (result == null) {
+                break;
+            }
+        }
+        stats.record(engine.getScore().getTotalLines(), engine.getScore().getCurrentScore(),
+                engine.getPiecesLocked());
+    }
+
+    /**
+     * Returns the seed of game {@code index}.
+     */
+    private static long seedFor(long[] seeds, int index) {
+        long seed = seeds[index % seeds.length];
+        long round = index / seeds.length;
+        return round == 0 ? seed : seed ^ (round * ROUND_SEED_MIX);
+    }
+
+    /**
+     * Fork-join task simulating the games in [from, to).
+     */
+    private final class GameRangeTask extends RecursiveTask<SimulationStats> {
+
+        private final SimulationPolicy policy;
+        private final long[] seeds;
+        private final int from;
+        private final int to;
+
+        GameRangeTask(SimulationPolicy policy, long[] seeds, int from, int to) {
+            this.policy = policy;
+            this.seeds = seeds;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected SimulationStats compute() {
+            if (to - from <= GAMES_PER_TASK) {
+                SimulationStats stats = new SimulationStats();
+                for (int i = from; i < to; i++) {
+                    playGame(policy, seedFor(seeds, i), stats);
+                }
+                return stats;
+            }
+            int mid = (from + to) >>> 1;
+            GameRangeTask left = new GameRangeTask(policy, seeds, from, mid);
+            left.fork();
+            SimulationStats stats = new GameRangeTask(policy, seeds, mid, to).compute();
+            stats.merge(left.join());
+            return stats;
+        }
+    }
+}
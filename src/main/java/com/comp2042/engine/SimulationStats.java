@@ -0,0 +1,130 @@
+package com.comp2042.engine;
+
+import java.util.Arrays;
+
+/**
+ * Aggregated results of a batch of simulated games.
+ * <p>
+ * Collects totals for lines, score and pieces, the best score, and a game
+ * length histogram. Game length is measured in locked pieces and bucketed by
+ * powers of two: bucket {@code k} counts games that lasted
+ * {@code [2^k, 2^(k+1))} pieces (bucket 0 also holds games of 0 pieces).
+ * </p>
+ * <p>
+ * Instances are filled by a single worker and then merged, so they are not
+ * thread-safe.
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+public final class SimulationStats {
+
+    private static final int BUCKETS = Long.SIZE;
+
+    private long games;
+    private long totalLines;
+    private long totalScore;
+    private long totalPieces;
+    private int maxScore;
+    private final long[] lengthHistogram = new long[BUCKETS];
+
+    /**
+     * Records the outcome of one game.
+     *
+     * @param lines  the lines cleared
+     * @param score  the final score
+     * @param pieces the number of pieces locked
+     */
+    void record(int lines, int score, long pieces) {
+        games++;
+        totalLines += lines;
+        totalScore += score;
+        totalPieces += pieces;
+        maxScore = Math.max(maxScore, score);
+        lengthHistogram[bucketOf(pieces)]++;
+    }
+
+    /**
+     * Adds another batch's results to this one.
+     *
+     * @param other the stats to merge in
+     */
+    void merge(SimulationStats other) {
+        games += other.games;
+        totalLines += other.totalLines;
+        totalScore += other.totalScore;
+        totalPieces += other.totalPieces;
+        maxScore = Math.max(maxScore, other.maxScore);
+        for (int i = 0; i < BUCKETS; i++) {
+            lengthHistogram[i] += other.lengthHistogram[i];
+        }
+    }
+
+    private static int bucketOf(long pieces) {
+        return pieces <= 1 ? 0 : 63 - Long.numberOfLeadingZeros(pieces);
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getTotalLines() {
+        return totalLines;
+    }
+
+    public long getTotalScore() {
+        return totalScore;
+    }
+
+    public long getTotalPieces() {
+        return totalPieces;
+    }
+
+    public int getMaxScore() {
+        return maxScore;
+    }
+
+    /**
+     * Returns the mean number of lines cleared per game.
+     *
+     * @return average lines, or 0 if no games were played
+     */
+    public double getAverageLines() {
+        return games == 0 ? 0 : (double) totalLines / games;
+    }
+
+    /**
+     * Returns the mean final score per game.
+     *
+     * @return average score, or 0 if no games were played
+     */
+    public double getAverageScore() {
+        return games == 0 ? 0 : (double) totalScore / games;
+    }
+
+    /**
+     * Returns the mean number of pieces locked per game.
+     *
+     * @return average pieces, or 0 if no games were played
+     */
+    public double getAveragePieces() {
+        return games == 0 ? 0 : (double) totalPieces / games;
+    }
+
+    /**
+     * Returns a copy of the game length histogram.
+     *
+     * @return counts per power-of-two piece bucket (see class documentation)
+     */
+    public long[] getLengthHistogram() {
+        return Arrays.copyOf(lengthHistogram, BUCKETS);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SimulationStats[games=%d, avgLines=%.2f, avgScore=%.2f, "
+                        + "avgPieces=%.2f, maxScore=%d]",
+                games, getAverageLines(), getAverageScore(), getAveragePieces(), maxScore);
+    }
+}
@@ -0,0 +1,109 @@
+package com.comp2042.leaderboard;
+
+/**
+ * Immutable summary of one completed game, as stored in the leaderboard.
+ * <p>
+ * This class is part of the Model layer in the MVC architecture. Besides the
+ * final score, line count and level it records when the game was played, how
+ * long it lasted, the brick generator seed (so the piece sequence can be
+ * reproduced) and the settings that affect play.
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+public final class GameRecord {
+
+    private final long timestamp;
+    private final long seed;
+    private final int score;
+    private final int lines;
+    private final int level;
+    private final int durationMillis;
+    private final String difficulty;
+    private final int boardWidth;
+    private final int boardHeight;
+    private final boolean ghostPieceEnabled;
+    private final boolean hardDropEnabled;
+
+    /**
+     * Constructs a new game record.
+     *
+     * @param timestamp         when the game ended (epoch milliseconds)
+     * @param seed              the brick generator seed of the game
+     * @param score             the final score
+     * @param lines             the total lines cleared
+     * @param level             the final level
+     * @param durationMillis    the game length in milliseconds
+     * @param difficulty        the difficulty name (EASY, NORMAL or HARD)
+     * @param boardWidth        the number of board columns
+     * @param boardHeight       the number of board rows
+     * @param ghostPieceEnabled whether the ghost piece was shown
+     * @param hardDropEnabled   whether hard drop was allowed
+     */
+    public GameRecord(long timestamp, long seed, int score, int lines, int level,
+                      int durationMillis, String difficulty, int boardWidth, int boardHeight,
+                      boolean ghostPieceEnabled, boolean hardDropEnabled) {
+        this.timestamp = timestamp;
+        this.seed = seed;
+        this.score = score;
+        this.lines = lines;
+        this.level = level;
+        this.durationMillis = durationMillis;
+        this.difficulty = difficulty;
+        this.boardWidth = boardWidth;
+        this.boardHeight = boardHeight;
+        this.ghostPieceEnabled = ghostPieceEnabled;
+        this.hardDropEnabled = hardDropEnabled;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getLines() {
+        return lines;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public int getDurationMillis() {
+        return durationMillis;
+    }
+
+    public String getDifficulty() {
+        return difficulty;
+    }
+
+    public int getBoardWidth() {
+        return boardWidth;
+    }
+
+    public int getBoardHeight() {
+        return boardHeight;
+    }
+
+    public boolean isGhostPieceEnabled() {
+        return ghostPieceEnabled;
+    }
+
+    public boolean isHardDropEnabled() {
+        return hardDropEnabled;
+    }
+
+    @Override
+    public String toString() {
+        return "GameRecord{score=" + score + ", lines=" + lines + ", level=" + level
+                + ", difficulty=" + difficulty + ", seed=" + seed + "}";
+    }
+}
@@ -0,0 +1,505 @@
+package com.comp2042.leaderboard;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Append-only leaderboard of completed games with an in-memory column index.
+ * <p>
+ * This class is part of the Model layer in the MVC architecture. Every game
+ * is appended to a binary log as a fixed-size record, so the file never has
+ * to be rewritten and a crash can at worst lose the record being written
+ * (a partial trailing record is cut off on the next open).
+ * </p>
+ * <p>
+ * <strong>File format</strong> (big-endian):
+ * <ul>
+ *   <li>Header (16 bytes): magic {@code TLB1}, format version, record size,
+ *       reserved</li>
+ *   <li>Records (40 bytes each): timestamp (long), seed (long), score, lines,
+ *       level, duration in ms (int each), board width and height (short
+ *       each), difficulty code (byte), settings flags (byte), 2 bytes
+ *       padding</li>
+ * </ul>
+ * </p>
+ * <p>
+ * On open the log is read in large blocks into primitive column arrays (one
+ * per field, indexed by record id), which take about 40 bytes per game; a
+ * million games load in well under a second.
+ * Top-N queries are a single pass over one column with a bounded heap of N
+ * ids, so they cost a few milliseconds even with a million games and
+ * allocate only the result. Ties are broken in favour of the earlier game.
+ * </p>
+ * <p>
+ * All methods are synchronized; the store may be queried from the JavaFX
+ * Application Thread while another thread appends.
+ * </p>
+ * <p>
+ * The shared store ({@link #getInstance()}) should not be opened or written
+ * on the JavaFX Application Thread: loading a large log takes noticeable
+ * time, and a write can stall on slow storage. {@link #openInstanceInBackground()}
+ * and {@link #appendInBackground(GameRecord)} run on one daemon thread, in
+ * order, so the game never waits for the disk.
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+public final class LeaderboardStore implements Closeable {
+
+    /** Default leaderboard file in the user's directory. */
+    public static final String DEFAULT_FILE = "leaderboard.dat";
+
+    static final int MAGIC = 0x544C4231;  // "TLB1"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 16;
+    static final int RECORD_BYTES = 40;
+
+    private static final int READ_BLOCK_RECORDS = 4096;
+    private static final int INITIAL_CAPACITY = 256;
+
+    private static final String[] DIFFICULTIES = {"EASY", "NORMAL", "HARD"};
+    private static final int DEFAULT_DIFFICULTY_CODE = 1;
+
+    private static final int FLAG_GHOST_PIECE = 1;
+    private static final int FLAG_HARD_DROP = 2;
+
+    private static final long CLOSE_TIMEOUT_MILLIS = 2000;
+
+    private static LeaderboardStore instance;
+
+    // Opens, appends to and closes the shared store off the caller's thread
+    private static final ExecutorService SHARED_IO = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "leaderboard-io");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final FileChannel channel;
+    private final ByteBuffer recordBuffer = ByteBuffer.allocate(RECORD_BYTES);
+
+    // Column index, one entry per record id
+    private int size;
+    private long[] timestamps;
+    private long[] seeds;
+    private int[] scores;
+    private int[] lines;
+    private int[] levels;
+    private int[] durations;
+    private short[] widths;
+    private short[] heights;
+    private byte[] difficulties;
+    private byte[] flags;
+
+    private LeaderboardStore(FileChannel channel) {
+        this.channel = channel;
+        allocateColumns(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Opens (or creates) a leaderboard file and loads its index.
+     *
+     * @param file the leaderboard file
+     * @return the open store
+     * @throws IOException if the file cannot be read or is not a leaderboard
+     */
+    public static LeaderboardStore open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            LeaderboardStore store = new LeaderboardStore(channel);
+            store.load();
+            return store;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the shared store backed by {@link #DEFAULT_FILE}, opening it on
+     * first use.
+     *
+     * @return the shared store
+     * @throws IOException if the file cannot be opened
+     */
+    public static synchronized LeaderboardStore getInstance() throws IOException {
+        if (instance == null) {
+            instance = open(Paths.get(DEFAULT_FILE));
+        }
+        return instance;
+    }
+
+    /**
+     * Opens the shared store and loads its index on the background thread,
+     * e.g. at application start, so the first game over does not pay for it.
+     */
+    public static void openInstanceInBackground() {
+        SHARED_IO.execute(() -> {
+            try {
+                getInstance();
+            } catch (IOException e) {
+                System.err.println("Error opening leaderboard: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Appends a game to the shared store on the background thread. Returns
+     * immediately; the game is written after any earlier queued work.
+     *
+     * @param record the completed game
+     */
+    public static void appendInBackground(GameRecord record) {
+        SHARED_IO.execute(() -> {
+            try {
+                getInstance().append(record);
+            } catch (IOException e) {
+                System.err.println("Error recording game: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Waits (briefly) for queued background work, then closes the shared
+     * store if it was opened.
+     */
+    public static void closeInstance() {
+        // Wait outside the class lock: queued work needs it for getInstance()
+        try {
+            SHARED_IO.submit(() -> { }).get(CLOSE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            System.err.println("Leaderboard writes still pending at close");
+        }
+        closeSharedInstance();
+    }
+
+    private static synchronized void closeSharedInstance() {
+        if (instance != null) {
+            try {
+                instance.close();
+            } catch (IOException e) {
+                System.err.println("Error closing leaderboard: " + e.getMessage());
+            }
+            instance = null;
+        }
+    }
+
+    /**
+     * Appends a game to the log and the index.
+     *
+     * @param record the completed game
+     * @throws IOException if the record cannot be written
+     */
+    public synchronized void append(GameRecord record) throws IOException {
+        ByteBuffer buffer = recordBuffer.clear();
+        buffer.putLong(record.getTimestamp());
+        buffer.putLong(record.getSeed());
+        buffer.putInt(record.getScore());
+        buffer.putInt(record.getLines());
+        buffer.putInt(record.getLevel());
+        buffer.putInt(record.getDurationMillis());
+        buffer.putShort((short) record.getBoardWidth());
+        buffer.putShort((short) record.getBoardHeight());
+        buffer.put((byte) difficultyCode(record.getDifficulty()));
+        buffer.put((byte) ((record.isGhostPieceEnabled() ? FLAG_GHOST_PIECE : 0)
+                | (record.isHardDropEnabled() ? FLAG_HARD_DROP : 0)));
+        buffer.putShort((short) 0);
+        buffer.flip();
+
+        long position = HEADER_BYTES + (long) size * RECORD_BYTES;
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+        buffer.flip();
+        index(buffer);
+    }
+
+    /**
+     * Returns the number of stored games.
+     *
+     * @return the game count
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Returns a stored game by id (ids are assigned in append order from 0).
+     *
+     * @param id the record id
+     * @return the game record
+     * @throws IndexOutOfBoundsException if id is not in [0, size)
+     */
+    public synchronized GameRecord get(int id) {
+        if (id < 0 || id >= size) {
+            throw new IndexOutOfBoundsException("Record " + id + " of " + size);
+        }
+        return new GameRecord(timestamps[id], seeds[id], scores[id], lines[id], levels[id],
+                durations[id], DIFFICULTIES[difficulties[id]], widths[id], heights[id],
+                (flags[id] & FLAG_GHOST_PIECE) != 0, (flags[id] & FLAG_HARD_DROP) != 0);
+    }
+
+    /**
+     * Returns the highest-scoring games, best first.
+     *
+     * @param count the maximum number of games to return
+     * @return up to count records
+     */
+    public synchronized List<GameRecord> topByScore(int count) {
+        return records(selectTop(scores, -1, count));
+    }
+
+    /**
+     * Returns the highest-scoring games played on a difficulty, best first.
+     *
+     * @param count      the maximum number of games to return
+     * @param difficulty the difficulty name (EASY, NORMAL or HARD)
+     * @return up to count records
+     */
+    public synchronized List<GameRecord> topByScore(int count, String difficulty) {
+        return records(selectTop(scores, difficultyCode(difficulty), count));
+    }
+
+    /**
+     * Returns the games with the most lines cleared, best first.
+     *
+     * @param count the maximum number of games to return
+     * @return up to count records
+     */
+    public synchronized List<GameRecord> topByLines(int count) {
+        return records(selectTop(lines, -1, count));
+    }
+
+    /**
+     * Returns the games with the most lines cleared on a difficulty, best
+     * first.
+     *
+     * @param count      the maximum number of games to return
+     * @param difficulty the difficulty name (EASY, NORMAL or HARD)
+     * @return up to count records
+     */
+    public synchronized List<GameRecord> topByLines(int count, String difficulty) {
+        return records(selectTop(lines, difficultyCode(difficulty), count));
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Reads the header and every complete record into the column index,
+     * writing a header to a new file and cutting off a partial last record.
+     */
+    private void load() throws IOException {
+        long length = channel.size();
+        if (length < HEADER_BYTES) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            header.putInt(MAGIC).putInt(VERSION).putInt(RECORD_BYTES).putInt(0).flip();
+            channel.truncate(0);
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            return;
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        readFully(header, 0);
+        header.flip();
+        if (header.getInt() != MAGIC || header.getInt() != VERSION
+                || header.getInt() != RECORD_BYTES) {
+            throw new IOException("Not a leaderboard file (version " + VERSION + ")");
+        }
+
+        int records = (int) Math.min(Integer.MAX_VALUE, (length - HEADER_BYTES) / RECORD_BYTES);
+        long end = HEADER_BYTES + (long) records * RECORD_BYTES;
+        if (end != length) {
+            channel.truncate(end);  // torn write from an interrupted append
+        }
+        allocateColumns(Math.max(INITIAL_CAPACITY, records));
+
+        ByteBuffer block = ByteBuffer.allocateDirect(READ_BLOCK_RECORDS * RECORD_BYTES);
+        long position = HEADER_BYTES;
+        while (size < records) {
+            int batch = Math.min(READ_BLOCK_RECORDS, records - size);
+            block.clear().limit(batch * RECORD_BYTES);
+            readFully(block, position);
+            position += block.limit();
+            block.flip();
+            for (int i = 0; i < batch; i++) {
+                index(block);
+            }
+        }
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Unexpected end of leaderboard file");
+            }
+            position += read;
+        }
+    }
+
+    /**
+     * Decodes one record from the buffer into the next index slot.
+     */
+    private void index(ByteBuffer buffer) {
+        if (size == scores.length) {
+            growColumns(size * 2);
+        }
+        int id = size;
+        timestamps[id] = buffer.getLong();
+        seeds[id] = buffer.getLong();
+        scores[id] = buffer.getInt();
+        lines[id] = buffer.getInt();
+        levels[id] = buffer.getInt();
+        durations[id] = buffer.getInt();
+        widths[id] = buffer.getShort();
+        heights[id] = buffer.getShort();
+        int difficulty = buffer.get();
+        difficulties[id] = (byte) (difficulty >= 0 && difficulty < DIFFICULTIES.length
+                ? difficulty : DEFAULT_DIFFICULTY_CODE);
+        flags[id] = buffer.get();
+        buffer.getShort();  // padding
+        size++;
+    }
+
+    /**
+     * Selects the ids of the count largest keys (ties: lower id first),
+     * optionally restricted to one difficulty, using a bounded min-heap.
+     *
+     * @param keys       the column to rank by
+     * @param difficulty the difficulty code to keep, or -1 for all
+     * @param count      the maximum number of ids
+     * @return the selected ids, best first
+     */
+    private int[] selectTop(int[] keys, int difficulty, int count) {
+        int limit = Math.min(Math.max(count, 0), size);
+        int[] heap = new int[limit];
+        int heapSize = 0;
+        for (int id = 0; id < size && limit > 0; id++) {
+            if (difficulty >= 0 && difficulties[id] != difficulty) {
+                continue;
+            }
+            if (heapSize < limit) {
+                heap[heapSize] = id;
+                siftUp(heap, heapSize++, keys);
+            } else if (ranksAbove(keys, id, heap[0])) {
+                heap[0] = id;
+                siftDown(heap, heapSize, keys);
+            }
+        }
+        // Pop the worst repeatedly to fill the result from the back
+        int[] result = new int[heapSize];
+        for (int i = heapSize - 1; i >= 0; i--) {
+            result[i] = heap[0];
+            heap[0] = heap[--heapSize];
+            siftDown(heap, heapSize, keys);
+        }
+        return result;
+    }
+
+    /**
+     * Returns true if record a ranks above record b.
+     */
+    private static boolean ranksAbove(int[] keys, int a, int b) {
+        return keys[a] > keys[b] || (keys[a] == keys[b] && a < b);
+    }
+
+    private static void siftUp(int[] heap, int index, int[] keys) {
+        int id = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!ranksAbove(keys, heap[parent], id)) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = id;
+    }
+
+    private static void siftDown(int[] heap, int heapSize, int[] keys) {
+        if (heapSize == 0) {
+            return;
+        }
+        int index = 0;
+        int id = heap[0];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && ranksAbove(keys, heap[child], heap[child + 1])) {
+                child++;
+            }
+            if (!ranksAbove(keys, id, heap[child])) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = id;
+    }
+
+    private List<GameRecord> records(int[] ids) {
+        List<GameRecord> result = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            result.add(get(id));
+        }
+        return result;
+    }
+
+    private static int difficultyCode(String difficulty) {
+        for (int i = 0; i < DIFFICULTIES.length; i++) {
+            if (DIFFICULTIES[i].equalsIgnoreCase(difficulty)) {
+                return i;
+            }
+        }
+        return DEFAULT_DIFFICULTY_CODE;
+    }
+
+    private void allocateColumns(int capacity) {
+        timestamps = new long[capacity];
+        seeds = new long[capacity];
+        scores = new int[capacity];
+        lines = new int[capacity];
+        levels = new int[capacity];
+        durations = new int[capacity];
+        widths = new short[capacity];
+        heights = new short[capacity];
+        difficulties = new byte[capacity];
+        flags = new byte[capacity];
+    }
+
+    private void growColumns(int capacity) {
+        timestamps = Arrays.copyOf(timestamps, capacity);
+        seeds = Arrays.copyOf(seeds, capacity);
+        scores = Arrays.copyOf(scores, capacity);
+        lines = Arrays.copyOf(lines, capacity);
+        levels = Arrays.copyOf(levels, capacity);
+        durations = Arrays.copyOf(durations, capacity);
+        widths = Arrays.copyOf(widths, capacity);
+        heights = Arrays.copyOf(heights, capacity);
+        difficulties = Arrays.copyOf(difficulties, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+    }
+}
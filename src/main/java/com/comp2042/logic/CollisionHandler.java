@@ -1,5 +1,7 @@
 package com.comp2042.logic;
 
+import com.comp2042.model.PieceTable;
+
 /**
  * Complete collision detection engine for the Tetris game.
  * <p>
@@ -66,6 +68,42 @@ public class CollisionHandler {
         return false;
     }
 
+    /**
+     * Checks if a rotation state of a piece collides with the board at the
+     * given position.
+     * <p>
+     * Same semantics as {@link #hasCollision(int[][], int[][], int, int)},
+     * but uses the piece's precomputed bounding box to reject out-of-bounds
+     * placements up front and then tests only the filled cells, instead of
+     * scanning the whole 4x4 shape matrix.
+     * </p>
+     *
+     * @param board    the game board matrix (matrix[row][column])
+     * @param piece    the precomputed rotation table of the piece
+     * @param rotation the rotation state index to check
+     * @param x        the column position (x coordinate)
+     * @param y        the row position (y coordinate)
+     * @return true if there is a collision, false otherwise
+     */
+    public static boolean hasCollision(int[][] board, PieceTable piece, int rotation, int x, int y) {
+        int[] offsets = piece.getCellOffsets(rotation);
+        if (offsets.length == 0) {
+            return false;  // an empty shape never collides
+        }
+        if (y + piece.getMinRow(rotation) < 0 || y + piece.getMaxRow(rotation) >= board.length
+                || x + piece.getMinCol(rotation) < 0
+                || x + piece.getMaxCol(rotation) >= board[0].length) {
+            return true;
+        }
+        for (int i = 0; i < offsets.length; i += 2) {
+            // offsets are (col, row) pairs: matrix[y + row][x + col]
+            if (board[y + offsets[i + 1]][x + offsets[i]] != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Checks if a single coordinate point is out of bounds for the given board.
      *
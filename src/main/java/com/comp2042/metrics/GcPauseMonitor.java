@@ -0,0 +1,142 @@
+package com.comp2042.metrics;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts garbage collection pauses as the JVM reports them.
+ * <p>
+ * While started, a listener on every {@link GarbageCollectorMXBean} receives
+ * a notification after each collection with its duration. Collectors that
+ * run alongside the application ("G1 Concurrent GC", "ZGC Cycles",
+ * "Shenandoah Cycles") are skipped, since their durations are not time the
+ * game was stopped. Notifications arrive on a JMX thread, so the figures are
+ * kept in atomics and can be read from any thread.
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+public final class GcPauseMonitor {
+
+    private final NotificationListener listener = this::handleNotification;
+    private final List<NotificationEmitter> emitters = new ArrayList<>();
+
+    private final AtomicLong pauses = new AtomicLong();
+    private final AtomicLong totalPauseMillis = new AtomicLong();
+    private final AtomicLong maxPauseMillis = new AtomicLong();  // since the last take
+    private volatile long lastPauseMillis;
+
+    /**
+     * Starts listening for collections. Does nothing if already started.
+     */
+    public synchronized void start() {
+        if (!emitters.isEmpty()) {
+            return;
+        }
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (bean instanceof NotificationEmitter && !isConcurrent(bean.getName())) {
+                NotificationEmitter emitter = (NotificationEmitter) bean;
+                emitter.addNotificationListener(listener, null, null);
+                emitters.add(emitter);
+            }
+        }
+    }
+
+    /**
+     * Stops listening for collections. The figures collected so far are
+     * kept.
+     */
+    public synchronized void stop() {
+        for (NotificationEmitter emitter : emitters) {
+            try {
+                emitter.removeNotificationListener(listener);
+            } catch (ListenerNotFoundException e) {
+                // Already removed; nothing to do
+            }
+        }
+        emitters.clear();
+    }
+
+    /**
+     * Returns whether the monitor is listening.
+     *
+     * @return true between {@link #start()} and {@link #stop()}
+     */
+    public synchronized boolean isStarted() {
+        return !emitters.isEmpty();
+    }
+
+    /**
+     * Records one collection pause.
+     *
+     * @param millis the pause duration in milliseconds
+     */
+    void recordPause(long millis) {
+        pauses.incrementAndGet();
+        totalPauseMillis.addAndGet(millis);
+        maxPauseMillis.accumulateAndGet(millis, Math::max);
+        lastPauseMillis = millis;
+    }
+
+    /**
+     * Returns the number of pauses recorded.
+     *
+     * @return the pause count
+     */
+    public long getPauses() {
+        return pauses.get();
+    }
+
+    /**
+     * Returns the total time spent in recorded pauses.
+     *
+     * @return the total pause time in milliseconds
+     */
+    public long getTotalPauseMillis() {
+        return totalPauseMillis.get();
+    }
+
+    /**
+     * Returns the duration of the most recent pause.
+     *
+     * @return the last pause in milliseconds, 0 if none
+     */
+    public long getLastPauseMillis() {
+        return lastPauseMillis;
+    }
+
+    /**
+     * Returns the longest pause since the previous call and starts a new
+     * period.
+     *
+     * @return the longest recent pause in milliseconds, 0 if none
+     */
+    public long takeMaxPauseMillis() {
+        return maxPauseMillis.getAndSet(0);
+    }
+
+    private void handleNotification(Notification notification, Object handback) {
+        if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION
+                .equals(notification.getType())) {
+            return;
+        }
+        GarbageCollectionNotificationInfo info =
+                GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+        recordPause(info.getGcInfo().getDuration());
+    }
+
+    private static boolean isConcurrent(String collectorName) {
+        return collectorName.contains("Concurrent") || collectorName.contains("Cycles");
+    }
+}
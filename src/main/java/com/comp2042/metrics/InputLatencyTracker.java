@@ -0,0 +1,187 @@
+package com.comp2042.metrics;
+
+import java.util.Locale;
+
+/**
+ * Measures input-to-photon latency: how long a key press takes to reach
+ * the screen.
+ * <p>
+ * A press is followed through four timestamps, each reported by the code
+ * that reaches that point:
+ * <ol>
+ *   <li>{@link #inputReceived(long)}: the key event handler starts</li>
+ *   <li>{@link #engineApplied(long)}: the controller's engine call returns</li>
+ *   <li>{@link #rendered(long)}: the view finishes updating its nodes</li>
+ *   <li>{@link #pulse(long)}: the next animation pulse, after which JavaFX
+ *       draws the frame</li>
+ * </ol>
+ * The time from the press to each later stage goes into its own
+ * {@link LatencyHistogram}. Only one press is followed at a time: presses
+ * that arrive before the next pulse ride along with the first, so each
+ * sample is the worst case of its frame. A press that never changes the
+ * view (a blocked move, a key repeat that is ignored, pause) is dropped at
+ * the pulse, as are presses pending when the game loop stops.
+ * </p>
+ * <p>
+ * Timestamps are passed in ({@link System#nanoTime()} in the game) so the
+ * tracker has no clock or JavaFX dependency. Not thread-safe; use it from
+ * the JavaFX Application Thread.
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+public final class InputLatencyTracker {
+
+    private final LatencyHistogram toEngine = new LatencyHistogram();
+    private final LatencyHistogram toRender = new LatencyHistogram();
+    private final LatencyHistogram toPulse = new LatencyHistogram();
+
+    private long samples;  // presses recorded since creation
+
+    private boolean inFlight;
+    private long inputNanos;
+    private long engineNanos;
+    private boolean engineDone;
+    private long renderNanos;
+    private boolean renderDone;
+
+    /**
+     * Starts following a key press, unless one is already in flight.
+     *
+     * @param now the current time in nanoseconds
+     */
+    public void inputReceived(long now) {
+        if (inFlight) {
+            return;
+        }
+        inFlight = true;
+        inputNanos = now;
+        engineDone = false;
+        renderDone = false;
+    }
+
+    /**
+     * Marks the engine call for the press in flight as finished.
+     *
+     * @param now the current time in nanoseconds
+     */
+    public void engineApplied(long now) {
+        if (inFlight) {
+            engineNanos = now;
+            engineDone = true;
+        }
+    }
+
+    /**
+     * Marks the view update for the press in flight as finished. Ignored
+     * until the engine has applied the press.
+     *
+     * @param now the current time in nanoseconds
+     */
+    public void rendered(long now) {
+        if (inFlight && engineDone) {
+            renderNanos = now;
+            renderDone = true;
+        }
+    }
+
+    /**
+     * Completes the press in flight at an animation pulse, recording it if
+     * it reached the view.
+     *
+     * @param now the pulse time in nanoseconds
+     */
+    public void pulse(long now) {
+        if (!inFlight) {
+            return;
+        }
+        if (renderDone) {
+            toEngine.record(engineNanos - inputNanos);
+            toRender.record(renderNanos - inputNanos);
+            toPulse.record(now - inputNanos);
+            samples++;
+        }
+        inFlight = false;
+    }
+
+    /**
+     * Drops the press in flight, e.g. when the game loop stops and no pulse
+     * will follow soon.
+     */
+    public void discardPending() {
+        inFlight = false;
+    }
+
+    /**
+     * Returns the latencies from key press to engine call completion.
+     *
+     * @return the press-to-engine histogram
+     */
+    public LatencyHistogram getToEngine() {
+        return toEngine;
+    }
+
+    /**
+     * Returns the latencies from key press to view update completion.
+     *
+     * @return the press-to-render histogram
+     */
+    public LatencyHistogram getToRender() {
+        return toRender;
+    }
+
+    /**
+     * Returns the latencies from key press to the next animation pulse, the
+     * closest the game can observe to the frame reaching the screen.
+     *
+     * @return the press-to-pulse histogram
+     */
+    public LatencyHistogram getToPulse() {
+        return toPulse;
+    }
+
+    /**
+     * Returns the number of presses recorded so far, including those that
+     * have since left the histograms' windows.
+     *
+     * @return the total sample count
+     */
+    public long getSamples() {
+        return samples;
+    }
+
+    /**
+     * Returns the p50/p95/p99 of every stage, one stage per line, in
+     * milliseconds (for the debug overlay).
+     *
+     * @return the summary text
+     */
+    public String summary() {
+        return format("\n");
+    }
+
+    /**
+     * Returns the same figures as {@link #summary()} on a single line (for
+     * the log file).
+     *
+     * @return the summary line
+     */
+    public String summaryLine() {
+        return format(" | ");
+    }
+
+    private String format(String separator) {
+        return "INPUT LATENCY (n=" + toPulse.getCount() + ")" + separator
+                + line("engine", toEngine) + separator
+                + line("render", toRender) + separator
+                + line("pulse ", toPulse);
+    }
+
+    private static String line(String stage, LatencyHistogram histogram) {
+        return String.format(Locale.ROOT, "%s p50 %.2f  p95 %.2f  p99 %.2f ms", stage,
+                histogram.percentile(50) / 1e6,
+                histogram.percentile(95) / 1e6,
+                histogram.percentile(99) / 1e6);
+    }
+}
@@ -0,0 +1,152 @@
+package com.comp2042.metrics;
+
+import java.util.Arrays;
+
+/**
+ * Rolling histogram of durations with percentile queries.
+ * <p>
+ * Durations are kept in log-linear buckets: exact below 32 microseconds,
+ * then 32 buckets per power of two, so a reported percentile is within about
+ * 3% of the true value from microseconds up to a minute. Only the most
+ * recent {@code window} samples count; each new sample pushes the oldest one
+ * out, so the percentiles follow the current behaviour rather than the whole
+ * session.
+ * </p>
+ * <p>
+ * Recording is O(1) and allocates nothing, so it can be called from the
+ * input and render paths every frame. Not thread-safe; record and query
+ * from one thread.
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+public final class LatencyHistogram {
+
+    /** Default number of recent samples kept. */
+    public static final int DEFAULT_WINDOW = 1024;
+
+    private static final int SUB_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;  // buckets per power of two
+    private static final int MAX_EXPONENT = 21;            // up to 2^26 us (about 67 s)
+    private static final int BUCKET_COUNT = (MAX_EXPONENT + 2) * SUB_BUCKETS;
+    private static final long NANOS_PER_MICRO = 1000;
+
+    private final int[] counts = new int[BUCKET_COUNT];
+    private final int[] window;  // ring of bucket indices, oldest at next
+    private int next;
+    private int size;
+
+    /**
+     * Creates a histogram over the last {@link #DEFAULT_WINDOW} samples.
+     */
+    public LatencyHistogram() {
+        this(DEFAULT_WINDOW);
+    }
+
+    /**
+     * Creates a histogram over the given number of recent samples.
+     *
+     * @param window the number of samples kept
+     * @throws IllegalArgumentException if the window is not positive
+     */
+    public LatencyHistogram(int window) {
+        if (window <= 0) {
+            throw new IllegalArgumentException("Window must be positive: " + window);
+        }
+        this.window = new int[window];
+    }
+
+    /**
+     * Records a duration, dropping the oldest sample once the window is full.
+     *
+     * @param nanos the duration in nanoseconds (negative values count as 0)
+     */
+    public void record(long nanos) {
+        int bucket = bucketOf(Math.max(0, nanos) / NANOS_PER_MICRO);
+        if (size == window.length) {
+            counts[window[next]]--;
+        } else {
+            size++;
+        }
+        window[next] = bucket;
+        counts[bucket]++;
+        next = next + 1 == window.length ? 0 : next + 1;
+    }
+
+    /**
+     * Returns a percentile of the samples in the window.
+     *
+     * @param percentile the percentile, from 0 to 100
+     * @return the upper bound of the bucket holding that percentile, in
+     *         nanoseconds, or 0 when there are no samples
+     */
+    public long percentile(double percentile) {
+        if (size == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * size));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return upperMicros(bucket) * NANOS_PER_MICRO;
+            }
+        }
+        return upperMicros(BUCKET_COUNT - 1) * NANOS_PER_MICRO;
+    }
+
+    /**
+     * Returns how many samples in the window are at most the given duration,
+     * to bucket precision.
+     *
+     * @param nanos the duration in nanoseconds
+     * @return the number of samples in buckets up to the one holding nanos
+     */
+    public int countAtMost(long nanos) {
+        int last = bucketOf(Math.max(0, nanos) / NANOS_PER_MICRO);
+        int count = 0;
+        for (int bucket = 0; bucket <= last; bucket++) {
+            count += counts[bucket];
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of samples in the window.
+     *
+     * @return the sample count, at most the window size
+     */
+    public int getCount() {
+        return size;
+    }
+
+    /**
+     * Removes all samples.
+     */
+    public void clear() {
+        Arrays.fill(counts, 0);
+        next = 0;
+        size = 0;
+    }
+
+    private static int bucketOf(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros) - SUB_BITS;
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        return (exponent + 1) * SUB_BUCKETS + (int) (micros >>> exponent) - SUB_BUCKETS;
+    }
+
+    private static long upperMicros(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS - 1;
+        long sub = bucket % SUB_BUCKETS + SUB_BUCKETS;
+        return ((sub + 1) << exponent) - 1;
+    }
+}
@@ -0,0 +1,108 @@
+package com.comp2042.metrics;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Append-only text log for performance figures, written off the calling
+ * thread.
+ * <p>
+ * {@link #append(String)} hands the line to a single daemon thread and
+ * returns at once, so the JavaFX Application Thread never waits for the
+ * disk. Lines are written in order, each prefixed with the wall-clock time
+ * it was appended. If the file cannot be written the line is reported on
+ * stderr and dropped.
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+public class MetricsLog {
+
+    private final Path file;
+    private final ExecutorService executor;
+
+    /**
+     * Creates a log appending to the given file. The file and its directory
+     * are created on the first write.
+     *
+     * @param file the log file
+     */
+    public MetricsLog(Path file) {
+        this.file = file.toAbsolutePath();
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-log");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues a line for appending. Does not block.
+     *
+     * @param line the text to append (may span several lines)
+     */
+    public void append(String line) {
+        long timestamp = System.currentTimeMillis();
+        executor.execute(() -> write(timestamp, line));
+    }
+
+    /**
+     * Waits until every line appended so far has been written.
+     *
+     * @param timeoutMillis the longest time to wait
+     * @return true if the queue drained in time
+     */
+    public boolean flush(long timeoutMillis) {
+        try {
+            executor.submit(() -> { }).get(timeoutMillis, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException | TimeoutException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Flushes queued lines and stops the writer thread.
+     *
+     * @param timeoutMillis the longest time to wait for queued lines
+     */
+    public void close(long timeoutMillis) {
+        flush(timeoutMillis);
+        executor.shutdown();
+    }
+
+    /**
+     * Appends one entry. Runs on the writer thread.
+     */
+    private void write(long timestamp, String line) {
+        try {
+            Path directory = file.getParent();
+            if (directory != null) {
+                Files.createDirectories(directory);
+            }
+            try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                out.write(Instant.ofEpochMilli(timestamp).toString());
+                out.write(' ');
+                out.write(line);
+                out.newLine();
+            }
+        } catch (IOException e) {
+            System.err.println("Error writing " + file.getFileName() + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.comp2042.metrics;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Frame, tick, allocation and GC figures for the in-game performance HUD.
+ * <p>
+ * The view reports every frame ({@link #frame(long)}) and the time the game
+ * loop spent per tick ({@link #tickTime(long)}); frame intervals and tick
+ * times go into rolling {@link LatencyHistogram}s covering about the last
+ * four seconds. A few times a second {@link #refresh(long, int)} turns the
+ * figures into the HUD text:
+ * <ul>
+ *   <li>frames per second since the previous refresh</li>
+ *   <li>frame time percentiles and a bar histogram in bands of 8, 17, 33
+ *       and 50 ms (one, two and three 60 Hz frames)</li>
+ *   <li>game loop time per tick</li>
+ *   <li>allocation rate of the calling thread (the JavaFX Application
+ *       Thread), where the JVM supports per-thread allocation counters</li>
+ *   <li>GC pauses from a {@link GcPauseMonitor}</li>
+ *   <li>the scene's node count, supplied by the view</li>
+ * </ul>
+ * </p>
+ * <p>
+ * The monitor is meant to watch for stutter without causing it: recording
+ * allocates nothing, and a refresh reuses one builder, so the only garbage
+ * per refresh is the resulting String. Not thread-safe; use it from the
+ * JavaFX Application Thread.
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+public final class PerfMonitor {
+
+    /** Default time between HUD refreshes (four per second). */
+    public static final long DEFAULT_REFRESH_NANOS = 250_000_000L;
+
+    private static final int WINDOW = 240;  // about four seconds of 60 Hz frames
+    private static final long[] FRAME_BANDS_MILLIS = {8, 17, 33, 50};
+    private static final int BAR_WIDTH = 20;
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private final LatencyHistogram frameTimes = new LatencyHistogram(WINDOW);
+    private final LatencyHistogram tickTimes = new LatencyHistogram(WINDOW);
+    private final GcPauseMonitor gc = new GcPauseMonitor();
+    private final com.sun.management.ThreadMXBean threads;
+    private final StringBuilder text = new StringBuilder(512);
+    private final long refreshNanos;
+
+    private long lastFrameNanos;
+    private boolean hasLastFrame;
+    private int framesSinceRefresh;
+    private long lastRefreshNanos;
+    private long lastAllocatedBytes;
+
+    /**
+     * Creates a monitor refreshing at the default rate.
+     */
+    public PerfMonitor() {
+        this(DEFAULT_REFRESH_NANOS);
+    }
+
+    /**
+     * Creates a monitor with the given refresh interval.
+     *
+     * @param refreshNanos the time between HUD refreshes in nanoseconds
+     */
+    public PerfMonitor(long refreshNanos) {
+        this.refreshNanos = refreshNanos;
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        com.sun.management.ThreadMXBean allocationBean = null;
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            allocationBean = (com.sun.management.ThreadMXBean) bean;
+            if (!allocationBean.isThreadAllocatedMemorySupported()) {
+                allocationBean = null;
+            } else if (!allocationBean.isThreadAllocatedMemoryEnabled()) {
+                allocationBean.setThreadAllocatedMemoryEnabled(true);
+            }
+        }
+        this.threads = allocationBean;
+    }
+
+    /**
+     * Clears the figures and starts listening for GC pauses. Call from the
+     * thread whose allocation rate should be shown.
+     *
+     * @param now the current time in nanoseconds
+     */
+    public void start(long now) {
+        frameTimes.clear();
+        tickTimes.clear();
+        hasLastFrame = false;
+        framesSinceRefresh = 0;
+        lastRefreshNanos = now;
+        lastAllocatedBytes = allocatedBytes();
+        gc.takeMaxPauseMillis();
+        gc.start();
+    }
+
+    /**
+     * Stops listening for GC pauses.
+     */
+    public void stop() {
+        gc.stop();
+    }
+
+    /**
+     * Records a frame.
+     *
+     * @param now the frame time in nanoseconds
+     */
+    public void frame(long now) {
+        if (hasLastFrame) {
+            frameTimes.record(now - lastFrameNanos);
+        }
+        lastFrameNanos = now;
+        hasLastFrame = true;
+        framesSinceRefresh++;
+    }
+
+    /**
+     * Records the time the game loop spent on one tick.
+     *
+     * @param nanos the tick time in nanoseconds
+     */
+    public void tickTime(long nanos) {
+        tickTimes.record(nanos);
+    }
+
+    /**
+     * Returns whether the HUD text is due for a refresh.
+     *
+     * @param now the current time in nanoseconds
+     * @return true once the refresh interval has passed since the last one
+     */
+    public boolean isRefreshDue(long now) {
+        return now - lastRefreshNanos >= refreshNanos;
+    }
+
+    /**
+     * Builds the HUD text and starts a new refresh period.
+     *
+     * @param now       the current time in nanoseconds
+     * @param nodeCount the number of nodes in the scene
+     * @return the HUD text, one figure per line
+     */
+    public String refresh(long now, int nodeCount) {
+        long elapsed = Math.max(1, now - lastRefreshNanos);
+        double fps = framesSinceRefresh * 1e9 / elapsed;
+        long allocated = allocatedBytes();
+        double allocMbPerSecond = (allocated - lastAllocatedBytes) * 1e9 / elapsed / (1024 * 1024);
+        framesSinceRefresh = 0;
+        lastRefreshNanos = now;
+        lastAllocatedBytes = allocated;
+
+        text.setLength(0);
+        text.append("FPS    ");
+        appendFixed(fps, 1);
+        text.append("\nFRAME  p50 ");
+        appendMillis(frameTimes.percentile(50));
+        text.append("  p95 ");
+        appendMillis(frameTimes.percentile(95));
+        text.append("  p99 ");
+        appendMillis(frameTimes.percentile(99));
+        text.append(" ms");
+        appendFrameBands();
+        text.append("\nTICK   p50 ");
+        appendMillis(tickTimes.percentile(50));
+        text.append("  p99 ");
+        appendMillis(tickTimes.percentile(99));
+        text.append(" ms\nALLOC  ");
+        if (threads != null) {
+            appendFixed(allocMbPerSecond, 1);
+            text.append(" MB/s");
+        } else {
+            text.append("n/a");
+        }
+        text.append("\nGC     ").append(gc.getPauses()).append(" pauses, last ")
+                .append(gc.getLastPauseMillis()).append(" ms, max ")
+                .append(gc.takeMaxPauseMillis()).append(" ms, total ")
+                .append(gc.getTotalPauseMillis()).append(" ms");
+        text.append("\nNODES  ").append(nodeCount);
+        return text.toString();
+    }
+
+    /**
+     * Returns the GC pause figures.
+     *
+     * @return the GC monitor
+     */
+    public GcPauseMonitor getGcPauses() {
+        return gc;
+    }
+
+    /**
+     * Appends one bar per frame time band, scaled to the frames in the
+     * window.
+     */
+    private void appendFrameBands() {
+        int total = frameTimes.getCount();
+        int below = 0;
+        for (int band = 0; band <= FRAME_BANDS_MILLIS.length; band++) {
+            int upTo = band < FRAME_BANDS_MILLIS.length
+                    ? frameTimes.countAtMost(FRAME_BANDS_MILLIS[band] * NANOS_PER_MILLI)
+                    : total;
+            int count = upTo - below;
+            below = upTo;
+
+            text.append(band < FRAME_BANDS_MILLIS.length ? "\n  <=" : "\n   >");
+            long label = FRAME_BANDS_MILLIS[Math.min(band, FRAME_BANDS_MILLIS.length - 1)];
+            if (label < 10) {
+                text.append(' ');
+            }
+            text.append(label).append("ms ");
+            int bar = total == 0 ? 0 : (count * BAR_WIDTH + total - 1) / total;
+            for (int i = 0; i < BAR_WIDTH; i++) {
+                text.append(i < bar ? '#' : '.');
+            }
+            text.append(' ').append(count);
+        }
+    }
+
+    private void appendMillis(long nanos) {
+        appendFixed(nanos / (double) NANOS_PER_MILLI, 2);
+    }
+
+    /**
+     * Appends a non-negative number with one or two decimals, without going
+     * through a Formatter.
+     */
+    private void appendFixed(double value, int decimals) {
+        long scale = decimals == 1 ? 10 : 100;
+        long scaled = Math.round(Math.max(0, value) * scale);
+        text.append(scaled / scale).append('.');
+        long fraction = scaled % scale;
+        if (decimals == 2 && fraction < 10) {
+            text.append('0');
+        }
+        text.append(fraction);
+    }
+
+    private long allocatedBytes() {
+        return threads == null ? 0 : threads.getCurrentThreadAllocatedBytes();
+    }
+}
@@ -37,4 +37,19 @@ public interface Brick {
      *         of the brick (shape[row][col])
      */
     List<int[][]> getShapeMatrix();
+
+    /**
+     * Returns the precomputed rotation table for this brick.
+     * <p>
+     * The built-in bricks return a table shared by all instances, built once
+     * at class load, so callers can read rotation shapes, row masks, bounding
+     * boxes and cell offsets without copying. The default implementation
+     * builds a new table from {@link #getShapeMatrix()}.
+     * </p>
+     *
+     * @return the PieceTable describing every rotation state of this brick
+     */
+    default PieceTable getPieceTable() {
+        return PieceTable.of(getShapeMatrix());
+    }
 }
@@ -1,9 +1,24 @@
 package com.comp2042.model;
 
+import java.util.List;
+
 public interface BrickGenerator {
 
     Brick getBrick();
 
     Brick getNextBrick();
-}
 
+    /**
+     * Returns the next bricks without consuming them, in the order they will
+     * be returned by {@link #getBrick()}.
+     * <p>
+     * Generators that only know their next brick return at most one.
+     * </p>
+     *
+     * @param count the number of bricks to look ahead
+     * @return up to {@code count} upcoming bricks
+     */
+    default List<Brick> getNextBricks(int count) {
+        return count <= 0 ? List.of() : List.of(getNextBrick());
+    }
+}
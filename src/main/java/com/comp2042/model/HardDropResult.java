@@ -1,18 +1,18 @@
 package com.comp2042.model;
 
-import com.comp2042.view.ViewData;
 
 /**
  * Immutable data container representing the result of a hard drop operation.
  * <p>
  * This class is part of the Model layer in the MVC architecture. It stores
- * information about a hard drop operation, including the final view data
+ * information about a hard drop operation, including the view snapshot
  * after the brick is locked, the row clearing result (if any), and the
  * number of rows the brick dropped.
  * </p>
  * <p>
- * All data returned by getter methods are defensive copies to maintain
- * immutability where applicable.
+ * The view snapshot is the board's reusable {@link ViewSnapshot}, valid until
+ * the board is next asked for it; take {@link ViewSnapshot#toViewData()} to
+ * keep it longer.
  * </p>
  *
  * @author TetrisJFX Team
@@ -20,7 +20,7 @@ import com.comp2042.view.ViewData;
  */
 public final class HardDropResult {
 
-    private final ViewData viewData;
+    private final ViewSnapshot viewSnapshot;
     private final ClearRow clearRow;
     private final int rowsDropped;
     private final boolean gameOver;
@@ -28,29 +28,29 @@ public final class HardDropResult {
     /**
      * Constructs a new HardDropResult object with the specified drop results.
      *
-     * @param viewData    the ViewData after the brick is locked and new brick spawned
-     * @param clearRow    the ClearRow result from row clearing (can be null if no rows cleared)
-     * @param rowsDropped the number of rows the brick dropped during the hard drop
-     * @param gameOver    true if the game is over after hard drop (new brick collides at spawn)
+     * @param viewSnapshot the view snapshot after the brick is locked and new brick spawned
+     * @param clearRow     the ClearRow result from row clearing (can be null if no rows cleared)
+     * @param rowsDropped  the number of rows the brick dropped during the hard drop
+     * @param gameOver     true if the game is over after hard drop (new brick collides at spawn)
      */
-    public HardDropResult(ViewData viewData, ClearRow clearRow, int rowsDropped, boolean gameOver) {
-        this.viewData = viewData;
+    public HardDropResult(ViewSnapshot viewSnapshot, ClearRow clearRow, int rowsDropped, boolean gameOver) {
+        this.viewSnapshot = viewSnapshot;
         this.clearRow = clearRow;
         this.rowsDropped = rowsDropped;
         this.gameOver = gameOver;
     }
 
     /**
-     * Returns the ViewData after the hard drop is complete.
+     * Returns the view snapshot after the hard drop is complete.
      * <p>
      * This contains the state of the new brick that was spawned after the
      * hard drop, along with updated score information.
      * </p>
      *
-     * @return the ViewData after hard drop completion
+     * @return the view snapshot after hard drop completion
      */
-    public ViewData getViewData() {
-        return viewData;
+    public ViewSnapshot getViewSnapshot() {
+        return viewSnapshot;
     }
 
     /**
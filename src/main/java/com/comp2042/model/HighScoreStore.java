@@ -0,0 +1,38 @@
+package com.comp2042.model;
+
+/**
+ * Persistence contract for the high score used by {@link Score}.
+ * <p>
+ * This interface is part of the Model layer in the MVC architecture. It keeps
+ * Score independent of how (or whether) the high score is stored: headless
+ * simulations use {@link InMemoryHighScoreStore}, while the GUI plugs in a
+ * settings-backed store.
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+public interface HighScoreStore {
+
+    /**
+     * Loads the stored high score.
+     *
+     * @return the high score (0 if none has been stored)
+     */
+    int loadHighScore();
+
+    /**
+     * Stores a new high score.
+     *
+     * @param highScore the new high score (non-negative)
+     */
+    void saveHighScore(int highScore);
+
+    /**
+     * Makes sure saved high scores are written out soon, e.g. at game over.
+     * Stores that persist synchronously (or not at all) need not override
+     * this.
+     */
+    default void flush() {
+    }
+}
@@ -1,8 +1,5 @@
 package com.comp2042.model;
 
-import com.comp2042.logic.MatrixOperations;
-
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -21,28 +18,23 @@ import java.util.List;
  */
 final class IBrick implements Brick {
 
-    private final List<int[][]> brickMatrix = new ArrayList<>();
-
     /**
-     * Constructs a new I-shaped brick with all rotation variants.
-     * <p>
-     * Initializes the brick with 2 rotation states: horizontal and vertical.
-     * </p>
+     * Shared rotation table for all I-bricks, built once at class load.
      */
-    public IBrick() {
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {1, 1, 1, 1},
-                {0, 0, 0, 0},
-                {0, 0, 0, 0}
-        });
-        brickMatrix.add(new int[][]{
-                {0, 1, 0, 0},
-                {0, 1, 0, 0},
-                {0, 1, 0, 0},
-                {0, 1, 0, 0}
-        });
-    }
+    private static final PieceTable PIECE_TABLE = new PieceTable(
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {1, 1, 1, 1},
+                    {0, 0, 0, 0},
+                    {0, 0, 0, 0}
+            },
+            new int[][]{
+                    {0, 1, 0, 0},
+                    {0, 1, 0, 0},
+                    {0, 1, 0, 0},
+                    {0, 1, 0, 0}
+            }
+    );
 
     /**
      * Returns a deep copy of all rotation variants for this brick.
@@ -51,6 +43,16 @@ final class IBrick implements Brick {
      */
     @Override
     public List<int[][]> getShapeMatrix() {
-        return MatrixOperations.deepCopyList(brickMatrix);
+        return PIECE_TABLE.copyShapes();
+    }
+
+    /**
+     * Returns the shared, precomputed rotation table for this brick.
+     *
+     * @return the immutable PieceTable for this brick type
+     */
+    @Override
+    public PieceTable getPieceTable() {
+        return PIECE_TABLE;
     }
 }
@@ -0,0 +1,26 @@
+package com.comp2042.model;
+
+/**
+ * High score store that keeps the value in memory only.
+ * <p>
+ * Used by headless games and simulations, where nothing should be written to
+ * disk. Each instance holds its own value.
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+public final class InMemoryHighScoreStore implements HighScoreStore {
+
+    private int highScore;
+
+    @Override
+    public int loadHighScore() {
+        return highScore;
+    }
+
+    @Override
+    public void saveHighScore(int highScore) {
+        this.highScore = Math.max(0, highScore);
+    }
+}
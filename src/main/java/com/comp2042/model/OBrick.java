@@ -1,8 +1,5 @@
 package com.comp2042.model;
 
-import com.comp2042.logic.MatrixOperations;
-
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -25,22 +22,17 @@ import java.util.List;
  */
 final class OBrick implements Brick {
 
-    private final List<int[][]> brickMatrix = new ArrayList<>();
-
     /**
-     * Constructs a new O-shaped brick.
-     * <p>
-     * Initializes the brick with 1 rotation state (square shape).
-     * </p>
+     * Shared rotation table for all O-bricks, built once at class load.
      */
-    public OBrick() {
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {0, 4, 4, 0},
-                {0, 4, 4, 0},
-                {0, 0, 0, 0}
-        });
-    }
+    private static final PieceTable PIECE_TABLE = new PieceTable(
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {0, 4, 4, 0},
+                    {0, 4, 4, 0},
+                    {0, 0, 0, 0}
+            }
+    );
 
     /**
      * Returns a deep copy of all rotation variants for this brick.
@@ -53,6 +45,16 @@ final class OBrick implements Brick {
      */
     @Override
     public List<int[][]> getShapeMatrix() {
-        return MatrixOperations.deepCopyList(brickMatrix);
+        return PIECE_TABLE.copyShapes();
+    }
+
+    /**
+     * Returns the shared, precomputed rotation table for this brick.
+     *
+     * @return the immutable PieceTable for this brick type
+     */
+    @Override
+    public PieceTable getPieceTable() {
+        return PIECE_TABLE;
     }
 }
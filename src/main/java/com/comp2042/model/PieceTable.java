@@ -0,0 +1,241 @@
+package com.comp2042.model;
+
+import com.comp2042.logic.MatrixOperations;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Precomputed, immutable rotation table for a single brick type.
+ * <p>
+ * This class is part of the Model layer in the MVC architecture. Each brick
+ * type builds one PieceTable when its class is loaded; boards and collision
+ * code then read rotation data from it without copying. For every rotation
+ * state the table holds:
+ * <ul>
+ *   <li>the shape matrix, indexed as shape[row][col]</li>
+ *   <li>one occupancy bitmask per shape row (bit col set when the cell is filled)</li>
+ *   <li>the bounding box of the filled cells (min/max row and column)</li>
+ *   <li>the filled cells as packed (col, row) offset pairs</li>
+ *   <li>the bottom profile: the lowest filled row of each shape column</li>
+ * </ul>
+ * </p>
+ * <p>
+ * Arrays returned by the accessors are shared between all users of the table
+ * and must be treated as read-only. Use {@link #copyShapes()} when a
+ * modifiable copy is needed.
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+public final class PieceTable {
+
+    private final int[][][] shapes;       // [rotation][row][col]
+    private final long[][] rowMasks;      // [rotation][row]
+    private final int[][] cellOffsets;    // [rotation][col0, row0, col1, row1, ...]
+    private final int[][] bottomProfile;  // [rotation][col], -1 for an empty column
+    private final int[] minRow;
+    private final int[] maxRow;
+    private final int[] minCol;
+    private final int[] maxCol;
+    private final int color;
+
+    /**
+     * Builds a table from the given rotation states.
+     * <p>
+     * The matrices are copied, so later changes to the arguments do not
+     * affect the table.
+     * </p>
+     *
+     * @param rotations the shape matrices of each rotation state, in
+     *                  rotation order (shape[row][col])
+     * @throws IllegalArgumentException if no rotation is given
+     */
+    public PieceTable(int[][]... rotations) {
+        if (rotations.length == 0) {
+            throw new IllegalArgumentException("A piece needs at least one rotation state");
+        }
+        int count = rotations.length;
+        shapes = new int[count][][];
+        rowMasks = new long[count][];
+        cellOffsets = new int[count][];
+        bottomProfile = new int[count][];
+        minRow = new int[count];
+        maxRow = new int[count];
+        minCol = new int[count];
+        maxCol = new int[count];
+        int pieceColor = 0;
+
+        for (int r = 0; r < count; r++) {
+            int[][] shape = MatrixOperations.copy(rotations[r]);
+            shapes[r] = shape;
+            rowMasks[r] = new long[shape.length];
+            minRow[r] = Integer.MAX_VALUE;
+            minCol[r] = Integer.MAX_VALUE;
+            maxRow[r] = -1;
+            maxCol[r] = -1;
+
+            int cells = 0;
+            for (int[] shapeRow : shape) {
+                for (int cell : shapeRow) {
+                    if (cell != 0) {
+                        cells++;
+                    }
+                }
+            }
+            int[] offsets = new int[cells * 2];
+            int next = 0;
+            for (int row = 0; row < shape.length; row++) {
+                for (int col = 0; col < shape[row].length; col++) {
+                    if (shape[row][col] != 0) {
+                        rowMasks[r][row] |= 1L << col;
+                        offsets[next++] = col;
+                        offsets[next++] = row;
+                        minRow[r] = Math.min(minRow[r], row);
+                        maxRow[r] = Math.max(maxRow[r], row);
+                        minCol[r] = Math.min(minCol[r], col);
+                        maxCol[r] = Math.max(maxCol[r], col);
+                        pieceColor = shape[row][col];
+                    }
+                }
+            }
+            cellOffsets[r] = offsets;
+
+            int[] bottom = new int[maxCol[r] + 1];
+            Arrays.fill(bottom, -1);
+            for (int i = 0; i < offsets.length; i += 2) {
+                bottom[offsets[i]] = Math.max(bottom[offsets[i]], offsets[i + 1]);
+            }
+            bottomProfile[r] = bottom;
+        }
+        color = pieceColor;
+    }
+
+    /**
+     * Builds a table from a list of rotation states.
+     *
+     * @param rotations the shape matrices of each rotation state
+     * @return a new PieceTable for the given rotations
+     */
+    public static PieceTable of(List<int[][]> rotations) {
+        return new PieceTable(rotations.toArray(new int[0][][]));
+    }
+
+    /**
+     * Returns the number of rotation states.
+     *
+     * @return the rotation count (1 for bricks that do not rotate)
+     */
+    public int getRotationCount() {
+        return shapes.length;
+    }
+
+    /**
+     * Returns the shared shape matrix of a rotation state.
+     *
+     * @param rotation the rotation state index
+     * @return the shape matrix (shape[row][col]); must not be modified
+     */
+    public int[][] getShape(int rotation) {
+        return shapes[rotation];
+    }
+
+    /**
+     * Returns the shared per-row occupancy masks of a rotation state.
+     *
+     * @param rotation the rotation state index
+     * @return one mask per shape row, bit col set when shape[row][col] is
+     *         filled; must not be modified
+     */
+    public long[] getRowMasks(int rotation) {
+        return rowMasks[rotation];
+    }
+
+    /**
+     * Returns the shared filled-cell offsets of a rotation state.
+     * <p>
+     * Offsets are packed as (col, row) pairs relative to the shape origin:
+     * {@code [col0, row0, col1, row1, ...]}.
+     * </p>
+     *
+     * @param rotation the rotation state index
+     * @return the packed cell offsets; must not be modified
+     */
+    public int[] getCellOffsets(int rotation) {
+        return cellOffsets[rotation];
+    }
+
+    /**
+     * Returns the shared bottom profile of a rotation state.
+     * <p>
+     * Entry {@code col} is the lowest filled shape row in shape column
+     * {@code col}, or -1 when that column is empty. The array covers
+     * columns 0 to {@link #getMaxCol(int)}.
+     * </p>
+     *
+     * @param rotation the rotation state index
+     * @return the bottom profile; must not be modified
+     */
+    public int[] getBottomProfile(int rotation) {
+        return bottomProfile[rotation];
+    }
+
+    /**
+     * Returns the topmost shape row containing a filled cell.
+     *
+     * @param rotation the rotation state index
+     * @return the minimum filled row
+     */
+    public int getMinRow(int rotation) {
+        return minRow[rotation];
+    }
+
+    /**
+     * Returns the bottommost shape row containing a filled cell.
+     *
+     * @param rotation the rotation state index
+     * @return the maximum filled row
+     */
+    public int getMaxRow(int rotation) {
+        return maxRow[rotation];
+    }
+
+    /**
+     * Returns the leftmost shape column containing a filled cell.
+     *
+     * @param rotation the rotation state index
+     * @return the minimum filled column
+     */
+    public int getMinCol(int rotation) {
+        return minCol[rotation];
+    }
+
+    /**
+     * Returns the rightmost shape column containing a filled cell.
+     *
+     * @param rotation the rotation state index
+     * @return the maximum filled column
+     */
+    public int getMaxCol(int rotation) {
+        return maxCol[rotation];
+    }
+
+    /**
+     * Returns the color value used by the filled cells of this piece.
+     *
+     * @return the color value (non-zero), or 0 if the piece has no cells
+     */
+    public int getColor() {
+        return color;
+    }
+
+    /**
+     * Returns a deep copy of all rotation states.
+     *
+     * @return a new list containing copies of every shape matrix
+     */
+    public List<int[][]> copyShapes() {
+        return MatrixOperations.deepCopyList(List.of(shapes));
+    }
+}
@@ -4,7 +4,9 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
+import java.util.SplittableRandom;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 public class RandomBrickGenerator implements BrickGenerator {
 
@@ -12,7 +14,24 @@ public class RandomBrickGenerator implements BrickGenerator {
 
     private final Deque<Brick> nextBricks = new ArrayDeque<>();
 
+    // Seeded source for reproducible sequences; null means ThreadLocalRandom
+    private RandomGenerator random;
+
     public RandomBrickGenerator() {
+        this((RandomGenerator) null);
+    }
+
+    /**
+     * Creates a generator whose piece sequence is fully determined by the seed.
+     *
+     * @param seed the seed of the piece sequence
+     */
+    public RandomBrickGenerator(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    private RandomBrickGenerator(RandomGenerator random) {
+        this.random = random;
         brickList = new ArrayList<>();
         brickList.add(new IBrick());
         brickList.add(new JBrick());
@@ -21,20 +40,41 @@ public class RandomBrickGenerator implements BrickGenerator {
         brickList.add(new SBrick());
         brickList.add(new TBrick());
         brickList.add(new ZBrick());
-        nextBricks.add(brickList.get(ThreadLocalRandom.current().nextInt(brickList.size())));
-        nextBricks.add(brickList.get(ThreadLocalRandom.current().nextInt(brickList.size())));
+        nextBricks.add(randomBrick());
+        nextBricks.add(randomBrick());
+    }
+
+    /**
+     * Restarts the piece sequence from a seed, discarding the queued preview.
+     * <p>
+     * Afterwards the generator produces exactly the same bricks as a new
+     * {@code RandomBrickGenerator(seed)}.
+     * </p>
+     *
+     * @param seed the seed of the piece sequence
+     */
+    public void reseed(long seed) {
+        random = new SplittableRandom(seed);
+        nextBricks.clear();
+        nextBricks.add(randomBrick());
+        nextBricks.add(randomBrick());
+    }
+
+    private Brick randomBrick() {
+        RandomGenerator source = random != null ? random : ThreadLocalRandom.current();
+        return brickList.get(source.nextInt(brickList.size()));
     }
 
     @Override
     public Brick getBrick() {
         // Ensure we always have at least 2 pieces in the queue
         while (nextBricks.size() < 2) {
-            nextBricks.add(brickList.get(ThreadLocalRandom.current().nextInt(brickList.size())));
+            nextBricks.add(randomBrick());
         }
         Brick brick = nextBricks.poll();
         // After polling, ensure we still have at least 2 pieces
         while (nextBricks.size() < 2) {
-            nextBricks.add(brickList.get(ThreadLocalRandom.current().nextInt(brickList.size())));
+            nextBricks.add(randomBrick());
         }
         return brick;
     }
@@ -51,11 +91,12 @@ public class RandomBrickGenerator implements BrickGenerator {
      * @param count the number of next bricks to retrieve
      * @return a list of the next N bricks (may be smaller if queue is smaller)
      */
+    @Override
     public List<Brick> getNextBricks(int count) {
         List<Brick> result = new ArrayList<>();
         // Ensure we have enough bricks in the queue
         while (nextBricks.size() < count) {
-            nextBricks.add(brickList.get(ThreadLocalRandom.current().nextInt(brickList.size())));
+            nextBricks.add(randomBrick());
         }
         
         // Peek at the bricks without removing them
@@ -1,8 +1,5 @@
 package com.comp2042.model;
 
-import com.comp2042.logic.MatrixOperations;
-
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -20,28 +17,23 @@ import java.util.List;
  */
 final class SBrick implements Brick {
 
-    private final List<int[][]> brickMatrix = new ArrayList<>();
-
     /**
-     * Constructs a new S-shaped brick with all rotation variants.
-     * <p>
-     * Initializes the brick with 2 rotation states.
-     * </p>
+     * Shared rotation table for all S-bricks, built once at class load.
      */
-    public SBrick() {
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {0, 5, 5, 0},
-                {5, 5, 0, 0},
-                {0, 0, 0, 0}
-        });
-        brickMatrix.add(new int[][]{
-                {5, 0, 0, 0},
-                {5, 5, 0, 0},
-                {0, 5, 0, 0},
-                {0, 0, 0, 0}
-        });
-    }
+    private static final PieceTable PIECE_TABLE = new PieceTable(
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {0, 5, 5, 0},
+                    {5, 5, 0, 0},
+                    {0, 0, 0, 0}
+            },
+            new int[][]{
+                    {5, 0, 0, 0},
+                    {5, 5, 0, 0},
+                    {0, 5, 0, 0},
+                    {0, 0, 0, 0}
+            }
+    );
 
     /**
      * Returns a deep copy of all rotation variants for this brick.
@@ -50,6 +42,16 @@ final class SBrick implements Brick {
      */
     @Override
     public List<int[][]> getShapeMatrix() {
-        return MatrixOperations.deepCopyList(brickMatrix);
+        return PIECE_TABLE.copyShapes();
+    }
+
+    /**
+     * Returns the shared, precomputed rotation table for this brick.
+     *
+     * @return the immutable PieceTable for this brick type
+     */
+    @Override
+    public PieceTable getPieceTable() {
+        return PIECE_TABLE;
     }
 }
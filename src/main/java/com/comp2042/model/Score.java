@@ -1,21 +1,19 @@
 package com.comp2042.model;
 
-import com.comp2042.view.GlobalSettings;
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.SimpleIntegerProperty;
-
 /**
- * Manages the game score, lines cleared, high score, and level progression using
- * JavaFX properties for reactive UI binding.
+ * Manages the game score, lines cleared, high score, and level progression.
  * <p>
  * This class is part of the Model layer in the MVC architecture. It maintains
- * the current game score, total lines cleared, high score, and current level.
- * It provides JavaFX IntegerProperties that can be bound to UI components for
- * automatic score display updates.
+ * the current game score, total lines cleared, high score, and current level
+ * as plain integers, so it can be used by the headless engine on any thread
+ * without a JavaFX toolkit or disk access. High score persistence goes
+ * through a {@link HighScoreStore}; the default store is in-memory.
  * </p>
  * <p>
- * The score properties are observable, allowing the View layer to automatically
- * update when the score changes. The high score is automatically updated when
+ * Score has no JavaFX dependency. For reactive UI binding the View layer
+ * registers a {@link ScoreListener} (see
+ * {@code com.comp2042.view.ScoreProperties}), which is told about every
+ * change. The high score is automatically updated when
  * the current score exceeds it. Level is calculated based on lines cleared:
  * level = 1 + (totalLinesCleared / 10), starting at level 1.
  * </p>
@@ -31,77 +29,65 @@ import javafx.beans.property.SimpleIntegerProperty;
  */
 public final class Score {
 
-    private final IntegerProperty currentScore = new SimpleIntegerProperty(0);
-    private final IntegerProperty totalLines = new SimpleIntegerProperty(0);
-    private final IntegerProperty highScore;
-    private final IntegerProperty currentLevel = new SimpleIntegerProperty(1);
+    private int currentScore = 0;
+    private int totalLines = 0;
+    private int highScore;
+    private int currentLevel = 1;
     
     // Tracking fields (optional, for debugging/statistics)
     private int softDropPoints = 0;
     private int hardDropPoints = 0;
     
-    // GlobalSettings reference for persistence
-    private final GlobalSettings globalSettings;
+    // High score persistence (in-memory unless a store is supplied)
+    private final HighScoreStore highScoreStore;
+
+    // Notified of every change; null when nothing listens
+    private ScoreListener listener;
 
     /** Number of lines required per level increase. */
     private static final int LINES_PER_LEVEL = 10;
     
     /**
-     * Constructs a new Score object with high score loaded from GlobalSettings.
+     * Constructs a new Score object with an in-memory high score.
      * <p>
-     * The high score is persisted across game sessions and will be restored
-     * from the settings file when a new Score is created.
+     * Nothing is persisted; this is the configuration used by headless
+     * simulations.
      * </p>
      */
     public Score() {
-        this.globalSettings = GlobalSettings.getInstance();
-        // Load persisted high score from GlobalSettings
-        int persistedHighScore = globalSettings.getHighScore();
-        this.highScore = new SimpleIntegerProperty(persistedHighScore);
+        this(new InMemoryHighScoreStore());
     }
 
     /**
-     * Returns the current score property for JavaFX binding.
+     * Constructs a new Score object with high score loaded from the given store.
      * <p>
-     * This property can be bound to UI components to automatically update
-     * the score display when the score changes.
+     * The high score is persisted across game sessions through the store and
+     * will be restored from it when a new Score is created.
      * </p>
      *
-     * @return the IntegerProperty representing the current score
+     * @param highScoreStore the store used to load and save the high score
      */
-    public IntegerProperty scoreProperty() {
-        return currentScore;
+    public Score(HighScoreStore highScoreStore) {
+        this.highScoreStore = highScoreStore;
+        this.highScore = highScoreStore.loadHighScore();
     }
 
     /**
-     * Returns the total lines cleared property for JavaFX binding.
+     * Sets the listener told about every change to this score.
      *
-     * @return the IntegerProperty representing the total lines cleared
+     * @param listener the listener, or null for none
      */
-    public IntegerProperty totalLinesProperty() {
-        return totalLines;
+    public void setListener(ScoreListener listener) {
+        this.listener = listener;
     }
 
     /**
-     * Returns the high score property for JavaFX binding.
-     *
-     * @return the IntegerProperty representing the high score
-     */
-    public IntegerProperty highScoreProperty() {
-        return highScore;
-    }
-
-    /**
-     * Returns the current level property for JavaFX binding.
-     * <p>
-     * The level is automatically calculated based on total lines cleared.
-     * Level increases every 10 lines cleared (level = 1 + totalLines / 10).
-     * </p>
-     *
-     * @return the IntegerProperty representing the current level
+     * Tells the listener, if any, that the values changed.
      */
-    public IntegerProperty levelProperty() {
-        return currentLevel;
+    private void publish() {
+        if (listener != null) {
+            listener.onScoreChanged(this);
+        }
     }
 
     /**
@@ -110,7 +96,7 @@ public final class Score {
      * @return the current score
      */
     public int getCurrentScore() {
-        return currentScore.get();
+        return currentScore;
     }
 
     /**
@@ -119,7 +105,7 @@ public final class Score {
      * @return the total lines cleared
      */
     public int getTotalLines() {
-        return totalLines.get();
+        return totalLines;
     }
 
     /**
@@ -128,7 +114,7 @@ public final class Score {
      * @return the high score
      */
     public int getHighScore() {
-        return highScore.get();
+        return highScore;
     }
 
     /**
@@ -141,7 +127,7 @@ public final class Score {
      * @return the current level (starts at 1)
      */
     public int getCurrentLevel() {
-        return currentLevel.get();
+        return currentLevel;
     }
     
     /**
@@ -173,14 +159,22 @@ public final class Score {
      * @param points the value to add to the score (should be positive)
      */
     public void addScore(int points) {
-        currentScore.setValue(currentScore.getValue() + points);
+        currentScore += points;
         // Update high score if current score exceeds it
-        if (currentScore.get() > highScore.get()) {
-            int newHighScore = currentScore.get();
-            highScore.setValue(newHighScore);
-            // Persist high score to GlobalSettings
-            globalSettings.setHighScore(newHighScore);
+        if (currentScore > highScore) {
+            highScore = currentScore;
+            // Persist high score through the store
+            highScoreStore.saveHighScore(highScore);
         }
+        publish();
+    }
+
+    /**
+     * Asks the high score store to write out any pending high score now,
+     * e.g. when the game ends.
+     */
+    public void flushHighScore() {
+        highScoreStore.flush();
     }
 
     /**
@@ -238,44 +232,55 @@ public final class Score {
         
         // Get level BEFORE adding lines (level might increase after)
         // Score is based on the level at which lines were cleared
-        int level = currentLevel.get();
+        int level = currentLevel;
         
         // Add lines to total (this will update the level)
-        int oldLevel = currentLevel.get();
-        totalLines.setValue(totalLines.getValue() + linesCleared);
+        int oldLevel = currentLevel;
+        totalLines += linesCleared;
         // Update level: level = 1 + (totalLines / 10)
-        int newLevel = 1 + (totalLines.get() / LINES_PER_LEVEL);
-        currentLevel.setValue(newLevel);
+        int newLevel = 1 + (totalLines / LINES_PER_LEVEL);
+        currentLevel = newLevel;
         
         // Calculate score based on Tetris Guideline
-        int lineClearScore;
+        int lineClearScore = calculateLineClearScore(linesCleared, level);
+        
+        addScore(lineClearScore);
+        
+        // Level increased - this can be used by listeners to update game speed
+        if (newLevel > oldLevel) {
+            // Level up occurred - publish() in addScore() notified the listener
+        }
+    }
+    
+    /**
+     * Calculates the Tetris Guideline points awarded for a line clear.
+     * <p>
+     * Single: 100 × level, Double: 300 × level, Triple: 500 × level,
+     * Tetris (4 lines): 800 × level. More than 4 lines is scored as a Tetris.
+     * </p>
+     *
+     * @param linesCleared the number of lines cleared in a single lock
+     * @param level        the level at which the lines were cleared
+     * @return the points for the clear, or 0 if no lines were cleared
+     */
+    public static int calculateLineClearScore(int linesCleared, int level) {
         switch (linesCleared) {
+            case 0:
+                return 0;
             case 1:
-                lineClearScore = 100 * level; // Single: 100 × level
-                break;
+                return 100 * level; // Single: 100 × level
             case 2:
-                lineClearScore = 300 * level; // Double: 300 × level
-                break;
+                return 300 * level; // Double: 300 × level
             case 3:
-                lineClearScore = 500 * level; // Triple: 500 × level
-                break;
+                return 500 * level; // Triple: 500 × level
             case 4:
-                lineClearScore = 800 * level; // Tetris: 800 × level
-                break;
+                return 800 * level; // Tetris: 800 × level
             default:
                 // For more than 4 lines (shouldn't happen, but handle gracefully)
-                lineClearScore = 800 * level;
-                break;
-        }
-        
-        addScore(lineClearScore);
-        
-        // Level increased - this can be used by listeners to update game speed
-        if (newLevel > oldLevel) {
-            // Level up occurred - the property change will notify listeners
+                return 800 * level;
         }
     }
-    
+
     /**
      * Adds the specified number of lines to the total lines cleared (legacy method).
      * <p>
@@ -289,10 +294,10 @@ public final class Score {
     @Deprecated
     public void addLines(int n) {
         if (n > 0) {
-            totalLines.setValue(totalLines.getValue() + n);
+            totalLines += n;
             // Update level: level = 1 + (totalLines / 10)
-            int newLevel = 1 + (totalLines.get() / LINES_PER_LEVEL);
-            currentLevel.setValue(newLevel);
+            currentLevel = 1 + (totalLines / LINES_PER_LEVEL);
+            publish();
         }
     }
 
@@ -312,20 +317,20 @@ public final class Score {
      * Resets the current score, total lines, and level to initial values.
      * <p>
      * This method is called when starting a new game. The high score is
-     * preserved across games and loaded from GlobalSettings. Level resets to 1. 
+     * preserved across games and reloaded from the HighScoreStore. Level resets to 1. 
      * Tracking fields are also reset.
      * </p>
      */
     public void reset() {
-        currentScore.setValue(0);
-        totalLines.setValue(0);
-        currentLevel.setValue(1);
+        currentScore = 0;
+        totalLines = 0;
+        currentLevel = 1;
         softDropPoints = 0;
         hardDropPoints = 0;
         // High score is NOT reset - it persists across games
-        // Reload high score from GlobalSettings in case it was updated elsewhere
-        int persistedHighScore = globalSettings.getHighScore();
-        highScore.setValue(persistedHighScore);
+        // Reload high score from the store in case it was updated elsewhere
+        highScore = highScoreStore.loadHighScore();
+        publish();
     }
 
     /**
@@ -344,7 +349,7 @@ public final class Score {
      * @return the game speed in milliseconds (lower = faster)
      */
     public long getGameSpeedMillis() {
-        int level = currentLevel.get();
+        int level = currentLevel;
         // Speed decreases by 50ms per level, minimum 50ms
         long speed = Math.max(50, 400 - (level - 1) * 50);
         return speed;
@@ -0,0 +1,23 @@
+package com.comp2042.model;
+
+/**
+ * Callback notified by {@link Score} whenever its values change.
+ * <p>
+ * Keeps Score free of any UI dependency: the View layer registers a
+ * listener (see {@code com.comp2042.view.ScoreProperties}) to mirror the
+ * values into whatever it binds to. Called on the thread that changed the
+ * score.
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+public interface ScoreListener {
+
+    /**
+     * Called after the score, lines, high score or level changed.
+     *
+     * @param score the score that changed
+     */
+    void onScoreChanged(Score score);
+}
@@ -0,0 +1,197 @@
+package com.comp2042.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic, seeded brick generator with 7-bag semantics.
+ * <p>
+ * This class is part of the Model layer in the MVC architecture. The piece
+ * sequence is split into bags of seven; every bag is a permutation of the
+ * seven brick types, so no type is ever more than 12 pieces away and no type
+ * repeats more than twice in a row.
+ * </p>
+ * <p>
+ * Each bag's permutation is derived from the seed and the bag number alone,
+ * using the SplitMix64 mixing function (the one behind
+ * {@link java.util.SplittableRandom}) as a counter-based generator. The brick
+ * at any index K can therefore be computed in constant time, which lets the
+ * generator {@link #jumpTo(long) jump} directly to piece K, e.g. when
+ * resuming a replay, and makes two generators with the same seed produce the
+ * same sequence on any thread.
+ * </p>
+ * <p>
+ * Upcoming bricks are kept in a fixed-size ring buffer sized for the preview,
+ * so taking a brick never allocates.
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+public class SevenBagBrickGenerator implements BrickGenerator {
+
+    /** Number of brick types, and so pieces per bag. */
+    public static final int BAG_SIZE = 7;
+
+    /** Default number of upcoming bricks buffered for the preview. */
+    public static final int DEFAULT_PREVIEW_SIZE = 5;
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private static final Brick[] BRICK_TYPES = {
+            new IBrick(), new JBrick(), new LBrick(), new OBrick(),
+            new SBrick(), new TBrick(), new ZBrick()
+    };
+
+    private final long seed;
+
+    // Ring buffer of upcoming bricks; ring[head] is the next brick
+    private final Brick[] ring;
+    private int head;
+    private long nextIndex;  // sequence index of ring[head]
+
+    // Permutation of the most recently computed bag
+    private final byte[] bagOrder = new byte[BAG_SIZE];
+    private long cachedBag = -1;
+
+    /**
+     * Creates a generator with the default preview size.
+     *
+     * @param seed the seed of the piece sequence
+     */
+    public SevenBagBrickGenerator(long seed) {
+        this(seed, DEFAULT_PREVIEW_SIZE);
+    }
+
+    /**
+     * Creates a generator.
+     *
+     * @param seed        the seed of the piece sequence
+     * @param previewSize the number of upcoming bricks kept in the ring buffer
+     * @throws IllegalArgumentException if previewSize is not positive
+     */
+    public SevenBagBrickGenerator(long seed, int previewSize) {
+        if (previewSize < 1) {
+            throw new IllegalArgumentException("Preview size must be positive, was " + previewSize);
+        }
+        this.seed = seed;
+        ring = new Brick[previewSize];
+        jumpTo(0);
+    }
+
+    @Override
+    public Brick getBrick() {
+        Brick brick = ring[head];
+        ring[head] = brickAt(nextIndex + ring.length);
+        head = head + 1 == ring.length ? 0 : head + 1;
+        nextIndex++;
+        return brick;
+    }
+
+    @Override
+    public Brick getNextBrick() {
+        return ring[head];
+    }
+
+    /**
+     * Returns the next bricks without consuming them.
+     * <p>
+     * Bricks within the preview size come from the ring buffer; any further
+     * ones are computed directly from the sequence.
+     * </p>
+     *
+     * @param count the number of bricks to look ahead
+     * @return the next {@code count} bricks in order
+     */
+    @Override
+    public List<Brick> getNextBricks(int count) {
+        List<Brick> result = new ArrayList<>(Math.max(count, 0));
+        for (int i = 0; i < count; i++) {
+            result.add(i < ring.length ? ring[(head + i) % ring.length] : brickAt(nextIndex + i));
+        }
+        return result;
+    }
+
+    /**
+     * Moves the generator so that the next {@link #getBrick()} returns the
+     * brick at sequence index {@code index}.
+     * <p>
+     * Runs in time proportional to the preview size, independent of the index.
+     * </p>
+     *
+     * @param index the zero-based piece index
+     * @throws IllegalArgumentException if index is negative
+     */
+    public void jumpTo(long index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("Piece index must not be negative, was " + index);
+        }
+        nextIndex = index;
+        head = 0;
+        for (int i = 0; i < ring.length; i++) {
+            ring[i] = brickAt(index + i);
+        }
+    }
+
+    /**
+     * Returns the sequence index of the brick the next {@link #getBrick()}
+     * call will return, i.e. the number of bricks taken so far.
+     *
+     * @return the zero-based index of the next brick
+     */
+    public long getPieceIndex() {
+        return nextIndex;
+    }
+
+    /**
+     * Returns the seed of this generator's sequence.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the brick at a sequence index without changing the generator
+     * position.
+     *
+     * @param index the zero-based piece index
+     * @return the brick at that index
+     */
+    public Brick brickAt(long index) {
+        long bag = index / BAG_SIZE;
+        if (bag != cachedBag) {
+            shuffleBag(bag);
+        }
+        return BRICK_TYPES[bagOrder[(int) (index % BAG_SIZE)]];
+    }
+
+    /**
+     * Fills {@link #bagOrder} with the permutation of the given bag using a
+     * Fisher-Yates shuffle driven by a SplitMix64 stream keyed on (seed, bag).
+     */
+    private void shuffleBag(long bag) {
+        for (int i = 0; i < BAG_SIZE; i++) {
+            bagOrder[i] = (byte) i;
+        }
+        long state = mix64(seed ^ mix64(bag * GOLDEN_GAMMA));
+        for (int i = BAG_SIZE - 1; i > 0; i--) {
+            state += GOLDEN_GAMMA;
+            int j = (int) (((mix64(state) >>> 32) * (i + 1)) >>> 32);
+            byte tmp = bagOrder[i];
+            bagOrder[i] = bagOrder[j];
+            bagOrder[j] = tmp;
+        }
+        cachedBag = bag;
+    }
+
+    /**
+     * SplitMix64 finalizer (Stafford variant 13).
+     */
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -1,4 +1,4 @@
-package com.comp2042.view;
+package com.comp2042.model;
 
 import com.comp2042.logic.MatrixOperations;
 
@@ -9,10 +9,11 @@ import java.util.List;
  * Immutable data transfer object containing view information for rendering
  * the game state.
  * <p>
- * This class is part of the View layer in the MVC architecture. It serves as
+ * This class is part of the Model layer in the MVC architecture. It serves as
  * a data container that transfers information from the Model (Board) to the
  * View (GuiController) without exposing internal model details. All data
  * returned by getter methods are defensive copies to maintain immutability.
+ * The per-move render path uses the copy-free {@link ViewSnapshot} instead.
  * </p>
  * <p>
  * <strong>Coordinate System:</strong>
@@ -0,0 +1,189 @@
+package com.comp2042.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Reusable view of the game state for rendering, filled in place by the
+ * board.
+ * <p>
+ * This class is part of the Model layer in the MVC architecture. It carries
+ * the same information as {@link ViewData} from the Model (Board) to the
+ * View (GuiController), but is built for the input and gravity path, which
+ * asks for it after every move: each board owns one snapshot and refills it
+ * on every {@code getViewSnapshot()} call, and nothing is copied on read.
+ * Brick and preview shapes are the shared, read-only matrices of
+ * {@link PieceTable}, so the getters return them directly.
+ * </p>
+ * <p>
+ * Because the board overwrites the snapshot on the next call, readers should
+ * use it straight away (or take {@link #toViewData()} to keep a copy) and
+ * must not modify the returned arrays or list. The preview only changes when
+ * a new brick spawns; {@link #getPreviewVersion()} lets the view skip
+ * redrawing it otherwise.
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+public final class ViewSnapshot {
+
+    /** Number of upcoming bricks shown in the preview. */
+    public static final int PREVIEW_COUNT = 2;
+
+    private int[][] brickData;
+    private int xPosition;
+    private int yPosition;
+    private int ghostYPosition;
+    private final List<int[][]> nextPieces = new ArrayList<>(PREVIEW_COUNT);
+    private final List<int[][]> nextPiecesView = Collections.unmodifiableList(nextPieces);
+    private int previewVersion;
+    private int score;
+    private int totalLines;
+    private int highScore;
+    private int level;
+
+    /**
+     * Sets the falling brick.
+     *
+     * @param brickData      the brick's shared shape matrix (brickData[row][col])
+     * @param xPosition      the column position of the brick
+     * @param yPosition      the row position of the brick
+     * @param ghostYPosition the row where the brick would land
+     */
+    public void setBrick(int[][] brickData, int xPosition, int yPosition, int ghostYPosition) {
+        this.brickData = brickData;
+        this.xPosition = xPosition;
+        this.yPosition = yPosition;
+        this.ghostYPosition = ghostYPosition;
+    }
+
+    /**
+     * Replaces the preview with the spawn shapes of the given bricks and
+     * advances the preview version.
+     *
+     * @param nextBricks the upcoming bricks, in order; at most
+     *                   {@link #PREVIEW_COUNT} are used
+     */
+    public void setNextBricks(List<Brick> nextBricks) {
+        nextPieces.clear();
+        for (int i = 0; i < nextBricks.size() && i < PREVIEW_COUNT; i++) {
+            nextPieces.add(nextBricks.get(i).getPieceTable().getShape(0));
+        }
+        previewVersion++;
+    }
+
+    /**
+     * Copies the score figures.
+     *
+     * @param score the game's score
+     */
+    public void setScore(Score score) {
+        this.score = score.getCurrentScore();
+        this.totalLines = score.getTotalLines();
+        this.highScore = score.getHighScore();
+        this.level = score.getCurrentLevel();
+    }
+
+    /**
+     * Returns the shape matrix of the falling brick.
+     *
+     * @return the shared shape (brickData[row][col]); must not be modified
+     */
+    public int[][] getBrickData() {
+        return brickData;
+    }
+
+    /**
+     * Returns the column position (x coordinate) of the current falling brick.
+     *
+     * @return the x position (column index)
+     */
+    public int getxPosition() {
+        return xPosition;
+    }
+
+    /**
+     * Returns the row position (y coordinate) of the current falling brick.
+     *
+     * @return the y position (row index)
+     */
+    public int getyPosition() {
+        return yPosition;
+    }
+
+    /**
+     * Returns the row position where the brick would land (ghost piece
+     * position).
+     *
+     * @return the ghost Y position (row index)
+     */
+    public int getGhostYPosition() {
+        return ghostYPosition;
+    }
+
+    /**
+     * Returns the shape matrices of the upcoming bricks.
+     *
+     * @return a read-only list of shared shapes (nextPieces[i][row][col])
+     */
+    public List<int[][]> getNextPiecesData() {
+        return nextPiecesView;
+    }
+
+    /**
+     * Returns a counter that changes whenever the preview changes.
+     *
+     * @return the preview version
+     */
+    public int getPreviewVersion() {
+        return previewVersion;
+    }
+
+    /**
+     * Returns the current game score.
+     *
+     * @return the current score
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Returns the total number of lines cleared in the current game.
+     *
+     * @return the total lines cleared
+     */
+    public int getTotalLines() {
+        return totalLines;
+    }
+
+    /**
+     * Returns the high score (persists across games).
+     *
+     * @return the high score
+     */
+    public int getHighScore() {
+        return highScore;
+    }
+
+    /**
+     * Returns the current level.
+     *
+     * @return the current level
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Returns an immutable copy of the current contents.
+     *
+     * @return a new ViewData with copies of the brick and preview shapes
+     */
+    public ViewData toViewData() {
+        return new ViewData(brickData, xPosition, yPosition, ghostYPosition, nextPieces,
+                score, totalLines, highScore, level);
+    }
+}
@@ -0,0 +1,161 @@
+package com.comp2042.replay;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * A decoded replay: the game setup, its event stream and the claimed result.
+ * <p>
+ * Events are held in two parallel primitive arrays (type and absolute tick),
+ * so a decoded replay costs a few bytes per event and can be walked without
+ * allocation.
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+public final class Replay {
+
+    private final long seed;
+    private final int boardWidth;
+    private final int boardHeight;
+    private final byte[] types;
+    private final long[] ticks;
+    private final int eventCount;
+    private final int finalScore;
+    private final int finalLines;
+    private final int finalLevel;
+
+    private Replay(long seed, int boardWidth, int boardHeight, byte[] types, long[] ticks,
+                   int eventCount, int finalScore, int finalLines, int finalLevel) {
+        this.seed = seed;
+        this.boardWidth = boardWidth;
+        this.boardHeight = boardHeight;
+        this.types = types;
+        this.ticks = ticks;
+        this.eventCount = eventCount;
+        this.finalScore = finalScore;
+        this.finalLines = finalLines;
+        this.finalLevel = finalLevel;
+    }
+
+    /**
+     * Reads and decodes a replay file.
+     *
+     * @param file the replay file
+     * @return the decoded replay
+     * @throws IOException if the file cannot be read or is not a complete replay
+     */
+    public static Replay read(Path file) throws IOException {
+        return decode(ByteBuffer.wrap(Files.readAllBytes(file)));
+    }
+
+    /**
+     * Decodes a replay from a buffer, starting at its position.
+     *
+     * @param buffer the encoded replay
+     * @return the decoded replay
+     * @throws IOException if the data is not a complete replay
+     */
+    public static Replay decode(ByteBuffer buffer) throws IOException {
+        try {
+            if (buffer.getInt() != ReplayFormat.MAGIC) {
+                throw new IOException("Not a replay file");
+            }
+            long version = ReplayFormat.getVarLong(buffer);
+            if (version != ReplayFormat.VERSION) {
+                throw new IOException("Unsupported replay version " + version);
+            }
+            int width = (int) ReplayFormat.getVarLong(buffer);
+            int height = (int) ReplayFormat.getVarLong(buffer);
+            long seed = buffer.getLong();
+
+            byte[] types = new byte[256];
+            long[] ticks = new long[256];
+            int count = 0;
+            long tick = 0;
+            while (true) {
+                long word = ReplayFormat.getVarLong(buffer);
+                int type = (int) (word & ReplayFormat.TYPE_MASK);
+                tick += word >>> ReplayFormat.TYPE_BITS;
+                if (type == ReplayFormat.END) {
+                    int score = (int) ReplayFormat.getVarLong(buffer);
+                    int lines = (int) ReplayFormat.getVarLong(buffer);
+                    int level = (int) ReplayFormat.getVarLong(buffer);
+                    return new Replay(seed, width, height, types, ticks, count, score, lines, level);
+                }
+                if (type > ReplayFormat.HARD_DROP) {
+                    throw new IOException("Unknown replay event type " + type);
+                }
+                if (count == types.length) {
+                    types = Arrays.copyOf(types, count * 2);
+                    ticks = Arrays.copyOf(ticks, count * 2);
+                }
+                types[count] = (byte) type;
+                ticks[count] = tick;
+                count++;
+            }
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Replay is truncated (game not finished?)", e);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Replay is corrupt: " + e.getMessage(), e);
+        }
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getBoardWidth() {
+        return boardWidth;
+    }
+
+    public int getBoardHeight() {
+        return boardHeight;
+    }
+
+    /**
+     * Returns the number of recorded events (excluding the end marker).
+     *
+     * @return the event count
+     */
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    /**
+     * Returns the type of an event.
+     *
+     * @param index the event index
+     * @return one of the {@link ReplayFormat} event constants
+     */
+    public int getEventType(int index) {
+        return types[index];
+    }
+
+    /**
+     * Returns the game loop tick an event happened on.
+     *
+     * @param index the event index
+     * @return the absolute tick
+     */
+    public long getEventTick(int index) {
+        return ticks[index];
+    }
+
+    public int getFinalScore() {
+        return finalScore;
+    }
+
+    public int getFinalLines() {
+        return finalLines;
+    }
+
+    public int getFinalLevel() {
+        return finalLevel;
+    }
+}
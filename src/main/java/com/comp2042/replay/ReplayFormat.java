@@ -0,0 +1,92 @@
+package com.comp2042.replay;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Constants and varint helpers for the binary replay format.
+ * <p>
+ * A replay file is:
+ * <ul>
+ *   <li>Header: magic {@code TRP1} (4 bytes), format version, board width,
+ *       board height (varints), then the brick generator seed (8 bytes)</li>
+ *   <li>Events: one varint per event, {@code (tickDelta << 3) | type}, where
+ *       tickDelta is the number of game loop ticks since the previous
+ *       event</li>
+ *   <li>End: an {@link #END} event followed by the final score, lines and
+ *       level (varints)</li>
+ * </ul>
+ * Events arrive a few ticks apart, so almost every event takes one or two
+ * bytes and a whole game fits in a few KB. Gravity steps are recorded as
+ * events too, so a replay does not depend on how the gravity interval was
+ * derived from level and difficulty.
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+public final class ReplayFormat {
+
+    /** File magic, "TRP1". */
+    public static final int MAGIC = 0x54525031;
+
+    /** Current format version. */
+    public static final int VERSION = 1;
+
+    /** Gravity moved the brick down (or locked it). */
+    public static final int GRAVITY = 0;
+    /** The player soft-dropped the brick one row. */
+    public static final int SOFT_DROP = 1;
+    /** The player moved the brick left. */
+    public static final int LEFT = 2;
+    /** The player moved the brick right. */
+    public static final int RIGHT = 3;
+    /** The player rotated the brick. */
+    public static final int ROTATE = 4;
+    /** The player hard-dropped the brick. */
+    public static final int HARD_DROP = 5;
+    /** End of the game; followed by the final score, lines and level. */
+    public static final int END = 7;
+
+    static final int TYPE_BITS = 3;
+    static final int TYPE_MASK = (1 << TYPE_BITS) - 1;
+
+    /** Longest encoded varint (a 64-bit value in 7-bit groups). */
+    static final int MAX_VARINT_BYTES = 10;
+
+    private ReplayFormat() {
+    }
+
+    /**
+     * Writes an unsigned LEB128 varint.
+     *
+     * @param buffer the buffer to write to
+     * @param value  the value, treated as unsigned
+     */
+    static void putVarLong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * Reads an unsigned LEB128 varint.
+     *
+     * @param buffer the buffer to read from
+     * @return the decoded value
+     * @throws IllegalArgumentException if the varint is longer than 10 bytes
+     * @throws java.nio.BufferUnderflowException if the buffer ends mid-varint
+     */
+    static long getVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+}
@@ -0,0 +1,300 @@
+package com.comp2042.replay;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Records one game as a compact binary replay.
+ * <p>
+ * The recorder captures the brick generator seed and a tick-stamped stream
+ * of the events that reached the engine (gravity steps, moves, rotations,
+ * soft and hard drops), encoded as described in {@link ReplayFormat}.
+ * Events are varint-encoded into a reused 8 KB buffer that is written out
+ * only when it fills up, so recording an event is a few byte stores.
+ * </p>
+ * <p>
+ * A recorder created with {@link #openInBackground(Path, long, int, int)}
+ * does all of its file work (creating the file, writing full buffers,
+ * closing, deleting) on one shared daemon thread, in order, so the game
+ * thread never waits for the disk; a write failure there is reported by
+ * the next call on the recorder. A recorder created with the constructor
+ * does its file work on the calling thread.
+ * </p>
+ * <p>
+ * A replay is complete once {@link #finish(int, int, int)} has written the
+ * final score; {@link #close()} without finishing leaves an incomplete
+ * replay that readers reject. Not thread-safe; record from one thread.
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+public class ReplayRecorder implements Closeable {
+
+    private static final int BUFFER_BYTES = 8192;
+
+    // Background file work of every recorder opened with openInBackground()
+    private static final ExecutorService SHARED_IO = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "replay-io");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Path file;
+    private final Executor io;
+    private final boolean background;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES);
+    private long lastTick;
+    private boolean finished;
+    private boolean closed;
+
+    // Touched only by tasks on io
+    private FileChannel channel;
+    private volatile IOException failure;  // first file error, if any
+    private volatile boolean failureReported;  // thrown to the caller already
+
+    /**
+     * Creates (or replaces) a replay file and writes its header.
+     *
+     * @param file        the replay file
+     * @param seed        the brick generator seed of the game
+     * @param boardWidth  the number of board columns
+     * @param boardHeight the number of board rows
+     * @throws IOException if the file cannot be created
+     */
+    public ReplayRecorder(Path file, long seed, int boardWidth, int boardHeight) throws IOException {
+        this(file, seed, boardWidth, boardHeight, Runnable::run, false);
+        checkFailure();
+    }
+
+    private ReplayRecorder(Path file, long seed, int boardWidth, int boardHeight,
+                           Executor io, boolean background) {
+        this.file = file;
+        this.io = io;
+        this.background = background;
+        io.execute(this::openFile);
+        buffer.putInt(ReplayFormat.MAGIC);
+        ReplayFormat.putVarLong(buffer, ReplayFormat.VERSION);
+        ReplayFormat.putVarLong(buffer, boardWidth);
+        ReplayFormat.putVarLong(buffer, boardHeight);
+        buffer.putLong(seed);
+    }
+
+    /**
+     * Starts a replay whose file is created, written and closed on a shared
+     * background thread. Returns immediately; the file's directory is
+     * created if needed.
+     *
+     * @param file        the replay file
+     * @param seed        the brick generator seed of the game
+     * @param boardWidth  the number of board columns
+     * @param boardHeight the number of board rows
+     * @return the recorder
+     */
+    public static ReplayRecorder openInBackground(Path file, long seed, int boardWidth, int boardHeight) {
+        return new ReplayRecorder(file, seed, boardWidth, boardHeight, SHARED_IO, true);
+    }
+
+    /**
+     * Waits until the file work queued so far by background recorders is
+     * done (e.g. before the application exits, since the thread is a daemon).
+     *
+     * @param timeoutMillis the longest time to wait
+     * @return true if the queue drained in time
+     */
+    public static boolean flushBackground(long timeoutMillis) {
+        try {
+            SHARED_IO.submit(() -> { }).get(timeoutMillis, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException | TimeoutException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Records an event.
+     *
+     * @param type the event type, one of the {@link ReplayFormat} constants
+     * @param tick the game loop tick the event happened on; ticks must not
+     *             decrease between events
+     * @throws IOException if writing the replay has failed
+     */
+    public void record(int type, long tick) throws IOException {
+        if (finished) {
+            return;
+        }
+        checkFailure();
+        long delta = Math.max(0, tick - lastTick);
+        lastTick = Math.max(lastTick, tick);
+        ensureRoom(ReplayFormat.MAX_VARINT_BYTES);
+        ReplayFormat.putVarLong(buffer, (delta << ReplayFormat.TYPE_BITS) | type);
+    }
+
+    /**
+     * Writes the end of the game and the claimed final result, and flushes
+     * the replay to disk. Later events are ignored.
+     *
+     * @param score the final score
+     * @param lines the total lines cleared
+     * @param level the final level
+     * @throws IOException if writing the replay has failed
+     */
+    public void finish(int score, int lines, int level) throws IOException {
+        if (finished) {
+            return;
+        }
+        ensureRoom(4 * ReplayFormat.MAX_VARINT_BYTES);
+        ReplayFormat.putVarLong(buffer, ReplayFormat.END);
+        ReplayFormat.putVarLong(buffer, score);
+        ReplayFormat.putVarLong(buffer, lines);
+        ReplayFormat.putVarLong(buffer, level);
+        finished = true;
+        writeBuffer();
+        checkFailure();
+    }
+
+    /**
+     * Returns true once {@link #finish(int, int, int)} has been called.
+     *
+     * @return true if the replay is complete
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Writes buffered events and closes the file.
+     *
+     * @throws IOException if writing the replay has failed (and that was not
+     *                     already reported by an earlier call)
+     */
+    @Override
+    public void close() throws IOException {
+        closeFile(false);
+    }
+
+    /**
+     * Closes the file and deletes it, e.g. for a game that was abandoned and
+     * can never verify.
+     *
+     * @throws IOException if writing the replay had failed (and that was not
+     *                     already reported by an earlier call)
+     */
+    public void discard() throws IOException {
+        closeFile(true);
+    }
+
+    private void closeFile(boolean delete) throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (!delete) {
+            writeBuffer();
+        }
+        io.execute(() -> {
+            try {
+                if (channel != null) {
+                    channel.close();
+                }
+                if (delete) {
+                    Files.deleteIfExists(file);
+                }
+            } catch (IOException e) {
+                fail(e);
+            }
+            if (background && failure != null && !failureReported) {
+                // Nothing calls the recorder after this; report here
+                System.err.println("Error writing replay " + file.getFileName()
+                        + ": " + failure.getMessage());
+            }
+        });
+        if (!failureReported) {
+            checkFailure();
+        }
+    }
+
+    private void ensureRoom(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            writeBuffer();
+            checkFailure();
+        }
+    }
+
+    /**
+     * Hands the buffered bytes to the file thread and empties the buffer.
+     */
+    private void writeBuffer() {
+        buffer.flip();
+        ByteBuffer out;
+        if (background) {
+            out = ByteBuffer.allocate(buffer.remaining());  // the buffer is reused at once
+            out.put(buffer).flip();
+        } else {
+            out = buffer;
+        }
+        io.execute(() -> writeFully(out));
+        buffer.clear();
+    }
+
+    /**
+     * Creates the file and its directory. Runs on the file thread.
+     */
+    private void openFile() {
+        try {
+            Path directory = file.toAbsolutePath().getParent();
+            if (directory != null) {
+                Files.createDirectories(directory);
+            }
+            channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Writes one block of bytes. Runs on the file thread; skipped once a
+     * write has failed.
+     */
+    private void writeFully(ByteBuffer out) {
+        if (failure != null) {
+            return;
+        }
+        try {
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    private void fail(IOException e) {
+        if (failure == null) {
+            failure = e;
+        }
+    }
+
+    private void checkFailure() throws IOException {
+        IOException e = failure;
+        if (e != null) {
+            failureReported = true;
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.comp2042.replay;
+
+import com.comp2042.engine.GameEngine;
+import com.comp2042.model.RandomBrickGenerator;
+import com.comp2042.model.Score;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntFunction;
+
+/**
+ * Verifies replays by re-simulating them through the headless engine.
+ * <p>
+ * Each replay is replayed from its seed on a fresh {@link GameEngine}, event
+ * by event and as fast as the engine runs: no rendering, no timelines and no
+ * waiting for ticks (gravity steps are events in the replay). A replay is
+ * valid when the game ends exactly at its last event and the final score,
+ * line count and level match what the replay claims.
+ * </p>
+ * <p>
+ * Batches are split across a fork-join pool, mirroring
+ * {@link com.comp2042.engine.SimulationRunner}; every replay gets its own
+ * engine, so workers share nothing.
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+public class ReplayVerifier {
+
+    /** Replays verified sequentially by one fork-join leaf task. */
+    private static final int REPLAYS_PER_TASK = 8;
+
+    private final int parallelism;
+
+    /**
+     * Creates a verifier using all available cores.
+     */
+    public ReplayVerifier() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a verifier.
+     *
+     * @param parallelism the number of worker threads for batch verification
+     */
+    public ReplayVerifier(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Re-simulates one replay on the calling thread.
+     *
+     * @param replay the replay to verify
+     * @return the verification result
+     */
+    public static VerificationResult verify(Replay replay) {
+        GameEngine engine = GameEngine.headless(replay.getBoardWidth(), replay.getBoardHeight(),
+                new RandomBrickGenerator(replay.getSeed()));
+        engine.newGame();
+
+        int events = replay.getEventCount();
+        for (int i = 0; i < events; i++) {
+            if (engine.isGameOver()) {
+                return result(engine, "Event " + i + " of " + events + " comes after game over");
+            }
+            switch (replay.getEventType(i)) {
+                case ReplayFormat.GRAVITY:
+                    engine.moveDown(false);
+                    break;
+                case ReplayFormat.SOFT_DROP:
+                    engine.moveDown(true);
+                    break;
+                case ReplayFormat.LEFT:
+                    engine.moveLeft();
+                    break;
+                case ReplayFormat.RIGHT:
+                    engine.moveRight();
+                    break;
+                case ReplayFormat.ROTATE:
+                    engine.rotate();
+                    break;
+                case ReplayFormat.HARD_DROP:
+                    engine.hardDrop();
+                    break;
+                default:
+                    return result(engine, "Unknown event type " + replay.getEventType(i));
+            }
+        }
+
+        Score score = engine.getScore();
+        if (!engine.isGameOver()) {
+            return result(engine, "Game does not end at the last event");
+        }
+        if (score.getCurrentScore() != replay.getFinalScore()
+                || score.getTotalLines() != replay.getFinalLines()
+                || score.getCurrentLevel() != replay.getFinalLevel()) {
+            return result(engine, "Claimed score " + replay.getFinalScore() + ", lines "
+                    + replay.getFinalLines() + ", level " + replay.getFinalLevel()
+                    + " but simulation reached " + score.getCurrentScore() + ", "
+                    + score.getTotalLines() + ", " + score.getCurrentLevel());
+        }
+        return result(engine, null);
+    }
+
+    /**
+     * Reads and verifies one replay file on the calling thread.
+     *
+     * @param file the replay file
+     * @return the verification result (invalid if the file cannot be read)
+     */
+    public static VerificationResult verify(Path file) {
+        try {
+            return verify(Replay.read(file));
+        } catch (IOException e) {
+            return VerificationResult.unreadable(file.getFileName() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Verifies decoded replays in parallel.
+     *
+     * @param replays the replays to verify
+     * @return the results, in the same order as the replays
+     */
+    public List<VerificationResult> verifyAll(List<Replay> replays) {
+        return run(replays.size(), i -> verify(replays.get(i)));
+    }
+
+    /**
+     * Reads and verifies replay files in parallel.
+     *
+     * @param files the replay files to verify
+     * @return the results, in the same order as the files
+     */
+    public List<VerificationResult> verifyFiles(List<Path> files) {
+        return run(files.size(), i -> verify(files.get(i)));
+    }
+
+    private List<VerificationResult> run(int count, IntFunction<VerificationResult> task) {
+        VerificationResult[] results = new VerificationResult[count];
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new VerifyRangeTask(task, results, 0, count));
+        } finally {
+            pool.shutdown();
+        }
+        return Arrays.asList(results);
+    }
+
+    private static VerificationResult result(GameEngine engine, String reason) {
+        Score score = engine.getScore();
+        return new VerificationResult(reason == null, reason, score.getCurrentScore(),
+                score.getTotalLines(), score.getCurrentLevel());
+    }
+
+    /**
+     * Fork-join task verifying the replays in [from, to).
+     */
+    private static final class VerifyRangeTask extends RecursiveAction {
+
+        private final IntFunction<VerificationResult> task;
+        private final VerificationResult[] results;
+        private final int from;
+        private final int to;
+
+        VerifyRangeTask(IntFunction<VerificationResult> task, VerificationResult[] results,
+                        int from, int to) {
+            this.task = task;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= REPLAYS_PER_TASK) {
+                for (int i = from; i < to; i++) {
+                    results[i] = task.apply(i);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new VerifyRangeTask(task, results, from, mid),
+                    new VerifyRangeTask(task, results, mid, to));
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.comp2042.replay;
+
+/**
+ * Outcome of re-simulating one replay.
+ * <p>
+ * Holds whether the replay is valid, the reason when it is not, and the
+ * score, lines and level the re-simulation actually reached.
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+public final class VerificationResult {
+
+    private final boolean valid;
+    private final String reason;
+    private final int score;
+    private final int lines;
+    private final int level;
+
+    /**
+     * Constructs a new verification result.
+     *
+     * @param valid  whether the replay reproduced its claimed result
+     * @param reason why the replay is invalid, or null if it is valid
+     * @param score  the simulated final score
+     * @param lines  the simulated total lines
+     * @param level  the simulated final level
+     */
+    public VerificationResult(boolean valid, String reason, int score, int lines, int level) {
+        this.valid = valid;
+        this.reason = reason;
+        this.score = score;
+        this.lines = lines;
+        this.level = level;
+    }
+
+    /**
+     * Creates the result for a replay that could not be read at all.
+     *
+     * @param reason why the replay could not be read
+     * @return an invalid result with zero score
+     */
+    static VerificationResult unreadable(String reason) {
+        return new VerificationResult(false, reason, 0, 0, 0);
+    }
+
+    public boolean isValid() {
+        return valid;
+    }
+
+    /**
+     * Returns why the replay is invalid.
+     *
+     * @return the reason, or null if the replay is valid
+     */
+    public String getReason() {
+        return reason;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getLines() {
+        return lines;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    @Override
+    public String toString() {
+        return valid ? "VALID{score=" + score + ", lines=" + lines + ", level=" + level + "}"
+                : "INVALID{" + reason + "}";
+    }
+}
@@ -0,0 +1,79 @@
+package com.comp2042.view;
+
+import java.util.Arrays;
+
+/**
+ * Applies the cells that changed between two board snapshots.
+ * <p>
+ * This class is part of the View layer in the MVC architecture. GuiController
+ * keeps a copy of the board values its Rectangles currently show; on each
+ * refresh, only the cells that differ from that copy are repainted. Rows that
+ * are unchanged (the common case) are skipped with a single
+ * {@link Arrays#equals(int[], int[])}.
+ * </p>
+ * <p>
+ * The diff is kept separate from GuiController so the board benchmarks can
+ * run the exact same loop without a JavaFX scene.
+ * </p>
+ * <p>
+ * Coordinate system: x = column, y = row. Both matrices are indexed as
+ * matrix[row][col].
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+public final class BoardDiff {
+
+    /**
+     * Receives each cell whose value changed.
+     */
+    @FunctionalInterface
+    public interface CellSink {
+
+        /**
+         * Called for a cell whose board value differs from the shown value.
+         *
+         * @param row   the cell row
+         * @param col   the cell column
+         * @param value the new board value
+         */
+        void cellChanged(int row, int col, int value);
+    }
+
+    private BoardDiff() {
+    }
+
+    /**
+     * Reports every cell of board that differs from shown and copies the
+     * new values into shown.
+     * <p>
+     * Only the rows and columns both matrices have are compared.
+     * </p>
+     *
+     * @param board the current board state (board[row][col])
+     * @param shown the values currently displayed; updated in place
+     * @param sink  receives each changed cell
+     * @return the number of cells that changed
+     */
+    public static int apply(int[][] board, int[][] shown, CellSink sink) {
+        int changed = 0;
+        int height = Math.min(board.length, shown.length);
+        for (int row = 0; row < height; row++) {
+            int[] cells = board[row];
+            int[] shownRow = shown[row];
+            if (Arrays.equals(cells, shownRow)) {
+                continue;  // fast path: row unchanged
+            }
+            int width = Math.min(cells.length, shownRow.length);
+            for (int col = 0; col < width; col++) {
+                if (cells[col] != shownRow[col]) {
+                    sink.cellChanged(row, col, cells[col]);
+                    shownRow[col] = cells[col];
+                    changed++;
+                }
+            }
+        }
+        return changed;
+    }
+}
@@ -0,0 +1,317 @@
+package com.comp2042.view;
+
+import com.comp2042.model.ViewSnapshot;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+
+import java.util.List;
+
+/**
+ * Draws the game board, falling brick, ghost piece and grid onto a single
+ * {@link Canvas}.
+ * <p>
+ * This class is part of the View layer in the MVC architecture. It is the
+ * canvas alternative to GuiController's node-based rendering, which keeps one
+ * Rectangle per board cell, brick cell and ghost cell plus a Line per grid
+ * line. Here the whole playfield is one node, so the scene graph no longer
+ * grows with board size and layout/CSS passes stay near zero.
+ * </p>
+ * <p>
+ * Rendering is incremental:
+ * <ul>
+ *   <li>Cell images are pre-rendered once per color (solid and ghost), so
+ *       drawing a cell is a single {@code drawImage}</li>
+ *   <li>A {@link DirtyRowTracker} keeps a copy of the last drawn board, and
+ *       only rows whose cells changed, or that the previous or current
+ *       brick/ghost covers, are repainted</li>
+ *   <li>Each dirty row is repainted inside its own clip, so grid lines on a
+ *       row boundary never bleed into rows that were not redrawn</li>
+ * </ul>
+ * </p>
+ * <p>
+ * Coordinate system: x = column, y = row. Board and shape matrices are
+ * indexed as matrix[row][col]. All methods must be called on the JavaFX
+ * Application Thread once the canvas is part of a live scene.
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+public class CanvasBoardRenderer {
+
+    /** Cell colors by value, matching GuiController's NES palette. */
+    private static final Color[] PALETTE = {
+            Color.TRANSPARENT, Color.CYAN, Color.BLUE, Color.ORANGE,
+            Color.YELLOW, Color.LIME, Color.MAGENTA, Color.RED
+    };
+
+    private static final Color GRID_COLOR = Color.web("#00ffff", 0.8);
+    private static final double GRID_LINE_WIDTH = 2.0;
+
+    /** Largest brick matrix drawn in a preview (cells per side). */
+    private static final int PREVIEW_CELLS = 6;
+
+    private final Canvas canvas;
+    private final GraphicsContext gc;
+    private final int columns;
+    private final int cellSize;
+    private final int pitch;  // cellSize + gap
+    private final boolean gridEnabled;
+
+    private final Image[] cellSprites;
+    private final Image[] ghostSprites;
+    private final Image flashSprite;
+    private final Image[] previewSprites;
+    private final int previewCellSize;
+
+    // Last drawn state and the rows to repaint
+    private final DirtyRowTracker tracker;
+    private final int[] rowsToDraw;
+    private boolean ghostEnabled = true;
+
+    /**
+     * Creates a renderer and its canvas for a board of the given size.
+     *
+     * @param rows            the number of board rows
+     * @param columns         the number of board columns
+     * @param cellSize        the cell size in pixels
+     * @param cellGap         the gap between cells in pixels
+     * @param previewCellSize the cell size used for next-piece previews
+     */
+    public CanvasBoardRenderer(int rows, int columns, int cellSize, int cellGap, int previewCellSize) {
+        this.columns = columns;
+        this.cellSize = cellSize;
+        this.pitch = cellSize + cellGap;
+        this.gridEnabled = cellGap > 0;
+        this.previewCellSize = previewCellSize;
+        canvas = new Canvas(columns * pitch - cellGap, rows * pitch - cellGap);
+        gc = canvas.getGraphicsContext2D();
+
+        cellSprites = new Image[PALETTE.length];
+        ghostSprites = new Image[PALETTE.length];
+        previewSprites = new Image[PALETTE.length];
+        for (int i = 1; i < PALETTE.length; i++) {
+            cellSprites[i] = createCellSprite(PALETTE[i], cellSize);
+            ghostSprites[i] = createCellSprite(ghostColor(PALETTE[i]), cellSize);
+            previewSprites[i] = createCellSprite(PALETTE[i], previewCellSize);
+        }
+        flashSprite = createCellSprite(Color.WHITE, cellSize);
+
+        tracker = new DirtyRowTracker(rows, columns);
+        rowsToDraw = new int[rows];
+    }
+
+    /**
+     * Returns the canvas this renderer draws on.
+     *
+     * @return the board canvas
+     */
+    public Canvas getCanvas() {
+        return canvas;
+    }
+
+    /**
+     * Shows or hides the ghost piece.
+     *
+     * @param enabled true to draw the ghost piece
+     */
+    public void setGhostEnabled(boolean enabled) {
+        if (ghostEnabled != enabled) {
+            ghostEnabled = enabled;
+            flush();
+        }
+    }
+
+    /**
+     * Updates the board background and repaints the rows that changed.
+     *
+     * @param boardMatrix the current board state (board[row][col])
+     */
+    public void renderBoard(int[][] boardMatrix) {
+        tracker.boardChanged(boardMatrix);
+        flush();
+    }
+
+    /**
+     * Updates the falling brick and ghost and repaints the rows they leave
+     * or enter.
+     *
+     * @param brick the current brick state
+     */
+    public void renderBrick(ViewSnapshot brick) {
+        tracker.brickChanged(brick.getBrickData(), brick.getxPosition(),
+                brick.getyPosition(), brick.getGhostYPosition());
+        flush();
+    }
+
+    /**
+     * Paints the given (full) rows white.
+     * <p>
+     * The rows stay white, even if the brick or ghost moves over them, until
+     * the next {@link #renderBoard(int[][])} repaints them.
+     * </p>
+     *
+     * @param fullRows the row indices to flash
+     */
+    public void flashRows(List<Integer> fullRows) {
+        for (int row : fullRows) {
+            if (!tracker.flashRow(row)) {
+                continue;
+            }
+            for (int col = 0; col < columns; col++) {
+                gc.drawImage(flashSprite, col * pitch, row * pitch);
+            }
+        }
+    }
+
+    /**
+     * Draws a brick shape centered on a preview canvas, resizing the canvas
+     * to fit the largest brick.
+     *
+     * @param preview the preview canvas
+     * @param brick   the brick shape (shape[row][col])
+     */
+    public void drawPreview(Canvas preview, int[][] brick) {
+        int previewPitch = previewCellSize + (pitch - cellSize);
+        double size = PREVIEW_CELLS * previewPitch;
+        preview.setWidth(size);
+        preview.setHeight(size);
+        GraphicsContext previewGc = preview.getGraphicsContext2D();
+        previewGc.clearRect(0, 0, size, size);
+        int offsetY = (PREVIEW_CELLS - brick.length) / 2;
+        for (int y = 0; y < brick.length; y++) {
+            int offsetX = (PREVIEW_CELLS - brick[y].length) / 2;
+            for (int x = 0; x < brick[y].length; x++) {
+                Image sprite = spriteFor(previewSprites, brick[y][x]);
+                if (sprite != null) {
+                    previewGc.drawImage(sprite, (x + offsetX) * previewPitch,
+                            (y + offsetY) * previewPitch);
+                }
+            }
+        }
+    }
+
+    /**
+     * Repaints every dirty row, including rows covered by the brick and ghost
+     * before and after the latest update.
+     */
+    private void flush() {
+        int count = tracker.collectDirtyRows(rowsToDraw);
+        for (int i = 0; i < count; i++) {
+            drawRow(rowsToDraw[i]);
+        }
+    }
+
+    /**
+     * Clears one row strip and redraws its background cells, grid lines,
+     * ghost cells and brick cells.
+     */
+    private void drawRow(int row) {
+        double top = row * pitch;
+        double width = canvas.getWidth();
+        gc.save();
+        gc.beginPath();
+        gc.rect(0, top, width, pitch);
+        gc.clip();
+        gc.clearRect(0, top, width, pitch);
+
+        int[] boardRow = tracker.getRow(row);
+        for (int col = 0; col < columns; col++) {
+            Image sprite = spriteFor(cellSprites, boardRow[col]);
+            if (sprite != null) {
+                gc.drawImage(sprite, col * pitch, top);
+            }
+        }
+
+        if (gridEnabled) {
+            drawGridLines(top, width);
+        }
+        if (tracker.getShape() != null) {
+            if (ghostEnabled) {
+                drawShapeRow(ghostSprites, row, tracker.getGhostY(), top);
+            }
+            drawShapeRow(cellSprites, row, tracker.getBrickY(), top);
+        }
+        gc.restore();
+    }
+
+    /**
+     * Draws the cells of the current shape (placed with its top at shapeTop)
+     * that fall on the given board row.
+     */
+    private void drawShapeRow(Image[] sprites, int row, int shapeTop, double top) {
+        int[][] shape = tracker.getShape();
+        int shapeRow = row - shapeTop;
+        if (shapeRow < 0 || shapeRow >= shape.length) {
+            return;
+        }
+        int brickX = tracker.getBrickX();
+        int[] cells = shape[shapeRow];
+        for (int x = 0; x < cells.length; x++) {
+            int col = brickX + x;
+            Image sprite = spriteFor(sprites, cells[x]);
+            if (sprite != null && col >= 0 && col < columns) {
+                gc.drawImage(sprite, col * pitch, top);
+            }
+        }
+    }
+
+    /**
+     * Draws the grid lines bounding one row strip: the row's top and bottom
+     * edges and every column boundary.
+     */
+    private void drawGridLines(double top, double width) {
+        gc.setStroke(GRID_COLOR);
+        gc.setLineWidth(GRID_LINE_WIDTH);
+        gc.strokeLine(0, top, width, top);
+        gc.strokeLine(0, top + pitch, width, top + pitch);
+        for (int col = 0; col <= columns; col++) {
+            double x = col * pitch;
+            gc.strokeLine(x, top, x, top + pitch);
+        }
+    }
+
+    private static Image spriteFor(Image[] sprites, int value) {
+        if (value <= 0) {
+            return null;
+        }
+        return value < sprites.length ? sprites[value] : sprites[sprites.length - 1];
+    }
+
+    /**
+     * Dimmed, half-transparent version of a brick color (as GuiController
+     * uses for its ghost piece).
+     */
+    private static Color ghostColor(Color base) {
+        return new Color(base.getRed() * 0.85, base.getGreen() * 0.85, base.getBlue() * 0.85, 0.5);
+    }
+
+    /**
+     * Pre-renders a square cell image: a solid fill with a one-pixel lighter
+     * top-left edge and darker bottom-right edge for a beveled block look.
+     */
+    private static Image createCellSprite(Color color, int size) {
+        WritableImage image = new WritableImage(size, size);
+        PixelWriter writer = image.getPixelWriter();
+        Color light = color.brighter();
+        Color dark = color.darker();
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                Color pixel = color;
+                if (size >= 4) {
+                    if (x == 0 || y == 0) {
+                        pixel = light;
+                    } else if (x == size - 1 || y == size - 1) {
+                        pixel = dark;
+                    }
+                }
+                writer.setColor(x, y, pixel);
+            }
+        }
+        return image;
+    }
+}
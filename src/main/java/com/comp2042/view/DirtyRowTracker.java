@@ -0,0 +1,186 @@
+package com.comp2042.view;
+
+import java.util.Arrays;
+
+/**
+ * Tracks which board rows {@link CanvasBoardRenderer} must repaint.
+ * <p>
+ * This class is part of the View layer in the MVC architecture. It holds the
+ * renderer's record of what is on the canvas (a copy of the last drawn board
+ * and the brick and ghost placement) and decides which rows are dirty, but
+ * draws nothing itself, so it needs no canvas or FX toolkit.
+ * </p>
+ * <p>
+ * A row is dirty when:
+ * <ul>
+ *   <li>any of its board cells changed since it was last drawn</li>
+ *   <li>the brick or ghost covered it at the last repaint, or covers it now</li>
+ *   <li>it was flashed and the board has since been updated</li>
+ * </ul>
+ * A flashed row is held (never reported) until the next board update, so the
+ * brick or ghost moving over it does not paint over the flash.
+ * </p>
+ * <p>
+ * Coordinate system: x = column, y = row. Board and shape matrices are
+ * indexed as matrix[row][col].
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+final class DirtyRowTracker {
+
+    private final int rows;
+    private final int[][] drawnBoard;
+    private final boolean[] dirtyRows;
+    private final boolean[] flashedRows;  // held white until the next board update
+    private final BoardDiff.CellSink markRowDirty;
+    private boolean hasBoard;
+
+    // Brick and ghost as of the last repaint
+    private int[][] drawnShape;
+    private int drawnY;
+    private int drawnGhostY;
+
+    // Brick and ghost to draw next
+    private int[][] shape;
+    private int brickX;
+    private int brickY;
+    private int ghostY;
+
+    /**
+     * Creates a tracker for a board of the given size, with every row dirty.
+     *
+     * @param rows    the number of board rows
+     * @param columns the number of board columns
+     */
+    DirtyRowTracker(int rows, int columns) {
+        this.rows = rows;
+        drawnBoard = new int[rows][columns];
+        dirtyRows = new boolean[rows];
+        flashedRows = new boolean[rows];
+        Arrays.fill(dirtyRows, true);
+        markRowDirty = (row, col, value) -> dirtyRows[row] = true;
+    }
+
+    /**
+     * Records a new board state, marking the rows whose cells changed and
+     * releasing any flashed rows.
+     *
+     * @param boardMatrix the current board state (board[row][col])
+     */
+    void boardChanged(int[][] boardMatrix) {
+        hasBoard = true;
+        BoardDiff.apply(boardMatrix, drawnBoard, markRowDirty);
+        for (int row = 0; row < rows; row++) {
+            if (flashedRows[row]) {
+                flashedRows[row] = false;
+                dirtyRows[row] = true;
+            }
+        }
+    }
+
+    /**
+     * Records the falling brick and ghost placement to draw next.
+     *
+     * @param brickShape the brick shape (shape[row][col])
+     * @param x          the brick column
+     * @param y          the brick row
+     * @param ghost      the ghost row
+     */
+    void brickChanged(int[][] brickShape, int x, int y, int ghost) {
+        shape = brickShape;
+        brickX = x;
+        brickY = y;
+        ghostY = ghost;
+    }
+
+    /**
+     * Holds a row as flashed until the next {@link #boardChanged(int[][])}.
+     *
+     * @param row the row index
+     * @return true if the row is on the board (and should be painted white)
+     */
+    boolean flashRow(int row) {
+        if (row < 0 || row >= rows) {
+            return false;
+        }
+        flashedRows[row] = true;
+        return true;
+    }
+
+    /**
+     * Collects the rows to repaint now, in ascending order, and treats them
+     * as drawn.
+     * <p>
+     * Nothing is reported until the first board update. The rows covered by
+     * the brick and ghost at the previous and the current placement are
+     * included; flashed rows are held back.
+     * </p>
+     *
+     * @param out receives the row indices; must hold at least one entry per
+     *            board row
+     * @return the number of rows written to out
+     */
+    int collectDirtyRows(int[] out) {
+        if (!hasBoard) {
+            return 0;
+        }
+        markShapeRows(drawnShape, drawnY);
+        markShapeRows(drawnShape, drawnGhostY);
+        markShapeRows(shape, brickY);
+        markShapeRows(shape, ghostY);
+
+        int count = 0;
+        for (int row = 0; row < rows; row++) {
+            if (dirtyRows[row] && !flashedRows[row]) {
+                out[count++] = row;
+                dirtyRows[row] = false;
+            }
+        }
+        drawnShape = shape;
+        drawnY = brickY;
+        drawnGhostY = ghostY;
+        return count;
+    }
+
+    /**
+     * Returns the board values last recorded for a row.
+     *
+     * @param row the row index
+     * @return the row's cells; must not be modified
+     */
+    int[] getRow(int row) {
+        return drawnBoard[row];
+    }
+
+    int[][] getShape() {
+        return shape;
+    }
+
+    int getBrickX() {
+        return brickX;
+    }
+
+    int getBrickY() {
+        return brickY;
+    }
+
+    int getGhostY() {
+        return ghostY;
+    }
+
+    /**
+     * Marks the board rows a shape covers when placed at the given row.
+     */
+    private void markShapeRows(int[][] brick, int top) {
+        if (brick == null) {
+            return;
+        }
+        int from = Math.max(0, top);
+        int to = Math.min(rows, top + brick.length);
+        for (int row = from; row < to; row++) {
+            dirtyRows[row] = true;
+        }
+    }
+}
@@ -1,22 +1,23 @@
 package com.comp2042.view;
 
 import com.comp2042.model.ClearRow;
+import com.comp2042.model.ViewSnapshot;
 
 public final class DownData {
     private final ClearRow clearRow;
-    private final ViewData viewData;
+    private final ViewSnapshot viewSnapshot;
 
-    public DownData(ClearRow clearRow, ViewData viewData) {
+    public DownData(ClearRow clearRow, ViewSnapshot viewSnapshot) {
         this.clearRow = clearRow;
-        this.viewData = viewData;
+        this.viewSnapshot = viewSnapshot;
     }
 
     public ClearRow getClearRow() {
         return clearRow;
     }
 
-    public ViewData getViewData() {
-        return viewData;
+    public ViewSnapshot getViewSnapshot() {
+        return viewSnapshot;
     }
 }
 
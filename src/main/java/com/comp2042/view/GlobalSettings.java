@@ -1,6 +1,9 @@
 package com.comp2042.view;
 
+import com.comp2042.engine.InputRepeater;
+
 import java.io.*;
+import java.nio.file.Paths;
 import java.util.Properties;
 
 /**
@@ -11,10 +14,16 @@ import java.util.Properties;
  * - Hard drop functionality
  * - Game theme
  * - Difficulty level
+ * - Board dimensions
+ * - Board renderer (JavaFX nodes or a single canvas)
+ * - Key repeat timings (delayed auto shift and auto repeat rate)
  * </p>
  * <p>
  * Settings are persisted to a settings.config file in the user's directory.
  * If the file doesn't exist, default values are used and a new file is created.
+ * Saving never touches the disk on the calling thread: snapshots are handed
+ * to a {@link SettingsWriter}, which coalesces them and writes on a
+ * background thread. Call {@link #flush()} before the application exits.
  * </p>
  *
  * @author TetrisJFX Team
@@ -29,6 +38,23 @@ public class GlobalSettings {
     private static final String DEFAULT_DIFFICULTY = "NORMAL";
     private static final double DEFAULT_MUSIC_VOLUME = 0.7; // 0.0 to 1.0
     private static final int DEFAULT_HIGH_SCORE = 0;
+    private static final int DEFAULT_BOARD_WIDTH = 10;
+    private static final int DEFAULT_BOARD_HEIGHT = 25;
+    private static final boolean DEFAULT_CANVAS_RENDERER_ENABLED = false;
+    private static final int DEFAULT_DAS_MILLIS = (int) InputRepeater.DEFAULT_DAS_MILLIS;
+    private static final int DEFAULT_ARR_MILLIS = (int) InputRepeater.DEFAULT_ARR_MILLIS;
+
+    // Board dimension limits (64 columns is the widest row a BitBoard can hold)
+    public static final int MIN_BOARD_WIDTH = 4;
+    public static final int MAX_BOARD_WIDTH = 64;
+    public static final int MIN_BOARD_HEIGHT = 6;
+    public static final int MAX_BOARD_HEIGHT = 512;
+
+    // Key repeat limits (milliseconds)
+    public static final int MIN_DAS_MILLIS = 17;
+    public static final int MAX_DAS_MILLIS = 500;
+    public static final int MIN_ARR_MILLIS = 0;
+    public static final int MAX_ARR_MILLIS = 200;
 
     // Allowed values
     private static final String[] ALLOWED_THEMES = {"neon", "classic", "gameboy"};
@@ -37,6 +63,9 @@ public class GlobalSettings {
     // Settings file path
     private static final String SETTINGS_FILE = "settings.config";
 
+    // Longest time flush() waits for the final write
+    private static final long FLUSH_TIMEOUT_MILLIS = 2000;
+
     // Settings fields
     private boolean ghostPieceEnabled = DEFAULT_GHOST_PIECE_ENABLED;
     private boolean hardDropEnabled = DEFAULT_HARD_DROP_ENABLED;
@@ -44,6 +73,14 @@ public class GlobalSettings {
     private String difficulty = DEFAULT_DIFFICULTY;
     private double musicVolume = DEFAULT_MUSIC_VOLUME;
     private int highScore = DEFAULT_HIGH_SCORE;
+    private int boardWidth = DEFAULT_BOARD_WIDTH;
+    private int boardHeight = DEFAULT_BOARD_HEIGHT;
+    private boolean canvasRendererEnabled = DEFAULT_CANVAS_RENDERER_ENABLED;
+    private int dasMillis = DEFAULT_DAS_MILLIS;
+    private int arrMillis = DEFAULT_ARR_MILLIS;
+
+    // Background writer for settings.config
+    private final SettingsWriter writer = new SettingsWriter(Paths.get(SETTINGS_FILE));
 
     // Singleton instance
     private static GlobalSettings instance;
@@ -127,6 +164,23 @@ public class GlobalSettings {
                 highScore = DEFAULT_HIGH_SCORE;
             }
 
+            // Load board dimensions
+            boardWidth = parseClamped(props.getProperty("boardWidth"), DEFAULT_BOARD_WIDTH,
+                    MIN_BOARD_WIDTH, MAX_BOARD_WIDTH);
+            boardHeight = parseClamped(props.getProperty("boardHeight"), DEFAULT_BOARD_HEIGHT,
+                    MIN_BOARD_HEIGHT, MAX_BOARD_HEIGHT);
+
+            // Load renderer choice
+            String canvasStr = props.getProperty("canvasRendererEnabled",
+                    String.valueOf(DEFAULT_CANVAS_RENDERER_ENABLED));
+            canvasRendererEnabled = Boolean.parseBoolean(canvasStr);
+
+            // Load key repeat timings
+            dasMillis = parseClamped(props.getProperty("dasMillis"), DEFAULT_DAS_MILLIS,
+                    MIN_DAS_MILLIS, MAX_DAS_MILLIS);
+            arrMillis = parseClamped(props.getProperty("arrMillis"), DEFAULT_ARR_MILLIS,
+                    MIN_ARR_MILLIS, MAX_ARR_MILLIS);
+
         } catch (IOException e) {
             System.err.println("Error loading settings: " + e.getMessage());
             // Use defaults on error
@@ -136,7 +190,8 @@ public class GlobalSettings {
     /**
      * Saves current settings to settings.config file.
      * <p>
-     * Creates the file if it doesn't exist.
+     * Creates the file if it doesn't exist. The write is asynchronous and
+     * coalesced with other saves made shortly after it.
      * </p>
      */
     public void saveSettings() {
@@ -147,12 +202,31 @@ public class GlobalSettings {
         props.setProperty("difficulty", difficulty);
         props.setProperty("musicVolume", String.valueOf(musicVolume));
         props.setProperty("highScore", String.valueOf(highScore));
+        props.setProperty("boardWidth", String.valueOf(boardWidth));
+        props.setProperty("boardHeight", String.valueOf(boardHeight));
+        props.setProperty("canvasRendererEnabled", String.valueOf(canvasRendererEnabled));
+        props.setProperty("dasMillis", String.valueOf(dasMillis));
+        props.setProperty("arrMillis", String.valueOf(arrMillis));
 
-        try (FileOutputStream fos = new FileOutputStream(SETTINGS_FILE)) {
-            props.store(fos, "TetrisFX Game Settings");
-        } catch (IOException e) {
-            System.err.println("Error saving settings: " + e.getMessage());
-        }
+        writer.submit(props);
+    }
+
+    /**
+     * Starts writing any pending settings right away instead of waiting for
+     * further updates to coalesce. Does not block (used on game over).
+     */
+    public void requestFlush() {
+        writer.requestFlush();
+    }
+
+    /**
+     * Writes any pending settings and waits (up to two seconds) for the
+     * write to finish. Call this before the application exits.
+     *
+     * @return true if all saved settings reached the file
+     */
+    public boolean flush() {
+        return writer.flush(FLUSH_TIMEOUT_MILLIS);
     }
 
     /**
@@ -165,6 +239,26 @@ public class GlobalSettings {
         return getInstance();
     }
 
+    /**
+     * Parses an integer setting, clamping it to [min, max].
+     *
+     * @param value        the stored value (may be null)
+     * @param defaultValue the value used when missing or not a number
+     * @param min          the smallest allowed value
+     * @param max          the largest allowed value
+     * @return the parsed and clamped value
+     */
+    private static int parseClamped(String value, int defaultValue, int min, int max) {
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Math.max(min, Math.min(max, Integer.parseInt(value.trim())));
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
     /**
      * Validates if a theme name is allowed.
      *
@@ -248,11 +342,103 @@ public class GlobalSettings {
 
     public void setHighScore(int highScore) {
         // High score must be non-negative
-        this.highScore = Math.max(0, highScore);
-        // Automatically save when high score is updated
+        int newHighScore = Math.max(0, highScore);
+        if (newHighScore == this.highScore) {
+            return;
+        }
+        this.highScore = newHighScore;
+        // Automatically save when high score is updated (coalesced, off-thread)
         saveSettings();
     }
 
+    /**
+     * Gets the board width (number of columns) used for new games.
+     *
+     * @return the board width
+     */
+    public int getBoardWidth() {
+        return boardWidth;
+    }
+
+    /**
+     * Sets the board width, clamped to [MIN_BOARD_WIDTH, MAX_BOARD_WIDTH].
+     *
+     * @param boardWidth the number of columns
+     */
+    public void setBoardWidth(int boardWidth) {
+        this.boardWidth = Math.max(MIN_BOARD_WIDTH, Math.min(MAX_BOARD_WIDTH, boardWidth));
+    }
+
+    /**
+     * Gets the board height (number of rows) used for new games.
+     *
+     * @return the board height
+     */
+    public int getBoardHeight() {
+        return boardHeight;
+    }
+
+    /**
+     * Sets the board height, clamped to [MIN_BOARD_HEIGHT, MAX_BOARD_HEIGHT].
+     *
+     * @param boardHeight the number of rows
+     */
+    public void setBoardHeight(int boardHeight) {
+        this.boardHeight = Math.max(MIN_BOARD_HEIGHT, Math.min(MAX_BOARD_HEIGHT, boardHeight));
+    }
+
+    /**
+     * Checks whether the board is drawn on a single canvas instead of one
+     * JavaFX node per cell.
+     *
+     * @return true if the canvas renderer is enabled
+     */
+    public boolean isCanvasRendererEnabled() {
+        return canvasRendererEnabled;
+    }
+
+    public void setCanvasRendererEnabled(boolean canvasRendererEnabled) {
+        this.canvasRendererEnabled = canvasRendererEnabled;
+    }
+
+    /**
+     * Gets the delayed auto shift: how long left or right must be held
+     * before the brick starts repeating.
+     *
+     * @return the DAS delay in milliseconds
+     */
+    public int getDasMillis() {
+        return dasMillis;
+    }
+
+    /**
+     * Sets the delayed auto shift, clamped to [MIN_DAS_MILLIS, MAX_DAS_MILLIS].
+     *
+     * @param dasMillis the DAS delay in milliseconds
+     */
+    public void setDasMillis(int dasMillis) {
+        this.dasMillis = Math.max(MIN_DAS_MILLIS, Math.min(MAX_DAS_MILLIS, dasMillis));
+    }
+
+    /**
+     * Gets the auto repeat rate: the time between shifts once DAS has
+     * expired (0 moves the brick straight to the wall).
+     *
+     * @return the ARR interval in milliseconds
+     */
+    public int getArrMillis() {
+        return arrMillis;
+    }
+
+    /**
+     * Sets the auto repeat rate, clamped to [MIN_ARR_MILLIS, MAX_ARR_MILLIS].
+     *
+     * @param arrMillis the ARR interval in milliseconds
+     */
+    public void setArrMillis(int arrMillis) {
+        this.arrMillis = Math.max(MIN_ARR_MILLIS, Math.min(MAX_ARR_MILLIS, arrMillis));
+    }
+
     /**
      * Gets the fall speed in milliseconds based on difficulty.
      *
@@ -6,9 +6,14 @@ import com.comp2042.controller.EventSource;
 import com.comp2042.controller.EventType;
 import com.comp2042.controller.InputEventListener;
 import com.comp2042.controller.MoveEvent;
+import com.comp2042.engine.GameLoop;
+import com.comp2042.engine.InputRepeater;
+import com.comp2042.metrics.InputLatencyTracker;
+import com.comp2042.metrics.MetricsLog;
+import com.comp2042.metrics.PerfMonitor;
 import com.comp2042.model.HardDropResult;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
+import com.comp2042.model.ViewSnapshot;
+import javafx.animation.AnimationTimer;
 import javafx.application.Platform;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.IntegerProperty;
@@ -18,6 +23,7 @@ import javafx.event.EventHandler;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.Group;
+import javafx.scene.canvas.Canvas;
 import javafx.scene.effect.Reflection;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
@@ -35,11 +41,11 @@ import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.scene.text.Text;
 import javafx.stage.Stage;
-import javafx.util.Duration;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 
 import java.net.URL;
+import java.nio.file.Paths;
 import java.util.ResourceBundle;
 
 /**
@@ -84,6 +90,16 @@ public class GuiController implements Initializable {
     /** Gap between cells in GridPane (matches vgap and hgap). */
     private static final int CELL_GAP = 1;
 
+    /** Largest board area in pixels; bigger boards scale their cells down to fit. */
+    private static final int MAX_BOARD_PIXEL_WIDTH = 640;
+    private static final int MAX_BOARD_PIXEL_HEIGHT = 525;
+
+    /** Below this cell size the cell gaps and grid lines are dropped. */
+    private static final int MIN_GRID_CELL_SIZE = 8;
+
+    /** Snapshot value for a cell painted white by the line clear flash. */
+    private static final int FLASHED_CELL = -1;
+
     @FXML private BorderPane gameBoard;
     @FXML private GridPane gamePanel;
     @FXML private GridPane brickPanel;
@@ -116,6 +132,13 @@ public class GuiController implements Initializable {
 
     private Rectangle[][] displayMatrix;
 
+    // Board values currently shown by displayMatrix, for diffing refreshes
+    private int[][] renderedBoard;
+
+    // Repaints one background cell changed by a refresh (cached so the diff does not allocate)
+    private final BoardDiff.CellSink backgroundCellSink =
+            (row, col, value) -> setRectangleData(value, displayMatrix[row][col]);
+
     private InputEventListener eventListener;
 
     private Rectangle[][] rectangles;
@@ -127,7 +150,52 @@ public class GuiController implements Initializable {
     private Rectangle[][] nextPieceMatrix1;
     private Rectangle[][] nextPieceMatrix2;
 
-    private Timeline timeLine;
+    /** Gravity step issued by the game loop. */
+    private static final MoveEvent GRAVITY_EVENT = new MoveEvent(EventType.DOWN, EventSource.THREAD);
+
+    /** Player movement events, shared by key presses and held-key repeats. */
+    private static final MoveEvent LEFT_EVENT = new MoveEvent(EventType.LEFT, EventSource.USER);
+    private static final MoveEvent RIGHT_EVENT = new MoveEvent(EventType.RIGHT, EventSource.USER);
+    private static final MoveEvent SOFT_DROP_EVENT = new MoveEvent(EventType.DOWN, EventSource.USER);
+
+    // Held-key DAS/ARR, advanced by the game loop's tick listener
+    private final InputRepeater inputRepeater = new InputRepeater();
+    // Brick moved by held keys during this frame's ticks, redrawn once per frame
+    private ViewSnapshot pendingShiftView;
+
+    // Key press to screen timing; the pulse stage is this timer's next frame
+    private final InputLatencyTracker latencyTracker = new InputLatencyTracker();
+    private MetricsLog latencyLog;           // created on the first write
+    private long latencySamplesLogged;
+    private long lastLatencyOverlayNanos;
+    private long lastLatencyLogNanos;
+
+    // Single fixed-timestep loop owning gravity; fed once per frame
+    private final GameLoop gameLoop = new GameLoop(() -> moveDown(GRAVITY_EVENT));
+    private final AnimationTimer frameTimer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            latencyTracker.pulse(System.nanoTime());
+            if (perfHud != null && perfHud.isVisible()) {
+                perfMonitor.frame(now);
+                long ticksBefore = gameLoop.getTickCount();
+                long updateStart = System.nanoTime();
+                gameLoop.update(now);
+                long ticks = gameLoop.getTickCount() - ticksBefore;
+                if (ticks > 0) {
+                    perfMonitor.tickTime((System.nanoTime() - updateStart) / ticks);
+                }
+            } else {
+                gameLoop.update(now);
+            }
+            if (pendingShiftView != null) {
+                refreshBrick(pendingShiftView);
+                pendingShiftView = null;
+            }
+            reportLatency(now);
+            refreshPerfHud(now);
+        }
+    };
 
     private final BooleanProperty isPause = new SimpleBooleanProperty();
     
@@ -152,7 +220,19 @@ public class GuiController implements Initializable {
     private int numberOfRows;
     private double boardPixelWidth;
     private double boardPixelHeight;
-    private ViewData lastViewData;
+    private ViewSnapshot lastViewData;
+
+    // What refreshBrick last drew, so unchanged shapes and previews are skipped
+    private int[][] renderedBrickShape;
+    private int renderedPreviewVersion;
+
+    // Cell size and gap of the game board, scaled to the board dimensions
+    private int cellSize = BRICK_SIZE;
+    private int cellGap = CELL_GAP;
+
+    // Canvas rendering (alternative to the per-cell Rectangle nodes)
+    private boolean canvasRendererEnabled;
+    private CanvasBoardRenderer canvasRenderer;
 
     // Pause overlay components
     private Group pauseOverlay;
@@ -160,6 +240,18 @@ public class GuiController implements Initializable {
     private Text resumeText;
     private javafx.scene.layout.Pane dimOverlay;
 
+    // Input latency debug overlay (F3), created on first use
+    private Text latencyOverlay;
+    private static final long LATENCY_OVERLAY_INTERVAL_NANOS = 500_000_000L;
+    private static final long LATENCY_LOG_INTERVAL_NANOS = 10_000_000_000L;
+    private static final String LATENCY_LOG_FILE = "latency.log";
+    private static final long LATENCY_LOG_CLOSE_TIMEOUT_MILLIS = 2000;
+
+    // Performance HUD (F2), created on first use; hidden means not measuring
+    private final PerfMonitor perfMonitor = new PerfMonitor();
+    private Group perfHud;
+    private Text perfHudText;
+
     /**
      * Initializes the JavaFX controller after FXML loading.
      * <p>
@@ -183,6 +275,15 @@ public class GuiController implements Initializable {
 
         // Initialize pause overlay
         initializePauseOverlay();
+
+        // Held keys repeat on game loop ticks, ahead of that tick's gravity
+        gameLoop.setTickListener(tick -> applyHeldKeys());
+        // Key releases are lost while unfocused, so forget held keys on focus loss
+        gamePanel.focusedProperty().addListener((observable, wasFocused, focused) -> {
+            if (!focused) {
+                inputRepeater.releaseAll();
+            }
+        });
         
         // Initialize music manager
         musicManager = MusicManager.getInstance();
@@ -211,6 +312,8 @@ public class GuiController implements Initializable {
         gamePanel.setOnKeyPressed(new EventHandler<KeyEvent>() {
             @Override
             public void handle(KeyEvent keyEvent) {
+                latencyTracker.inputReceived(System.nanoTime());
+
                 // F11 key toggles fullscreen (only way to exit fullscreen)
                 if (keyEvent.getCode() == KeyCode.F11) {
                     if (sceneManager != null) {
@@ -220,6 +323,20 @@ public class GuiController implements Initializable {
                     return;
                 }
                 
+                // F2 key toggles the performance HUD
+                if (keyEvent.getCode() == KeyCode.F2) {
+                    togglePerfHud();
+                    keyEvent.consume();
+                    return;
+                }
+
+                // F3 key toggles the input latency overlay
+                if (keyEvent.getCode() == KeyCode.F3) {
+                    toggleLatencyOverlay();
+                    keyEvent.consume();
+                    return;
+                }
+
                 // P key toggles pause/unpause (works even when paused or game over)
                 if (keyEvent.getCode() == KeyCode.P) {
                     togglePause();
@@ -249,16 +366,20 @@ public class GuiController implements Initializable {
                 // Only process movement keys when not paused and not game over
                 if (isPause.getValue() == Boolean.FALSE &&
                         isGameOver.getValue() == Boolean.FALSE) {
+                    // Left/right shift once on press; holding them repeats on
+                    // game loop ticks, so OS key repeats are ignored
                     if (keyEvent.getCode() == KeyCode.LEFT ||
                             keyEvent.getCode() == KeyCode.A) {
-                        refreshBrick(eventListener.onLeftEvent(
-                                new MoveEvent(EventType.LEFT, EventSource.USER)));
+                        if (inputRepeater.press(InputRepeater.LEFT) != 0) {
+                            refreshBrick(eventListener.onLeftEvent(LEFT_EVENT));
+                        }
                         keyEvent.consume();
                     }
                     if (keyEvent.getCode() == KeyCode.RIGHT ||
                             keyEvent.getCode() == KeyCode.D) {
-                        refreshBrick(eventListener.onRightEvent(
-                                new MoveEvent(EventType.RIGHT, EventSource.USER)));
+                        if (inputRepeater.press(InputRepeater.RIGHT) != 0) {
+                            refreshBrick(eventListener.onRightEvent(RIGHT_EVENT));
+                        }
                         keyEvent.consume();
                     }
                     if (keyEvent.getCode() == KeyCode.UP ||
@@ -269,7 +390,9 @@ public class GuiController implements Initializable {
                     }
                     if (keyEvent.getCode() == KeyCode.DOWN ||
                             keyEvent.getCode() == KeyCode.S) {
-                        moveDown(new MoveEvent(EventType.DOWN, EventSource.USER));
+                        if (inputRepeater.pressSoftDrop()) {
+                            moveDown(SOFT_DROP_EVENT);
+                        }
                         keyEvent.consume();
                     }
                 }
@@ -278,6 +401,26 @@ public class GuiController implements Initializable {
                 }
             }
         });
+
+        // Releases end held-key repeats (tracked even while paused, so a key
+        // let go during a pause does not keep repeating afterwards)
+        gamePanel.setOnKeyReleased(new EventHandler<KeyEvent>() {
+            @Override
+            public void handle(KeyEvent keyEvent) {
+                if (keyEvent.getCode() == KeyCode.LEFT ||
+                        keyEvent.getCode() == KeyCode.A) {
+                    inputRepeater.release(InputRepeater.LEFT);
+                }
+                if (keyEvent.getCode() == KeyCode.RIGHT ||
+                        keyEvent.getCode() == KeyCode.D) {
+                    inputRepeater.release(InputRepeater.RIGHT);
+                }
+                if (keyEvent.getCode() == KeyCode.DOWN ||
+                        keyEvent.getCode() == KeyCode.S) {
+                    inputRepeater.releaseSoftDrop();
+                }
+            }
+        });
         
         // Set game over panel invisible initially (with null check)
         if (gameOverPanel != null) {
@@ -351,18 +494,23 @@ public class GuiController implements Initializable {
         // Update difficulty base speed
         difficultyBaseSpeed = settings.getFallSpeedMillis();
         
+        // Renderer choice takes effect on the next initGameView
+        canvasRendererEnabled = settings.isCanvasRendererEnabled();
+
+        // Update key repeat timings
+        inputRepeater.setTiming(settings.getDasMillis(), settings.getArrMillis(),
+                InputRepeater.DEFAULT_SOFT_DROP_MILLIS);
+
         // Update ghost panel visibility immediately
         if (ghostPanel != null) {
             ghostPanel.setVisible(ghostPieceEnabled);
         }
-        
-        // Update game speed if timeline exists
-        if (timeLine != null && scoreReference != null) {
-            updateGameSpeed();
-        } else if (timeLine == null && scoreReference != null) {
-            // Timeline not created yet, but score reference exists - will be set when timeline is created
-            // The initial timeline creation should use difficultyBaseSpeed
+        if (canvasRenderer != null) {
+            canvasRenderer.setGhostEnabled(ghostPieceEnabled);
         }
+        
+        // Update game speed for the running game
+        updateGameSpeed();
     }
 
     /**
@@ -416,8 +564,8 @@ public class GuiController implements Initializable {
     /**
      * Toggles the pause state of the game.
      * <p>
-     * When pausing: stops the Timeline, disables movement, and shows the pause overlay.
-     * When unpausing: restarts the Timeline, enables movement, and hides the pause overlay.
+     * When pausing: pauses the game loop, disables movement, and shows the pause overlay.
+     * When unpausing: resumes the game loop, enables movement, and hides the pause overlay.
      * </p>
      */
     private void togglePause() {
@@ -429,20 +577,16 @@ public class GuiController implements Initializable {
         isPause.setValue(newPauseState);
 
         if (newPauseState) {
-            // Pause: stop timeline and show overlay
-            if (timeLine != null) {
-                timeLine.pause();
-            }
+            // Pause: pause the game loop and show overlay
+            gameLoop.pause();
             showPauseOverlay();
             // Update button text
             if (pauseButton != null) {
                 pauseButton.setText("RESUME");
             }
         } else {
-            // Unpause: resume timeline and hide overlay
-            if (timeLine != null) {
-                timeLine.play();
-            }
+            // Unpause: resume the game loop and hide overlay
+            gameLoop.resume();
             hidePauseOverlay();
             // Update button text
             if (pauseButton != null) {
@@ -568,8 +712,15 @@ public class GuiController implements Initializable {
      * Initializes the game view with the board matrix and initial brick state.
      * <p>
      * Creates Rectangle objects for each cell in the board and brick panels,
-     * sets up the visual representation, and starts the automatic downward
-     * movement timeline. The board is centered after initialization.
+     * sets up the visual representation, and (re)starts the game loop that
+     * drives automatic downward movement. The board is centered after
+     * initialization.
+     * </p>
+     * <p>
+     * This is the one place a game's loop is started, at the current
+     * difficulty's speed; {@link #newGame(ActionEvent)} and
+     * {@link #restartGame(ActionEvent)} reach it through the event
+     * listener's createNewGame().
      * </p>
      * <p>
      * Coordinate system: x = column, y = row. Board matrix is indexed as
@@ -577,9 +728,9 @@ public class GuiController implements Initializable {
      * </p>
      *
      * @param boardMatrix the initial board state matrix (board[row][col])
-     * @param brick       the initial falling brick ViewData
+     * @param brick       the initial falling brick ViewSnapshot
      */
-    public void initGameView(int[][] boardMatrix, ViewData brick) {
+    public void initGameView(int[][] boardMatrix, ViewSnapshot brick) {
         // Clear old nodes from gamePanel
         gamePanel.getChildren().clear();
 
@@ -591,71 +742,34 @@ public class GuiController implements Initializable {
         numberOfRows = boardMatrix.length;  // rows (y dimension)
         numberOfColumns = boardMatrix[0].length;  // cols (x dimension)
 
-        // Calculate board pixel dimensions
-        boardPixelWidth = numberOfColumns * BRICK_SIZE;
-        boardPixelHeight = numberOfRows * BRICK_SIZE;
-
-        displayMatrix = new Rectangle[numberOfRows][numberOfColumns];
-
-        // Loop: y (row) as outer, x (col) as inner
-        // Map board[y][x] → GridPane column=x row=y
-        for (int y = 0; y < numberOfRows; y++) {
-            for (int x = 0; x < numberOfColumns; x++) {
-                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                rectangle.setFill(Color.TRANSPARENT);
-                displayMatrix[y][x] = rectangle;
-                // GridPane.add(node, column, row) = add(node, x, y)
-                gamePanel.add(rectangle, x, y);
-            }
-        }
-
-        // Initialize grid overlay for visual grid lines
-        initializeGridOverlay();
+        // Scale cells so large boards still fit on screen
+        cellSize = computeCellSize(numberOfRows, numberOfColumns);
+        cellGap = cellSize >= MIN_GRID_CELL_SIZE ? CELL_GAP : 0;
+        gamePanel.setHgap(cellGap);
+        gamePanel.setVgap(cellGap);
+        brickPanel.setHgap(cellGap);
+        brickPanel.setVgap(cellGap);
 
-        // Initialize brick panel rectangles
-        // brick.getBrickData() is [rows][cols] = [y][x]
-        int brickHeight = brick.getBrickData().length;  // rows (y dimension)
-        int brickWidth = brick.getBrickData()[0].length;  // cols (x dimension)
-        rectangles = new Rectangle[brickHeight][brickWidth];
+        // Calculate board pixel dimensions
+        boardPixelWidth = numberOfColumns * cellSize;
+        boardPixelHeight = numberOfRows * cellSize;
 
-        // Loop: y (row) as outer, x (col) as inner
-        // Map brick[y][x] → GridPane column=x row=y
-        for (int y = 0; y < brickHeight; y++) {
-            for (int x = 0; x < brickWidth; x++) {
-                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                rectangle.setFill(getFillColor(brick.getBrickData()[y][x]));
-                // Add rounded corners for NES-style blocks
-                rectangle.setArcHeight(2);
-                rectangle.setArcWidth(2);
-                rectangles[y][x] = rectangle;
-                // GridPane.add(node, column, row) = add(node, x, y)
-                brickPanel.add(rectangle, x, y);
-            }
-        }
-        
-        // Ensure brickPanel is visible and on top (critical for seeing falling blocks)
-        if (brickPanel != null) {
-            brickPanel.setVisible(true);
-            brickPanel.setViewOrder(-1.0); // Negative view order = render on top of gameBoard
-            brickPanel.toFront(); // Force to front of z-order
-            brickPanel.setMouseTransparent(false); // Allow interaction
-            // Ensure pause overlay stays on top if visible
-            if (pauseOverlay != null && pauseOverlay.isVisible()) {
-                pauseOverlay.setViewOrder(-1000.0);
-                pauseOverlay.toFront();
-            }
+        if (canvasRendererEnabled) {
+            initCanvasBoardView(brick);
+        } else {
+            canvasRenderer = null;
+            initNodeBoardView(brick);
         }
 
-        // Initialize ghost panel
-        initializeGhostPanel(brick);
-
         // Initialize next piece preview
         initNextPiecePreview(brick.getNextPiecesData());
+        renderedPreviewVersion = brick.getPreviewVersion();
+        renderedBrickShape = null;
 
         // Initialize scoreboard
         refreshScore(brick);
 
-        // Store ViewData for centering updates
+        // Store ViewSnapshot for centering updates
         lastViewData = brick;
 
         // Ensure brick panel and ghost panel are added to root and visible
@@ -708,12 +822,7 @@ public class GuiController implements Initializable {
 
         // Use difficulty base speed if available, otherwise default to 400ms
         long initialSpeed = (difficultyBaseSpeed > 0) ? difficultyBaseSpeed : 400;
-        timeLine = new Timeline(new KeyFrame(
-                Duration.millis(initialSpeed),
-                ae -> moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD))
-        ));
-        timeLine.setCycleCount(Timeline.INDEFINITE);
-        timeLine.play();
+        startGameLoop(initialSpeed);
         
         // Start background music if not already playing (music may already be playing from menu)
         if (musicManager != null && !musicManager.isPlaying()) {
@@ -725,6 +834,115 @@ public class GuiController implements Initializable {
         }
     }
 
+    /**
+     * Builds the node-based board view: one Rectangle per board cell in
+     * gamePanel, the grid overlay, and the falling brick and ghost panels.
+     *
+     * @param brick the initial falling brick ViewSnapshot
+     */
+    private void initNodeBoardView(ViewSnapshot brick) {
+        displayMatrix = new Rectangle[numberOfRows][numberOfColumns];
+        // New cells start transparent, i.e. showing an empty board
+        renderedBoard = new int[numberOfRows][numberOfColumns];
+
+        // Loop: y (row) as outer, x (col) as inner
+        // Map board[y][x] → GridPane column=x row=y
+        for (int y = 0; y < numberOfRows; y++) {
+            for (int x = 0; x < numberOfColumns; x++) {
+                Rectangle rectangle = new Rectangle(cellSize, cellSize);
+                rectangle.setFill(Color.TRANSPARENT);
+                displayMatrix[y][x] = rectangle;
+                // GridPane.add(node, column, row) = add(node, x, y)
+                gamePanel.add(rectangle, x, y);
+            }
+        }
+
+        // Initialize grid overlay for visual grid lines
+        initializeGridOverlay();
+
+        // Initialize brick panel rectangles
+        // brick.getBrickData() is [rows][cols] = [y][x]
+        int brickHeight = brick.getBrickData().length;  // rows (y dimension)
+        int brickWidth = brick.getBrickData()[0].length;  // cols (x dimension)
+        rectangles = new Rectangle[brickHeight][brickWidth];
+
+        // Loop: y (row) as outer, x (col) as inner
+        // Map brick[y][x] → GridPane column=x row=y
+        for (int y = 0; y < brickHeight; y++) {
+            for (int x = 0; x < brickWidth; x++) {
+                Rectangle rectangle = new Rectangle(cellSize, cellSize);
+                rectangle.setFill(getFillColor(brick.getBrickData()[y][x]));
+                // Add rounded corners for NES-style blocks
+                rectangle.setArcHeight(2);
+                rectangle.setArcWidth(2);
+                rectangles[y][x] = rectangle;
+                // GridPane.add(node, column, row) = add(node, x, y)
+                brickPanel.add(rectangle, x, y);
+            }
+        }
+        
+        // Ensure brickPanel is visible and on top (critical for seeing falling blocks)
+        if (brickPanel != null) {
+            brickPanel.setVisible(true);
+            brickPanel.setViewOrder(-1.0); // Negative view order = render on top of gameBoard
+            brickPanel.toFront(); // Force to front of z-order
+            brickPanel.setMouseTransparent(false); // Allow interaction
+            // Ensure pause overlay stays on top if visible
+            if (pauseOverlay != null && pauseOverlay.isVisible()) {
+                pauseOverlay.setViewOrder(-1000.0);
+                pauseOverlay.toFront();
+            }
+        }
+
+        // Initialize ghost panel
+        initializeGhostPanel(brick);
+    }
+
+    /**
+     * Builds the canvas-based board view: a single Canvas in gamePanel that
+     * draws the board, grid, ghost and falling brick. The node-based brick,
+     * ghost and grid panels are left empty.
+     *
+     * @param brick the initial falling brick ViewSnapshot
+     */
+    private void initCanvasBoardView(ViewSnapshot brick) {
+        displayMatrix = null;
+        renderedBoard = null;
+        rectangles = null;
+        ghostRectangles = null;
+        if (ghostPanel != null) {
+            ghostPanel.getChildren().clear();
+        }
+        if (gridOverlay != null) {
+            gridOverlay.getChildren().clear();
+        }
+
+        canvasRenderer = new CanvasBoardRenderer(numberOfRows, numberOfColumns,
+                cellSize, cellGap, BRICK_SIZE);
+        canvasRenderer.setGhostEnabled(ghostPieceEnabled);
+        gamePanel.add(canvasRenderer.getCanvas(), 0, 0);
+        canvasRenderer.renderBrick(brick);
+    }
+
+    /**
+     * Draws a next piece preview onto a Canvas inside the preview panel,
+     * reusing the panel's canvas when it already has one.
+     *
+     * @param nextBrick the brick shape to draw
+     * @param panel     the preview GridPane
+     */
+    private void drawCanvasPreview(int[][] nextBrick, GridPane panel) {
+        Canvas preview;
+        if (panel.getChildren().size() == 1 && panel.getChildren().get(0) instanceof Canvas existing) {
+            preview = existing;
+        } else {
+            panel.getChildren().clear();
+            preview = new Canvas();
+            panel.add(preview, 0, 0);
+        }
+        canvasRenderer.drawPreview(preview, nextBrick);
+    }
+
     /**
      * Sets up window and fullscreen centering listeners for the stage.
      * <p>
@@ -1021,6 +1239,30 @@ public class GuiController implements Initializable {
         groupNotification.toFront();
     }
 
+    /**
+     * Computes the board cell size for the given dimensions.
+     * <p>
+     * Standard boards use the full BRICK_SIZE. Larger boards (e.g. 64x512
+     * puzzle and training variants) shrink their cells so the whole board
+     * fits within MAX_BOARD_PIXEL_WIDTH x MAX_BOARD_PIXEL_HEIGHT, down to a
+     * minimum of one pixel per cell.
+     * </p>
+     *
+     * @param rows    the number of board rows
+     * @param columns the number of board columns
+     * @return the cell size in pixels
+     */
+    static int computeCellSize(int rows, int columns) {
+        int fitHeight = MAX_BOARD_PIXEL_HEIGHT / rows - CELL_GAP;
+        int fitWidth = MAX_BOARD_PIXEL_WIDTH / columns - CELL_GAP;
+        int size = Math.min(BRICK_SIZE, Math.min(fitHeight, fitWidth));
+        if (size < MIN_GRID_CELL_SIZE) {
+            // Gaps are dropped at this size, so the full pixel budget is available
+            size = Math.min(MAX_BOARD_PIXEL_HEIGHT / rows, MAX_BOARD_PIXEL_WIDTH / columns);
+        }
+        return Math.max(1, size);
+    }
+
     /**
      * Initializes the ghost panel for displaying the ghost piece.
      * <p>
@@ -1029,14 +1271,14 @@ public class GuiController implements Initializable {
      * colors (opacity 0.3) behind the active brick.
      * </p>
      *
-     * @param brick the ViewData containing the brick shape information
+     * @param brick the ViewSnapshot containing the brick shape information
      */
-    private void initializeGhostPanel(ViewData brick) {
+    private void initializeGhostPanel(ViewSnapshot brick) {
         // Create ghost panel if it doesn't exist
         if (ghostPanel == null) {
             ghostPanel = new GridPane();
-            ghostPanel.setHgap(1);
-            ghostPanel.setVgap(1);
+            ghostPanel.setHgap(cellGap);
+            ghostPanel.setVgap(cellGap);
             ghostPanel.setMouseTransparent(true); // Allow clicks to pass through
             ghostPanel.setVisible(ghostPieceEnabled); // Visible based on settings
             ghostPanel.setViewOrder(1.0); // Render behind active brick (lower view order = behind)
@@ -1054,6 +1296,8 @@ public class GuiController implements Initializable {
         } else {
             // Ensure ghost panel visibility matches settings when reinitializing
             ghostPanel.setVisible(ghostPieceEnabled);
+            ghostPanel.setHgap(cellGap);
+            ghostPanel.setVgap(cellGap);
         }
 
         // Clear old ghost rectangles
@@ -1068,7 +1312,7 @@ public class GuiController implements Initializable {
         // Loop: y (row) as outer, x (col) as inner
         for (int y = 0; y < brickHeight; y++) {
             for (int x = 0; x < brickWidth; x++) {
-                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
+                Rectangle rectangle = new Rectangle(cellSize, cellSize);
                 // Set ghost color with improved visibility
                 Paint ghostColor = getGhostColor(brickData[y][x]);
                 rectangle.setFill(ghostColor);
@@ -1117,16 +1361,21 @@ public class GuiController implements Initializable {
             gridOverlay.getChildren().clear();
         }
 
+        // Cells too small for grid lines (very large boards): leave the overlay empty
+        if (cellSize < MIN_GRID_CELL_SIZE) {
+            return;
+        }
+
         // GridPane with hgap and vgap places cells with gaps between them
-        // Cell width including gap: BRICK_SIZE + CELL_GAP
+        // Cell width including gap: cellSize + cellGap
         // Total grid dimensions
-        double cellWidth = BRICK_SIZE + CELL_GAP;
-        double cellHeight = BRICK_SIZE + CELL_GAP;
-        double totalWidth = numberOfColumns * BRICK_SIZE + (numberOfColumns - 1) * CELL_GAP;
-        double totalHeight = numberOfRows * BRICK_SIZE + (numberOfRows - 1) * CELL_GAP;
+        double cellWidth = cellSize + cellGap;
+        double cellHeight = cellSize + cellGap;
+        double totalWidth = numberOfColumns * cellSize + (numberOfColumns - 1) * cellGap;
+        double totalHeight = numberOfRows * cellSize + (numberOfRows - 1) * cellGap;
 
         // Draw vertical grid lines at column boundaries
-        // Lines should be at: 0, BRICK_SIZE, BRICK_SIZE+gap+BRICK_SIZE, etc.
+        // Lines should be at: 0, cellSize, cellSize+gap+cellSize, etc.
         for (int x = 0; x <= numberOfColumns; x++) {
             Line verticalLine = new Line();
             double xPos = x * cellWidth;
@@ -1202,18 +1451,18 @@ public class GuiController implements Initializable {
      * positioned inside the gameBoard.
      * </p>
      *
-     * @param brick the ViewData containing the brick's current position
+     * @param brick the ViewSnapshot containing the brick's current position
      */
-    private void updateBrickPanelPosition(ViewData brick) {
+    private void updateBrickPanelPosition(ViewSnapshot brick) {
         if (brickPanel == null || gameBoard == null) return;
         
         // x = column, y = row
         // Position brickPanel relative to gameBoard's position
         // Account for BorderPane's border width (8px from CSS - NES style)
-        // Account for GridPane gaps: each cell is BRICK_SIZE + CELL_GAP apart
+        // Account for GridPane gaps: each cell is cellSize + cellGap apart
         double borderWidth = 8.0;
-        double cellWidth = BRICK_SIZE + CELL_GAP;
-        double cellHeight = BRICK_SIZE + CELL_GAP;
+        double cellWidth = cellSize + cellGap;
+        double cellHeight = cellSize + cellGap;
         double layoutX = gameBoard.getLayoutX() + borderWidth +
                 brick.getxPosition() * cellWidth;
         double layoutY = gameBoard.getLayoutY() + borderWidth +
@@ -1243,9 +1492,9 @@ public class GuiController implements Initializable {
      * positioned inside the gameBoard.
      * </p>
      *
-     * @param brick the ViewData containing the brick's position and ghost position
+     * @param brick the ViewSnapshot containing the brick's position and ghost position
      */
-    private void updateGhostPanelPosition(ViewData brick) {
+    private void updateGhostPanelPosition(ViewSnapshot brick) {
         if (ghostPanel == null || gameBoard == null) return;
         
         // Don't update ghost panel if ghost piece is disabled
@@ -1257,10 +1506,10 @@ public class GuiController implements Initializable {
         // x = column, y = row (ghost Y position)
         // Position ghostPanel relative to gameBoard's position
         // Account for BorderPane's border width (8px from CSS - NES style)
-        // Account for GridPane gaps: each cell is BRICK_SIZE + CELL_GAP apart
+        // Account for GridPane gaps: each cell is cellSize + cellGap apart
         double borderWidth = 8.0;
-        double cellWidth = BRICK_SIZE + CELL_GAP;
-        double cellHeight = BRICK_SIZE + CELL_GAP;
+        double cellWidth = cellSize + cellGap;
+        double cellHeight = cellSize + cellGap;
         double layoutX = gameBoard.getLayoutX() + borderWidth +
                 brick.getxPosition() * cellWidth;
         double layoutY = gameBoard.getLayoutY() + borderWidth +
@@ -1382,6 +1631,10 @@ public class GuiController implements Initializable {
      */
     private void initSingleNextPiecePreview(int[][] nextBrick, GridPane panel, Rectangle[][] matrix) {
         if (panel == null || nextBrick == null) return;
+        if (canvasRenderer != null) {
+            drawCanvasPreview(nextBrick, panel);
+            return;
+        }
 
         // Clear old rectangles
         panel.getChildren().clear();
@@ -1395,9 +1648,9 @@ public class GuiController implements Initializable {
 
         // Set fixed size for the preview panel
         int maxSize = 6;
-        double cellSize = BRICK_SIZE + CELL_GAP;
-        double panelWidth = maxSize * cellSize;
-        double panelHeight = maxSize * cellSize;
+        double previewCellSize = BRICK_SIZE + CELL_GAP;
+        double panelWidth = maxSize * previewCellSize;
+        double panelHeight = maxSize * previewCellSize;
         panel.setPrefSize(panelWidth, panelHeight);
         panel.setMinSize(panelWidth, panelHeight);
         panel.setMaxSize(panelWidth, panelHeight);
@@ -1462,6 +1715,10 @@ public class GuiController implements Initializable {
      */
     private void refreshSingleNextPiece(int[][] nextBrick, GridPane panel, boolean isFirstPanel) {
         if (panel == null || nextBrick == null) return;
+        if (canvasRenderer != null) {
+            drawCanvasPreview(nextBrick, panel);
+            return;
+        }
 
         int brickHeight = nextBrick.length;
         int brickWidth = nextBrick[0].length;
@@ -1667,7 +1924,7 @@ public class GuiController implements Initializable {
      * Refreshes the scoreboard display with current score information.
      * <p>
      * Updates the score labels (current score, total lines, high score) based
-     * on the ViewData. This method is called whenever the game state changes
+     * on the ViewSnapshot. This method is called whenever the game state changes
      * (brick locks, rows cleared, new game).
      * </p>
      * <p>
@@ -1675,9 +1932,9 @@ public class GuiController implements Initializable {
      * to update the scoreboard when needed.
      * </p>
      *
-     * @param viewData the ViewData containing current score information
+     * @param viewData the ViewSnapshot containing current score information
      */
-    public void refreshScoreboard(ViewData viewData) {
+    public void refreshScoreboard(ViewSnapshot viewData) {
         if (currentLevelLabel != null) {
             currentLevelLabel.setText(String.valueOf(viewData.getLevel()));
         }
@@ -1698,9 +1955,9 @@ public class GuiController implements Initializable {
      * This is kept for internal use within GuiController.
      * </p>
      *
-     * @param viewData the ViewData containing current score information
+     * @param viewData the ViewSnapshot containing current score information
      */
-    private void refreshScore(ViewData viewData) {
+    private void refreshScore(ViewSnapshot viewData) {
         refreshScoreboard(viewData);
     }
 
@@ -1708,21 +1965,39 @@ public class GuiController implements Initializable {
      * Refreshes the brick visual representation and position.
      * <p>
      * Updates the brick panel position and visual appearance based on the
-     * current ViewData. Also updates the ghost piece position and appearance,
+     * current ViewSnapshot. Also updates the ghost piece position and appearance,
      * and refreshes the next piece preview. Only updates if the game is not paused.
      * </p>
      * <p>
+     * The snapshot's shapes are shared, so the rectangles are only recolored
+     * when the shape array changes (a new brick or rotation), and the preview
+     * only when its version changes (a spawn).
+     * </p>
+     * <p>
      * Coordinate system: x = column, y = row. Brick data is indexed as
      * brick[row][col].
      * </p>
      *
-     * @param brick the ViewData containing the current brick state
+     * @param brick the ViewSnapshot containing the current brick state
      */
-    public void refreshBrick(ViewData brick) {
+    public void refreshBrick(ViewSnapshot brick) {
         if (isPause.getValue() == Boolean.FALSE) {
-            // Store ViewData for fullscreen updates
+            // Store ViewSnapshot for fullscreen updates
             lastViewData = brick;
 
+            // The preview only changes when a brick spawns
+            if (brick.getPreviewVersion() != renderedPreviewVersion) {
+                refreshNextPiece(brick.getNextPiecesData());
+                renderedPreviewVersion = brick.getPreviewVersion();
+            }
+
+            if (canvasRenderer != null) {
+                canvasRenderer.renderBrick(brick);
+                refreshScore(brick);
+                latencyTracker.rendered(System.nanoTime());
+                return;
+            }
+
             // Ensure brickPanel is visible and on top before updating
             if (brickPanel != null) {
                 brickPanel.setVisible(true);
@@ -1736,61 +2011,17 @@ public class GuiController implements Initializable {
             // Update ghost panel position
             updateGhostPanelPosition(brick);
 
-            // Update next piece preview
-            refreshNextPiece(brick.getNextPiecesData());
-
             // Update scoreboard
             refreshScore(brick);
 
-            // Update brick visual representation
-            // brick.getBrickData() is [rows][cols] = [y][x]
-            int brickHeight = brick.getBrickData().length;
-            int brickWidth = brick.getBrickData()[0].length;
-            
-            // Reinitialize ghost panel if brick dimensions changed (e.g., after rotation)
-            if (ghostRectangles == null || ghostRectangles.length != brickHeight ||
-                    (ghostRectangles.length > 0 && ghostRectangles[0].length != brickWidth)) {
-                initializeGhostPanel(brick);
-            }
-            
-            // Ensure rectangles array is valid
-            if (rectangles == null || rectangles.length != brickHeight ||
-                    (rectangles.length > 0 && rectangles[0].length != brickWidth)) {
-                // Reinitialize rectangles if dimensions changed
-                rectangles = new Rectangle[brickHeight][brickWidth];
-                brickPanel.getChildren().clear();
-                for (int y = 0; y < brickHeight; y++) {
-                    for (int x = 0; x < brickWidth; x++) {
-                        Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                        rectangle.setArcHeight(2);
-                        rectangle.setArcWidth(2);
-                        rectangle.setVisible(true);
-                        // Set initial color from brick data
-                        int colorValue = brick.getBrickData()[y][x];
-                        rectangle.setFill(getFillColor(colorValue));
-                        rectangles[y][x] = rectangle;
-                        brickPanel.add(rectangle, x, y);
-                    }
-                }
-            }
-            
-            // Loop: y (row) as outer, x (col) as inner
-            for (int y = 0; y < brickHeight; y++) {
-                for (int x = 0; x < brickWidth; x++) {
-                    if (rectangles != null && y < rectangles.length && 
-                        x < rectangles[y].length && rectangles[y][x] != null) {
-                        setRectangleData(brick.getBrickData()[y][x],
-                                rectangles[y][x]);
-                    }
-                    // Update ghost rectangles with semi-transparent colors
-                    if (ghostRectangles != null && y < ghostRectangles.length &&
-                            x < ghostRectangles[y].length) {
-                        Paint ghostColor = getGhostColor(brick.getBrickData()[y][x]);
-                        ghostRectangles[y][x].setFill(ghostColor);
-                    }
-                }
+            // Update brick visual representation; brickData is the shared
+            // shape, so a move that keeps the same shape needs no recoloring
+            int[][] brickData = brick.getBrickData();
+            if (brickData != renderedBrickShape) {
+                renderedBrickShape = brickData;
+                recolorBrick(brick, brickData);
             }
-            
+
             // Final check: ensure brickPanel is on top and visible after all updates
             if (brickPanel != null) {
                 brickPanel.setVisible(true);
@@ -1801,15 +2032,74 @@ public class GuiController implements Initializable {
                     pauseOverlay.toFront();
                 }
             }
+            latencyTracker.rendered(System.nanoTime());
+        }
+    }
+
+    /**
+     * Recolors the falling brick and ghost rectangles for a new shape,
+     * rebuilding them when the shape's dimensions changed.
+     *
+     * @param brick     the current brick state
+     * @param brickData the brick's shape matrix (brickData[row][col])
+     */
+    private void recolorBrick(ViewSnapshot brick, int[][] brickData) {
+        int brickHeight = brickData.length;
+        int brickWidth = brickData[0].length;
+        
+        // Reinitialize ghost panel if brick dimensions changed (e.g., after rotation)
+        if (ghostRectangles == null || ghostRectangles.length != brickHeight ||
+                (ghostRectangles.length > 0 && ghostRectangles[0].length != brickWidth)) {
+            initializeGhostPanel(brick);
+        }
+        
+        // Ensure rectangles array is valid
+        if (rectangles == null || rectangles.length != brickHeight ||
+                (rectangles.length > 0 && rectangles[0].length != brickWidth)) {
+            // Reinitialize rectangles if dimensions changed
+            rectangles = new Rectangle[brickHeight][brickWidth];
+            brickPanel.getChildren().clear();
+            for (int y = 0; y < brickHeight; y++) {
+                for (int x = 0; x < brickWidth; x++) {
+                    Rectangle rectangle = new Rectangle(cellSize, cellSize);
+                    rectangle.setArcHeight(2);
+                    rectangle.setArcWidth(2);
+                    rectangle.setVisible(true);
+                    // Set initial color from brick data
+                    int colorValue = brickData[y][x];
+                    rectangle.setFill(getFillColor(colorValue));
+                    rectangles[y][x] = rectangle;
+                    brickPanel.add(rectangle, x, y);
+                }
+            }
+        }
+        
+        // Loop: y (row) as outer, x (col) as inner
+        for (int y = 0; y < brickHeight; y++) {
+            for (int x = 0; x < brickWidth; x++) {
+                if (rectangles != null && y < rectangles.length && 
+                    x < rectangles[y].length && rectangles[y][x] != null) {
+                    setRectangleData(brickData[y][x],
+                            rectangles[y][x]);
+                }
+                // Update ghost rectangles with semi-transparent colors
+                if (ghostRectangles != null && y < ghostRectangles.length &&
+                        x < ghostRectangles[y].length) {
+                    Paint ghostColor = getGhostColor(brickData[y][x]);
+                    ghostRectangles[y][x].setFill(ghostColor);
+                }
+            }
         }
     }
 
     /**
      * Refreshes the game background board display.
      * <p>
-     * Updates all Rectangle objects in the displayMatrix to reflect the
-     * current board state. This is called after bricks are merged or rows
-     * are cleared.
+     * Compares the board against the last rendered snapshot and updates only
+     * the Rectangles whose cell value changed. Unchanged rows are skipped with
+     * a single row comparison, so a refresh where nothing changed touches no
+     * nodes at all, and a typical lock updates just the locked brick's cells.
+     * This is called after bricks are merged or rows are cleared.
      * </p>
      * <p>
      * Coordinate system: x = column, y = row. Board matrix is indexed as
@@ -1819,15 +2109,14 @@ public class GuiController implements Initializable {
      * @param board the current board state matrix (board[row][col])
      */
     public void refreshGameBackground(int[][] board) {
-        // board is [rows][cols] = [y][x]
-        int height = board.length;  // rows (y dimension)
-        int width = board[0].length;  // cols (x dimension)
-        // Loop: y (row) as outer, x (col) as inner
-        for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
-                setRectangleData(board[y][x], displayMatrix[y][x]);
-            }
+        if (canvasRenderer != null) {
+            canvasRenderer.renderBoard(board);
+            latencyTracker.rendered(System.nanoTime());
+            return;
         }
+        // board is [rows][cols] = [y][x]; only changed cells are repainted
+        BoardDiff.apply(board, renderedBoard, backgroundCellSink);
+        latencyTracker.rendered(System.nanoTime());
     }
 
     /**
@@ -1846,7 +2135,14 @@ public class GuiController implements Initializable {
      * @param clearedRows the list of row indices (0-based) that will be cleared
      */
     public void animateLineClear(java.util.List<Integer> clearedRows) {
-        if (clearedRows == null || clearedRows.isEmpty() || displayMatrix == null) {
+        if (clearedRows == null || clearedRows.isEmpty()) {
+            return;
+        }
+        if (canvasRenderer != null) {
+            canvasRenderer.flashRows(clearedRows);
+            return;
+        }
+        if (displayMatrix == null) {
             return;
         }
 
@@ -1862,6 +2158,8 @@ public class GuiController implements Initializable {
                         javafx.scene.paint.Paint fill = rect.getFill();
                         if (!fill.equals(javafx.scene.paint.Color.TRANSPARENT)) {
                             rect.setFill(javafx.scene.paint.Color.WHITE);
+                            // No longer matches the snapshot; repaint on the next refresh
+                            renderedBoard[rowIndex][x] = FLASHED_CELL;
                         }
                     }
                 }
@@ -1893,7 +2191,7 @@ public class GuiController implements Initializable {
      * <p>
      * Processes the down event, displays score notifications if rows were
      * cleared, and refreshes the brick display. This method is called
-     * automatically by the Timeline animation. Movement is disabled when paused.
+     * automatically by the game loop. Movement is disabled when paused.
      * </p>
      *
      * @param event the MoveEvent containing event type and source
@@ -1908,7 +2206,7 @@ public class GuiController implements Initializable {
                 groupNotification.getChildren().add(notificationPanel);
                 notificationPanel.showScore(groupNotification.getChildren());
             }
-            refreshBrick(downData.getViewData());
+            refreshBrick(downData.getViewSnapshot());
         }
         javafx.application.Platform.runLater(() -> gamePanel.requestFocus());
     }
@@ -1942,9 +2240,9 @@ public class GuiController implements Initializable {
     /**
      * Binds the level property to update game speed automatically.
      * <p>
-     * When the level changes, the timeline speed is automatically adjusted
+     * When the level changes, the gravity interval is automatically adjusted
      * to make pieces fall faster. Listens to level changes and updates the
-     * timeline speed accordingly.
+     * game loop speed accordingly.
      * </p>
      *
      * @param levelProperty the IntegerProperty for the current level
@@ -1956,7 +2254,7 @@ public class GuiController implements Initializable {
         // Store score reference for speed updates
         this.scoreReference = score;
         
-        // Add listener to update timeline speed when level changes
+        // Add listener to update game speed when level changes
         levelProperty.addListener((observable, oldValue, newValue) -> {
             if (newValue != null && !newValue.equals(oldValue)) {
                 updateGameSpeed();
@@ -1968,15 +2266,16 @@ public class GuiController implements Initializable {
     }
 
     /**
-     * Updates the timeline speed based on the current level.
+     * Updates the game speed based on the current level.
      * <p>
-     * Calculates the new game speed from the score object and updates
-     * the timeline keyframe duration. This makes pieces fall faster as
-     * the level increases.
+     * Calculates the new gravity interval from the score object and hands it
+     * to the game loop, which applies it from the next tick without
+     * interrupting the current fall. This makes pieces fall faster as the
+     * level increases.
      * </p>
      */
     private void updateGameSpeed() {
-        if (timeLine == null || scoreReference == null) return;
+        if (scoreReference == null) return;
         
         // Get base speed from difficulty setting (EASY=550, NORMAL=400, HARD=250)
         long baseSpeed = difficultyBaseSpeed;
@@ -1986,33 +2285,258 @@ public class GuiController implements Initializable {
         int level = scoreReference.getCurrentLevel();
         long newSpeedMillis = Math.max(50, baseSpeed - (level - 1) * 50);
         
-        // Stop the timeline
-        boolean wasPlaying = timeLine.getStatus() == javafx.animation.Animation.Status.RUNNING;
-        timeLine.stop();
-        
-        // Create new timeline with updated speed
-        timeLine = new Timeline(new KeyFrame(
-                Duration.millis(newSpeedMillis),
-                ae -> moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD))
-        ));
-        timeLine.setCycleCount(Timeline.INDEFINITE);
-        
-        // Resume if it was playing (and not paused or game over)
-        if (wasPlaying && isPause.getValue() == Boolean.FALSE && 
-            isGameOver.getValue() == Boolean.FALSE) {
-            timeLine.play();
+        gameLoop.setGravityInterval(newSpeedMillis);
+    }
+
+    /**
+     * Returns the input latency tracker, so the controller can timestamp its
+     * engine calls.
+     *
+     * @return the tracker fed by this view's key handler and renderer
+     */
+    public InputLatencyTracker getLatencyTracker() {
+        return latencyTracker;
+    }
+
+    /**
+     * Shows or hides the input latency overlay in the top-left corner.
+     */
+    private void toggleLatencyOverlay() {
+        if (latencyOverlay == null) {
+            latencyOverlay = new Text();
+            latencyOverlay.setFont(Font.font("Monospaced", FontWeight.BOLD, 13));
+            latencyOverlay.setFill(Color.web("#00ffff"));
+            latencyOverlay.setLayoutX(10);
+            latencyOverlay.setLayoutY(20);
+            latencyOverlay.setMouseTransparent(true);
+            latencyOverlay.setViewOrder(-900.0); // above the board, below the pause overlay
+            latencyOverlay.setVisible(false);
+        }
+        if (gameBoard != null && gameBoard.getScene() != null) {
+            javafx.scene.Parent root = gameBoard.getScene().getRoot();
+            if (root instanceof javafx.scene.layout.Pane) {
+                javafx.scene.layout.Pane rootPane = (javafx.scene.layout.Pane) root;
+                if (!rootPane.getChildren().contains(latencyOverlay)) {
+                    rootPane.getChildren().add(latencyOverlay);
+                }
+            }
+        }
+        latencyOverlay.setVisible(!latencyOverlay.isVisible());
+        latencyOverlay.setText(latencyTracker.summary());
+    }
+
+    /**
+     * Initializes the performance HUD: a monospaced text block on a dark
+     * panel in the top-left corner, below the latency overlay.
+     */
+    private void initializePerfHud() {
+        perfHudText = new Text("PERF");
+        perfHudText.setFont(Font.font("Monospaced", FontWeight.BOLD, 13));
+        perfHudText.setFill(Color.web("#00ff66"));
+
+        VBox panel = new VBox(perfHudText);
+        panel.setStyle("-fx-background-color: rgba(0, 0, 0, 0.7); -fx-padding: 6px 10px;");
+
+        perfHud = new Group(panel);
+        perfHud.setLayoutX(10);
+        perfHud.setLayoutY(90);
+        perfHud.setMouseTransparent(true); // Allow clicks to pass through
+        perfHud.setViewOrder(-900.0); // above the board, below the pause overlay
+        perfHud.setVisible(false);
+    }
+
+    /**
+     * Toggles the performance HUD.
+     * <p>
+     * Showing it starts the measurements (including the GC listener) from
+     * scratch; hiding it stops them, so the HUD costs nothing while hidden.
+     * </p>
+     */
+    private void togglePerfHud() {
+        if (perfHud == null) {
+            initializePerfHud();
+        }
+        if (gameBoard != null && gameBoard.getScene() != null) {
+            javafx.scene.Parent root = gameBoard.getScene().getRoot();
+            if (root instanceof javafx.scene.layout.Pane) {
+                javafx.scene.layout.Pane rootPane = (javafx.scene.layout.Pane) root;
+                if (!rootPane.getChildren().contains(perfHud)) {
+                    rootPane.getChildren().add(perfHud);
+                }
+            }
+        }
+        if (perfHud.isVisible()) {
+            hidePerfHud();
+        } else {
+            perfMonitor.start(System.nanoTime());
+            perfHud.setVisible(true);
+            perfHud.toFront();
+        }
+    }
+
+    /**
+     * Hides the performance HUD and stops its measurements, unregistering
+     * the GC listener from the JVM-wide collector beans.
+     */
+    private void hidePerfHud() {
+        if (perfHud != null) {
+            perfHud.setVisible(false);
+        }
+        perfMonitor.stop();
+    }
+
+    /**
+     * Refreshes the performance HUD text, at most four times a second and
+     * only while the HUD is shown.
+     *
+     * @param now the frame time in nanoseconds
+     */
+    private void refreshPerfHud(long now) {
+        if (perfHud == null || !perfHud.isVisible() || !perfMonitor.isRefreshDue(now)) {
+            return;
+        }
+        int nodeCount = gameBoard != null && gameBoard.getScene() != null
+                ? countNodes(gameBoard.getScene().getRoot()) : 0;
+        perfHudText.setText(perfMonitor.refresh(now, nodeCount));
+    }
+
+    /**
+     * Counts a node and all of its descendants. Uses indexed access so the
+     * walk allocates no iterators.
+     *
+     * @param node the root of the subtree
+     * @return the number of nodes in the subtree
+     */
+    private static int countNodes(javafx.scene.Node node) {
+        int count = 1;
+        if (node instanceof javafx.scene.Parent) {
+            java.util.List<javafx.scene.Node> children =
+                    ((javafx.scene.Parent) node).getChildrenUnmodifiable();
+            for (int i = 0; i < children.size(); i++) {
+                count += countNodes(children.get(i));
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Refreshes the latency overlay (at most twice a second, while shown) and
+     * appends the figures to the latency log every ten seconds.
+     *
+     * @param now the frame time in nanoseconds
+     */
+    private void reportLatency(long now) {
+        if (latencyOverlay != null && latencyOverlay.isVisible()
+                && now - lastLatencyOverlayNanos >= LATENCY_OVERLAY_INTERVAL_NANOS) {
+            lastLatencyOverlayNanos = now;
+            latencyOverlay.setText(latencyTracker.summary());
+        }
+        if (now - lastLatencyLogNanos >= LATENCY_LOG_INTERVAL_NANOS) {
+            lastLatencyLogNanos = now;
+            logLatency();
+        }
+    }
+
+    /**
+     * Appends the latency figures to the log file if presses were recorded
+     * since the last entry. The write happens on the log's own thread.
+     */
+    private void logLatency() {
+        if (latencyTracker.getSamples() == latencySamplesLogged) {
+            return;
+        }
+        latencySamplesLogged = latencyTracker.getSamples();
+        if (latencyLog == null) {
+            latencyLog = new MetricsLog(Paths.get(LATENCY_LOG_FILE));
+        }
+        latencyLog.append(latencyTracker.summaryLine());
+    }
+
+    /**
+     * Writes out the queued latency entries and stops the log's writer
+     * thread. Its thread is a daemon, so on exit an entry still queued would
+     * otherwise be lost; a later game view creates a new log.
+     */
+    private void closeLatencyLog() {
+        if (latencyLog != null) {
+            latencyLog.close(LATENCY_LOG_CLOSE_TIMEOUT_MILLIS);
+            latencyLog = null;
+        }
+    }
+
+    /**
+     * Returns the number of game loop ticks run in the current game (used to
+     * timestamp recorded events).
+     *
+     * @return the current game tick
+     */
+    public long getGameTick() {
+        return gameLoop.getTickCount();
+    }
+
+    /**
+     * Restarts the game loop from tick zero with the given gravity interval
+     * and makes sure the frame timer feeding it is running.
+     *
+     * @param gravityMillis the time between gravity steps in milliseconds
+     */
+    private void startGameLoop(long gravityMillis) {
+        gameLoop.setGravityInterval(gravityMillis);
+        gameLoop.start();
+        frameTimer.start();
+    }
+
+    /**
+     * Stops the game loop and the frame timer feeding it.
+     */
+    private void stopGameLoop() {
+        gameLoop.stop();
+        frameTimer.stop();
+        inputRepeater.releaseAll();
+        pendingShiftView = null;
+        latencyTracker.discardPending();
+        logLatency();
+    }
+
+    /**
+     * Applies held-key repeats for one game loop tick.
+     * <p>
+     * Called from the game loop's tick listener before gravity. All of the
+     * tick's left/right repeats go to the controller as one shift; the brick
+     * is redrawn once at the end of the frame rather than after every tick.
+     * </p>
+     * <p>
+     * Shifts are applied per tick, not summed over the frame: they must
+     * interleave with each tick's gravity step (and are stamped with that
+     * tick in the replay), or a slow frame would slide the brick sideways
+     * past rows it should have dropped into first. At 60 Hz there is one
+     * tick per frame, so this is one engine call per frame in practice.
+     * </p>
+     */
+    private void applyHeldKeys() {
+        if (isPause.getValue() == Boolean.TRUE || isGameOver.getValue() == Boolean.TRUE
+                || eventListener == null) {
+            return;
+        }
+        int shift = inputRepeater.tick();
+        if (shift != 0 && eventListener.onShiftEvent(
+                shift < 0 ? LEFT_EVENT : RIGHT_EVENT, shift) != 0) {
+            pendingShiftView = eventListener.getViewSnapshot();
+        }
+        if (inputRepeater.isSoftDropDue()) {
+            moveDown(SOFT_DROP_EVENT);
         }
     }
 
     /**
      * Displays the game over state.
      * <p>
-     * Stops the automatic movement timeline, shows the game over panel, sets
+     * Stops the game loop, shows the game over panel, sets
      * the game over flag, and centers the game over panel.
      * </p>
      */
     public void gameOver() {
-        timeLine.stop();
+        stopGameLoop();
         // Stop music when game over
         if (musicManager != null) {
             musicManager.stopMusic();
@@ -2051,16 +2575,16 @@ public class GuiController implements Initializable {
     /**
      * Starts a new game.
      * <p>
-     * Resets the game state, hides the game over panel, requests a new game
-     * from the event listener, restarts the timeline, and resets pause and
-     * game over flags.
+     * Resets the game state, hides the game over panel, and requests a new
+     * game from the event listener, whose view initialization restarts the
+     * game loop at the current difficulty's speed.
      * </p>
      *
      * @param actionEvent the action event that triggered this method (can be
      *                    null)
      */
     public void newGame(ActionEvent actionEvent) {
-        timeLine.stop(); // stop old timeline
+        stopGameLoop(); // stop the old game's gravity
         
         // Stop old music
         if (musicManager != null) {
@@ -2081,16 +2605,10 @@ public class GuiController implements Initializable {
             }
         }
         
+        // Restarts the game loop (via initGameView) at the difficulty just loaded
         eventListener.createNewGame();
         javafx.application.Platform.runLater(() -> gamePanel.requestFocus());
 
-        // 🟢 recreate Timeline for new game with current difficulty setting
-        long newGameSpeed = (difficultyBaseSpeed > 0) ? difficultyBaseSpeed : 400;
-        timeLine = new Timeline(new KeyFrame(Duration.millis(newGameSpeed),
-                ae -> moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD))));
-        timeLine.setCycleCount(Timeline.INDEFINITE);
-        timeLine.play();
-        
         // Start background music for new game if not already playing
         if (musicManager != null && !musicManager.isPlaying()) {
             // Apply volume from settings
@@ -2160,7 +2678,7 @@ public class GuiController implements Initializable {
             }
             
             // Refresh the brick display with the new brick
-            refreshBrick(result.getViewData());
+            refreshBrick(result.getViewSnapshot());
         }
         
         javafx.application.Platform.runLater(() -> gamePanel.requestFocus());
@@ -2173,12 +2691,12 @@ public class GuiController implements Initializable {
      * <p>
      * This method performs a full game restart by:
      * <ul>
-     *   <li>Stopping the current timeline</li>
+     *   <li>Stopping the game loop</li>
      *   <li>Resetting pause and game over states</li>
      *   <li>Hiding the game over panel and pause overlay</li>
      *   <li>Resetting the board through the event listener</li>
      *   <li>Reinitializing the view with the reset board state</li>
-     *   <li>Resetting the timeline to default speed (400ms)</li>
+     *   <li>Restarting the game loop at the difficulty's speed</li>
      *   <li>Clearing and reinitializing the ghost piece</li>
      *   <li>Centering all UI elements</li>
      * </ul>
@@ -2196,15 +2714,16 @@ public class GuiController implements Initializable {
      * Handles the restart button action event.
      * <p>
      * This method is called when the user clicks the restart button in the UI.
-     * It stops the game timeline, resets the game state, and creates a new game.
+     * It stops the game loop, resets the game state, and creates a new game.
      * This method performs the following actions:
      * <ul>
-     *   <li>Stopping the game timeline</li>
+     *   <li>Stopping the game loop</li>
      *   <li>Resetting pause and game over states</li>
      *   <li>Hiding the game over panel and pause overlay</li>
      *   <li>Resetting the board through the event listener</li>
-     *   <li>Reinitializing the view with the reset board state</li>
-     *   <li>Resetting the timeline to default speed (400ms)</li>
+     *   <li>Reloading the difficulty from the settings</li>
+     *   <li>Reinitializing the view with the reset board state, which
+     *       restarts the game loop at the difficulty's speed</li>
      *   <li>Clearing and reinitializing the ghost piece</li>
      *   <li>Centering all UI elements</li>
      * </ul>
@@ -2215,10 +2734,8 @@ public class GuiController implements Initializable {
      *                    null, e.g., when called from keyboard shortcut)
      */
     public void restartGame(ActionEvent actionEvent) {
-        // Stop the timeline
-        if (timeLine != null) {
-            timeLine.stop();
-        }
+        // Stop the game loop
+        stopGameLoop();
         
         // Stop and restart music
         if (musicManager != null) {
@@ -2245,23 +2762,9 @@ public class GuiController implements Initializable {
             ghostRectangles = null;
             ghostPanel.setVisible(false);
         }
+        renderedBrickShape = null;
 
-        // Reset the board through the event listener
-        // createNewGame() already calls refreshGameBackground and refreshScoreboard
-        if (eventListener != null) {
-            eventListener.createNewGame();
-            
-            // Get the current view data after reset to refresh the brick display
-            // Use a non-moving event (left) to get current state - at spawn position,
-            // moving left should fail and return current ViewData without side effects
-            ViewData resetViewData = eventListener.onLeftEvent(
-                    new MoveEvent(EventType.LEFT, EventSource.THREAD));
-            
-            // Refresh the brick display with the reset state
-            refreshBrick(resetViewData);
-        }
-
-        // Reload settings to ensure difficulty is current
+        // Reload settings to ensure difficulty is current before the loop restarts
         if (globalSettings != null) {
             difficultyBaseSpeed = globalSettings.getFallSpeedMillis();
         } else if (sceneManager != null) {
@@ -2270,20 +2773,17 @@ public class GuiController implements Initializable {
                 difficultyBaseSpeed = globalSettings.getFallSpeedMillis();
             }
         }
-        
-        // Reinitialize the timeline with difficulty and level-appropriate speed
-        if (scoreReference != null) {
-            updateGameSpeed();
-        } else {
-            // Fallback to difficulty base speed if score reference not available
-            long fallbackSpeed = (difficultyBaseSpeed > 0) ? difficultyBaseSpeed : 400;
-            timeLine = new Timeline(new KeyFrame(
-                    Duration.millis(fallbackSpeed),
-                    ae -> moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD))
-            ));
-            timeLine.setCycleCount(Timeline.INDEFINITE);
-            timeLine.play();
+
+        // Reset the board through the event listener
+        // createNewGame() already calls refreshGameBackground and refreshScoreboard,
+        // and restarts the game loop via initGameView
+        if (eventListener != null) {
+            eventListener.createNewGame();
+
+            // Refresh the brick display with the reset state
+            refreshBrick(eventListener.getViewSnapshot());
         }
+        updateGameSpeed();
         
         // Restart background music if not already playing
         if (musicManager != null && !musicManager.isPlaying()) {
@@ -2317,38 +2817,46 @@ public class GuiController implements Initializable {
         });
     }
 
+    /**
+     * Leaves the game: stops the game loop, closes the latency log and lets
+     * the controller release the game's resources (its replay file). Safe to
+     * call more than once.
+     * Called when navigating away from the game and when the application
+     * exits.
+     */
+    public void shutdown() {
+        stopGameLoop();  // stop falling pieces
+        hidePerfHud();   // the GC listener would otherwise keep this view alive
+        closeLatencyLog();  // after stopGameLoop() queued the final entry
+        if (eventListener != null) {
+            eventListener.shutdown();
+        }
+    }
+
     @FXML
     private void returnToMainMenu() {
-        if (timeLine != null) {
-            timeLine.stop();  // stop falling pieces
-        }
+        shutdown();
         // Preserve fullscreen - SceneManager will handle it
         SceneManager.showMenu();
     }
 
     @FXML
     private void openSettings() {
-        if (timeLine != null) {
-            timeLine.stop();
-        }
+        shutdown();
         // Preserve fullscreen - SceneManager will handle it
         SceneManager.showSettings();
     }
 
     @FXML
     public void goToMainMenu() {
-        if (timeLine != null) {
-            timeLine.stop();
-        }
+        shutdown();
         // Preserve fullscreen - SceneManager will handle it
         SceneManager.showMenu();
     }
 
     @FXML
     public void goToSettings() {
-        if (timeLine != null) {
-            timeLine.stop();
-        }
+        shutdown();
         // Preserve fullscreen - SceneManager will handle it
         SceneManager.showSettings();
     }
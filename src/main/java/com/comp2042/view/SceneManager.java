@@ -23,6 +23,7 @@ public class SceneManager {
     private final Stage stage;
     private GlobalSettings settings;
     private boolean isFullscreen = false; // Track fullscreen state
+    private GuiController currentGame;     // game view on screen, if any
 
     private SceneManager(Stage stage) {
         this.stage = stage;
@@ -206,6 +207,7 @@ public class SceneManager {
             }
             
             new GameController(gui);
+            instance.currentGame = gui;
 
             // CRITICAL: Replace root node, NOT the scene
             Scene currentScene = instance.stage.getScene();
@@ -252,6 +254,17 @@ public class SceneManager {
         }
     }
 
+    /**
+     * Shuts down the game currently on screen, if any (called when the
+     * application stops, so an abandoned game's replay is closed).
+     */
+    public static void shutdownGame() {
+        if (instance != null && instance.currentGame != null) {
+            instance.currentGame.shutdown();
+            instance.currentGame = null;
+        }
+    }
+
     public static void exitGame() {
         instance.stage.close();
         System.exit(0);
@@ -0,0 +1,91 @@
+package com.comp2042.view;
+
+import com.comp2042.model.Score;
+import com.comp2042.model.ScoreListener;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+
+/**
+ * JavaFX property bridge for a {@link Score}.
+ * <p>
+ * This class is part of the View layer in the MVC architecture. Score keeps
+ * its values as plain integers so the model and engine build and run without
+ * JavaFX; this adapter registers itself as the score's
+ * {@link ScoreListener} and mirrors every change into IntegerProperties the
+ * view can bind to. Listeners on the properties fire only for values that
+ * changed, on the thread that changed the score.
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+public final class ScoreProperties implements ScoreListener {
+
+    private final IntegerProperty score;
+    private final IntegerProperty totalLines;
+    private final IntegerProperty highScore;
+    private final IntegerProperty level;
+
+    /**
+     * Creates properties initialized from the given score and keeps them in
+     * sync with it, replacing any listener the score had.
+     *
+     * @param source the score to mirror
+     */
+    public ScoreProperties(Score source) {
+        this.score = new SimpleIntegerProperty(source.getCurrentScore());
+        this.totalLines = new SimpleIntegerProperty(source.getTotalLines());
+        this.highScore = new SimpleIntegerProperty(source.getHighScore());
+        this.level = new SimpleIntegerProperty(source.getCurrentLevel());
+        source.setListener(this);
+    }
+
+    /**
+     * Copies the score's values into the properties.
+     *
+     * @param source the score that changed
+     */
+    @Override
+    public void onScoreChanged(Score source) {
+        score.set(source.getCurrentScore());
+        totalLines.set(source.getTotalLines());
+        highScore.set(source.getHighScore());
+        level.set(source.getCurrentLevel());
+    }
+
+    /**
+     * Returns the current score property.
+     *
+     * @return the IntegerProperty representing the current score
+     */
+    public IntegerProperty scoreProperty() {
+        return score;
+    }
+
+    /**
+     * Returns the total lines cleared property.
+     *
+     * @return the IntegerProperty representing the total lines cleared
+     */
+    public IntegerProperty totalLinesProperty() {
+        return totalLines;
+    }
+
+    /**
+     * Returns the high score property.
+     *
+     * @return the IntegerProperty representing the high score
+     */
+    public IntegerProperty highScoreProperty() {
+        return highScore;
+    }
+
+    /**
+     * Returns the current level property (1 + total lines / 10).
+     *
+     * @return the IntegerProperty representing the current level
+     */
+    public IntegerProperty levelProperty() {
+        return level;
+    }
+}
@@ -0,0 +1,44 @@
+package com.comp2042.view;
+
+import com.comp2042.model.HighScoreStore;
+
+/**
+ * High score store backed by {@link GlobalSettings}.
+ * <p>
+ * Adapts the settings file used by the GUI to the engine's
+ * {@link HighScoreStore} contract, so the high score persists across
+ * game sessions. Saves are written asynchronously by the settings'
+ * {@link SettingsWriter}.
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+public final class SettingsHighScoreStore implements HighScoreStore {
+
+    private final GlobalSettings settings;
+
+    /**
+     * Creates a store that reads and writes the given settings.
+     *
+     * @param settings the settings holding the persisted high score
+     */
+    public SettingsHighScoreStore(GlobalSettings settings) {
+        this.settings = settings;
+    }
+
+    @Override
+    public int loadHighScore() {
+        return settings.getHighScore();
+    }
+
+    @Override
+    public void saveHighScore(int highScore) {
+        settings.setHighScore(highScore);
+    }
+
+    @Override
+    public void flush() {
+        settings.requestFlush();
+    }
+}
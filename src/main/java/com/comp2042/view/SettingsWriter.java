@@ -0,0 +1,171 @@
+package com.comp2042.view;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Background writer for the settings file.
+ * <p>
+ * This class is part of the View layer in the MVC architecture. It takes the
+ * disk write out of {@link GlobalSettings#saveSettings()}, which used to
+ * rewrite settings.config on the JavaFX Application Thread every time the
+ * high score went up:
+ * <ul>
+ *   <li>Saves are coalesced: {@link #submit(Properties)} only records the
+ *       latest snapshot, and at most one write is scheduled per coalescing
+ *       window, so a burst of high score updates costs a single write</li>
+ *   <li>Writes run on one daemon thread and never block the caller</li>
+ *   <li>Each write goes to a temporary file in the same directory which is
+ *       then moved over the settings file, so a crash mid-write leaves the
+ *       previous file intact</li>
+ *   <li>{@link #requestFlush()} writes the pending snapshot without waiting
+ *       for the window (e.g. on game over) and {@link #flush(long)} waits for
+ *       it (e.g. on shutdown)</li>
+ * </ul>
+ * </p>
+ *
+ * @author TetrisJFX Team
+ * @version 1.0
+ */
+public class SettingsWriter {
+
+    /** Default time a save may wait for further updates before it is written. */
+    public static final long DEFAULT_COALESCE_MILLIS = 1000;
+
+    private static final String FILE_COMMENT = "TetrisFX Game Settings";
+
+    private final Path target;
+    private final long coalesceMillis;
+    private final ScheduledExecutorService executor;
+    private final AtomicReference<Properties> pending = new AtomicReference<>();
+    private final AtomicBoolean writeScheduled = new AtomicBoolean();
+
+    /**
+     * Creates a writer for the given file with the default coalescing window.
+     *
+     * @param target the settings file to write
+     */
+    public SettingsWriter(Path target) {
+        this(target, DEFAULT_COALESCE_MILLIS);
+    }
+
+    /**
+     * Creates a writer for the given file.
+     *
+     * @param target         the settings file to write
+     * @param coalesceMillis how long a save waits for further updates before
+     *                       it is written (0 to write as soon as possible)
+     */
+    public SettingsWriter(Path target, long coalesceMillis) {
+        this.target = target.toAbsolutePath();
+        this.coalesceMillis = Math.max(0, coalesceMillis);
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "settings-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues a settings snapshot for writing. Returns immediately; if a write
+     * is already scheduled the snapshot simply replaces the pending one.
+     *
+     * @param snapshot the settings to write; must not be modified afterwards
+     */
+    public void submit(Properties snapshot) {
+        pending.set(snapshot);
+        if (writeScheduled.compareAndSet(false, true)) {
+            executor.schedule(this::writePending, coalesceMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes the pending snapshot (if any) on the writer thread as soon as
+     * possible, without waiting for the coalescing window. Does not block.
+     */
+    public void requestFlush() {
+        if (pending.get() != null) {
+            executor.execute(this::writePending);
+        }
+    }
+
+    /**
+     * Writes the pending snapshot (if any) and waits for the write to finish.
+     *
+     * @param timeoutMillis the longest time to wait
+     * @return true if everything submitted so far has been written
+     */
+    public boolean flush(long timeoutMillis) {
+        try {
+            executor.submit(this::writePending).get(timeoutMillis, TimeUnit.MILLISECONDS);
+            return pending.get() == null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException | TimeoutException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Flushes pending settings and stops the writer thread.
+     *
+     * @param timeoutMillis the longest time to wait for the final write
+     */
+    public void close(long timeoutMillis) {
+        flush(timeoutMillis);
+        executor.shutdown();
+    }
+
+    /**
+     * Takes the latest snapshot and writes it. Runs on the writer thread.
+     */
+    private void writePending() {
+        // Clear the flag first so a submit racing with this write schedules
+        // another one instead of being lost
+        writeScheduled.set(false);
+        Properties snapshot = pending.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            writeAtomically(snapshot);
+        } catch (IOException e) {
+            System.err.println("Error saving settings: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the properties to a temporary file next to the target and moves
+     * it over the target.
+     */
+    private void writeAtomically(Properties snapshot) throws IOException {
+        Path directory = target.getParent();
+        Path temp = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                snapshot.store(out, FILE_COMMENT);
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
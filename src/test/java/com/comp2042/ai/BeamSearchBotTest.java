@@ -0,0 +1,87 @@
+package com.comp2042.ai;
+
+import com.comp2042.engine.GameEngine;
+import com.comp2042.model.PieceTable;
+import com.comp2042.model.RandomBrickGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for BeamSearchBot.
+ * Plays seeded games on the headless engine and checks search choices on
+ * small hand-built boards.
+ */
+@DisplayName("BeamSearchBot Tests")
+class BeamSearchBotTest {
+
+    private static final PieceTable I_VERTICAL = new PieceTable(
+            new int[][]{{1, 1, 1, 1}},
+            new int[][]{{1}, {1}, {1}, {1}});
+
+    @Test
+    @DisplayName("the bot survives a long game and clears lines")
+    void testPlay_SeededGame_Survives() {
+        // Arrange
+        RandomBrickGenerator generator = new RandomBrickGenerator(7L);
+        GameEngine engine = GameEngine.headless(10, 25, generator);
+        engine.newGame();
+        BeamSearchBot bot = new BeamSearchBot(10, 25);
+
+        // Act
+        while (!engine.isGameOver() && engine.getPiecesLocked() < 500) {
+            assertTrue(bot.play(engine, generator.getNextBricks(BeamSearchBot.DEFAULT_DEPTH - 1)));
+        }
+
+        // Assert
+        assertFalse(engine.isGameOver(), "Bot should not top out within 500 pieces");
+        assertTrue(engine.getScore().getTotalLines() >= 150,
+                "Bot should clear most of what it places, cleared "
+                        + engine.getScore().getTotalLines());
+    }
+
+    @Test
+    @DisplayName("the bot fills a well to clear lines")
+    void testSearch_Well_TakesLineClear() {
+        // Arrange: four rows filled except column 9
+        BoardSnapshot board = new BoardSnapshot(10, 8);
+        int[][] matrix = new int[8][10];
+        for (int row = 4; row < 8; row++) {
+            for (int col = 0; col < 9; col++) {
+                matrix[row][col] = 1;
+            }
+        }
+        board.load(matrix);
+        BeamSearchBot bot = new BeamSearchBot(10, 8, WeightedEvaluator.standard(), 1, 4);
+
+        // Act
+        boolean found = bot.search(board, I_VERTICAL, 0, 3, 0, new PieceTable[0], 0);
+
+        // Assert
+        assertTrue(found);
+        assertEquals(1, bot.getBestRotation(), "Vertical I fills the well");
+        assertEquals(9, bot.getBestX());
+    }
+
+    @Test
+    @DisplayName("a blocked spawn finds no placement")
+    void testSearch_BlockedSpawn_NotFound() {
+        // Arrange
+        BoardSnapshot board = new BoardSnapshot(4, 4);
+        int[][] matrix = new int[4][4];
+        matrix[0][0] = 1;
+        board.load(matrix);
+        BeamSearchBot bot = new BeamSearchBot(4, 4);
+
+        // Act
+        boolean found = bot.search(board, I_VERTICAL, 0, 0, 0, new PieceTable[0], 0);
+
+        // Assert
+        assertFalse(found);
+        assertEquals(-1, bot.getBestRotation());
+        assertThrows(IllegalStateException.class, bot::getBestX);
+        assertThrows(IllegalStateException.class, bot::getBestY);
+        assertThrows(IllegalStateException.class, () -> bot.getBestPath(new byte[64]));
+    }
+}
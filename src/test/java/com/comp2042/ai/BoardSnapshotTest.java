@@ -0,0 +1,105 @@
+package com.comp2042.ai;
+
+import com.comp2042.board.ZobristHash;
+import com.comp2042.model.PieceTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for BoardSnapshot.
+ * Checks loading, placing pieces, row clears, column heights and the hash.
+ */
+@DisplayName("BoardSnapshot Tests")
+class BoardSnapshotTest {
+
+    private static final PieceTable SQUARE = new PieceTable(new int[][]{{1, 1}, {1, 1}});
+
+    @Test
+    @DisplayName("load() builds row masks and column heights")
+    void testLoad_Matrix_MasksAndHeights() {
+        // Arrange
+        int[][] matrix = new int[5][4];
+        matrix[2][1] = 3;
+        matrix[4][0] = 1;
+        matrix[4][1] = 1;
+        BoardSnapshot snapshot = new BoardSnapshot(4, 5);
+
+        // Act
+        snapshot.load(matrix);
+
+        // Assert
+        assertEquals(0b0010L, snapshot.getRow(2));
+        assertEquals(0b0011L, snapshot.getRow(4));
+        assertEquals(1, snapshot.getColumnHeight(0));
+        assertEquals(3, snapshot.getColumnHeight(1));
+        assertEquals(0, snapshot.getColumnHeight(2));
+    }
+
+    @Test
+    @DisplayName("place() merges the piece and raises its columns")
+    void testPlace_NoClear_HeightsUpdated() {
+        // Arrange
+        BoardSnapshot snapshot = new BoardSnapshot(4, 5);
+
+        // Act
+        int cleared = snapshot.place(SQUARE, 0, 2, 3);
+
+        // Assert
+        assertEquals(0, cleared);
+        assertEquals(0b1100L, snapshot.getRow(3));
+        assertEquals(0b1100L, snapshot.getRow(4));
+        assertEquals(2, snapshot.getColumnHeight(2));
+        assertEquals(2, snapshot.getColumnHeight(3));
+        assertEquals(0, snapshot.getColumnHeight(0));
+    }
+
+    @Test
+    @DisplayName("place() clears completed rows and shifts the rest down")
+    void testPlace_CompletesRows_RowsCleared() {
+        // Arrange: bottom two rows filled except columns 2-3, one cell above
+        int[][] matrix = new int[5][4];
+        matrix[2][0] = 1;
+        matrix[3][0] = 1;
+        matrix[3][1] = 1;
+        matrix[4][0] = 1;
+        matrix[4][1] = 1;
+        BoardSnapshot snapshot = new BoardSnapshot(4, 5);
+        snapshot.load(matrix);
+
+        // Act
+        int cleared = snapshot.place(SQUARE, 0, 2, 3);
+
+        // Assert
+        assertEquals(2, cleared);
+        assertEquals(0b0001L, snapshot.getRow(4), "Cell above the cleared rows falls to the floor");
+        assertEquals(0L, snapshot.getRow(3));
+        assertEquals(1, snapshot.getColumnHeight(0));
+        assertEquals(0, snapshot.getColumnHeight(2));
+    }
+
+    @Test
+    @DisplayName("hash() follows place() and matches a rehash of the cells")
+    void testHash_PlaceWithClear_MatchesRehash() {
+        // Arrange: same board as the row-clear test
+        int[][] matrix = new int[5][4];
+        matrix[2][0] = 1;
+        matrix[3][0] = 1;
+        matrix[3][1] = 1;
+        matrix[4][0] = 1;
+        matrix[4][1] = 1;
+        BoardSnapshot snapshot = new BoardSnapshot(4, 5);
+        snapshot.load(matrix);
+        long before = snapshot.hash();
+
+        // Act
+        snapshot.place(SQUARE, 0, 2, 3);
+
+        // Assert
+        int[][] after = new int[5][4];
+        after[4][0] = 1;
+        assertEquals(ZobristHash.ofMatrix(matrix), before);
+        assertEquals(ZobristHash.ofMatrix(after), snapshot.hash());
+    }
+}
@@ -0,0 +1,182 @@
+package com.comp2042.ai;
+
+import com.comp2042.board.SimpleBoard;
+import com.comp2042.model.Brick;
+import com.comp2042.model.BrickGenerator;
+import com.comp2042.model.PieceTable;
+import com.comp2042.model.Score;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for MoveGenerator.
+ * Checks placement counts on open boards, that tucks under overhangs are
+ * found, and that every returned path reproduces its placement on a real
+ * board.
+ */
+@DisplayName("MoveGenerator Tests")
+class MoveGeneratorTest {
+
+    private static final int WIDTH = 10;
+    private static final int HEIGHT = 20;
+
+    private static final int[][] SQUARE = {
+            {1, 1},
+            {1, 1}
+    };
+
+    private static final List<int[][]> T_SHAPES = List.of(
+            new int[][]{{0, 0, 0}, {6, 6, 6}, {0, 6, 0}},
+            new int[][]{{0, 6, 0}, {0, 6, 6}, {0, 6, 0}},
+            new int[][]{{0, 6, 0}, {6, 6, 6}, {0, 0, 0}},
+            new int[][]{{0, 6, 0}, {6, 6, 0}, {0, 6, 0}}
+    );
+
+    private final MoveGenerator generator = new MoveGenerator(WIDTH, HEIGHT);
+
+    /**
+     * Generator that always supplies the same brick.
+     */
+    private static BrickGenerator repeating(Brick brick) {
+        return new BrickGenerator() {
+            @Override
+            public Brick getBrick() {
+                return brick;
+            }
+
+            @Override
+            public Brick getNextBrick() {
+                return brick;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("a square has one placement per column on an empty board")
+    void testGenerate_SquareOnEmptyBoard_OnePerColumn() {
+        // Arrange
+        PieceTable square = new PieceTable(SQUARE);
+
+        // Act
+        int count = generator.generate(new long[HEIGHT], square, 0, 4, 0);
+
+        // Assert
+        assertEquals(WIDTH - 1, count, "Square fits in 9 column positions");
+        for (int i = 0; i < count; i++) {
+            assertEquals(HEIGHT - 2, generator.getY(i), "Every placement rests on the floor");
+        }
+    }
+
+    @Test
+    @DisplayName("a T piece has every rotation and column on an empty board")
+    void testGenerate_TOnEmptyBoard_AllRotations() {
+        // Arrange
+        PieceTable t = PieceTable.of(T_SHAPES);
+
+        // Act
+        int count = generator.generate(new long[HEIGHT], t, 0, 3, 0);
+
+        // Assert
+        // Rotations 0 and 2 are 3 wide (8 positions), 1 and 3 are 2 wide (9)
+        assertEquals(8 + 9 + 8 + 9, count);
+        int[] perRotation = new int[4];
+        for (int i = 0; i < count; i++) {
+            perRotation[generator.getRotation(i)]++;
+        }
+        assertArrayEquals(new int[]{8, 9, 8, 9}, perRotation);
+    }
+
+    @Test
+    @DisplayName("a square tucks under an overhang")
+    void testGenerate_Overhang_TuckFound() {
+        // Arrange: a roof over columns 0-6 with two empty rows beneath it
+        long[] rows = new long[HEIGHT];
+        rows[HEIGHT - 3] = 0b111_1111L;
+        PieceTable square = new PieceTable(SQUARE);
+
+        // Act
+        int count = generator.generate(rows, square, 0, 4, 0);
+
+        // Assert
+        int tuck = -1;
+        for (int i = 0; i < count; i++) {
+            if (generator.getX(i) == 0 && generator.getY(i) == HEIGHT - 2) {
+                tuck = i;
+            }
+        }
+        assertTrue(tuck >= 0, "Placement under the roof should be reachable");
+        byte[] moves = new byte[generator.maxPathLength()];
+        int length = generator.getPath(tuck, moves);
+        int y = 0;
+        boolean slidUnderRoof = false;
+        for (int i = 0; i < length; i++) {
+            if (moves[i] == MoveGenerator.MOVE_DOWN) {
+                y++;
+            } else if (moves[i] == MoveGenerator.MOVE_LEFT && y == HEIGHT - 2) {
+                slidUnderRoof = true;
+            }
+        }
+        assertTrue(slidUnderRoof, "Tuck needs a slide after dropping below the roof");
+    }
+
+    @Test
+    @DisplayName("every path reproduces its placement on a SimpleBoard")
+    void testGetPath_ReplayedOnBoard_ReachesPlacement() {
+        // Arrange
+        Brick t = () -> T_SHAPES;
+        SimpleBoard board = new SimpleBoard(WIDTH, HEIGHT, repeating(t), new Score());
+        board.createNewBrick();
+        int count = generator.generate(board);
+        byte[] moves = new byte[generator.maxPathLength()];
+
+        for (int i = 0; i < count; i++) {
+            SimpleBoard replay = new SimpleBoard(WIDTH, HEIGHT, repeating(t), new Score());
+            replay.createNewBrick();
+            int length = generator.getPath(i, moves);
+
+            // Act
+            for (int m = 0; m < length; m++) {
+                boolean moved;
+                switch (moves[m]) {
+                    case MoveGenerator.MOVE_LEFT:
+                        moved = replay.moveBrickLeft();
+                        break;
+                    case MoveGenerator.MOVE_RIGHT:
+                        moved = replay.moveBrickRight();
+                        break;
+                    case MoveGenerator.MOVE_DOWN:
+                        moved = replay.moveBrickDown();
+                        break;
+                    default:
+                        moved = replay.rotateLeftBrick();
+                        break;
+                }
+                assertTrue(moved, "Move " + m + " of placement " + i + " was rejected");
+            }
+
+            // Assert
+            assertEquals(generator.getRotation(i), replay.getCurrentRotation());
+            assertEquals(generator.getX(i), replay.getCurrentX());
+            assertEquals(generator.getY(i), replay.getCurrentY());
+            assertFalse(replay.moveBrickDown(), "Placement " + i + " should be resting");
+        }
+    }
+
+    @Test
+    @DisplayName("no placements when the start position collides")
+    void testGenerate_StartBlocked_NoPlacements() {
+        // Arrange
+        long[] rows = new long[HEIGHT];
+        rows[0] = 1L << 4;
+
+        // Act
+        int count = generator.generate(rows, new PieceTable(SQUARE), 0, 4, 0);
+
+        // Assert
+        assertEquals(0, count);
+    }
+}
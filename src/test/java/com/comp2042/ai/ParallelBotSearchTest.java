@@ -0,0 +1,149 @@
+package com.comp2042.ai;
+
+import com.comp2042.board.Board;
+import com.comp2042.engine.GameEngine;
+import com.comp2042.model.Brick;
+import com.comp2042.model.PieceTable;
+import com.comp2042.model.RandomBrickGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for ParallelBotSearch.
+ * Checks that a spent time budget still yields an answer, that deeper
+ * searches complete given time, that queued hints do not stall each
+ * other, and that the search agrees with the sequential bot on an obvious
+ * move.
+ */
+@DisplayName("ParallelBotSearch Tests")
+class ParallelBotSearchTest {
+
+    private static final PieceTable I_PIECE = new PieceTable(
+            new int[][]{{1, 1, 1, 1}},
+            new int[][]{{1}, {1}, {1}, {1}});
+
+    private static final PieceTable SQUARE = new PieceTable(new int[][]{{1, 1}, {1, 1}});
+
+    /**
+     * Plays a few bricks with the sequential bot so the board is not empty.
+     */
+    private static GameEngine gameInProgress(RandomBrickGenerator generator) {
+        GameEngine engine = GameEngine.headless(10, 25, generator);
+        engine.newGame();
+        BeamSearchBot bot = new BeamSearchBot(10, 25);
+        for (int i = 0; i < 30; i++) {
+            bot.play(engine, generator.getNextBricks(2));
+        }
+        return engine;
+    }
+
+    @Test
+    @DisplayName("a spent budget still returns the one-piece answer")
+    void testSearch_ExpiredDeadline_ReturnsDepthOne() {
+        // Arrange: far more search than could ever fit, and no time left
+        RandomBrickGenerator generator = new RandomBrickGenerator(5L);
+        GameEngine engine = gameInProgress(generator);
+        Board board = engine.getBoard();
+        BoardSnapshot root = new BoardSnapshot(10, 25);
+        root.load(board.getBoardMatrix());
+        List<Brick> next = generator.getNextBricks(5);
+        PieceTable[] preview = new PieceTable[next.size()];
+        for (int i = 0; i < preview.length; i++) {
+            preview[i] = next.get(i).getPieceTable();
+        }
+        long deadline = System.nanoTime() - 1;
+        try (ParallelBotSearch search = new ParallelBotSearch(10, 25,
+                WeightedEvaluator.standard(), 6, 64, 2)) {
+
+            // Act
+            SearchResult result = search.search(root, board.getCurrentPiece(),
+                    board.getCurrentRotation(), board.getCurrentX(), board.getCurrentY(),
+                    preview, deadline);
+
+            // Assert
+            assertNotNull(result);
+            assertEquals(1, result.getDepth());
+        }
+    }
+
+    @Test
+    @DisplayName("with enough time every preview piece is searched")
+    void testSuggest_AmpleBudget_FullDepth() {
+        // Arrange
+        RandomBrickGenerator generator = new RandomBrickGenerator(6L);
+        GameEngine engine = gameInProgress(generator);
+        try (ParallelBotSearch search = new ParallelBotSearch(10, 25,
+                WeightedEvaluator.standard(), 3, 4, 2)) {
+
+            // Act
+            SearchResult result = search.suggestAsync(engine.getBoard(),
+                    generator.getNextBricks(2), 10_000).join();
+
+            // Assert
+            assertEquals(3, result.getDepth());
+            assertTrue(result.getPositionsEvaluated() > 0);
+        }
+    }
+
+    @Test
+    @DisplayName("overlapping hint requests all complete on a single worker")
+    void testSuggestAsync_Overlapping_AllComplete() {
+        // Arrange
+        RandomBrickGenerator generator = new RandomBrickGenerator(7L);
+        GameEngine engine = gameInProgress(generator);
+        try (ParallelBotSearch search = new ParallelBotSearch(10, 25,
+                WeightedEvaluator.standard(), 3, 4, 1)) {
+
+            // Act
+            CompletableFuture<SearchResult> first = search.suggestAsync(engine.getBoard(),
+                    generator.getNextBricks(2), 10_000);
+            CompletableFuture<SearchResult> second = search.suggestAsync(engine.getBoard(),
+                    generator.getNextBricks(2), 10_000);
+
+            // Assert
+            assertEquals(3, first.orTimeout(10, TimeUnit.SECONDS).join().getDepth());
+            assertEquals(3, second.orTimeout(10, TimeUnit.SECONDS).join().getDepth());
+        }
+    }
+
+    @Test
+    @DisplayName("the hint fills an open well and its path leads there")
+    void testSearch_Well_PathReachesPlacement() {
+        // Arrange: four rows filled except column 9
+        BoardSnapshot board = new BoardSnapshot(10, 8);
+        int[][] matrix = new int[8][10];
+        for (int row = 4; row < 8; row++) {
+            for (int col = 0; col < 9; col++) {
+                matrix[row][col] = 1;
+            }
+        }
+        board.load(matrix);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        try (ParallelBotSearch search = new ParallelBotSearch(10, 8,
+                WeightedEvaluator.standard(), 2, 4, 2)) {
+
+            // Act
+            SearchResult result = search.search(board, I_PIECE, 0, 3, 0,
+                    new PieceTable[]{SQUARE}, deadline);
+
+            // Assert
+            assertEquals(1, result.getRotation());
+            assertEquals(9, result.getX());
+            int x = 3;
+            for (int i = 0; i < result.getPathLength(); i++) {
+                if (result.getMove(i) == MoveGenerator.MOVE_RIGHT) {
+                    x++;
+                } else if (result.getMove(i) == MoveGenerator.MOVE_LEFT) {
+                    x--;
+                }
+            }
+            assertEquals(9, x, "Path should shift the piece to the well");
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.comp2042.ai;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for TranspositionTable.
+ */
+@DisplayName("TranspositionTable Tests")
+class TranspositionTableTest {
+
+    @Test
+    @DisplayName("stored values are found by their key")
+    void testProbe_Stored_Found() {
+        // Arrange
+        TranspositionTable table = new TranspositionTable(1024);
+
+        // Act
+        table.store(0x1234_5678_9ABC_DEF0L, -12.5);
+
+        // Assert
+        assertEquals(-12.5, table.probe(0x1234_5678_9ABC_DEF0L), 0.0);
+    }
+
+    @Test
+    @DisplayName("unknown keys miss, including keys sharing a slot")
+    void testProbe_Unknown_Miss() {
+        // Arrange
+        TranspositionTable table = new TranspositionTable(16);
+        table.store(5L, 1.0);
+
+        // Act & Assert
+        assertTrue(Double.isNaN(table.probe(6L)));
+        assertTrue(Double.isNaN(table.probe(5L + 16)), "Same slot, different key should miss");
+    }
+
+    @Test
+    @DisplayName("capacity rounds up to a power of two")
+    void testCapacity_RoundedUp() {
+        // Act & Assert
+        assertEquals(1024, new TranspositionTable(1000).capacity());
+        assertEquals(1, new TranspositionTable(1).capacity());
+        assertThrows(IllegalArgumentException.class, () -> new TranspositionTable(0));
+    }
+}
@@ -0,0 +1,98 @@
+package com.comp2042.ai;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for WeightedEvaluator.
+ * Each test weights a single feature so the score equals that feature's value.
+ */
+@DisplayName("WeightedEvaluator Tests")
+class WeightedEvaluatorTest {
+
+    /**
+     * 5 columns x 6 rows, heights 3, 1, 0, 2, 2 with one hole in column 0:
+     * <pre>
+     *   X....
+     *   .....  (row 4: hole under column 0's top)
+     *   XX.XX
+     * </pre>
+     */
+    private static BoardSnapshot board() {
+        int[][] matrix = new int[6][5];
+        matrix[3][0] = 1;
+        matrix[4][3] = 1;
+        matrix[4][4] = 1;
+        matrix[5][0] = 1;
+        matrix[5][1] = 1;
+        matrix[5][3] = 1;
+        matrix[5][4] = 1;
+        BoardSnapshot snapshot = new BoardSnapshot(5, 6);
+        snapshot.load(matrix);
+        return snapshot;
+    }
+
+    @Test
+    @DisplayName("aggregate height sums the column heights")
+    void testEvaluate_Height() {
+        // Arrange
+        WeightedEvaluator evaluator = new WeightedEvaluator(1, 0, 0, 0, 0, 0);
+
+        // Act & Assert
+        assertEquals(3 + 1 + 0 + 2 + 2, evaluator.evaluate(board(), 0), 1e-9);
+    }
+
+    @Test
+    @DisplayName("holes count covered empty cells")
+    void testEvaluate_Holes() {
+        // Arrange
+        WeightedEvaluator evaluator = new WeightedEvaluator(0, 1, 0, 0, 0, 0);
+
+        // Act & Assert
+        assertEquals(1, evaluator.evaluate(board(), 0), 1e-9);
+    }
+
+    @Test
+    @DisplayName("bumpiness sums adjacent height differences")
+    void testEvaluate_Bumpiness() {
+        // Arrange
+        WeightedEvaluator evaluator = new WeightedEvaluator(0, 0, 1, 0, 0, 0);
+
+        // Act & Assert
+        assertEquals(2 + 1 + 2 + 0, evaluator.evaluate(board(), 0), 1e-9);
+    }
+
+    @Test
+    @DisplayName("wells cost 1 + 2 + ... + depth")
+    void testEvaluate_Wells() {
+        // Arrange
+        WeightedEvaluator evaluator = new WeightedEvaluator(0, 0, 0, 1, 0, 0);
+
+        // Act & Assert
+        // Column 2 is a well of depth min(1, 2) - 0 = 1
+        assertEquals(1, evaluator.evaluate(board(), 0), 1e-9);
+    }
+
+    @Test
+    @DisplayName("row transitions count changes with filled walls")
+    void testEvaluate_RowTransitions() {
+        // Arrange
+        WeightedEvaluator evaluator = new WeightedEvaluator(0, 0, 0, 0, 1, 0);
+
+        // Act & Assert
+        // Row 3 "X....": 2, row 4 "...XX": 2, row 5 "XX.XX": 2
+        assertEquals(6, evaluator.evaluate(board(), 0), 1e-9);
+    }
+
+    @Test
+    @DisplayName("line clears are weighted by the cleared count")
+    void testEvaluate_LineClears() {
+        // Arrange
+        WeightedEvaluator evaluator = new WeightedEvaluator(0, 0, 0, 0, 0, 2);
+
+        // Act & Assert
+        assertEquals(6, evaluator.evaluate(board(), 3), 1e-9);
+    }
+}
@@ -0,0 +1,23 @@
+package com.comp2042.board;
+
+import com.comp2042.model.BrickGenerator;
+import com.comp2042.model.Score;
+import org.junit.jupiter.api.DisplayName;
+
+/**
+ * Test suite for BitBoard class.
+ * Runs the shared {@link BoardContractTest} suite against BitBoard.
+ */
+@DisplayName("BitBoard Tests")
+class BitBoardTest extends BoardContractTest {
+
+    @Override
+    protected Board createBoard(int width, int height, BrickGenerator brickGenerator, Score score) {
+        return new BitBoard(width, height, brickGenerator, score);
+    }
+
+    @Override
+    protected Board createBoard(int width, int height) {
+        return new BitBoard(width, height);
+    }
+}
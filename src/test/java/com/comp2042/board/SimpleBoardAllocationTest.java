@@ -0,0 +1,82 @@
+package com.comp2042.board;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Test suite verifying that SimpleBoard's move and rotate path does not
+ * allocate, using per-thread allocation counters.
+ */
+@DisplayName("SimpleBoard Allocation Tests")
+class SimpleBoardAllocationTest {
+
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURED_ITERATIONS = 1_000;
+    // A real per-move allocation shows up in every round; one-off runtime
+    // allocations (e.g. JIT bookkeeping) on the test thread do not
+    private static final int MEASURED_ROUNDS = 5;
+
+    /**
+     * Performs a burst of moves and rotations that leaves the brick in play.
+     */
+    private static void performMoves(SimpleBoard board) {
+        board.moveBrickLeft();
+        board.moveBrickLeft();
+        board.rotateLeftBrick();
+        board.moveBrickRight();
+        board.moveBrickRight();
+        board.rotateLeftBrick();
+        board.moveBrickDown();
+    }
+
+    @Test
+    @DisplayName("move/rotate path allocates zero bytes per move")
+    void testMovePath_AllocatesNothing() {
+        // Arrange
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+                "Thread allocation counters not available on this JVM");
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported(),
+                "Thread allocation counters not supported");
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        SimpleBoard board = new SimpleBoard(10, 25);
+        board.newGame();
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            performMoves(board);
+            if (i % 20 == 0) {
+                // Keep the brick away from the floor so moves stay meaningful
+                board.createNewBrick();
+            }
+        }
+        board.createNewBrick();
+
+        // Calibrate the cost of reading the counter itself
+        long calibrationStart = threadBean.getCurrentThreadAllocatedBytes();
+        long calibrationEnd = threadBean.getCurrentThreadAllocatedBytes();
+        long counterOverhead = calibrationEnd - calibrationStart;
+
+        // Act
+        long allocated = Long.MAX_VALUE;
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            long before = threadBean.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+                performMoves(board);
+            }
+            long after = threadBean.getCurrentThreadAllocatedBytes();
+            allocated = Math.min(allocated, after - before - counterOverhead);
+            board.createNewBrick();
+        }
+
+        // Assert
+        assertTrue(allocated <= 0,
+                "Move path should not allocate, but allocated at least " + allocated
+                        + " bytes over " + MEASURED_ITERATIONS + " iterations in every round");
+    }
+}
@@ -1,312 +1,23 @@
 package com.comp2042.board;
 
-import com.comp2042.logic.MatrixOperations;
-import com.comp2042.model.Brick;
 import com.comp2042.model.BrickGenerator;
-import com.comp2042.model.ClearRow;
 import com.comp2042.model.Score;
-import com.comp2042.view.ViewData;
-import org.junit.jupiter.api.BeforeEach;
-import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
-import java.awt.Point;
-import java.util.ArrayList;
-import java.util.List;
-
-import static org.junit.jupiter.api.Assertions.*;
-
 /**
  * Test suite for SimpleBoard class.
- * Tests brick movement, rotation, spawning, and row clearing operations.
+ * Runs the shared {@link BoardContractTest} suite against SimpleBoard.
  */
 @DisplayName("SimpleBoard Tests")
-class SimpleBoardTest {
-
-    private SimpleBoard board;
-    private TestBrickGenerator brickGenerator;
-
-    /**
-     * Test brick generator that provides deterministic bricks for testing.
-     */
-    private static class TestBrickGenerator implements BrickGenerator {
-        private final List<Brick> bricks;
-        private int currentIndex = 0;
-
-        TestBrickGenerator(List<Brick> bricks) {
-            this.bricks = new ArrayList<>(bricks);
-        }
-
-        @Override
-        public Brick getBrick() {
-            Brick brick = bricks.get(currentIndex % bricks.size());
-            currentIndex++;
-            return brick;
-        }
-
-        @Override
-        public Brick getNextBrick() {
-            return bricks.get(currentIndex % bricks.size());
-        }
-    }
-
-    @BeforeEach
-    void setUp() {
-        // Create a small 5x5 board for testing
-        board = new SimpleBoard(5, 5);
-        // Use reflection or create a testable version - for now, we'll work with the actual board
-        // and use a deterministic brick by creating a simple test brick
-    }
-
-    @Test
-    @DisplayName("moveBrickDown() moves brick down when no collision")
-    void testMoveBrickDown_ValidMove() {
-        // Arrange - Create board and spawn brick
-        board.newGame();
-        Point initialPosition = getCurrentOffset(board);
-
-        // Act
-        boolean moved = board.moveBrickDown();
-
-        // Assert
-        assertTrue(moved, "Brick should move down when no collision");
-        Point newPosition = getCurrentOffset(board);
-        assertEquals(initialPosition.y + 1, newPosition.y,
-                "Y position should increase by 1");
-        assertEquals(initialPosition.x, newPosition.x,
-                "X position should remain the same");
-    }
-
-    @Test
-    @DisplayName("moveBrickDown() blocks movement when collision detected")
-    void testMoveBrickDown_BlockedByCollision() {
-        // Arrange - Fill bottom row to block movement
-        int[][] boardMatrix = board.getBoardMatrix();
-        // Fill bottom row
-        for (int col = 0; col < boardMatrix[0].length; col++) {
-            boardMatrix[boardMatrix.length - 1][col] = 1;
-        }
-        // Manually set board state (we'll need to work around private fields)
-        // For this test, we'll move brick to near bottom first
-        board.newGame();
-        // Move brick down multiple times until near bottom
-        for (int i = 0; i < 3; i++) {
-            board.moveBrickDown();
-        }
-
-        // Act
-        boolean moved = board.moveBrickDown();
+class SimpleBoardTest extends BoardContractTest {
 
-        // Assert - Should eventually be blocked, but exact behavior depends on brick position
-        // This test may need adjustment based on actual board state
-        assertNotNull(board.getBoardMatrix());
+    @Override
+    protected Board createBoard(int width, int height, BrickGenerator brickGenerator, Score score) {
+        return new SimpleBoard(width, height, brickGenerator, score);
     }
 
-    @Test
-    @DisplayName("moveBrickLeft() moves brick left when valid")
-    void testMoveBrickLeft_ValidMove() {
-        // Arrange
-        board.newGame();
-        Point initialPosition = getCurrentOffset(board);
-
-        // Act
-        boolean moved = board.moveBrickLeft();
-
-        // Assert
-        if (initialPosition.x > 0) {
-            assertTrue(moved, "Brick should move left when space available");
-            Point newPosition = getCurrentOffset(board);
-            assertEquals(initialPosition.x - 1, newPosition.x,
-                    "X position should decrease by 1");
-        }
-    }
-
-    @Test
-    @DisplayName("moveBrickRight() moves brick right when valid")
-    void testMoveBrickRight_ValidMove() {
-        // Arrange
-        board.newGame();
-        Point initialPosition = getCurrentOffset(board);
-
-        // Act
-        boolean moved = board.moveBrickRight();
-
-        // Assert
-        // Movement depends on brick width and board width
-        assertNotNull(board.getBoardMatrix());
-    }
-
-    @Test
-    @DisplayName("rotateLeftBrick() rotates brick when valid")
-    void testRotateLeftBrick_ValidRotation() {
-        // Arrange
-        board.newGame();
-
-        // Act
-        boolean rotated = board.rotateLeftBrick();
-
-        // Assert
-        // Rotation should succeed if no collision
-        assertNotNull(board.getViewData());
-    }
-
-    @Test
-    @DisplayName("createNewBrick() spawns brick at top center")
-    void testCreateNewBrick_SpawnPosition() {
-        // Arrange
-        board.newGame();
-
-        // Act
-        boolean gameOver = board.createNewBrick();
-
-        // Assert
-        ViewData viewData = board.getViewData();
-        int spawnY = viewData.getyPosition();
-        assertEquals(0, spawnY, "Brick should spawn at row 0 (top)");
-
-        // X should be approximately centered (may vary based on brick width)
-        int spawnX = viewData.getxPosition();
-        assertTrue(spawnX >= 0, "Spawn X should be non-negative");
-        assertTrue(spawnX < 5, "Spawn X should be within board width");
-    }
-
-    @Test
-    @DisplayName("createNewBrick() returns true on immediate collision (game over)")
-    void testCreateNewBrick_GameOver() {
-        // Arrange - Fill top rows to cause immediate collision
-        int[][] boardMatrix = board.getBoardMatrix();
-        // Fill top two rows
-        for (int row = 0; row < 2; row++) {
-            for (int col = 0; col < boardMatrix[0].length; col++) {
-                boardMatrix[row][col] = 1;
-            }
-        }
-
-        // Act
-        boolean gameOver = board.createNewBrick();
-
-        // Assert
-        // Game over condition depends on brick spawn position and board state
-        assertNotNull(board.getBoardMatrix());
-    }
-
-    @Test
-    @DisplayName("clearRows() removes full rows and updates matrix")
-    void testClearRows_RemovesFullRows() {
-        // Arrange - Create board with full rows
-        board.newGame();
-        int[][] boardMatrix = board.getBoardMatrix();
-        // Fill a row to make it full
-        for (int col = 0; col < boardMatrix[0].length; col++) {
-            boardMatrix[boardMatrix.length - 1][col] = 1;
-        }
-        // Merge a brick to trigger row clearing scenario
-        board.mergeBrickToBackground();
-
-        // Act
-        ClearRow result = board.clearRows();
-
-        // Assert
-        assertNotNull(result, "ClearRow result should not be null");
-        assertNotNull(result.getNewMatrix(), "New matrix should not be null");
-        assertEquals(boardMatrix.length, result.getNewMatrix().length,
-                "Matrix height should remain the same");
-    }
-
-    @Test
-    @DisplayName("getBoardMatrix() returns current board state")
-    void testGetBoardMatrix() {
-        // Arrange
-        board.newGame();
-
-        // Act
-        int[][] matrix = board.getBoardMatrix();
-
-        // Assert
-        assertNotNull(matrix, "Board matrix should not be null");
-        assertEquals(5, matrix.length, "Board should have 5 rows");
-        assertEquals(5, matrix[0].length, "Board should have 5 columns");
-    }
-
-    @Test
-    @DisplayName("getViewData() returns current brick state")
-    void testGetViewData() {
-        // Arrange
-        board.newGame();
-
-        // Act
-        ViewData viewData = board.getViewData();
-
-        // Assert
-        assertNotNull(viewData, "ViewData should not be null");
-        assertNotNull(viewData.getBrickData(), "Brick data should not be null");
-        assertTrue(viewData.getxPosition() >= 0, "X position should be valid");
-        assertTrue(viewData.getyPosition() >= 0, "Y position should be valid");
-    }
-
-    @Test
-    @DisplayName("mergeBrickToBackground() adds brick to board")
-    void testMergeBrickToBackground() {
-        // Arrange
-        board.newGame();
-        int[][] beforeMerge = MatrixOperations.copy(board.getBoardMatrix());
-
-        // Act
-        board.mergeBrickToBackground();
-
-        // Assert
-        int[][] afterMerge = board.getBoardMatrix();
-        // Board should have some non-zero cells after merge
-        boolean hasNonZero = false;
-        for (int[] row : afterMerge) {
-            for (int cell : row) {
-                if (cell != 0) {
-                    hasNonZero = true;
-                    break;
-                }
-            }
-            if (hasNonZero) break;
-        }
-        // Note: This depends on brick position, may need adjustment
-        assertNotNull(afterMerge);
-    }
-
-    @Test
-    @DisplayName("newGame() resets board and score")
-    void testNewGame() {
-        // Arrange
-        board.newGame();
-        board.getScore().add(100);
-
-        // Act
-        board.newGame();
-
-        // Assert
-        assertEquals(0, board.getScore().scoreProperty().getValue(),
-                "Score should be reset to 0");
-        int[][] matrix = board.getBoardMatrix();
-        // Check that board is mostly empty (except possibly spawned brick)
-        assertNotNull(matrix);
-    }
-
-    @Test
-    @DisplayName("getScore() returns score object")
-    void testGetScore() {
-        // Act
-        Score score = board.getScore();
-
-        // Assert
-        assertNotNull(score, "Score should not be null");
-        assertNotNull(score.scoreProperty(), "Score property should not be null");
-    }
-
-    /**
-     * Helper method to get current offset using reflection or ViewData.
-     * Since currentOffset is private, we use ViewData to infer position.
-     */
-    private Point getCurrentOffset(SimpleBoard board) {
-        ViewData viewData = board.getViewData();
-        return new Point(viewData.getxPosition(), viewData.getyPosition());
+    @Override
+    protected Board createBoard(int width, int height) {
+        return new SimpleBoard(width, height);
     }
 }
-
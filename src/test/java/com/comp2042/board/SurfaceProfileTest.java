@@ -0,0 +1,139 @@
+package com.comp2042.board;
+
+import com.comp2042.logic.CollisionHandler;
+import com.comp2042.model.PieceTable;
+import com.comp2042.model.RandomBrickGenerator;
+import com.comp2042.model.Score;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for SurfaceProfile and the boards' ghost landing rows.
+ * Checks direct drops, the overhang fallback, and that both boards agree
+ * with a row-by-row drop over a long game of random moves.
+ */
+@DisplayName("SurfaceProfile Tests")
+class SurfaceProfileTest {
+
+    private static final int WIDTH = 10;
+    private static final int HEIGHT = 20;
+
+    private static final PieceTable T = new PieceTable(
+            new int[][]{{0, 0, 0}, {6, 6, 6}, {0, 6, 0}});
+
+    @Test
+    @DisplayName("dropY() lands on the floor of an empty board")
+    void testDropY_EmptyBoard_Floor() {
+        // Arrange
+        SurfaceProfile surface = new SurfaceProfile(WIDTH, HEIGHT);
+
+        // Act
+        int landing = surface.dropY(T, 0, 3, 0);
+
+        // Assert: the T's lowest cell (shape row 2) rests on the last row
+        assertEquals(HEIGHT - 3, landing);
+    }
+
+    @Test
+    @DisplayName("dropY() uses the bottom profile against the surface")
+    void testDropY_Step_LowestColumnDecides() {
+        // Arrange: a single cell under the T's right arm
+        SurfaceProfile surface = new SurfaceProfile(WIDTH, HEIGHT);
+        surface.fill(HEIGHT - 1, 5);
+
+        // Act
+        int landing = surface.dropY(T, 0, 3, 0);
+
+        // Assert: the arm (shape row 1) rests on the cell, the stem hangs beside it
+        assertEquals(HEIGHT - 3, landing);
+        surface.fill(HEIGHT - 2, 4);
+        assertEquals(HEIGHT - 5, surface.dropY(T, 0, 3, 0), "Stem rests on the taller column");
+    }
+
+    @Test
+    @DisplayName("dropY() reports a brick under an overhang")
+    void testDropY_UnderOverhang_Blocked() {
+        // Arrange: a roof at row 10 over columns 3-5, brick tucked below it
+        SurfaceProfile surface = new SurfaceProfile(WIDTH, HEIGHT);
+        for (int col = 3; col <= 5; col++) {
+            surface.fill(10, col);
+        }
+
+        // Act
+        int landing = surface.dropY(T, 0, 3, 12);
+
+        // Assert
+        assertEquals(SurfaceProfile.BLOCKED, landing);
+    }
+
+    @Test
+    @DisplayName("ghost rows match a row-by-row drop through a random game")
+    void testCalculateGhostYPosition_RandomGame_MatchesStepwise() {
+        // Arrange
+        SimpleBoard simple = new SimpleBoard(WIDTH, HEIGHT, new RandomBrickGenerator(5L), new Score());
+        BitBoard bits = new BitBoard(WIDTH, HEIGHT, new RandomBrickGenerator(5L), new Score());
+        simple.newGame();
+        bits.newGame();
+        Random moves = new Random(5L);
+
+        // Act / Assert
+        for (int step = 0; step < 5000; step++) {
+            int expected = stepwiseLanding(simple);
+            assertEquals(expected, simple.calculateGhostYPosition(), "SimpleBoard, step " + step);
+            assertEquals(expected, bits.calculateGhostYPosition(), "BitBoard, step " + step);
+
+            boolean gameOver = false;
+            switch (moves.nextInt(6)) {
+                case 0:
+                    simple.moveBrickLeft();
+                    bits.moveBrickLeft();
+                    break;
+                case 1:
+                    simple.moveBrickRight();
+                    bits.moveBrickRight();
+                    break;
+                case 2:
+                    simple.rotateLeftBrick();
+                    bits.rotateLeftBrick();
+                    break;
+                case 3:
+                    gameOver = simple.hardDrop().isGameOver();
+                    bits.hardDrop();
+                    break;
+                default:
+                    if (!simple.moveBrickDown()) {
+                        simple.mergeBrickToBackground();
+                        simple.clearRows();
+                        gameOver = simple.createNewBrick();
+                    }
+                    if (!bits.moveBrickDown()) {
+                        bits.mergeBrickToBackground();
+                        bits.clearRows();
+                        bits.createNewBrick();
+                    }
+                    break;
+            }
+            if (gameOver) {
+                simple.newGame();
+                bits.newGame();
+            }
+        }
+    }
+
+    /**
+     * Drops the current brick one row at a time, as the boards did before
+     * they kept a surface.
+     */
+    private static int stepwiseLanding(Board board) {
+        int y = board.getCurrentY();
+        while (!CollisionHandler.hasCollision(board.getBoardMatrix(), board.getCurrentPiece(),
+                board.getCurrentRotation(), board.getCurrentX(), y + 1)) {
+            y++;
+        }
+        return y;
+    }
+}
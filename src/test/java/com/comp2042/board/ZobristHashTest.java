@@ -0,0 +1,89 @@
+package com.comp2042.board;
+
+import com.comp2042.ai.BeamSearchBot;
+import com.comp2042.engine.GameEngine;
+import com.comp2042.model.RandomBrickGenerator;
+import com.comp2042.model.Score;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for ZobristHash and the boards' incremental hashes.
+ * Plays the same seeded game on a SimpleBoard and a BitBoard and checks
+ * after every brick that both incremental hashes match a full rehash.
+ */
+@DisplayName("ZobristHash Tests")
+class ZobristHashTest {
+
+    private static final int WIDTH = 10;
+    private static final int HEIGHT = 20;
+
+    @Test
+    @DisplayName("an empty board hashes to 0")
+    void testHash_EmptyBoard_Zero() {
+        // Arrange
+        SimpleBoard simple = new SimpleBoard(WIDTH, HEIGHT);
+        BitBoard bits = new BitBoard(WIDTH, HEIGHT);
+
+        // Act
+        simple.newGame();
+        bits.newGame();
+
+        // Assert
+        assertEquals(0L, ZobristHash.ofMatrix(new int[HEIGHT][WIDTH]));
+        assertEquals(0L, simple.getBoardHash(), "The falling brick is not part of the hash");
+        assertEquals(0L, bits.getBoardHash(), "The falling brick is not part of the hash");
+    }
+
+    @Test
+    @DisplayName("the hash depends on which cells are filled, not their colors")
+    void testHash_ColorsIgnored() {
+        // Arrange
+        int[][] red = new int[HEIGHT][WIDTH];
+        int[][] blue = new int[HEIGHT][WIDTH];
+        red[HEIGHT - 1][3] = 2;
+        blue[HEIGHT - 1][3] = 5;
+
+        // Act
+        long redHash = ZobristHash.ofMatrix(red);
+        long blueHash = ZobristHash.ofMatrix(blue);
+
+        // Assert
+        assertEquals(redHash, blueHash);
+        assertEquals(ZobristHash.key(HEIGHT - 1, 3), redHash);
+        assertNotEquals(ZobristHash.key(HEIGHT - 1, 3), ZobristHash.key(HEIGHT - 1, 4));
+    }
+
+    @Test
+    @DisplayName("incremental hashes match a full rehash through merges and clears")
+    void testGetBoardHash_SeededGame_MatchesRehash() {
+        // Arrange
+        GameEngine simple = new GameEngine(new SimpleBoard(WIDTH, HEIGHT,
+                new RandomBrickGenerator(11L), new Score()));
+        GameEngine bits = new GameEngine(new BitBoard(WIDTH, HEIGHT,
+                new RandomBrickGenerator(11L), new Score()));
+        simple.newGame();
+        bits.newGame();
+        BeamSearchBot simpleBot = new BeamSearchBot(WIDTH, HEIGHT);
+        BeamSearchBot bitsBot = new BeamSearchBot(WIDTH, HEIGHT);
+
+        // Act / Assert
+        while (!simple.isGameOver() && simple.getPiecesLocked() < 300) {
+            simpleBot.play(simple, List.of());
+            bitsBot.play(bits, List.of());
+            long expected = ZobristHash.ofMatrix(simple.getBoard().getBoardMatrix());
+            assertEquals(expected, simple.getBoard().getBoardHash(),
+                    "SimpleBoard hash after brick " + simple.getPiecesLocked());
+            assertEquals(expected, bits.getBoard().getBoardHash(),
+                    "BitBoard hash after brick " + bits.getPiecesLocked());
+        }
+        assertTrue(simple.getScore().getTotalLines() > 0, "The game should clear rows");
+
+        simple.newGame();
+        assertEquals(0L, simple.getBoard().getBoardHash(), "A new game clears the hash");
+    }
+}
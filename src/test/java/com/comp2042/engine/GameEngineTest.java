@@ -0,0 +1,153 @@
+package com.comp2042.engine;
+
+import com.comp2042.model.Brick;
+import com.comp2042.model.BrickGenerator;
+import com.comp2042.model.ClearRow;
+import com.comp2042.model.SevenBagBrickGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for GameEngine class.
+ * Tests the headless game rules: soft drop scoring, locking, line clears
+ * and game over.
+ */
+@DisplayName("GameEngine Tests")
+class GameEngineTest {
+
+    private static final int[][] SQUARE = {
+            {1, 1},
+            {1, 1}
+    };
+
+    private GameEngine engine;
+
+    /**
+     * Generator that always supplies the same 2x2 square brick.
+     */
+    private static class SquareBrickGenerator implements BrickGenerator {
+        private final Brick brick = () -> List.<int[][]>of(SQUARE);
+
+        @Override
+        public Brick getBrick() {
+            return brick;
+        }
+
+        @Override
+        public Brick getNextBrick() {
+            return brick;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        // 4 columns x 6 rows: two squares side by side complete two rows
+        engine = GameEngine.headless(4, 6, new SquareBrickGenerator());
+        engine.newGame();
+    }
+
+    /**
+     * Lets gravity move the brick down until it locks.
+     */
+    private ClearRow dropUntilLocked() {
+        ClearRow clearRow = null;
+        while (clearRow == null) {
+            clearRow = engine.moveDown(false);
+        }
+        return clearRow;
+    }
+
+    @Test
+    @DisplayName("moveDown() awards soft drop points only for user moves")
+    void testMoveDown_SoftDropScoring() {
+        // Act
+        engine.moveDown(false);
+        int afterGravity = engine.getScore().getCurrentScore();
+        engine.moveDown(true);
+
+        // Assert
+        assertEquals(0, afterGravity, "Gravity should not award points");
+        assertEquals(1, engine.getScore().getCurrentScore(), "Soft drop should award 1 point");
+    }
+
+    @Test
+    @DisplayName("locking bricks clears completed rows and notifies the listener")
+    void testLock_ClearsRowsAndNotifiesListener() {
+        // Arrange
+        List<Integer> notifiedRows = new ArrayList<>();
+        engine.setLineClearListener(notifiedRows::addAll);
+
+        // Act - square at columns 0-1, then square at columns 2-3
+        engine.moveLeft();
+        ClearRow first = dropUntilLocked();
+        engine.moveRight();
+        ClearRow second = dropUntilLocked();
+
+        // Assert
+        assertEquals(0, first.getLinesRemoved());
+        assertEquals(2, second.getLinesRemoved(), "Two rows should be cleared");
+        assertEquals(List.of(4, 5), notifiedRows, "Listener should see the bottom two rows");
+        assertEquals(2, engine.getScore().getTotalLines());
+        assertEquals(2, engine.getPiecesLocked());
+    }
+
+    @Test
+    @DisplayName("stacking to the top ends the game and blocks further input")
+    void testGameOver() {
+        // Act - squares at the same columns never complete a row
+        int locks = 0;
+        while (!engine.isGameOver() && locks < 10) {
+            dropUntilLocked();
+            locks++;
+        }
+
+        // Assert
+        assertTrue(engine.isGameOver(), "Game should end once the column is full");
+        assertEquals(3, locks, "Three squares fill a 6-row column");
+        assertFalse(engine.moveLeft(), "Moves should be ignored after game over");
+        assertNull(engine.hardDrop(), "Hard drop should be ignored after game over");
+    }
+
+    @Test
+    @DisplayName("newGame() resets score, pieces and game over state")
+    void testNewGame_Resets() {
+        // Arrange
+        while (!engine.isGameOver()) {
+            dropUntilLocked();
+        }
+
+        // Act
+        engine.newGame();
+
+        // Assert
+        assertFalse(engine.isGameOver());
+        assertEquals(0, engine.getPiecesLocked());
+        assertEquals(0, engine.getScore().getCurrentScore());
+    }
+
+    @Test
+    @DisplayName("engine runs on a 64x512 board")
+    void testLargeBoard_PlaysToCompletion() {
+        // Arrange
+        GameEngine large = GameEngine.headless(64, 512, new SevenBagBrickGenerator(64L));
+        large.newGame();
+
+        // Act
+        int drops = 0;
+        while (!large.isGameOver() && drops < 20_000) {
+            large.hardDrop();
+            drops++;
+        }
+
+        // Assert
+        assertTrue(large.isGameOver(), "Dropping in place should eventually top out");
+        assertEquals(drops, large.getPiecesLocked(), "Every hard drop should lock one piece");
+        assertEquals(512, large.getBoard().getBoardMatrix().length, "Board should keep its height");
+    }
+}
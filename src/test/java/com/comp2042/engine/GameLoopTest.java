@@ -0,0 +1,172 @@
+package com.comp2042.engine;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for GameLoop.
+ * Tests fixed-timestep accumulation, gravity intervals, speed changes,
+ * pausing and lock delay using synthetic timestamps.
+ */
+@DisplayName("GameLoop Tests")
+class GameLoopTest {
+
+    private int gravitySteps;
+
+    private GameLoop startedLoop(long gravityMillis) {
+        GameLoop loop = new GameLoop(() -> gravitySteps++);
+        loop.setGravityInterval(gravityMillis);
+        loop.start();
+        loop.update(0);
+        return loop;
+    }
+
+    /**
+     * Feeds the loop one 60 Hz frame per tick, from the frame after
+     * fromTick up to and including toTick.
+     */
+    private static void runFrames(GameLoop loop, int fromTick, int toTick) {
+        for (int frame = fromTick + 1; frame <= toTick; frame++) {
+            loop.update(frame * GameLoop.TICK_NANOS);
+        }
+    }
+
+    @Test
+    @DisplayName("one second of frames runs 60 ticks and 400ms gravity steps twice")
+    void testUpdate_OneSecond_FixedTicks() {
+        // Arrange
+        GameLoop loop = startedLoop(400);
+
+        // Act
+        runFrames(loop, 0, 60);
+
+        // Assert
+        assertEquals(GameLoop.TICKS_PER_SECOND, loop.getTickCount(), "Should run 60 ticks per second");
+        assertEquals(24, loop.getGravityTicks(), "400ms should be 24 ticks");
+        assertEquals(2, gravitySteps, "Gravity should step at ticks 24 and 48");
+    }
+
+    @Test
+    @DisplayName("tick count does not depend on frame rate")
+    void testUpdate_FrameRateIndependent() {
+        // Arrange
+        GameLoop smooth = startedLoop(400);
+        GameLoop choppy = new GameLoop(() -> { });
+        choppy.setGravityInterval(400);
+        choppy.start();
+        choppy.update(0);
+
+        // Act
+        runFrames(smooth, 0, 120);
+        for (int frame = 6; frame <= 120; frame += 6) {
+            choppy.update(frame * GameLoop.TICK_NANOS);
+        }
+
+        // Assert
+        assertEquals(smooth.getTickCount(), choppy.getTickCount(),
+                "Same elapsed time should run the same number of ticks");
+    }
+
+    @Test
+    @DisplayName("speed change applies without restarting the loop")
+    void testSetGravityInterval_AppliesInPlace() {
+        // Arrange
+        GameLoop loop = startedLoop(1000);
+        runFrames(loop, 0, 30);
+
+        // Act
+        loop.setGravityInterval(100);
+        runFrames(loop, 30, 60);
+
+        // Assert
+        assertEquals(60, loop.getTickCount(), "Tick count should continue");
+        assertEquals(6, loop.getGravityTicks(), "100ms should be 6 ticks");
+        assertEquals(5, gravitySteps, "Faster gravity should apply from the next tick");
+    }
+
+    @Test
+    @DisplayName("paused time is not simulated")
+    void testPauseResume_SkipsPausedTime() {
+        // Arrange
+        GameLoop loop = startedLoop(400);
+        runFrames(loop, 0, 30);
+
+        // Act
+        loop.pause();
+        runFrames(loop, 30, 300);
+        loop.resume();
+        runFrames(loop, 300, 330);
+
+        // Assert
+        assertEquals(59, loop.getTickCount(),
+                "Only running time should be simulated (the first frame after resume re-syncs)");
+        assertTrue(loop.isRunning(), "Loop should be running after resume");
+    }
+
+    @Test
+    @DisplayName("stop() resets the tick count for the next game")
+    void testStop_ResetsTickCount() {
+        // Arrange
+        GameLoop loop = startedLoop(400);
+        runFrames(loop, 0, 30);
+
+        // Act
+        loop.stop();
+
+        // Assert
+        assertEquals(0, loop.getTickCount(), "Events of the next game should start at tick 0");
+        assertFalse(loop.isRunning());
+    }
+
+    @Test
+    @DisplayName("long stalls are clamped instead of replayed")
+    void testUpdate_LongStall_Clamped() {
+        // Arrange
+        GameLoop loop = startedLoop(400);
+
+        // Act
+        loop.update(600 * GameLoop.TICK_NANOS);
+
+        // Assert
+        assertTrue(loop.getTickCount() <= GameLoop.TICKS_PER_SECOND / 4,
+                "A 10 second stall should not run 600 ticks, ran " + loop.getTickCount());
+    }
+
+    @Test
+    @DisplayName("lock delay holds a grounded brick before the gravity step locks it")
+    void testLockDelay_GroundedBrick() {
+        // Arrange
+        GameLoop loop = new GameLoop(() -> gravitySteps++);
+        loop.setGravityInterval(50);
+        loop.setLockDelay(500, () -> true);
+        loop.start();
+
+        // Act
+        for (int i = 0; i < 29; i++) {
+            loop.tick();
+        }
+        int beforeExpiry = gravitySteps;
+        loop.tick();
+
+        // Assert
+        assertEquals(0, beforeExpiry, "Grounded brick should not lock before the delay expires");
+        assertEquals(1, gravitySteps, "Gravity step should lock after 30 ticks");
+    }
+
+    @Test
+    @DisplayName("tick listener runs once per tick before gravity")
+    void testTickListener_EveryTick() {
+        // Arrange
+        long[] lastTick = new long[1];
+        GameLoop loop = startedLoop(400);
+        loop.setTickListener(tick -> lastTick[0] = tick);
+
+        // Act
+        runFrames(loop, 0, 60);
+
+        // Assert
+        assertEquals(60, lastTick[0], "Listener should see every tick");
+    }
+}
@@ -0,0 +1,174 @@
+package com.comp2042.engine;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for InputRepeater.
+ * Tests the immediate shift on press, DAS and ARR timing in ticks,
+ * shifting to the wall, direction hand-over and soft drop repeats.
+ */
+@DisplayName("InputRepeater Tests")
+class InputRepeaterTest {
+
+    /** Default DAS of 167ms at 60 Hz. */
+    private static final int DAS_TICKS = 10;
+
+    /** Default ARR of 33ms at 60 Hz. */
+    private static final int ARR_TICKS = 2;
+
+    /**
+     * Runs the given number of ticks and returns the sum of their shifts.
+     */
+    private static int runTicks(InputRepeater repeater, int ticks) {
+        int total = 0;
+        for (int i = 0; i < ticks; i++) {
+            total += repeater.tick();
+        }
+        return total;
+    }
+
+    @Test
+    @DisplayName("a press shifts once straight away and OS repeats are ignored")
+    void testPress_ShiftsOnce_IgnoresRepeats() {
+        // Arrange
+        InputRepeater repeater = new InputRepeater();
+
+        // Act
+        int first = repeater.press(InputRepeater.LEFT);
+        int repeat = repeater.press(InputRepeater.LEFT);
+
+        // Assert
+        assertEquals(InputRepeater.LEFT, first);
+        assertEquals(0, repeat, "An OS key repeat should not shift");
+        assertTrue(repeater.isHeld(InputRepeater.LEFT));
+        assertFalse(repeater.isHeld(InputRepeater.RIGHT));
+    }
+
+    @Test
+    @DisplayName("a held key waits for DAS, then shifts every ARR ticks")
+    void testTick_Held_DasThenArr() {
+        // Arrange
+        InputRepeater repeater = new InputRepeater();
+        repeater.press(InputRepeater.RIGHT);
+
+        // Act / Assert
+        assertEquals(0, runTicks(repeater, DAS_TICKS - 1), "No shift before DAS expires");
+        assertEquals(InputRepeater.RIGHT, repeater.tick(), "First auto shift when DAS expires");
+        assertEquals(0, repeater.tick());
+        assertEquals(InputRepeater.RIGHT, repeater.tick(), "Then one shift every ARR ticks");
+        assertEquals(5 * InputRepeater.RIGHT, runTicks(repeater, 5 * ARR_TICKS));
+    }
+
+    @Test
+    @DisplayName("releasing the key stops the repeat")
+    void testRelease_StopsRepeat() {
+        // Arrange
+        InputRepeater repeater = new InputRepeater();
+        repeater.press(InputRepeater.LEFT);
+        runTicks(repeater, DAS_TICKS);
+
+        // Act
+        repeater.release(InputRepeater.LEFT);
+
+        // Assert
+        assertEquals(0, runTicks(repeater, 30));
+        assertFalse(repeater.isHeld(InputRepeater.LEFT));
+    }
+
+    @Test
+    @DisplayName("an ARR of zero shifts to the wall once DAS expires")
+    void testTick_ZeroArr_ShiftsToWall() {
+        // Arrange
+        InputRepeater repeater = new InputRepeater();
+        repeater.setTiming(InputRepeater.DEFAULT_DAS_MILLIS, 0, InputRepeater.DEFAULT_SOFT_DROP_MILLIS);
+        repeater.press(InputRepeater.LEFT);
+
+        // Act
+        int beforeDas = runTicks(repeater, DAS_TICKS - 1);
+        int atDas = repeater.tick();
+
+        // Assert
+        assertEquals(0, beforeDas);
+        assertEquals(-InputRepeater.TO_WALL, atDas);
+        assertEquals(-InputRepeater.TO_WALL, repeater.tick(), "Keeps pushing against the wall");
+    }
+
+    @Test
+    @DisplayName("the last pressed direction wins and hands over with a fresh DAS")
+    void testPress_BothDirections_LastWins() {
+        // Arrange
+        InputRepeater repeater = new InputRepeater();
+        repeater.press(InputRepeater.LEFT);
+        runTicks(repeater, DAS_TICKS);
+
+        // Act
+        int pressedRight = repeater.press(InputRepeater.RIGHT);
+        int whileBothHeld = runTicks(repeater, DAS_TICKS);
+        repeater.release(InputRepeater.RIGHT);
+        int afterRelease = runTicks(repeater, DAS_TICKS - 1);
+
+        // Assert
+        assertEquals(InputRepeater.RIGHT, pressedRight);
+        assertEquals(InputRepeater.RIGHT, whileBothHeld, "Right charges its own DAS");
+        assertEquals(0, afterRelease, "Left restarts DAS after taking over");
+        assertEquals(InputRepeater.LEFT, repeater.tick());
+    }
+
+    @Test
+    @DisplayName("held soft drop steps every soft drop interval")
+    void testTick_SoftDropHeld_Repeats() {
+        // Arrange
+        InputRepeater repeater = new InputRepeater();
+
+        // Act
+        boolean first = repeater.pressSoftDrop();
+        boolean repeat = repeater.pressSoftDrop();
+        int due = 0;
+        for (int i = 0; i < 10; i++) {
+            repeater.tick();
+            if (repeater.isSoftDropDue()) {
+                due++;
+            }
+        }
+        repeater.releaseSoftDrop();
+        repeater.tick();
+
+        // Assert
+        assertTrue(first, "A press steps straight away");
+        assertFalse(repeat, "An OS key repeat should not step");
+        assertEquals(10 / ARR_TICKS, due, "33ms is one step every 2 ticks");
+        assertFalse(repeater.isSoftDropDue(), "No step after release");
+    }
+
+    @Test
+    @DisplayName("releaseAll() forgets every held key")
+    void testReleaseAll_ClearsHeldKeys() {
+        // Arrange
+        InputRepeater repeater = new InputRepeater();
+        repeater.press(InputRepeater.RIGHT);
+        repeater.pressSoftDrop();
+
+        // Act
+        repeater.releaseAll();
+
+        // Assert
+        assertEquals(0, runTicks(repeater, 30));
+        assertFalse(repeater.isSoftDropDue());
+        assertEquals(InputRepeater.RIGHT, repeater.press(InputRepeater.RIGHT), "Next press shifts again");
+    }
+
+    @Test
+    @DisplayName("negative timings are rejected")
+    void testSetTiming_Negative_Throws() {
+        // Arrange
+        InputRepeater repeater = new InputRepeater();
+
+        // Act / Assert
+        assertThrows(IllegalArgumentException.class, () -> repeater.setTiming(-1, 33, 33));
+        assertThrows(IllegalArgumentException.class, () -> repeater.setTiming(167, -1, 33));
+        assertThrows(IllegalArgumentException.class, () -> repeater.setTiming(167, 33, -1));
+    }
+}
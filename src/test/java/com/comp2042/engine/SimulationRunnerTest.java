@@ -0,0 +1,92 @@
+package com.comp2042.engine;
+
+import com.comp2042.model.RandomBrickGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for SimulationRunner and SimulationStats.
+ * Tests game counts, determinism across runs and thread counts, and the
+ * game length histogram.
+ */
+@DisplayName("SimulationRunner Tests")
+class SimulationRunnerTest {
+
+    private static final long[] SEEDS = {1L, 2L, 3L, 42L};
+    private static final long MAX_PIECES = 500;
+
+    /**
+     * Policy that drops every brick in its spawn rotation, cycling the target
+     * column with the current spawn row so stacks spread across the board.
+     */
+    private static final SimulationPolicy SPREAD_POLICY = board ->
+            new Placement(0, Math.floorMod(board.getScore().getTotalLines() * 3
+                    + board.getCurrentPiece().getColor() * 2, 8));
+
+    private static SimulationRunner runner(int parallelism) {
+        return new SimulationRunner(10, 25, MAX_PIECES, parallelism, RandomBrickGenerator::new);
+    }
+
+    @Test
+    @DisplayName("run plays the requested number of games")
+    void testRun_PlaysRequestedGames() {
+        // Act
+        SimulationStats stats = runner(2).run(SPREAD_POLICY, SEEDS, 10);
+
+        // Assert
+        assertEquals(10, stats.getGames(), "Should play every requested game");
+        assertTrue(stats.getTotalPieces() >= 10, "Every game should lock at least one piece");
+    }
+
+    @Test
+    @DisplayName("same seeds produce identical stats")
+    void testRun_SameSeeds_Deterministic() {
+        // Act
+        SimulationStats first = runner(2).run(SPREAD_POLICY, SEEDS, 12);
+        SimulationStats second = runner(2).run(SPREAD_POLICY, SEEDS, 12);
+
+        // Assert
+        assertEquals(first.getTotalPieces(), second.getTotalPieces(), "Pieces should match");
+        assertEquals(first.getTotalLines(), second.getTotalLines(), "Lines should match");
+        assertEquals(first.getTotalScore(), second.getTotalScore(), "Score should match");
+        assertArrayEquals(first.getLengthHistogram(), second.getLengthHistogram(),
+                "Histogram should match");
+    }
+
+    @Test
+    @DisplayName("results do not depend on parallelism")
+    void testRun_ParallelMatchesSequential() {
+        // Act
+        SimulationStats sequential = runner(1).run(SPREAD_POLICY, SEEDS, 16);
+        SimulationStats parallel = runner(4).run(SPREAD_POLICY, SEEDS, 16);
+
+        // Assert
+        assertEquals(sequential.getTotalPieces(), parallel.getTotalPieces(), "Pieces should match");
+        assertEquals(sequential.getTotalScore(), parallel.getTotalScore(), "Score should match");
+        assertEquals(sequential.getMaxScore(), parallel.getMaxScore(), "Max score should match");
+    }
+
+    @Test
+    @DisplayName("histogram counts every game once")
+    void testRun_HistogramSumsToGames() {
+        // Act
+        SimulationStats stats = runner(2).run(SPREAD_POLICY, SEEDS, 9);
+
+        // Assert
+        long sum = 0;
+        for (long count : stats.getLengthHistogram()) {
+            sum += count;
+        }
+        assertEquals(stats.getGames(), sum, "Histogram buckets should add up to the game count");
+    }
+
+    @Test
+    @DisplayName("run rejects an empty seed list")
+    void testRun_NoSeeds_Throws() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> runner(1).run(SPREAD_POLICY, new long[0], 1));
+    }
+}
@@ -0,0 +1,136 @@
+package com.comp2042.leaderboard;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for LeaderboardStore.
+ * Tests persistence across reopen, top-N ordering by score and lines,
+ * difficulty filtering, and recovery from a torn trailing record.
+ */
+@DisplayName("LeaderboardStore Tests")
+class LeaderboardStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static GameRecord game(int score, int lines, String difficulty) {
+        return new GameRecord(1_700_000_000_000L, 42L + score, score, lines, 1 + lines / 10,
+                60_000, difficulty, 10, 25, true, false);
+    }
+
+    @Test
+    @DisplayName("records survive closing and reopening the store")
+    void testAppend_Reopen_RecordsPersist() throws IOException {
+        // Arrange
+        Path file = tempDir.resolve("leaderboard.dat");
+        try (LeaderboardStore store = LeaderboardStore.open(file)) {
+            store.append(game(1200, 12, "HARD"));
+            store.append(game(300, 4, "EASY"));
+        }
+
+        // Act
+        GameRecord first;
+        int size;
+        try (LeaderboardStore store = LeaderboardStore.open(file)) {
+            size = store.size();
+            first = store.get(0);
+        }
+
+        // Assert
+        assertEquals(2, size, "Both games should be reloaded");
+        assertEquals(1200, first.getScore(), "Score should round-trip");
+        assertEquals(12, first.getLines(), "Lines should round-trip");
+        assertEquals(1242L, first.getSeed(), "Seed should round-trip");
+        assertEquals("HARD", first.getDifficulty(), "Difficulty should round-trip");
+        assertTrue(first.isGhostPieceEnabled(), "Ghost flag should round-trip");
+        assertFalse(first.isHardDropEnabled(), "Hard drop flag should round-trip");
+    }
+
+    @Test
+    @DisplayName("topByScore returns the best games in order, earlier game first on ties")
+    void testTopByScore_OrderedWithTies() throws IOException {
+        // Arrange
+        try (LeaderboardStore store = LeaderboardStore.open(tempDir.resolve("lb.dat"))) {
+            int[] scores = {500, 900, 100, 900, 700, 300};
+            for (int score : scores) {
+                store.append(game(score, 0, "NORMAL"));
+            }
+
+            // Act
+            List<GameRecord> top = store.topByScore(3);
+
+            // Assert
+            assertEquals(3, top.size(), "Should return three games");
+            assertEquals(900, top.get(0).getScore());
+            assertEquals(900, top.get(1).getScore());
+            assertEquals(700, top.get(2).getScore());
+            assertEquals(942L, top.get(0).getSeed(), "Tied scores keep append order");
+        }
+    }
+
+    @Test
+    @DisplayName("queries filter by difficulty and rank by lines")
+    void testTopQueries_DifficultyAndLines() throws IOException {
+        // Arrange
+        try (LeaderboardStore store = LeaderboardStore.open(tempDir.resolve("lb.dat"))) {
+            store.append(game(1000, 5, "EASY"));
+            store.append(game(800, 40, "HARD"));
+            store.append(game(600, 20, "HARD"));
+            store.append(game(2000, 10, "NORMAL"));
+
+            // Act
+            List<GameRecord> hard = store.topByScore(10, "HARD");
+            List<GameRecord> byLines = store.topByLines(2);
+
+            // Assert
+            assertEquals(2, hard.size(), "Only HARD games should be returned");
+            assertEquals(800, hard.get(0).getScore());
+            assertEquals(40, byLines.get(0).getLines());
+            assertEquals(20, byLines.get(1).getLines());
+        }
+    }
+
+    @Test
+    @DisplayName("a partial trailing record is dropped on open")
+    void testOpen_TornTail_Truncated() throws IOException {
+        // Arrange
+        Path file = tempDir.resolve("leaderboard.dat");
+        try (LeaderboardStore store = LeaderboardStore.open(file)) {
+            store.append(game(100, 1, "EASY"));
+        }
+        Files.write(file, new byte[]{1, 2, 3, 4, 5}, StandardOpenOption.APPEND);
+
+        // Act
+        try (LeaderboardStore store = LeaderboardStore.open(file)) {
+            store.append(game(200, 2, "EASY"));
+
+            // Assert
+            assertEquals(2, store.size(), "Torn bytes should not count as a record");
+            assertEquals(200, store.get(1).getScore(), "New record should follow the last full one");
+        }
+        assertEquals(LeaderboardStore.HEADER_BYTES + 2L * LeaderboardStore.RECORD_BYTES,
+                Files.size(file), "File should hold exactly two records");
+    }
+
+    @Test
+    @DisplayName("opening a file that is not a leaderboard fails")
+    void testOpen_WrongMagic_Throws() throws IOException {
+        // Arrange
+        Path file = tempDir.resolve("settings.config");
+        Files.writeString(file, "highScore=1000\nghostPieceEnabled=true\n");
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> LeaderboardStore.open(file),
+                "A foreign file should be rejected, not overwritten");
+    }
+}
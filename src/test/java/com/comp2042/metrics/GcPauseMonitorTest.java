@@ -0,0 +1,51 @@
+package com.comp2042.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for GcPauseMonitor.
+ * Tests the pause figures and starting and stopping the listener.
+ */
+@DisplayName("GcPauseMonitor Tests")
+class GcPauseMonitorTest {
+
+    @Test
+    @DisplayName("recorded pauses update count, total, last and max")
+    void testRecordPause_UpdatesFigures() {
+        // Arrange
+        GcPauseMonitor monitor = new GcPauseMonitor();
+
+        // Act
+        monitor.recordPause(4);
+        monitor.recordPause(12);
+        monitor.recordPause(3);
+
+        // Assert
+        assertEquals(3, monitor.getPauses());
+        assertEquals(19, monitor.getTotalPauseMillis());
+        assertEquals(3, monitor.getLastPauseMillis());
+        assertEquals(12, monitor.takeMaxPauseMillis());
+        assertEquals(0, monitor.takeMaxPauseMillis(), "Taking the max starts a new period");
+    }
+
+    @Test
+    @DisplayName("start() and stop() can be repeated")
+    void testStartStop_Idempotent() {
+        // Arrange
+        GcPauseMonitor monitor = new GcPauseMonitor();
+
+        // Act
+        monitor.start();
+        monitor.start();
+        boolean started = monitor.isStarted();
+        monitor.stop();
+        monitor.stop();
+
+        // Assert
+        assertTrue(started, "The JVM should offer at least one stop-the-world collector");
+        assertFalse(monitor.isStarted());
+    }
+}
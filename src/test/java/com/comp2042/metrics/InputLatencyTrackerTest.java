@@ -0,0 +1,92 @@
+package com.comp2042.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for InputLatencyTracker.
+ * Feeds synthetic timestamps through the press, engine, render and pulse
+ * stages and checks what is recorded.
+ */
+@DisplayName("InputLatencyTracker Tests")
+class InputLatencyTrackerTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    @Test
+    @DisplayName("a rendered press records each stage from the press time")
+    void testPulse_RenderedPress_RecordsStages() {
+        // Arrange
+        InputLatencyTracker tracker = new InputLatencyTracker();
+
+        // Act
+        tracker.inputReceived(0);
+        tracker.engineApplied(MILLIS);
+        tracker.rendered(3 * MILLIS);
+        tracker.pulse(16 * MILLIS);
+
+        // Assert
+        assertEquals(1, tracker.getSamples());
+        assertEquals(MILLIS, tracker.getToEngine().percentile(50), 0.03 * MILLIS);
+        assertEquals(3 * MILLIS, tracker.getToRender().percentile(50), 0.03 * 3 * MILLIS);
+        assertEquals(16 * MILLIS, tracker.getToPulse().percentile(50), 0.03 * 16 * MILLIS);
+    }
+
+    @Test
+    @DisplayName("a press that never reaches the view is dropped")
+    void testPulse_NoRender_Dropped() {
+        // Arrange
+        InputLatencyTracker tracker = new InputLatencyTracker();
+
+        // Act: a render without an engine call (e.g. gravity) does not count
+        tracker.inputReceived(0);
+        tracker.rendered(MILLIS);
+        tracker.pulse(16 * MILLIS);
+
+        // Assert
+        assertEquals(0, tracker.getSamples());
+        assertEquals(0, tracker.getToPulse().getCount());
+    }
+
+    @Test
+    @DisplayName("presses before the pulse are measured from the first")
+    void testInputReceived_SameFrame_FirstWins() {
+        // Arrange
+        InputLatencyTracker tracker = new InputLatencyTracker();
+
+        // Act
+        tracker.inputReceived(0);
+        tracker.engineApplied(MILLIS);
+        tracker.rendered(2 * MILLIS);
+        tracker.inputReceived(5 * MILLIS);
+        tracker.engineApplied(6 * MILLIS);
+        tracker.rendered(7 * MILLIS);
+        tracker.pulse(10 * MILLIS);
+
+        // Assert
+        assertEquals(1, tracker.getSamples());
+        assertEquals(10 * MILLIS, tracker.getToPulse().percentile(100), 0.03 * 10 * MILLIS);
+        assertEquals(7 * MILLIS, tracker.getToRender().percentile(100), 0.03 * 7 * MILLIS);
+    }
+
+    @Test
+    @DisplayName("discardPending() drops the press in flight")
+    void testDiscardPending_DropsPress() {
+        // Arrange
+        InputLatencyTracker tracker = new InputLatencyTracker();
+        tracker.inputReceived(0);
+        tracker.engineApplied(MILLIS);
+        tracker.rendered(2 * MILLIS);
+
+        // Act
+        tracker.discardPending();
+        tracker.pulse(5_000 * MILLIS);
+
+        // Assert
+        assertEquals(0, tracker.getSamples());
+        assertTrue(tracker.summary().startsWith("INPUT LATENCY (n=0)"));
+        assertFalse(tracker.summaryLine().contains("\n"), "The log line is a single line");
+    }
+}
@@ -0,0 +1,120 @@
+package com.comp2042.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for LatencyHistogram.
+ * Tests percentile accuracy across the bucket range, the rolling window
+ * and clearing.
+ */
+@DisplayName("LatencyHistogram Tests")
+class LatencyHistogramTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    @Test
+    @DisplayName("an empty histogram reports 0")
+    void testPercentile_Empty_Zero() {
+        // Arrange
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // Act / Assert
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.percentile(50));
+        assertEquals(0, histogram.percentile(99));
+    }
+
+    @Test
+    @DisplayName("percentiles of 1..100ms are within 3% of the exact values")
+    void testPercentile_Uniform_WithinBucketError() {
+        // Arrange
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // Act
+        for (int ms = 100; ms >= 1; ms--) {
+            histogram.record(ms * MILLIS);
+        }
+
+        // Assert
+        assertEquals(100, histogram.getCount());
+        assertWithin(50 * MILLIS, histogram.percentile(50));
+        assertWithin(95 * MILLIS, histogram.percentile(95));
+        assertWithin(99 * MILLIS, histogram.percentile(99));
+        assertWithin(100 * MILLIS, histogram.percentile(100));
+    }
+
+    @Test
+    @DisplayName("microsecond durations below 32us are exact")
+    void testPercentile_SmallValues_Exact() {
+        // Arrange
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // Act
+        histogram.record(7_000);
+        histogram.record(-5);
+
+        // Assert
+        assertEquals(0, histogram.percentile(50), "Negative durations count as 0");
+        assertEquals(7_000, histogram.percentile(100));
+    }
+
+    @Test
+    @DisplayName("only the most recent window of samples counts")
+    void testRecord_WindowFull_DropsOldest() {
+        // Arrange
+        LatencyHistogram histogram = new LatencyHistogram(4);
+        for (int i = 0; i < 4; i++) {
+            histogram.record(100 * MILLIS);
+        }
+
+        // Act
+        for (int i = 0; i < 4; i++) {
+            histogram.record(MILLIS);
+        }
+
+        // Assert
+        assertEquals(4, histogram.getCount());
+        assertWithin(MILLIS, histogram.percentile(100));
+    }
+
+    @Test
+    @DisplayName("countAtMost() counts the samples up to a duration")
+    void testCountAtMost_Bands() {
+        // Arrange
+        LatencyHistogram histogram = new LatencyHistogram();
+        long[] frames = {16_700_000L, 16_600_000L, 33_400_000L, 70_000_000L};
+        for (long frame : frames) {
+            histogram.record(frame);
+        }
+
+        // Act / Assert
+        assertEquals(0, histogram.countAtMost(8 * MILLIS));
+        assertEquals(2, histogram.countAtMost(17 * MILLIS));
+        assertEquals(3, histogram.countAtMost(34 * MILLIS));
+        assertEquals(4, histogram.countAtMost(100 * MILLIS));
+    }
+
+    @Test
+    @DisplayName("clear() removes all samples")
+    void testClear_RemovesSamples() {
+        // Arrange
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(5 * MILLIS);
+
+        // Act
+        histogram.clear();
+
+        // Assert
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.percentile(50));
+        assertThrows(IllegalArgumentException.class, () -> new LatencyHistogram(0));
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected * 0.03,
+                "Expected about " + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,62 @@
+package com.comp2042.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for MetricsLog.
+ * Tests that appended lines reach the file in order, with a timestamp.
+ */
+@DisplayName("MetricsLog Tests")
+class MetricsLogTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("appended lines are written in order after flush")
+    void testAppend_Flush_WritesInOrder() throws IOException {
+        // Arrange
+        Path file = tempDir.resolve("logs").resolve("latency.log");
+        MetricsLog log = new MetricsLog(file);
+
+        // Act
+        log.append("first");
+        log.append("second");
+        boolean flushed = log.flush(5000);
+        log.close(1000);
+
+        // Assert
+        assertTrue(flushed);
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).endsWith(" first"), lines.get(0));
+        assertTrue(lines.get(1).endsWith(" second"), lines.get(1));
+        assertTrue(lines.get(0).matches("\\d{4}-\\d{2}-\\d{2}T.* first"), "Lines start with a timestamp");
+    }
+
+    @Test
+    @DisplayName("close() writes the lines still queued")
+    void testClose_WritesQueuedLines() throws IOException {
+        // Arrange
+        Path file = tempDir.resolve("latency.log");
+        MetricsLog log = new MetricsLog(file);
+        log.append("last");
+
+        // Act
+        log.close(5000);
+
+        // Assert
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).endsWith(" last"), lines.get(0));
+    }
+}
@@ -0,0 +1,76 @@
+package com.comp2042.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for PerfMonitor.
+ * Feeds synthetic frame times and checks the refresh interval and the HUD
+ * text.
+ */
+@DisplayName("PerfMonitor Tests")
+class PerfMonitorTest {
+
+    private static final long FRAME_NANOS = 16_666_667L;
+
+    @Test
+    @DisplayName("a refresh is due once the interval has passed")
+    void testIsRefreshDue_AfterInterval() {
+        // Arrange
+        PerfMonitor monitor = new PerfMonitor();
+        monitor.start(0);
+
+        // Act / Assert
+        assertFalse(monitor.isRefreshDue(PerfMonitor.DEFAULT_REFRESH_NANOS - 1));
+        assertTrue(monitor.isRefreshDue(PerfMonitor.DEFAULT_REFRESH_NANOS));
+        monitor.refresh(PerfMonitor.DEFAULT_REFRESH_NANOS, 0);
+        assertFalse(monitor.isRefreshDue(PerfMonitor.DEFAULT_REFRESH_NANOS + 1));
+        monitor.stop();
+    }
+
+    @Test
+    @DisplayName("HUD text reports FPS, frame bands, tick time, GC and nodes")
+    void testRefresh_SteadyFrames_ReportsFigures() {
+        // Arrange
+        PerfMonitor monitor = new PerfMonitor();
+        monitor.start(0);
+        for (int frame = 1; frame <= 60; frame++) {
+            monitor.frame(frame * FRAME_NANOS);
+            monitor.tickTime(50_000);
+        }
+        monitor.getGcPauses().recordPause(7);
+
+        // Act
+        String text = monitor.refresh(60 * FRAME_NANOS, 321);
+        monitor.stop();
+
+        // Assert
+        assertTrue(text.startsWith("FPS    60.0"), text);
+        assertTrue(text.contains("<=17ms #################### 59"), "All frame intervals in the 17ms band: " + text);
+        assertTrue(text.contains("TICK   p50 0.05"), text);
+        assertTrue(text.contains("ALLOC  "), text);
+        assertTrue(text.contains("last 7 ms, max 7 ms"), text);
+        assertTrue(text.endsWith("NODES  321"), text);
+    }
+
+    @Test
+    @DisplayName("start() clears the previous figures")
+    void testStart_ClearsFigures() {
+        // Arrange
+        PerfMonitor monitor = new PerfMonitor();
+        monitor.start(0);
+        monitor.frame(0);
+        monitor.frame(100_000_000L);
+
+        // Act
+        monitor.start(200_000_000L);
+        String text = monitor.refresh(450_000_000L, 0);
+        monitor.stop();
+
+        // Assert
+        assertTrue(text.startsWith("FPS    0.0"), text);
+        assertTrue(text.contains("FRAME  p50 0.00  p95 0.00  p99 0.00 ms"), text);
+    }
+}
@@ -0,0 +1,114 @@
+package com.comp2042.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for PieceTable class.
+ * Tests precomputed masks, bounding boxes, cell offsets and sharing.
+ */
+@DisplayName("PieceTable Tests")
+class PieceTableTest {
+
+    @Test
+    @DisplayName("built-in bricks share one table across instances")
+    void testBuiltInBricks_ShareTable() {
+        // Act
+        PieceTable first = new TBrick().getPieceTable();
+        PieceTable second = new TBrick().getPieceTable();
+
+        // Assert
+        assertSame(first, second, "All T-bricks should share the same table");
+        assertEquals(4, first.getRotationCount(), "T-brick should have 4 rotations");
+        assertEquals(1, new OBrick().getPieceTable().getRotationCount(),
+                "O-brick should have 1 rotation");
+    }
+
+    @Test
+    @DisplayName("row masks and bounding box match the shape")
+    void testRowMasksAndBoundingBox() {
+        // Arrange - horizontal I-brick occupies row 1, columns 0-3
+        PieceTable table = new IBrick().getPieceTable();
+
+        // Act
+        long[] masks = table.getRowMasks(0);
+
+        // Assert
+        assertEquals(0b0000L, masks[0]);
+        assertEquals(0b1111L, masks[1]);
+        assertEquals(1, table.getMinRow(0));
+        assertEquals(1, table.getMaxRow(0));
+        assertEquals(0, table.getMinCol(0));
+        assertEquals(3, table.getMaxCol(0));
+        assertEquals(1, table.getColor(), "I-brick uses color value 1");
+    }
+
+    @Test
+    @DisplayName("cell offsets list every filled cell as (col, row) pairs")
+    void testCellOffsets() {
+        // Arrange
+        PieceTable table = new PieceTable(new int[][]{
+                {0, 3},
+                {3, 3}
+        });
+
+        // Act
+        int[] offsets = table.getCellOffsets(0);
+
+        // Assert
+        assertArrayEquals(new int[]{1, 0, 0, 1, 1, 1}, offsets);
+    }
+
+    @Test
+    @DisplayName("bottom profile gives the lowest filled row of each column")
+    void testBottomProfile() {
+        // Arrange - T pointing down, with an empty first row and column
+        PieceTable table = new PieceTable(new int[][]{
+                {0, 0, 0, 0},
+                {0, 6, 6, 6},
+                {0, 0, 6, 0}
+        });
+
+        // Act
+        int[] bottom = table.getBottomProfile(0);
+
+        // Assert
+        assertArrayEquals(new int[]{-1, 1, 2, 1}, bottom);
+    }
+
+    @Test
+    @DisplayName("table is unaffected by changes to its source or copies")
+    void testCopiesAreIndependent() {
+        // Arrange
+        int[][] source = {{2, 2}};
+        PieceTable table = new PieceTable(source);
+
+        // Act
+        source[0][0] = 0;
+        List<int[][]> copy = table.copyShapes();
+        copy.get(0)[0][1] = 0;
+
+        // Assert
+        assertArrayEquals(new int[]{2, 2}, table.getShape(0)[0],
+                "Table should not see writes to its source or to copies");
+    }
+
+    @Test
+    @DisplayName("getShapeMatrix() still returns deep copies")
+    void testGetShapeMatrix_ReturnsCopies() {
+        // Arrange
+        Brick brick = new SBrick();
+
+        // Act
+        int[][] shape = brick.getShapeMatrix().get(0);
+
+        // Assert
+        assertNotSame(brick.getPieceTable().getShape(0), shape,
+                "getShapeMatrix() should not expose the shared table");
+        assertArrayEquals(brick.getPieceTable().getShape(0), shape);
+    }
+}
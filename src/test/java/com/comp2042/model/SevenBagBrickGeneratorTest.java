@@ -0,0 +1,133 @@
+package com.comp2042.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for SevenBagBrickGenerator class.
+ * Tests bag fairness, determinism, lookahead and jumping.
+ */
+@DisplayName("SevenBagBrickGenerator Tests")
+class SevenBagBrickGeneratorTest {
+
+    private static final int BAGS = 50;
+
+    @Test
+    @DisplayName("every bag of seven contains each brick type once")
+    void testGetBrick_EachBagIsPermutation() {
+        // Arrange
+        SevenBagBrickGenerator generator = new SevenBagBrickGenerator(123L);
+
+        // Act & Assert
+        for (int bag = 0; bag < BAGS; bag++) {
+            Set<Class<?>> types = new HashSet<>();
+            for (int i = 0; i < SevenBagBrickGenerator.BAG_SIZE; i++) {
+                types.add(generator.getBrick().getClass());
+            }
+            assertEquals(SevenBagBrickGenerator.BAG_SIZE, types.size(),
+                    "Bag " + bag + " should contain all seven brick types");
+        }
+    }
+
+    @Test
+    @DisplayName("same seed produces the same sequence")
+    void testGetBrick_SameSeed_SameSequence() {
+        // Arrange
+        SevenBagBrickGenerator first = new SevenBagBrickGenerator(99L);
+        SevenBagBrickGenerator second = new SevenBagBrickGenerator(99L, 2);
+
+        // Act & Assert
+        for (int i = 0; i < BAGS * SevenBagBrickGenerator.BAG_SIZE; i++) {
+            assertSame(first.getBrick().getClass(), second.getBrick().getClass(),
+                    "Piece " + i + " should match for equal seeds");
+        }
+    }
+
+    @Test
+    @DisplayName("different seeds produce different sequences")
+    void testGetBrick_DifferentSeeds_Differ() {
+        // Arrange
+        SevenBagBrickGenerator first = new SevenBagBrickGenerator(1L);
+        SevenBagBrickGenerator second = new SevenBagBrickGenerator(2L);
+
+        // Act
+        boolean differs = false;
+        for (int i = 0; i < BAGS * SevenBagBrickGenerator.BAG_SIZE && !differs; i++) {
+            differs = first.getBrick().getClass() != second.getBrick().getClass();
+        }
+
+        // Assert
+        assertTrue(differs, "Different seeds should give different sequences");
+    }
+
+    @Test
+    @DisplayName("getNextBricks previews the bricks getBrick returns")
+    void testGetNextBricks_MatchesUpcomingBricks() {
+        // Arrange
+        SevenBagBrickGenerator generator = new SevenBagBrickGenerator(7L, 3);
+        generator.getBrick();
+
+        // Act
+        List<Brick> preview = generator.getNextBricks(6);
+
+        // Assert
+        assertEquals(6, preview.size(), "Preview may extend past the ring buffer");
+        assertSame(preview.get(0), generator.getNextBrick(), "First preview is the next brick");
+        for (Brick expected : preview) {
+            assertSame(expected, generator.getBrick(), "Preview should match the sequence");
+        }
+    }
+
+    @Test
+    @DisplayName("jumpTo lands on the same brick as generating sequentially")
+    void testJumpTo_MatchesSequentialGeneration() {
+        // Arrange
+        long target = 1_234L;
+        SevenBagBrickGenerator sequential = new SevenBagBrickGenerator(5L);
+        for (long i = 0; i < target; i++) {
+            sequential.getBrick();
+        }
+        SevenBagBrickGenerator jumped = new SevenBagBrickGenerator(5L);
+
+        // Act
+        jumped.jumpTo(target);
+
+        // Assert
+        assertEquals(target, jumped.getPieceIndex(), "Piece index should follow the jump");
+        for (int i = 0; i < 20; i++) {
+            assertSame(sequential.getBrick(), jumped.getBrick(),
+                    "Piece " + (target + i) + " should match after jumping");
+        }
+    }
+
+    @Test
+    @DisplayName("brickAt does not move the generator")
+    void testBrickAt_DoesNotConsume() {
+        // Arrange
+        SevenBagBrickGenerator generator = new SevenBagBrickGenerator(11L);
+        Brick next = generator.getNextBrick();
+
+        // Act
+        Brick far = generator.brickAt(1_000_000_000L);
+
+        // Assert
+        assertNotNull(far, "Any index should map to a brick");
+        assertEquals(0, generator.getPieceIndex(), "Piece index should be unchanged");
+        assertSame(next, generator.getBrick(), "Next brick should be unchanged");
+    }
+
+    @Test
+    @DisplayName("invalid arguments are rejected")
+    void testInvalidArguments_Throw() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new SevenBagBrickGenerator(1L, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new SevenBagBrickGenerator(1L).jumpTo(-1));
+    }
+}
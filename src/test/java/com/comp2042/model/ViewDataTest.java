@@ -1,4 +1,4 @@
-package com.comp2042.view;
+package com.comp2042.model;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -0,0 +1,146 @@
+package com.comp2042.replay;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for ReplayRecorder and Replay.
+ * Tests that recorded events and results round-trip, that the encoding is
+ * compact, and that unfinished replays are rejected.
+ */
+@DisplayName("ReplayRecorder Tests")
+class ReplayRecorderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("recorded events, setup and result round-trip")
+    void testRecord_RoundTrip() throws IOException {
+        // Arrange
+        Path file = tempDir.resolve("game.rpl");
+        try (ReplayRecorder recorder = new ReplayRecorder(file, -1234567890123L, 10, 25)) {
+            recorder.record(ReplayFormat.LEFT, 0);
+            recorder.record(ReplayFormat.GRAVITY, 24);
+            recorder.record(ReplayFormat.ROTATE, 30);
+            recorder.record(ReplayFormat.HARD_DROP, 100_000);
+            recorder.finish(1520, 12, 2);
+        }
+
+        // Act
+        Replay replay = Replay.read(file);
+
+        // Assert
+        assertEquals(-1234567890123L, replay.getSeed(), "Seed should round-trip");
+        assertEquals(10, replay.getBoardWidth());
+        assertEquals(25, replay.getBoardHeight());
+        assertEquals(4, replay.getEventCount(), "All events should be read back");
+        assertEquals(ReplayFormat.LEFT, replay.getEventType(0));
+        assertEquals(ReplayFormat.GRAVITY, replay.getEventType(1));
+        assertEquals(24, replay.getEventTick(1), "Ticks should be restored from deltas");
+        assertEquals(ReplayFormat.HARD_DROP, replay.getEventType(3));
+        assertEquals(100_000, replay.getEventTick(3));
+        assertEquals(1520, replay.getFinalScore());
+        assertEquals(12, replay.getFinalLines());
+        assertEquals(2, replay.getFinalLevel());
+    }
+
+    @Test
+    @DisplayName("closely spaced events take one byte each")
+    void testRecord_Compact() throws IOException {
+        // Arrange
+        Path file = tempDir.resolve("long.rpl");
+        int events = 20_000;
+
+        // Act
+        try (ReplayRecorder recorder = new ReplayRecorder(file, 7L, 10, 25)) {
+            for (int i = 0; i < events; i++) {
+                recorder.record(i % 2 == 0 ? ReplayFormat.RIGHT : ReplayFormat.GRAVITY, i * 3L);
+            }
+            recorder.finish(0, 0, 1);
+        }
+
+        // Assert
+        assertTrue(Files.size(file) < events + 64,
+                "Expected about one byte per event, file has " + Files.size(file) + " bytes");
+        assertEquals(events, Replay.read(file).getEventCount(), "Buffer flushes should not lose events");
+    }
+
+    @Test
+    @DisplayName("a replay closed without finish is rejected")
+    void testRead_Unfinished_Throws() throws IOException {
+        // Arrange
+        Path file = tempDir.resolve("abandoned.rpl");
+        try (ReplayRecorder recorder = new ReplayRecorder(file, 1L, 10, 25)) {
+            recorder.record(ReplayFormat.LEFT, 5);
+        }
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> Replay.read(file),
+                "An incomplete replay should not be accepted");
+    }
+
+    @Test
+    @DisplayName("a background recorder writes the same replay off the calling thread")
+    void testOpenInBackground_RoundTrip() throws IOException {
+        // Arrange
+        Path file = tempDir.resolve("replays").resolve("background.rpl");
+        int events = 20_000;
+
+        // Act
+        ReplayRecorder recorder = ReplayRecorder.openInBackground(file, 99L, 10, 25);
+        for (int i = 0; i < events; i++) {
+            recorder.record(ReplayFormat.LEFT, i);
+        }
+        recorder.finish(300, 3, 1);
+        recorder.close();
+        boolean flushed = ReplayRecorder.flushBackground(5000);
+
+        // Assert
+        assertTrue(flushed);
+        Replay replay = Replay.read(file);
+        assertEquals(99L, replay.getSeed());
+        assertEquals(events, replay.getEventCount(), "Buffers handed to the thread should not lose events");
+        assertEquals(300, replay.getFinalScore());
+    }
+
+    @Test
+    @DisplayName("discard() deletes the replay file")
+    void testDiscard_DeletesFile() throws IOException {
+        // Arrange
+        Path file = tempDir.resolve("discarded.rpl");
+        ReplayRecorder recorder = ReplayRecorder.openInBackground(file, 1L, 10, 25);
+        recorder.record(ReplayFormat.ROTATE, 3);
+
+        // Act
+        recorder.discard();
+        ReplayRecorder.flushBackground(5000);
+
+        // Assert
+        assertFalse(Files.exists(file), "An abandoned replay should not be left behind");
+    }
+
+    @Test
+    @DisplayName("a background write failure is reported by the next call")
+    void testOpenInBackground_Failure_ReportedLater() throws IOException {
+        // Arrange: the parent "directory" is a regular file
+        Path blocker = Files.createFile(tempDir.resolve("blocker"));
+        ReplayRecorder recorder = ReplayRecorder.openInBackground(
+                blocker.resolve("game.rpl"), 1L, 10, 25);
+
+        // Act
+        ReplayRecorder.flushBackground(5000);
+
+        // Assert
+        assertThrows(IOException.class, () -> recorder.record(ReplayFormat.LEFT, 1));
+        recorder.discard();
+        ReplayRecorder.flushBackground(5000);
+    }
+}
@@ -0,0 +1,145 @@
+package com.comp2042.replay;
+
+import com.comp2042.engine.GameEngine;
+import com.comp2042.model.RandomBrickGenerator;
+import com.comp2042.model.Score;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for ReplayVerifier.
+ * Records games played with random input through the headless engine and
+ * checks that genuine replays verify while tampered or truncated ones do not.
+ */
+@DisplayName("ReplayVerifier Tests")
+class ReplayVerifierTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static final int[] EVENT_MIX = {
+            ReplayFormat.GRAVITY, ReplayFormat.GRAVITY, ReplayFormat.GRAVITY,
+            ReplayFormat.LEFT, ReplayFormat.RIGHT, ReplayFormat.ROTATE,
+            ReplayFormat.SOFT_DROP, ReplayFormat.HARD_DROP
+    };
+
+    /**
+     * Plays a game with random input, recording every event, and writes a
+     * replay claiming the given score offset from the real one.
+     *
+     * @param seed        the game seed
+     * @param scoreOffset added to the real final score in the claim
+     * @param dropLast    number of trailing events to leave out
+     */
+    private Path recordGame(long seed, int scoreOffset, int dropLast) throws IOException {
+        GameEngine engine = GameEngine.headless(10, 25, new RandomBrickGenerator(seed));
+        engine.newGame();
+        SplittableRandom input = new SplittableRandom(seed);
+        List<Integer> events = new ArrayList<>();
+        while (!engine.isGameOver()) {
+            int type = EVENT_MIX[input.nextInt(EVENT_MIX.length)];
+            events.add(type);
+            switch (type) {
+                case ReplayFormat.GRAVITY:
+                    engine.moveDown(false);
+                    break;
+                case ReplayFormat.SOFT_DROP:
+                    engine.moveDown(true);
+                    break;
+                case ReplayFormat.LEFT:
+                    engine.moveLeft();
+                    break;
+                case ReplayFormat.RIGHT:
+                    engine.moveRight();
+                    break;
+                case ReplayFormat.ROTATE:
+                    engine.rotate();
+                    break;
+                default:
+                    engine.hardDrop();
+                    break;
+            }
+        }
+
+        Path file = tempDir.resolve("game-" + seed + "-" + scoreOffset + "-" + dropLast + ".rpl");
+        Score score = engine.getScore();
+        try (ReplayRecorder recorder = new ReplayRecorder(file, seed, 10, 25)) {
+            for (int i = 0; i < events.size() - dropLast; i++) {
+                recorder.record(events.get(i), i * 2L);
+            }
+            recorder.finish(score.getCurrentScore() + scoreOffset, score.getTotalLines(),
+                    score.getCurrentLevel());
+        }
+        return file;
+    }
+
+    @Test
+    @DisplayName("a genuine replay verifies with the recorded result")
+    void testVerify_Genuine_Valid() throws IOException {
+        // Arrange
+        Path file = recordGame(11L, 0, 0);
+
+        // Act
+        VerificationResult result = ReplayVerifier.verify(file);
+
+        // Assert
+        assertTrue(result.isValid(), "Genuine replay should verify: " + result);
+        assertEquals(Replay.read(file).getFinalScore(), result.getScore());
+    }
+
+    @Test
+    @DisplayName("an inflated score claim is rejected")
+    void testVerify_InflatedScore_Invalid() throws IOException {
+        // Arrange
+        Path file = recordGame(12L, 1000, 0);
+
+        // Act
+        VerificationResult result = ReplayVerifier.verify(file);
+
+        // Assert
+        assertFalse(result.isValid(), "Tampered score should not verify");
+        assertEquals(Replay.read(file).getFinalScore() - 1000, result.getScore(),
+                "Result should report the simulated score");
+    }
+
+    @Test
+    @DisplayName("a replay whose game does not end is rejected")
+    void testVerify_MissingEvents_Invalid() throws IOException {
+        // Arrange
+        Path file = recordGame(13L, 0, 1);
+
+        // Act
+        VerificationResult result = ReplayVerifier.verify(file);
+
+        // Assert
+        assertFalse(result.isValid(), "Replay without its final event should not verify");
+    }
+
+    @Test
+    @DisplayName("batch verification keeps input order")
+    void testVerifyFiles_Batch_OrderPreserved() throws IOException {
+        // Arrange
+        List<Path> files = new ArrayList<>();
+        for (long seed = 0; seed < 40; seed++) {
+            files.add(recordGame(seed, seed % 5 == 0 ? 1 : 0, 0));
+        }
+
+        // Act
+        List<VerificationResult> results = new ReplayVerifier(4).verifyFiles(files);
+
+        // Assert
+        assertEquals(files.size(), results.size(), "Every replay should get a result");
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(i % 5 != 0, results.get(i).isValid(), "Result " + i + " out of order");
+        }
+    }
+}
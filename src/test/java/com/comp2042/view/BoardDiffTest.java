@@ -0,0 +1,68 @@
+package com.comp2042.view;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for BoardDiff.
+ * Tests that only changed cells are reported and that the shown snapshot
+ * is brought up to date.
+ */
+@DisplayName("BoardDiff Tests")
+class BoardDiffTest {
+
+    @Test
+    @DisplayName("only changed cells are reported, and shown is updated")
+    void testApply_ReportsChangedCells() {
+        // Arrange
+        int[][] shown = new int[3][4];
+        int[][] board = new int[3][4];
+        board[1][2] = 5;
+        board[2][0] = 3;
+        List<String> changes = new ArrayList<>();
+
+        // Act
+        int changed = BoardDiff.apply(board, shown,
+                (row, col, value) -> changes.add(row + "," + col + "=" + value));
+
+        // Assert
+        assertEquals(2, changed);
+        assertEquals(List.of("1,2=5", "2,0=3"), changes);
+        assertArrayEquals(board, shown);
+    }
+
+    @Test
+    @DisplayName("an unchanged board reports nothing")
+    void testApply_Unchanged_NoCallbacks() {
+        // Arrange
+        int[][] shown = {{1, 2}, {3, 4}};
+        int[][] board = {{1, 2}, {3, 4}};
+
+        // Act
+        int changed = BoardDiff.apply(board, shown,
+                (row, col, value) -> fail("No cell changed"));
+
+        // Assert
+        assertEquals(0, changed);
+    }
+
+    @Test
+    @DisplayName("rows beyond the shown matrix are ignored")
+    void testApply_TallerBoard_Clipped() {
+        // Arrange
+        int[][] shown = new int[1][2];
+        int[][] board = {{0, 7}, {7, 7}};
+
+        // Act
+        int changed = BoardDiff.apply(board, shown, (row, col, value) -> { });
+
+        // Assert
+        assertEquals(1, changed);
+        assertArrayEquals(new int[] {0, 7}, shown[0]);
+    }
+}
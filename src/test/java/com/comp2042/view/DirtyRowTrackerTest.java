@@ -0,0 +1,121 @@
+package com.comp2042.view;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for DirtyRowTracker.
+ * Tests which rows the canvas renderer is told to repaint after board
+ * changes, brick moves and line-clear flashes.
+ */
+@DisplayName("DirtyRowTracker Tests")
+class DirtyRowTrackerTest {
+
+    private static final int ROWS = 8;
+    private static final int COLUMNS = 4;
+
+    private static final int[][] SQUARE = {
+            {1, 1},
+            {1, 1}
+    };
+
+    private final int[] out = new int[ROWS];
+
+    @Test
+    @DisplayName("nothing is repainted before the first board")
+    void testCollect_NoBoard_Empty() {
+        // Arrange
+        DirtyRowTracker tracker = new DirtyRowTracker(ROWS, COLUMNS);
+        tracker.brickChanged(SQUARE, 0, 0, 6);
+
+        // Act / Assert
+        assertArrayEquals(new int[0], collect(tracker));
+    }
+
+    @Test
+    @DisplayName("the first board repaints every row, an identical one none")
+    void testCollect_FirstBoardThenSame() {
+        // Arrange
+        DirtyRowTracker tracker = new DirtyRowTracker(ROWS, COLUMNS);
+        int[][] board = new int[ROWS][COLUMNS];
+
+        // Act
+        tracker.boardChanged(board);
+        int[] first = collect(tracker);
+        tracker.boardChanged(new int[ROWS][COLUMNS]);
+        int[] second = collect(tracker);
+
+        // Assert
+        assertArrayEquals(new int[] {0, 1, 2, 3, 4, 5, 6, 7}, first);
+        assertArrayEquals(new int[0], second);
+    }
+
+    @Test
+    @DisplayName("a changed cell dirties only its row")
+    void testBoardChanged_ChangedCell_OneRow() {
+        // Arrange
+        DirtyRowTracker tracker = drawnEmptyBoard();
+        int[][] board = new int[ROWS][COLUMNS];
+        board[5][2] = 3;
+
+        // Act
+        tracker.boardChanged(board);
+
+        // Assert
+        assertArrayEquals(new int[] {5}, collect(tracker));
+        assertEquals(3, tracker.getRow(5)[2], "The drawn copy follows the board");
+    }
+
+    @Test
+    @DisplayName("a brick move repaints the rows it and its ghost leave and enter")
+    void testBrickChanged_Move_LeftAndEnteredRows() {
+        // Arrange
+        DirtyRowTracker tracker = drawnEmptyBoard();
+        tracker.brickChanged(SQUARE, 1, 0, 6);
+        assertArrayEquals(new int[] {0, 1, 6, 7}, collect(tracker));
+
+        // Act
+        tracker.brickChanged(SQUARE, 1, 1, 6);
+
+        // Assert
+        assertArrayEquals(new int[] {0, 1, 2, 6, 7}, collect(tracker));
+        assertEquals(1, tracker.getBrickY());
+    }
+
+    @Test
+    @DisplayName("flashed rows are held until the next board update")
+    void testFlashRow_HeldUntilBoardChanged() {
+        // Arrange
+        DirtyRowTracker tracker = drawnEmptyBoard();
+
+        // Act
+        boolean flashed = tracker.flashRow(7);
+        boolean outside = tracker.flashRow(ROWS);
+        tracker.brickChanged(SQUARE, 1, 6, 6);
+        int[] whileFlashed = collect(tracker);
+        tracker.boardChanged(new int[ROWS][COLUMNS]);
+        int[] afterBoard = collect(tracker);
+
+        // Assert
+        assertTrue(flashed);
+        assertFalse(outside, "Rows off the board are not flashed");
+        assertArrayEquals(new int[] {6}, whileFlashed, "The brick must not paint over the flash");
+        assertArrayEquals(new int[] {6, 7}, afterBoard);
+    }
+
+    private DirtyRowTracker drawnEmptyBoard() {
+        DirtyRowTracker tracker = new DirtyRowTracker(ROWS, COLUMNS);
+        tracker.boardChanged(new int[ROWS][COLUMNS]);
+        collect(tracker);
+        return tracker;
+    }
+
+    private int[] collect(DirtyRowTracker tracker) {
+        int count = tracker.collectDirtyRows(out);
+        return Arrays.copyOf(out, count);
+    }
+}
@@ -0,0 +1,57 @@
+package com.comp2042.view;
+
+import com.comp2042.model.Score;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for ScoreProperties.
+ * Tests that the JavaFX properties start from and follow the wrapped Score.
+ */
+@DisplayName("ScoreProperties Tests")
+class ScorePropertiesTest {
+
+    @Test
+    @DisplayName("properties start from the score's current values")
+    void testConstructor_CopiesValues() {
+        // Arrange
+        Score score = new Score();
+        score.addScore(250);
+
+        // Act
+        ScoreProperties properties = new ScoreProperties(score);
+
+        // Assert
+        assertEquals(250, properties.scoreProperty().get());
+        assertEquals(250, properties.highScoreProperty().get());
+        assertEquals(0, properties.totalLinesProperty().get());
+        assertEquals(1, properties.levelProperty().get());
+    }
+
+    @Test
+    @DisplayName("properties follow score changes and resets")
+    void testOnScoreChanged_FollowsScore() {
+        // Arrange
+        Score score = new Score();
+        ScoreProperties properties = new ScoreProperties(score);
+        int[] levelChanges = new int[1];
+        properties.levelProperty().addListener((observable, oldValue, newValue) -> levelChanges[0]++);
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            score.addLineClear(4);
+        }
+
+        // Assert
+        assertEquals(12, properties.totalLinesProperty().get());
+        assertEquals(2, properties.levelProperty().get());
+        assertEquals(score.getCurrentScore(), properties.scoreProperty().get());
+        assertEquals(1, levelChanges[0], "The level listener fires once per level change");
+
+        score.reset();
+        assertEquals(0, properties.scoreProperty().get());
+        assertEquals(1, properties.levelProperty().get());
+    }
+}
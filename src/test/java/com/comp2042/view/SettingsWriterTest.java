@@ -0,0 +1,115 @@
+package com.comp2042.view;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for SettingsWriter.
+ * Tests coalescing of saves, flushing, and that no temporary files are left
+ * behind after a write.
+ */
+@DisplayName("SettingsWriter Tests")
+class SettingsWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static Properties highScore(int value) {
+        Properties props = new Properties();
+        props.setProperty("highScore", String.valueOf(value));
+        return props;
+    }
+
+    private static Properties read(Path file) throws IOException {
+        Properties props = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            props.load(in);
+        }
+        return props;
+    }
+
+    @Test
+    @DisplayName("submit does not write before the coalescing window ends")
+    void testSubmit_Coalesces() {
+        // Arrange
+        Path file = tempDir.resolve("settings.config");
+        SettingsWriter writer = new SettingsWriter(file, 60_000);
+
+        // Act
+        for (int score = 1; score <= 100; score++) {
+            writer.submit(highScore(score));
+        }
+
+        // Assert
+        assertFalse(Files.exists(file), "Nothing should be written inside the coalescing window");
+        writer.close(1000);
+    }
+
+    @Test
+    @DisplayName("flush writes only the latest snapshot")
+    void testFlush_WritesLatestSnapshot() throws IOException {
+        // Arrange
+        Path file = tempDir.resolve("settings.config");
+        SettingsWriter writer = new SettingsWriter(file, 60_000);
+        for (int score = 1; score <= 100; score++) {
+            writer.submit(highScore(score));
+        }
+
+        // Act
+        boolean flushed = writer.flush(5000);
+
+        // Assert
+        assertTrue(flushed, "Flush should complete");
+        assertEquals("100", read(file).getProperty("highScore"), "Latest snapshot should win");
+        writer.close(1000);
+    }
+
+    @Test
+    @DisplayName("writes replace the file and leave no temporary files")
+    void testWrite_ReplacesFileWithoutLeftovers() throws IOException {
+        // Arrange
+        Path file = tempDir.resolve("settings.config");
+        Files.writeString(file, "highScore=5\n");
+        SettingsWriter writer = new SettingsWriter(file, 0);
+
+        // Act
+        writer.submit(highScore(42));
+        writer.close(5000);
+
+        // Assert
+        assertEquals("42", read(file).getProperty("highScore"), "File should be replaced");
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(1, files.count(), "Only the settings file should remain");
+        }
+    }
+
+    @Test
+    @DisplayName("requestFlush writes without waiting for the window")
+    void testRequestFlush_WritesEarly() throws Exception {
+        // Arrange
+        Path file = tempDir.resolve("settings.config");
+        SettingsWriter writer = new SettingsWriter(file, 60_000);
+        writer.submit(highScore(7));
+
+        // Act
+        writer.requestFlush();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!Files.exists(file) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // Assert
+        assertEquals("7", read(file).getProperty("highScore"), "Pending snapshot should be written");
+        writer.close(1000);
+    }
+}